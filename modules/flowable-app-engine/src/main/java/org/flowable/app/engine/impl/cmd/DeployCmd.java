@@ -20,12 +20,15 @@ import java.util.Map;
 import org.flowable.app.api.repository.AppDeployment;
 import org.flowable.app.engine.AppEngineConfiguration;
 import org.flowable.app.engine.impl.persistence.entity.AppDeploymentEntity;
+import org.flowable.app.engine.impl.persistence.entity.AppResourceEntity;
+import org.flowable.app.engine.impl.persistence.entity.AppResourceEntityManager;
 import org.flowable.app.engine.impl.repository.AppDeploymentBuilderImpl;
 import org.flowable.app.engine.impl.repository.AppDeploymentQueryImpl;
 import org.flowable.app.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
 
 /**
  * @author Tijs Rademakers
@@ -77,6 +80,11 @@ public class DeployCmd implements Command<AppDeployment> {
         
         deployment.setDeploymentTime(appEngineConfiguration.getClock().getCurrentTime());
         deployment.setNew(true);
+
+        if (deploymentBuilder.isDuplicateFilterEnabled() && appEngineConfiguration.isEnableDeploymentManifest()) {
+            addDeploymentManifest(deployment, appEngineConfiguration.getAppResourceEntityManager());
+        }
+
         appEngineConfiguration.getAppDeploymentEntityManager().insert(deployment);
         appEngineConfiguration.getDeploymentManager().deploy(deployment, null);
         return deployment;
@@ -84,7 +92,21 @@ public class DeployCmd implements Command<AppDeployment> {
     
     protected boolean deploymentsDiffer(AppDeploymentEntity deployment, AppDeploymentEntity saved) {
 
-        if (deployment.getResources() == null || saved.getResources() == null) {
+        if (deployment.getResources() == null) {
+            return true;
+        }
+
+        // Only the manifest of the saved deployment is read when it has one, instead of all of its resources
+        AppEngineConfiguration appEngineConfiguration = CommandContextUtil.getAppEngineConfiguration();
+        if (appEngineConfiguration.isEnableDeploymentManifest()) {
+            AppResourceEntity savedManifest = appEngineConfiguration.getAppResourceEntityManager()
+                    .findResourceByDeploymentIdAndResourceName(saved.getId(), DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+            if (savedManifest != null) {
+                return DeploymentManifestUtil.resourcesDiffer(deployment.getResources(), savedManifest.getBytes());
+            }
+        }
+
+        if (saved.getResources() == null) {
             return true;
         }
 
@@ -109,4 +131,17 @@ public class DeployCmd implements Command<AppDeployment> {
         return false;
     }
 
+    protected void addDeploymentManifest(AppDeploymentEntity deployment, AppResourceEntityManager resourceEntityManager) {
+        if (deployment.getResources() == null) {
+            return;
+        }
+
+        // The generated flag of app resources is not persisted, so a resource that was added with the name of the manifest is always replaced
+        AppResourceEntity manifest = resourceEntityManager.create();
+        manifest.setName(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+        manifest.setBytes(DeploymentManifestUtil.createManifest(deployment.getResources()));
+        manifest.setGenerated(true);
+        deployment.addResource(manifest);
+    }
+
 }
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.app.engine.test.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.app.api.repository.AppDeployment;
+import org.flowable.app.engine.test.FlowableAppTestCase;
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeploymentManifestTest extends FlowableAppTestCase {
+
+    protected static final String RESOURCE_NAME = "org/flowable/app/engine/test/repository/DeploymentTest.testAppDefinitionDeployed.app";
+
+    @Before
+    public void enableManifest() {
+        appEngineConfiguration.setEnableDeploymentManifest(true);
+    }
+
+    @After
+    public void disableManifest() {
+        appEngineConfiguration.setEnableDeploymentManifest(false);
+        appRepositoryService.createDeploymentQuery().list()
+                .forEach(deployment -> appRepositoryService.deleteDeployment(deployment.getId(), true));
+    }
+
+    @Test
+    public void testManifestIsStoredWithDeployment() {
+        AppDeployment deployment = appRepositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+
+        assertThat(appRepositoryService.getDeploymentResourceNames(deployment.getId()))
+                .containsExactlyInAnyOrder(RESOURCE_NAME, DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+
+        byte[] resource = IoUtil.readInputStream(appRepositoryService.getResourceAsStream(deployment.getId(), RESOURCE_NAME), RESOURCE_NAME);
+        assertThat(DeploymentManifestUtil.readManifest(readManifest(deployment.getId()))).containsOnlyKeys(RESOURCE_NAME)
+                .containsEntry(RESOURCE_NAME, DeploymentManifestUtil.hash(resource));
+    }
+
+    @Test
+    public void testDuplicateFilteringUsesManifest() {
+        AppDeployment deployment = appRepositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+
+        AppDeployment sameDeployment = appRepositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+        assertThat(sameDeployment.getId()).isEqualTo(deployment.getId());
+
+        AppDeployment changedDeployment = appRepositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addString(RESOURCE_NAME, "{\"key\": \"testApp\", \"name\": \"Changed test app\"}")
+                .deploy();
+        assertThat(changedDeployment.getId()).isNotEqualTo(deployment.getId());
+        assertThat(appRepositoryService.createDeploymentQuery().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testManifestResourceAddedToDeploymentIsReplaced() {
+        AppDeployment deployment = appRepositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .addString(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME, "not a manifest")
+                .deploy();
+
+        assertThat(DeploymentManifestUtil.readManifest(readManifest(deployment.getId()))).containsOnlyKeys(RESOURCE_NAME);
+    }
+
+    protected byte[] readManifest(String deploymentId) {
+        return IoUtil.readInputStream(appRepositoryService.getResourceAsStream(deploymentId, DeploymentManifestUtil.MANIFEST_RESOURCE_NAME),
+                DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+    }
+
+}
@@ -0,0 +1,65 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.io.BytesStreamSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing BPMN XML into a {@link BpmnModel}, as done for every deployment and for every process definition cache miss.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BpmnXmlParsingBenchmark {
+
+    @Param({ "oneTaskProcess.bpmn20.xml", "asyncServiceTaskProcess.bpmn20.xml" })
+    public String resource;
+
+    @Param({ "false", "true" })
+    public boolean validateSchema;
+
+    protected byte[] bpmnBytes;
+
+    @Setup(Level.Trial)
+    public void readResource() throws IOException {
+        try (InputStream inputStream = BpmnXmlParsingBenchmark.class.getResourceAsStream(resource)) {
+            bpmnBytes = inputStream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public BpmnModel convertToBpmnModel() {
+        return new BpmnXMLConverter().convertToBpmnModel(new BytesStreamSource(bpmnBytes), validateSchema, false);
+    }
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starting a case instance with sentries and completing a plan item, which both trigger the evaluation of all sentries of the case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CmmnCaseBenchmark {
+
+    protected static final String SENTRY_CASE = "sentryCase";
+
+    protected CmmnEngine cmmnEngine;
+    protected Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void buildCmmnEngine() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-cmmn-benchmark-" + System.nanoTime());
+        cmmnEngineConfiguration.setDatabaseSchemaUpdate(CmmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        cmmnEngineConfiguration.setAsyncExecutorActivate(false);
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/sentryCase.cmmn")
+                .deploy();
+
+        variables = new HashMap<>();
+        variables.put("amount", 150);
+        variables.put("approved", false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCaseInstances() {
+        // keep the database size the same for every iteration
+        cmmnEngine.getCmmnRuntimeService().createCaseInstanceQuery().list()
+                .forEach(caseInstance -> cmmnEngine.getCmmnRuntimeService().terminateCaseInstance(caseInstance.getId()));
+    }
+
+    @TearDown(Level.Trial)
+    public void closeCmmnEngine() {
+        cmmnEngine.close();
+    }
+
+    @Benchmark
+    public CaseInstance startCaseInstance() {
+        return cmmnEngine.getCmmnRuntimeService().createCaseInstanceBuilder()
+                .caseDefinitionKey(SENTRY_CASE)
+                .variables(variables)
+                .start();
+    }
+
+    @Benchmark
+    public void startCaseInstanceAndCompleteTask() {
+        CaseInstance caseInstance = startCaseInstance();
+        Task task = cmmnEngine.getCmmnTaskService().createTaskQuery()
+                .caseInstanceId(caseInstance.getId())
+                .taskDefinitionKey("taskA")
+                .singleResult();
+        cmmnEngine.getCmmnTaskService().complete(task.getId());
+    }
+}
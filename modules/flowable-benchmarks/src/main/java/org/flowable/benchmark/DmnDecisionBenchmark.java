@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executing a decision table with a FIRST hit policy of which only the last rule matches,
+ * so that all input entries of the decision table are evaluated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DmnDecisionBenchmark {
+
+    protected static final String DECISION_KEY = "benchmarkDecision";
+
+    @Param({ "10", "1000" })
+    public int ruleCount;
+
+    @Param({ "false", "true" })
+    public boolean decisionTableIndex;
+
+    protected DmnEngine dmnEngine;
+    protected Map<String, Object> variables;
+
+    @Setup(Level.Trial)
+    public void buildDmnEngine() {
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-dmn-benchmark-" + System.nanoTime());
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        dmnEngineConfiguration.setEnableDecisionTableIndex(decisionTableIndex);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addString("benchmarkDecision.dmn", createDecisionTableXml(ruleCount))
+                .deploy();
+
+        int lastRule = ruleCount - 1;
+        variables = new HashMap<>();
+        variables.put("customerType", "type" + lastRule);
+        variables.put("amount", lastRule * 10L);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDmnEngine() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> executeDecision() {
+        return dmnEngine.getDmnDecisionService().createExecuteDecisionBuilder()
+                .decisionKey(DECISION_KEY)
+                .variables(variables)
+                .executeDecision();
+    }
+
+    protected static String createDecisionTableXml(int ruleCount) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<definitions xmlns=\"http://www.omg.org/spec/DMN/20151101\" id=\"benchmark\" name=\"Benchmark\" namespace=\"http://www.flowable.org/dmn\">\n")
+                .append("  <decision id=\"").append(DECISION_KEY).append("\" name=\"Benchmark Decision\">\n")
+                .append("    <decisionTable id=\"decisionTable\" hitPolicy=\"FIRST\">\n")
+                .append("      <input><inputExpression id=\"customerType\" typeRef=\"string\"><text>customerType</text></inputExpression></input>\n")
+                .append("      <input><inputExpression id=\"amount\" typeRef=\"number\"><text>amount</text></inputExpression></input>\n")
+                .append("      <output id=\"result\" name=\"result\" typeRef=\"string\"/>\n");
+
+        for (int i = 0; i < ruleCount; i++) {
+            xml.append("      <rule>\n")
+                    .append("        <inputEntry id=\"customerType").append(i).append("\"><text>== \"type").append(i).append("\"</text></inputEntry>\n")
+                    .append("        <inputEntry id=\"amount").append(i).append("\"><text><![CDATA[>= ").append(i * 10L).append("]]></text></inputEntry>\n")
+                    .append("        <outputEntry id=\"result").append(i).append("\"><text>'result").append(i).append("'</text></outputEntry>\n")
+                    .append("      </rule>\n");
+        }
+
+        xml.append("    </decisionTable>\n")
+                .append("  </decision>\n")
+                .append("</definitions>\n");
+        return xml.toString();
+    }
+}
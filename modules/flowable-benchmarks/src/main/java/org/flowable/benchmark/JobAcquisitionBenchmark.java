@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Acquiring async jobs the way the async executor does it. The async executor itself is not started.
+ * Once all jobs are acquired, they are released again and the acquisition is retried,
+ * which happens once every nrOfJobs / maxAsyncJobsDuePerAcquisition invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobAcquisitionBenchmark {
+
+    @Param({ "1000" })
+    public int nrOfJobs;
+
+    @Param({ "1", "10", "100" })
+    public int maxAsyncJobsDuePerAcquisition;
+
+    protected AsyncExecutor asyncExecutor;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    @Setup(Level.Trial)
+    public void createJobs(ProcessEngineState state) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = state.getProcessEngineConfiguration();
+        asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(maxAsyncJobsDuePerAcquisition);
+        jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+
+        for (int i = 0; i < nrOfJobs; i++) {
+            state.getRuntimeService().startProcessInstanceByKey(ProcessEngineState.ASYNC_SERVICE_TASK_PROCESS);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void unacquireJobs(ProcessEngineState state) {
+        state.getProcessEngineConfiguration().getCommandExecutor()
+                .execute(new UnacquireOwnedJobsCmd(asyncExecutor.getLockOwner(), null, jobServiceConfiguration));
+    }
+
+    @Benchmark
+    public List<? extends JobInfoEntity> acquireJobs(ProcessEngineState state) {
+        List<? extends JobInfoEntity> jobs = state.getProcessEngineConfiguration().getCommandExecutor()
+                .execute(new AcquireJobsCmd(asyncExecutor));
+        if (jobs.isEmpty()) {
+            unacquireJobs(state);
+            jobs = state.getProcessEngineConfiguration().getCommandExecutor()
+                    .execute(new AcquireJobsCmd(asyncExecutor));
+        }
+        return jobs;
+    }
+}
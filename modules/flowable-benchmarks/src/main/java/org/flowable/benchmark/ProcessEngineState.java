@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RepositoryService;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A process engine on an in-memory H2 database with the benchmark processes deployed.
+ * Every benchmark trial gets its own database.
+ */
+@State(Scope.Benchmark)
+public class ProcessEngineState {
+
+    public static final String ONE_TASK_PROCESS = "oneTaskProcess";
+    public static final String ASYNC_SERVICE_TASK_PROCESS = "asyncServiceTaskProcess";
+
+    protected ProcessEngine processEngine;
+
+    @Setup(Level.Trial)
+    public void buildProcessEngine() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-benchmark-" + System.nanoTime());
+        processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/benchmark/asyncServiceTaskProcess.bpmn20.xml")
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeProcessEngine() {
+        processEngine.close();
+    }
+
+    public ProcessEngine getProcessEngine() {
+        return processEngine;
+    }
+
+    public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
+        return (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+    }
+
+    public RepositoryService getRepositoryService() {
+        return processEngine.getRepositoryService();
+    }
+
+    public RuntimeService getRuntimeService() {
+        return processEngine.getRuntimeService();
+    }
+
+    public TaskService getTaskService() {
+        return processEngine.getTaskService();
+    }
+}
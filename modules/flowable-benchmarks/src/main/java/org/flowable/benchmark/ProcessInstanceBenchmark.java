@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starting and completing process instances: exercises the agenda, the entity managers and the flush of the DbSqlSession.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProcessInstanceBenchmark {
+
+    @TearDown(Level.Iteration)
+    public void deleteProcessInstances(ProcessEngineState state) {
+        // keep the database size the same for every iteration
+        state.getRuntimeService().createProcessInstanceQuery().list()
+                .forEach(processInstance -> state.getRuntimeService().deleteProcessInstance(processInstance.getId(), null));
+    }
+
+    @Benchmark
+    public ProcessInstance startProcessInstance(ProcessEngineState state) {
+        return state.getRuntimeService().startProcessInstanceByKey(ProcessEngineState.ONE_TASK_PROCESS);
+    }
+
+    @Benchmark
+    public void startAndCompleteProcessInstance(ProcessEngineState state) {
+        ProcessInstance processInstance = state.getRuntimeService().startProcessInstanceByKey(ProcessEngineState.ONE_TASK_PROCESS);
+        Task task = state.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        state.getTaskService().complete(task.getId());
+    }
+}
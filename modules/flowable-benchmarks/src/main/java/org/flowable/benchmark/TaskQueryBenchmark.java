@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.task.api.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Task queries on a database with a fixed number of open tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+    @Param({ "1000" })
+    public int nrOfTasks;
+
+    @Setup(Level.Trial)
+    public void startProcessInstances(ProcessEngineState state) {
+        for (int i = 0; i < nrOfTasks; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("index", i);
+            variables.put("customer", "customer" + (i % 10));
+            state.getRuntimeService().startProcessInstanceByKey(ProcessEngineState.ONE_TASK_PROCESS, variables);
+        }
+    }
+
+    @Benchmark
+    public List<Task> queryTasksByAssignee(ProcessEngineState state) {
+        return state.getTaskService().createTaskQuery()
+                .taskAssignee("kermit")
+                .orderByTaskCreateTime().desc()
+                .listPage(0, 25);
+    }
+
+    @Benchmark
+    public long countTasksByProcessDefinitionKey(ProcessEngineState state) {
+        return state.getTaskService().createTaskQuery()
+                .processDefinitionKey(ProcessEngineState.ONE_TASK_PROCESS)
+                .count();
+    }
+
+    @Benchmark
+    public List<Task> queryTasksByProcessVariable(ProcessEngineState state) {
+        return state.getTaskService().createTaskQuery()
+                .processVariableValueEquals("customer", "customer5")
+                .listPage(0, 25);
+    }
+
+    @Benchmark
+    public List<Task> queryTasksIncludingProcessVariables(ProcessEngineState state) {
+        return state.getTaskService().createTaskQuery()
+                .taskAssignee("kermit")
+                .includeProcessVariables()
+                .orderByTaskCreateTime().desc()
+                .listPage(0, 25);
+    }
+}
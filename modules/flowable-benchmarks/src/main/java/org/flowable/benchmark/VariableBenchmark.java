@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Setting and getting variables of a running process instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VariableBenchmark {
+
+    protected String processInstanceId;
+    protected Map<String, Object> variables;
+    protected int counter;
+
+    @Setup(Level.Trial)
+    public void startProcessInstance(ProcessEngineState state) {
+        variables = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            variables.put("stringVar" + i, "value" + i);
+            variables.put("longVar" + i, (long) i);
+        }
+        processInstanceId = state.getRuntimeService().startProcessInstanceByKey(ProcessEngineState.ONE_TASK_PROCESS, variables).getId();
+    }
+
+    @Benchmark
+    public void setVariable(ProcessEngineState state) {
+        state.getRuntimeService().setVariable(processInstanceId, "counter", counter++);
+    }
+
+    @Benchmark
+    public Object getVariable(ProcessEngineState state) {
+        return state.getRuntimeService().getVariable(processInstanceId, "stringVar5");
+    }
+
+    @Benchmark
+    public void setVariables(ProcessEngineState state) {
+        state.getRuntimeService().setVariables(processInstanceId, variables);
+    }
+
+    @Benchmark
+    public Map<String, Object> getVariables(ProcessEngineState state) {
+        return state.getRuntimeService().getVariables(processInstanceId);
+    }
+}
@@ -22,13 +22,15 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public abstract class AbstractFlowableHttpHandler extends BaseElement implements HasScriptInfo {
 
+    private static final long serialVersionUID = 1L;
+
     protected String implementationType;
     protected String implementation;
     protected List<FieldExtension> fieldExtensions = new ArrayList<>();
     protected ScriptInfo scriptInfo;
 
     @JsonIgnore
-    protected Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
+    protected transient Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
 
     public String getImplementationType() {
         return implementationType;
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public abstract class Activity extends FlowNode {
 
+    private static final long serialVersionUID = 1L;
+
     protected String defaultFlow;
     protected boolean forCompensation;
     protected MultiInstanceLoopCharacteristics loopCharacteristics;
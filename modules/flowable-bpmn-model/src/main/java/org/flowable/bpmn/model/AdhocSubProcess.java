@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class AdhocSubProcess extends SubProcess {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String ORDERING_PARALLEL = "Parallel";
     public static final String ORDERING_SEQUENTIALL = "Sequential";
 
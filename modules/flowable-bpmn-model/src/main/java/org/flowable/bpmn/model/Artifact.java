@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public abstract class Artifact extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public abstract Artifact clone();
 }
@@ -14,6 +14,8 @@ package org.flowable.bpmn.model;
 
 public class Assignment extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String from;
     protected String to;
 
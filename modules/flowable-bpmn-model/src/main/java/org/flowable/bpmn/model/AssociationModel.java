@@ -12,10 +12,14 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
+
 /**
  * @author Tijs Rademakers
  */
-public class AssociationModel {
+public class AssociationModel implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     public String id;
     public AssociationDirection associationDirection;
@@ -19,6 +19,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public class BoundaryEvent extends Event {
 
+    private static final long serialVersionUID = 1L;
+
     @JsonIgnore
     protected Activity attachedToRef;
     protected String attachedToRefId;
@@ -12,12 +12,15 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * @author Tijs Rademakers
  */
-public class BpmnDiEdge {
+public class BpmnDiEdge implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected GraphicInfo sourceDockerInfo;
     protected GraphicInfo targetDockerInfo;
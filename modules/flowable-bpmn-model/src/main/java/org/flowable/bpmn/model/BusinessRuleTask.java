@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class BusinessRuleTask extends Task {
 
+    private static final long serialVersionUID = 1L;
+
     protected String resultVariableName;
     protected boolean exclude;
     protected List<String> ruleNames = new ArrayList<>();
@@ -21,6 +21,8 @@ import java.util.List;
  */
 public class CallActivity extends Activity implements HasOutParameters, HasInParameters {
 
+    private static final long serialVersionUID = 1L;
+
     protected String calledElement;
     protected String calledElementType;
     protected boolean inheritVariables;
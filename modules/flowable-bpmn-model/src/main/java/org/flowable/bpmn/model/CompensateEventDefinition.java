@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class CompensateEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     protected String activityRef;
     protected boolean waitForCompletion = true;
 
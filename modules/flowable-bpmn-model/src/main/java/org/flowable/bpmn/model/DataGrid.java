@@ -12,13 +12,16 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * @author Tijs Rademakers
  */
-public class DataGrid implements ComplexDataType {
+public class DataGrid implements ComplexDataType, Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected List<DataGridRow> rows = new ArrayList<>();
 
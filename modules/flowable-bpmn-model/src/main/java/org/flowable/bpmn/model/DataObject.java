@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class DataObject extends FlowElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected ItemDefinition itemSubjectRef;
 
     public ItemDefinition getItemSubjectRef() {
@@ -14,6 +14,8 @@ package org.flowable.bpmn.model;
 
 public class DataStoreReference extends FlowElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String dataState;
     protected String itemSubjectRef;
     protected String dataStoreRef;
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class EventGateway extends Gateway {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public EventGateway clone() {
         EventGateway clone = new EventGateway();
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ExclusiveGateway extends Gateway {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public ExclusiveGateway clone() {
         ExclusiveGateway clone = new ExclusiveGateway();
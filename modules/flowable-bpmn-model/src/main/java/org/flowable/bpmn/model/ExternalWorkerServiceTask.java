@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class ExternalWorkerServiceTask extends ServiceTask implements HasOutParameters, HasInParameters {
 
+    private static final long serialVersionUID = 1L;
+
     protected String topic;
     protected boolean doNotIncludeVariables = false;
     protected List<IOParameter> inParameters = new ArrayList<>();
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class FieldExtension extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String fieldName;
     protected String stringValue;
     protected String expression;
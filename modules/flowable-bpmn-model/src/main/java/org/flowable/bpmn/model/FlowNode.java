@@ -24,6 +24,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public abstract class FlowNode extends FlowElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected boolean asynchronous;
     protected boolean asynchronousLeave;
     protected boolean notExclusive;
@@ -33,7 +35,7 @@ public abstract class FlowNode extends FlowElement {
     protected List<SequenceFlow> outgoingFlows = new ArrayList<>();
 
     @JsonIgnore
-    protected Object behavior;
+    protected transient Object behavior;
 
     public FlowNode() {
 
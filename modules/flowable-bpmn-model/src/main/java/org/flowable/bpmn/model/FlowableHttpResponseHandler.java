@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class FlowableHttpResponseHandler extends AbstractFlowableHttpHandler {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public FlowableHttpResponseHandler clone() {
         FlowableHttpResponseHandler clone = new FlowableHttpResponseHandler();
@@ -23,6 +23,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  */
 public class FlowableListener extends BaseElement implements HasScriptInfo {
 
+    private static final long serialVersionUID = 1L;
+
     protected String event;
     protected String implementationType;
     protected String implementation;
@@ -32,7 +34,7 @@ public class FlowableListener extends BaseElement implements HasScriptInfo {
     protected String customPropertiesResolverImplementation;
 
     @JsonIgnore
-    protected Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
+    protected transient Object instance; // Can be used to set an instance of the listener directly. That instance will then always be reused.
 
     /**
      * ScriptInfo is populated for implementationType 'script'
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class FormProperty extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String expression;
     protected String variable;
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public abstract class Gateway extends FlowNode {
 
+    private static final long serialVersionUID = 1L;
+
     protected String defaultFlow;
 
     public String getDefaultFlow() {
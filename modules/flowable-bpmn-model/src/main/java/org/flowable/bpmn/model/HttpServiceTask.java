@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class HttpServiceTask extends ServiceTask {
 
+    private static final long serialVersionUID = 1L;
+
     protected FlowableHttpRequestHandler httpRequestHandler;
     protected FlowableHttpResponseHandler httpResponseHandler;
     protected Boolean parallelInSameTransaction;
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class InclusiveGateway extends Gateway {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public InclusiveGateway clone() {
         InclusiveGateway clone = new InclusiveGateway();
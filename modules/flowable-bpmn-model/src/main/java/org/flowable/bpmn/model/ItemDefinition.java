@@ -14,6 +14,8 @@ package org.flowable.bpmn.model;
 
 public class ItemDefinition extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String structureRef;
     protected String itemKind;
 
@@ -22,6 +22,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
  */
 public class Lane extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected Process parentProcess;
     protected List<String> flowReferences = new ArrayList<>();
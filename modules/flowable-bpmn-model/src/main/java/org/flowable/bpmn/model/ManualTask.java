@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class ManualTask extends Task {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public ManualTask clone() {
         ManualTask clone = new ManualTask();
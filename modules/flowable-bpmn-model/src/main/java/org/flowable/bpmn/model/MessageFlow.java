@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class MessageFlow extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String sourceRef;
     protected String targetRef;
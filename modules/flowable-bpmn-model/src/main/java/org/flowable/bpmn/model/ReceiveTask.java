@@ -16,6 +16,9 @@ package org.flowable.bpmn.model;
  * @author Tijs Rademakers
  */
 public class ReceiveTask extends Task {
+
+    private static final long serialVersionUID = 1L;
+
     
     protected String skipExpression;
 
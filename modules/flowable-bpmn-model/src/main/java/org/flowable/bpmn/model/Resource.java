@@ -20,6 +20,8 @@ package org.flowable.bpmn.model;
  */
 public class Resource extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
 
     public Resource(String resourceId, String resourceName) {
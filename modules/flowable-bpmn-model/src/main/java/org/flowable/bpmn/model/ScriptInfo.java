@@ -19,6 +19,8 @@ package org.flowable.bpmn.model;
  */
 public class ScriptInfo extends BaseElement {
 
+    private static final long serialVersionUID = 1L;
+
     protected String language;
     protected String resultVariable;
     protected String script;
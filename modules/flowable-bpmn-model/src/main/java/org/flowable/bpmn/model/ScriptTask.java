@@ -18,6 +18,8 @@ package org.flowable.bpmn.model;
  */
 public class ScriptTask extends Task {
 
+    private static final long serialVersionUID = 1L;
+
     protected String scriptFormat;
     protected String script;
     protected String resultVariable;
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class SendEventServiceTask extends ServiceTask {
 
+    private static final long serialVersionUID = 1L;
+
     protected String eventType;
     protected String triggerEventType;
     protected boolean sendSynchronously;
@@ -19,6 +19,8 @@ import java.util.ArrayList;
  */
 public class SendTask extends TaskWithFieldExtensions {
 
+    private static final long serialVersionUID = 1L;
+
     protected String type;
     protected String implementationType;
     protected String operationRef;
@@ -20,6 +20,8 @@ import java.util.List;
  */
 public class StartEvent extends Event {
 
+    private static final long serialVersionUID = 1L;
+
     protected String initiator;
     protected String formKey;
     protected boolean sameDeployment = true;
@@ -27,6 +27,8 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class SubProcess extends Activity implements FlowElementsContainer {
 
+    private static final long serialVersionUID = 1L;
+
     protected Map<String, FlowElement> flowElementMap = new LinkedHashMap<>();
     protected List<FlowElement> flowElementList = new ArrayList<>();
     protected Map<String, Artifact> artifactMap = new LinkedHashMap<>();
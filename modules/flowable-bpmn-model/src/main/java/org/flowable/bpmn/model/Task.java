@@ -17,4 +17,6 @@ package org.flowable.bpmn.model;
  */
 public abstract class Task extends Activity {
 
+    private static final long serialVersionUID = 1L;
+
 }
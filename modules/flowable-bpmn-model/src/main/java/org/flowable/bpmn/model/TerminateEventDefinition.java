@@ -18,6 +18,8 @@ package org.flowable.bpmn.model;
  */
 public class TerminateEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     /**
      * When true, this event will terminate all parent process instances (in the case of using call activity), thus ending the whole process instance.
      * 
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class TextAnnotation extends Artifact {
 
+    private static final long serialVersionUID = 1L;
+
     protected String text;
     protected String textFormat;
 
@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class TimerEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     protected String timeDate;
     protected String timeDuration;
     protected String timeCycle;
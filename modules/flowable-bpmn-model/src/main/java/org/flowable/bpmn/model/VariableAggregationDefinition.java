@@ -12,6 +12,7 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,7 +20,9 @@ import java.util.List;
  * @author Joram Barrez
  * @author Filip Hrisafov
  */
-public class VariableAggregationDefinition {
+public class VariableAggregationDefinition implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected String implementationType;
     protected String implementation;
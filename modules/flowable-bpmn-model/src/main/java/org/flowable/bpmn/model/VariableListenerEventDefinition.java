@@ -17,6 +17,8 @@ package org.flowable.bpmn.model;
  */
 public class VariableListenerEventDefinition extends EventDefinition {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String CHANGE_TYPE_ALL = "all";
     public static final String CHANGE_TYPE_UPDATE = "update";
     public static final String CHANGE_TYPE_CREATE = "create";
@@ -16,6 +16,8 @@ import org.flowable.bpmn.model.ServiceTask;
 
 public class AlfrescoScriptTask extends ServiceTask {
 
+    private static final long serialVersionUID = 1L;
+
     public static final String ALFRESCO_SCRIPT_DELEGATE = "org.alfresco.repo.workflow.activiti.script.AlfrescoScriptDelegate";
     public static final String ALFRESCO_SCRIPT_EXECUTION_LISTENER = "org.alfresco.repo.workflow.activiti.listener.ScriptExecutionListener";
 
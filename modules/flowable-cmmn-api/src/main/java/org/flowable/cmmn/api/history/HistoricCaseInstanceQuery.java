@@ -13,6 +13,7 @@
 package org.flowable.cmmn.api.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -176,6 +177,13 @@ public interface HistoricCaseInstanceQuery extends Query<HistoricCaseInstanceQue
      */
     HistoricCaseInstanceQuery includeCaseVariables();
 
+    /**
+     * Include the historic case variables with the given names in the historic case query result.
+     * Unlike {@link #includeCaseVariables()}, the variables are not joined into the case instance query, but fetched with a separate query
+     * for all returned case instances.
+     */
+    HistoricCaseInstanceQuery includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Only select historic case instances that are defined by a case definition with the given deployment identifier.
      */
@@ -13,6 +13,7 @@
 package org.flowable.cmmn.api.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.Set;
 
@@ -237,6 +238,13 @@ public interface CaseInstanceQuery extends Query<CaseInstanceQuery, CaseInstance
      */
     CaseInstanceQuery includeCaseVariables();
 
+    /**
+     * Includes the case variables with the given names into the query result.
+     * Unlike {@link #includeCaseVariables()}, the variables are not joined into the case instance query, but fetched with a separate query
+     * for all returned case instances.
+     */
+    CaseInstanceQuery includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Begin an OR statement. Make sure you invoke the endOr method at the end of your OR statement.
      */
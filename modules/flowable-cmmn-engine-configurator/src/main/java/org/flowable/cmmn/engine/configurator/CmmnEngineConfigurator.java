@@ -36,6 +36,7 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireNotifier;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 
 /**
@@ -97,6 +98,14 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator<CmmnEngin
 
             processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager()
                     .registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnEngineConfiguration.getJobServiceConfiguration().getInternalJobManager());
+
+            // External worker jobs of both engines can be acquired through either engine, so waiting workers are signalled through the same notifier
+            ExternalWorkerJobAcquireNotifier acquireNotifier = processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobAcquireNotifier();
+            if (acquireNotifier == null) {
+                acquireNotifier = new ExternalWorkerJobAcquireNotifier();
+                processEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobAcquireNotifier(acquireNotifier);
+            }
+            cmmnEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobAcquireNotifier(acquireNotifier);
         }
 
         JobServiceConfiguration engineJobServiceConfiguration = getJobServiceConfiguration(engineConfiguration);
@@ -252,7 +252,6 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
@@ -433,6 +432,12 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected List<ResolverFactory> resolverFactories;
     protected Collection<ResolverFactory> preDefaultResolverFactories;
     protected Collection<ResolverFactory> postDefaultResolverFactories;
+    /**
+     * If set to true, scripts of script engines that support compilation are compiled once and the compiled script is reused
+     * for subsequent evaluations of the same script. Only applies to script engines that are safe to be used by multiple threads.
+     */
+    protected boolean enableCompiledScriptCache;
+    protected int compiledScriptCacheLimit = 1024;
 
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
@@ -645,6 +650,25 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
      */
     protected Duration eventRegistryUniqueCaseInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Whether a node-local index of the event subscriptions per event type and correlation key is kept, so that events received
+     * by the event registry that cannot match any event subscription don't need to query the database.
+     * Disabled by default. Only enable it for single node deployments: the index doesn't see event subscriptions created by other nodes
+     * until its next rebuild, and the events received in the meantime are not delivered to them.
+     */
+    protected boolean enableEventSubscriptionCorrelationIndex;
+
+    /**
+     * The interval in which the event subscription correlation index is rebuilt from the database.
+     */
+    protected Duration eventSubscriptionCorrelationIndexReconcileInterval = Duration.ofSeconds(60);
+
+    /**
+     * Whether a sentry dependency index is built for every deployed case definition, so that criteria evaluation after a plan item
+     * life cycle event skips the criteria consisting solely of onParts that don't listen to that plan item and transition.
+     */
+    protected boolean enableIncrementalSentryEvaluation;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -875,7 +899,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             }
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(createDeploymentCache("expressionCache", expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -1097,9 +1121,9 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
             if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
+                caseDefinitionCache = createDeploymentCache("caseDefinitionCache");
             } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
+                caseDefinitionCache = createDeploymentCache("caseDefinitionCache", caseDefinitionCacheLimit);
             }
         }
     }
@@ -1315,6 +1339,8 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new CmmnEngineScriptTraceEnhancer());
+            scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
+            scriptingEngines.setCacheCompiledScripts(enableCompiledScriptCache);
         }
     }
     
@@ -1549,6 +1575,8 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueCaseInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setEnableEventSubscriptionCorrelationIndex(this.enableEventSubscriptionCorrelationIndex);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndexReconcileInterval(this.eventSubscriptionCorrelationIndexReconcileInterval);
         
         this.eventSubscriptionServiceConfiguration.setConfigurators(this.eventSubscriptionServiceConfigurators);
         this.eventSubscriptionServiceConfiguration.init();
@@ -3132,6 +3160,33 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isEnableEventSubscriptionCorrelationIndex() {
+        return enableEventSubscriptionCorrelationIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableEventSubscriptionCorrelationIndex(boolean enableEventSubscriptionCorrelationIndex) {
+        this.enableEventSubscriptionCorrelationIndex = enableEventSubscriptionCorrelationIndex;
+        return this;
+    }
+
+    public boolean isEnableIncrementalSentryEvaluation() {
+        return enableIncrementalSentryEvaluation;
+    }
+
+    public CmmnEngineConfiguration setEnableIncrementalSentryEvaluation(boolean enableIncrementalSentryEvaluation) {
+        this.enableIncrementalSentryEvaluation = enableIncrementalSentryEvaluation;
+        return this;
+    }
+
+    public Duration getEventSubscriptionCorrelationIndexReconcileInterval() {
+        return eventSubscriptionCorrelationIndexReconcileInterval;
+    }
+
+    public CmmnEngineConfiguration setEventSubscriptionCorrelationIndexReconcileInterval(Duration eventSubscriptionCorrelationIndexReconcileInterval) {
+        this.eventSubscriptionCorrelationIndexReconcileInterval = eventSubscriptionCorrelationIndexReconcileInterval;
+        return this;
+    }
+
     public AsyncJobExecutorConfiguration getAsyncExecutorConfiguration() {
         return asyncExecutorConfiguration;
     }
@@ -3320,6 +3375,24 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().isUseVirtualThreads();
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorUseVirtualThreads(boolean useVirtualThreads) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setUseVirtualThreads(useVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentTasks() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().getMaxConcurrentTasks();
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorMaxConcurrentTasks(int maxConcurrentTasks) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     public ThreadFactory getAsyncExecutorThreadFactory() {
         return asyncExecutorThreadFactory;
     }
@@ -3677,6 +3750,24 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorUseVirtualThreads() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().isUseVirtualThreads();
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorUseVirtualThreads(boolean useVirtualThreads) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setUseVirtualThreads(useVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorMaxConcurrentTasks() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().getMaxConcurrentTasks();
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorMaxConcurrentTasks(int maxConcurrentTasks) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     /**
      * @deprecated use {@link AsyncJobExecutorConfiguration#getMaxAsyncJobsDuePerAcquisition()} via {@link #getAsyncHistoryExecutorConfiguration()}
      */
@@ -4223,6 +4314,24 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isEnableCompiledScriptCache() {
+        return enableCompiledScriptCache;
+    }
+
+    public CmmnEngineConfiguration setEnableCompiledScriptCache(boolean enableCompiledScriptCache) {
+        this.enableCompiledScriptCache = enableCompiledScriptCache;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public CmmnEngineConfiguration setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     public List<ResolverFactory> getResolverFactories() {
         return resolverFactories;
     }
@@ -28,6 +28,7 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -74,6 +75,9 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    protected SentryDependencyIndex sentryDependencyIndex;
+    protected boolean sentryDependencyIndexLoaded;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -443,6 +447,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         if (planItem != null) {
             List<Criterion> criteria = planItem.getEntryCriteria();
             if (criteria != null && !criteria.isEmpty()) {
+                // With a repetition rule, a previously satisfied sentry can still lead to a new instance when the rule evaluates differently
+                if (!ExpressionUtil.hasRepetitionRule(planItem)) {
+                    criteria = filterCriteriaAffectedByLifeCycleEvent(criteria);
+                }
                 return evaluateCriteria(planItemInstanceEntity, criteria);
             }
         }
@@ -454,12 +462,52 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         if (hasExitCriteria != null) {
             List<Criterion> criteria = hasExitCriteria.getExitCriteria();
             if (criteria != null && !criteria.isEmpty()) {
-                return evaluateCriteria(entityWithSentryPartInstances, criteria);
+                return evaluateCriteria(entityWithSentryPartInstances, filterCriteriaAffectedByLifeCycleEvent(criteria));
             }
         }
         return null;
     }
 
+    /**
+     * Returns the criteria that can become satisfied by the current plan item life cycle event, using the {@link SentryDependencyIndex}
+     * of the case definition. When there is no event (e.g. after a variable change) or no index, all criteria are returned.
+     */
+    protected List<Criterion> filterCriteriaAffectedByLifeCycleEvent(List<Criterion> criteria) {
+        if (planItemLifeCycleEvent == null) {
+            return criteria;
+        }
+
+        SentryDependencyIndex index = getSentryDependencyIndex();
+        if (index == null) {
+            return criteria;
+        }
+
+        List<Criterion> affectedCriteria = null;
+        for (int i = 0; i < criteria.size(); i++) {
+            Criterion criterion = criteria.get(i);
+            if (index.canBeAffectedBy(criterion, planItemLifeCycleEvent)) {
+                if (affectedCriteria != null) {
+                    affectedCriteria.add(criterion);
+                }
+
+            } else if (affectedCriteria == null) {
+                affectedCriteria = new ArrayList<>(criteria.subList(0, i));
+            }
+        }
+
+        return affectedCriteria != null ? affectedCriteria : criteria;
+    }
+
+    protected SentryDependencyIndex getSentryDependencyIndex() {
+        if (!sentryDependencyIndexLoaded) {
+            if (caseInstanceEntity != null && CommandContextUtil.getCmmnEngineConfiguration(commandContext).isEnableIncrementalSentryEvaluation()) {
+                sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstanceEntity.getCaseDefinitionId());
+            }
+            sentryDependencyIndexLoaded = true;
+        }
+        return sentryDependencyIndex;
+    }
+
     /**
      * @return Returns the criterion that is satisfied. If none is satisfied, null is returned.
      */
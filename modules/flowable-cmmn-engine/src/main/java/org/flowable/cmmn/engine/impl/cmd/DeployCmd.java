@@ -21,12 +21,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.api.repository.CmmnDeployment;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.CmmnResourceEntityManager;
 import org.flowable.cmmn.engine.impl.repository.CmmnDeploymentBuilderImpl;
 import org.flowable.cmmn.engine.impl.repository.CmmnDeploymentQueryImpl;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
 
 /**
  * @author Joram Barrez
@@ -78,6 +81,11 @@ public class DeployCmd implements Command<CmmnDeployment> {
         
         deployment.setDeploymentTime(cmmnEngineConfiguration.getClock().getCurrentTime());
         deployment.setNew(true);
+
+        if (deploymentBuilder.isDuplicateFilterEnabled() && cmmnEngineConfiguration.isEnableDeploymentManifest()) {
+            addDeploymentManifest(deployment, cmmnEngineConfiguration.getCmmnResourceEntityManager());
+        }
+
         cmmnEngineConfiguration.getCmmnDeploymentEntityManager().insert(deployment);
 
         if (StringUtils.isEmpty(deployment.getParentDeploymentId())) {
@@ -93,7 +101,21 @@ public class DeployCmd implements Command<CmmnDeployment> {
     
     protected boolean deploymentsDiffer(CmmnDeploymentEntity deployment, CmmnDeploymentEntity saved) {
 
-        if (deployment.getResources() == null || saved.getResources() == null) {
+        if (deployment.getResources() == null) {
+            return true;
+        }
+
+        // Only the manifest of the saved deployment is read when it has one, instead of all of its resources
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        if (cmmnEngineConfiguration.isEnableDeploymentManifest()) {
+            CmmnResourceEntity savedManifest = cmmnEngineConfiguration.getCmmnResourceEntityManager()
+                    .findResourceByDeploymentIdAndResourceName(saved.getId(), DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+            if (savedManifest != null && savedManifest.isGenerated()) {
+                return DeploymentManifestUtil.resourcesDiffer(deployment.getResources(), savedManifest.getBytes());
+            }
+        }
+
+        if (saved.getResources() == null) {
             return true;
         }
 
@@ -118,4 +140,16 @@ public class DeployCmd implements Command<CmmnDeployment> {
         return false;
     }
 
+    protected void addDeploymentManifest(CmmnDeploymentEntity deployment, CmmnResourceEntityManager resourceEntityManager) {
+        if (deployment.getResources() == null || deployment.getResources().containsKey(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME)) {
+            return;
+        }
+
+        CmmnResourceEntity manifest = resourceEntityManager.create();
+        manifest.setName(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+        manifest.setBytes(DeploymentManifestUtil.createManifest(deployment.getResources()));
+        manifest.setGenerated(true);
+        deployment.addResource(manifest);
+    }
+
 }
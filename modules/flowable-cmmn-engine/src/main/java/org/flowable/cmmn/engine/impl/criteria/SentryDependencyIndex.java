@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CaseElement;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+
+/**
+ * Reverse index from a source plan item and transition to the criteria having an onPart listening to it.
+ * Built once per case definition when it is deployed or put in the cache.
+ *
+ * Only criteria consisting solely of onParts are indexed: such a criterion can't become satisfied by a
+ * {@link PlanItemLifeCycleEvent} none of its onParts listen to. Criteria with an ifPart (or without any part)
+ * depend on variables and are never filtered out.
+ */
+public class SentryDependencyIndex {
+
+    protected Set<String> onPartOnlyCriterionIds = new HashSet<>();
+    protected Map<String, Set<String>> criterionIdsBySourceAndTransition = new HashMap<>();
+
+    public static SentryDependencyIndex build(Case caze) {
+        SentryDependencyIndex index = new SentryDependencyIndex();
+        for (CaseElement caseElement : caze.getAllCaseElements().values()) {
+            if (caseElement instanceof Criterion) {
+                index.addCriterion((Criterion) caseElement);
+            }
+        }
+        return index;
+    }
+
+    protected void addCriterion(Criterion criterion) {
+        Sentry sentry = criterion.getSentry();
+        if (sentry == null || sentry.getSentryIfPart() != null || sentry.getOnParts().isEmpty()) {
+            return;
+        }
+
+        onPartOnlyCriterionIds.add(criterion.getId());
+        for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+            criterionIdsBySourceAndTransition
+                .computeIfAbsent(createKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new HashSet<>())
+                .add(criterion.getId());
+        }
+    }
+
+    /**
+     * @return false if the given criterion can't become satisfied by the given life cycle event, true otherwise.
+     */
+    public boolean canBeAffectedBy(Criterion criterion, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (planItemLifeCycleEvent == null || !onPartOnlyCriterionIds.contains(criterion.getId())) {
+            return true;
+        }
+
+        return getDependentCriterionIds(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition())
+            .contains(criterion.getId());
+    }
+
+    public Set<String> getDependentCriterionIds(String sourcePlanItemId, String transition) {
+        return criterionIdsBySourceAndTransition.getOrDefault(createKey(sourcePlanItemId, transition), Collections.emptySet());
+    }
+
+    protected String createKey(String sourcePlanItemId, String transition) {
+        return sourcePlanItemId + '#' + transition;
+    }
+
+}
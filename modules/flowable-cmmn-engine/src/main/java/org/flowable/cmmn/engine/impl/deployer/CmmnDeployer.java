@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -20,10 +21,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.converter.CmmnXmlConstants;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseContext;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
 import org.flowable.cmmn.engine.impl.parser.CmmnParser;
@@ -48,6 +52,7 @@ import org.flowable.common.engine.impl.assignment.CandidateUtil;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.util.FutureUtil;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.IdentityLinkService;
@@ -82,9 +87,19 @@ public class CmmnDeployer implements EngineDeployer {
     public void deploy(EngineDeployment deployment, Map<String, Object> deploymentSettings) {
         LOGGER.debug("Processing deployment {}", deployment.getName());
 
-        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        List<EngineResource> cmmnResources = new ArrayList<>();
         for (EngineResource resource : deployment.getResources().values()) {
             if (isCmmnResource(resource.getName())) {
+                cmmnResources.add(resource);
+            }
+        }
+
+        CmmnParseResult parseResult = new CmmnParseResult(deployment);
+        if (cmmnResources.size() > 1 && cmmnEngineConfiguration.isEnableParallelDeploymentParsing()) {
+            parseInParallel(deployment, cmmnResources, parseResult);
+
+        } else {
+            for (EngineResource resource : cmmnResources) {
                 LOGGER.debug("Processing CMMN resource {}", resource.getName());
                 parseResult.merge(cmmnParser.parse(new CmmnParseContextImpl(resource, deployment.isNew())));
             }
@@ -111,6 +126,38 @@ public class CmmnDeployer implements EngineDeployer {
         updateCachingAndArtifacts(parseResult);
     }
 
+    /**
+     * Converts and validates the resources in parallel, after which the parse handlers are applied on the deploying thread
+     * in the order of the resources. A failure is reported for the first failing resource in that order.
+     */
+    protected void parseInParallel(EngineDeployment deployment, List<EngineResource> cmmnResources, CmmnParseResult parseResult) {
+        ForkJoinPool pool = cmmnEngineConfiguration.getDeploymentParsingPool();
+
+        List<CmmnParseContext> parseContexts = new ArrayList<>(cmmnResources.size());
+        List<Future<CmmnModel>> conversions = new ArrayList<>(cmmnResources.size());
+        for (EngineResource resource : cmmnResources) {
+            CmmnParseContext parseContext = new CmmnParseContextImpl(resource, deployment.isNew());
+            parseContexts.add(parseContext);
+            conversions.add(pool.submit(() -> cmmnParser.convertAndValidate(parseContext)));
+        }
+
+        for (int i = 0; i < cmmnResources.size(); i++) {
+            LOGGER.debug("Processing CMMN resource {}", cmmnResources.get(i).getName());
+            CmmnParseContext parseContext = parseContexts.get(i);
+            CmmnModel cmmnModel;
+            try {
+                cmmnModel = FutureUtil.getResult(conversions.get(i));
+            } catch (RuntimeException e) {
+                for (int j = i + 1; j < conversions.size(); j++) {
+                    conversions.get(j).cancel(false);
+                }
+                throw e;
+            }
+
+            parseResult.merge(cmmnModel != null ? cmmnParser.parse(parseContext, cmmnModel) : cmmnParser.parse(parseContext));
+        }
+    }
+
     public static boolean isCmmnResource(String resourceName) {
         for (String suffix : CMMN_RESOURCE_SUFFIXES) {
             if (resourceName.endsWith(suffix)) {
@@ -330,6 +377,9 @@ public class CmmnDeployer implements EngineDeployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            if (cmmnEngineConfiguration.isEnableIncrementalSentryEvaluation()) {
+                cacheEntry.setSentryDependencyIndex(SentryDependencyIndex.build(caze));
+            }
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.repository.CaseDefinition;
@@ -41,6 +42,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,6 +67,11 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return "cmmnEventConsumer";
     }
 
+    @Override
+    protected String getEventSubscriptionScopeType() {
+        return ScopeTypes.CMMN;
+    }
+
     @Override
     protected EventRegistryProcessingInfo eventReceived(EventInstance eventInstance) {
 
@@ -73,10 +80,17 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
         
-        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
-
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
+        return eventReceived(eventInstance, correlationKeys, eventSubscriptions);
+    }
+
+    @Override
+    protected EventRegistryProcessingInfo eventReceived(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+            List<EventSubscription> eventSubscriptions) {
+
+        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Found {} for {}", eventSubscriptions, eventInstance);
         }
@@ -278,6 +292,17 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected boolean hasPossibleEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        EventSubscriptionCorrelationIndex correlationIndex = cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionCorrelationIndex();
+        if (correlationIndex == null) {
+            return true;
+        }
+
+        List<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toList());
+        return correlationIndex.hasPossibleEventSubscriptions(scopeType, eventInstance.getEventKey(), correlationKeyValues, commandExecutor);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, cmmnEngineConfiguration.getEventSubscriptionServiceConfiguration());
@@ -13,10 +13,16 @@
 package org.flowable.cmmn.engine.impl.history;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -37,7 +43,9 @@ import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
@@ -102,6 +110,7 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected String tenantIdLikeIgnoreCase;
     protected boolean withoutTenantId;
     protected boolean includeCaseVariables;
+    protected Collection<String> caseVariableNamesToInclude;
     protected String activePlanItemDefinitionId;
     protected Set<String> activePlanItemDefinitionIds;
     protected String involvedUser;
@@ -835,6 +844,11 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         if (returnIdsOnly) {
             results = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().findIdsByCriteria(this);
             
+        } else if (caseVariableNamesToInclude != null) {
+            // The case instances are fetched first and the variables of all fetched case instances are fetched afterwards
+            results = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().findByCriteria(this);
+            addIncludedVariables(results);
+
         } else if (includeCaseVariables) {
             results = cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().findWithVariablesByQueryCriteria(this);
 
@@ -855,6 +869,23 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return results;
     }
 
+    @Override
+    protected Stream<HistoricCaseInstance> executeStream(CommandContext commandContext) {
+        if (includeCaseVariables || returnIdsOnly) {
+            // The variables are fetched with a nested result map, which needs the whole result set
+            return super.executeStream(commandContext);
+        }
+
+        ensureVariablesInitialized();
+
+        if (withoutSorting) {
+            setIgnoreOrderBy();
+        }
+
+        // The streamed case instances are not localized, as the localization needs the command context
+        return cmmnEngineConfiguration.getHistoricCaseInstanceEntityManager().streamByCriteria(this);
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricCaseInstance> results) {
 
         // Unlike the CaseInstanceEntityImpl, variables are not stored on the HistoricCaseInstanceEntityImpl.
@@ -883,9 +914,34 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         }
     }
 
+    protected void addIncludedVariables(List<HistoricCaseInstance> caseInstances) {
+        if (caseInstances.isEmpty()) {
+            return;
+        }
+
+        List<String> caseInstanceIds = caseInstances.stream().map(HistoricCaseInstance::getId).collect(Collectors.toList());
+        List<HistoricVariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> caseInstanceIdsPart : getSafeList(caseInstanceIds)) {
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+            query.scopeIds(new HashSet<>(caseInstanceIdsPart)).scopeType(ScopeTypes.CMMN).excludeLocalVariables();
+            query.variableNames(caseVariableNamesToInclude);
+            for (HistoricVariableInstance variable : cmmnEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableInstanceEntityManager()
+                    .findHistoricVariableInstancesByQueryCriteria(query)) {
+                variables.add((HistoricVariableInstanceEntity) variable);
+            }
+        }
+
+        Map<String, List<HistoricVariableInstanceEntity>> variablesByCaseInstanceId = variables.stream()
+                .collect(Collectors.groupingBy(HistoricVariableInstanceEntity::getScopeId));
+        for (HistoricCaseInstance caseInstance : caseInstances) {
+            ((HistoricCaseInstanceEntity) caseInstance).getQueryVariables()
+                    .addAll(variablesByCaseInstanceId.getOrDefault(caseInstance.getId(), Collections.emptyList()));
+        }
+    }
+
     @Override
     public void enhanceCachedValue(HistoricCaseInstanceEntity caseInstance) {
-        if (isIncludeCaseVariables()) {
+        if (isIncludeCaseVariables() && caseVariableNamesToInclude == null) {
             caseInstance.getQueryVariables()
                     .addAll(cmmnEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableInstanceEntityManager()
                             .findHistoricalVariableInstancesByScopeIdAndScopeType(caseInstance.getId(), ScopeTypes.CMMN));
@@ -930,6 +986,16 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    public HistoricCaseInstanceQuery includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.caseVariableNamesToInclude = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricCaseInstanceQuery activePlanItemDefinitionId(String planItemDefinitionId) {
         if (planItemDefinitionId == null) {
@@ -1411,6 +1477,10 @@ public class HistoricCaseInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeCaseVariables;
     }
 
+    public Collection<String> getCaseVariableNamesToInclude() {
+        return caseVariableNamesToInclude;
+    }
+
     public List<HistoricCaseInstanceQueryImpl> getOrQueryObjects() {
         return orQueryObjects;
     }
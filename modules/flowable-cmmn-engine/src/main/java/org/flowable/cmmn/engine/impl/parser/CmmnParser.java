@@ -12,11 +12,30 @@
  */
 package org.flowable.cmmn.engine.impl.parser;
 
+import org.flowable.cmmn.model.CmmnModel;
+
 /**
  * @author Joram Barrez
  */
 public interface CmmnParser {
     
     CmmnParseResult parse(CmmnParseContext context);
+
+    /**
+     * Converts and validates the resource of the context, without applying the parse handlers.
+     * This is called outside of the command context, possibly concurrently for several resources of the same deployment.
+     *
+     * @return the converted model, or null when the parser does not support converting separately from parsing
+     */
+    default CmmnModel convertAndValidate(CmmnParseContext context) {
+        return null;
+    }
+
+    /**
+     * Parses the model that was returned by {@link #convertAndValidate(CmmnParseContext)} for the resource of the context.
+     */
+    default CmmnParseResult parse(CmmnParseContext context, CmmnModel cmmnModel) {
+        return parse(context);
+    }
     
 }
@@ -51,29 +51,58 @@ public class CmmnParserImpl implements CmmnParser {
     }
 
     public CmmnParseResult parse(CmmnParseContext context, StreamSource cmmnSource) {
-        try {
-            CmmnParseResult cmmnParseResult = new CmmnParseResult();
-            cmmnParseResult.setResourceEntity(context.resource());
+        return processCmmnModel(context, convertAndValidate(context, cmmnSource));
+    }
 
+    @Override
+    public CmmnModel convertAndValidate(CmmnParseContext context) {
+        return convertAndValidate(context, new BytesStreamSource(context.resource().getBytes()));
+    }
+
+    @Override
+    public CmmnParseResult parse(CmmnParseContext context, CmmnModel cmmnModel) {
+        CmmnParseResult cmmnParseResult = processCmmnModel(context, cmmnModel);
+        processDI(cmmnParseResult.getCmmnModel(), cmmnParseResult.getAllCaseDefinitions());
+        return cmmnParseResult;
+    }
+
+    protected CmmnModel convertAndValidate(CmmnParseContext context, StreamSource cmmnSource) {
+        try {
             CmmnModel cmmnModel = convertToCmmnModel(context, cmmnSource);
-            cmmnParseResult.setCmmnModel(cmmnModel);
 
             if (context.validateCmmnModel()) {
                 validateCmmnModel(context.caseValidator(), cmmnModel);
             }
 
+            return cmmnModel;
+
+        } catch (Exception e) {
+            throw wrapParseException(e);
+        }
+    }
+
+    protected CmmnParseResult processCmmnModel(CmmnParseContext context, CmmnModel cmmnModel) {
+        try {
+            CmmnParseResult cmmnParseResult = new CmmnParseResult();
+            cmmnParseResult.setResourceEntity(context.resource());
+            cmmnParseResult.setCmmnModel(cmmnModel);
+
             processCmmnElements(cmmnModel, cmmnParseResult);
 
             return cmmnParseResult;
 
         } catch (Exception e) {
-            if (e instanceof FlowableException) {
-                throw (FlowableException) e;
-            } else if (e instanceof CmmnXMLException) {
-                throw (CmmnXMLException) e;
-            } else {
-                throw new FlowableException("Error parsing XML", e);
-            }
+            throw wrapParseException(e);
+        }
+    }
+
+    protected RuntimeException wrapParseException(Exception e) {
+        if (e instanceof FlowableException) {
+            return (FlowableException) e;
+        } else if (e instanceof CmmnXMLException) {
+            return (CmmnXMLException) e;
+        } else {
+            return new FlowableException("Error parsing XML", e);
         }
     }
 
@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.persistence.entity;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.api.history.HistoricCaseInstanceQuery;
@@ -36,6 +37,8 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     
     List<HistoricCaseInstance> findByCriteria(HistoricCaseInstanceQuery query);
 
+    Stream<HistoricCaseInstance> streamByCriteria(HistoricCaseInstanceQuery query);
+
     List<HistoricCaseInstance> findWithVariablesByQueryCriteria(HistoricCaseInstanceQuery query);
     
     List<HistoricCaseInstance> findIdsByCriteria(HistoricCaseInstanceQuery query);
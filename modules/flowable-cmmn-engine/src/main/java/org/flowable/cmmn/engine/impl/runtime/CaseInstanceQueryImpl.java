@@ -13,9 +13,13 @@
 package org.flowable.cmmn.engine.impl.runtime;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.CaseInstanceQuery;
@@ -29,7 +33,9 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
@@ -87,6 +93,7 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     protected String tenantIdLikeIgnoreCase;
     protected boolean withoutTenantId;
     protected boolean includeCaseVariables;
+    protected Collection<String> caseVariableNamesToInclude;
     protected String activePlanItemDefinitionId;
     protected Set<String> activePlanItemDefinitionIds;
     protected String involvedUser;
@@ -972,6 +979,16 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return this;
     }
 
+    @Override
+    public CaseInstanceQueryImpl includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.caseVariableNamesToInclude = variableNames;
+        return this;
+    }
+
     @Override
     public CaseInstanceQuery locale(String locale) {
         this.locale = locale;
@@ -996,7 +1013,11 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
     public List<CaseInstance> executeList(CommandContext commandContext) {
         ensureVariablesInitialized();
         List<CaseInstance> caseInstances = null;
-        if (this.isIncludeCaseVariables()) {
+        if (caseVariableNamesToInclude != null) {
+            // The case instances are fetched first and the variables of all fetched case instances are fetched afterwards
+            caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findByCriteria(this);
+            addIncludedVariables(caseInstances);
+        } else if (this.isIncludeCaseVariables()) {
             caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findWithVariablesByCriteria(this);
         } else {
             caseInstances = cmmnEngineConfiguration.getCaseInstanceEntityManager().findByCriteria(this);
@@ -1011,9 +1032,34 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return caseInstances;
     }
 
+    protected void addIncludedVariables(List<CaseInstance> caseInstances) {
+        if (caseInstances.isEmpty()) {
+            return;
+        }
+
+        List<String> caseInstanceIds = caseInstances.stream().map(CaseInstance::getId).collect(Collectors.toList());
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> caseInstanceIdsPart : getSafeList(caseInstanceIds)) {
+            InternalVariableInstanceQuery query = cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .scopeIds(caseInstanceIdsPart)
+                    .scopeType(ScopeTypes.CMMN)
+                    .withoutSubScopeId()
+                    .names(caseVariableNamesToInclude);
+            variables.addAll(query.list());
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByCaseInstanceId = variables.stream()
+                .collect(Collectors.groupingBy(VariableInstanceEntity::getScopeId));
+        for (CaseInstance caseInstance : caseInstances) {
+            ((CaseInstanceEntity) caseInstance).getQueryVariables()
+                    .addAll(variablesByCaseInstanceId.getOrDefault(caseInstance.getId(), Collections.emptyList()));
+        }
+    }
+
     @Override
     public void enhanceCachedValue(CaseInstanceEntity caseInstance) {
-        if (isIncludeCaseVariables()) {
+        if (isIncludeCaseVariables() && caseVariableNamesToInclude == null) {
             caseInstance.getQueryVariables().addAll(cmmnEngineConfiguration.getVariableServiceConfiguration().getVariableService()
                     .findVariableInstanceByScopeIdAndScopeType(caseInstance.getId(), ScopeTypes.CMMN));
         }
@@ -1216,6 +1262,10 @@ public class CaseInstanceQueryImpl extends AbstractVariableQueryImpl<CaseInstanc
         return includeCaseVariables;
     }
 
+    public Collection<String> getCaseVariableNamesToInclude() {
+        return caseVariableNamesToInclude;
+    }
+
     public boolean isNeedsCaseDefinitionOuterJoin() {
         if (isNeedsPaging()) {
             if (AbstractEngineConfiguration.DATABASE_TYPE_ORACLE.equals(databaseType)
@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.engine.test.impl.CmmnHistoryTestHelper;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.task.api.TaskInfo;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.Test;
+
+public class CmmnHistoricQueryStreamTest extends FlowableCmmnTestCase {
+
+    protected List<String> startCaseInstances() {
+        List<String> caseInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            caseInstanceIds.add(cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("oneTaskCase")
+                    .businessKey("key" + i)
+                    .variable("text", "value" + i)
+                    .variable("bytes", ("bytes" + i).getBytes(StandardCharsets.UTF_8))
+                    .start()
+                    .getId());
+        }
+        return caseInstanceIds;
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testStreamHistoricCaseInstances() {
+        if (!CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            return;
+        }
+
+        List<String> caseInstanceIds = startCaseInstances();
+
+        try (Stream<HistoricCaseInstance> stream = cmmnHistoryService.createHistoricCaseInstanceQuery().orderByCaseInstanceId().asc().stream()) {
+            assertThat(stream.map(HistoricCaseInstance::getId)).containsExactlyElementsOf(caseInstanceIds.stream().sorted().toList());
+        }
+
+        try (Stream<HistoricCaseInstance> stream = cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceBusinessKey("key3").stream()) {
+            assertThat(stream.map(HistoricCaseInstance::getId)).containsExactly(caseInstanceIds.get(3));
+        }
+
+        // Including the variables falls back to the list of case instances
+        try (Stream<HistoricCaseInstance> stream = cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceBusinessKey("key3")
+                .includeCaseVariables().stream()) {
+            assertThat(stream.map(historicCaseInstance -> historicCaseInstance.getCaseVariables().get("text"))).containsExactly("value3");
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testStreamHistoricTaskInstances() {
+        if (!CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, cmmnEngineConfiguration)) {
+            return;
+        }
+
+        List<String> caseInstanceIds = startCaseInstances();
+
+        try (Stream<HistoricTaskInstance> stream = cmmnHistoryService.createHistoricTaskInstanceQuery().orderByTaskId().asc().stream()) {
+            assertThat(stream.map(HistoricTaskInstance::getScopeId)).containsExactlyInAnyOrderElementsOf(caseInstanceIds);
+        }
+
+        List<String> taskIds = cmmnHistoryService.createHistoricTaskInstanceQuery().orderByTaskId().asc().list().stream().map(TaskInfo::getId).toList();
+        try (Stream<HistoricTaskInstance> stream = cmmnHistoryService.createHistoricTaskInstanceQuery().orderByTaskId().asc().stream()) {
+            assertThat(stream.map(TaskInfo::getId)).containsExactlyElementsOf(taskIds);
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testStreamHistoricVariableInstances() {
+        if (!CmmnHistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, cmmnEngineConfiguration)) {
+            return;
+        }
+
+        List<String> caseInstanceIds = startCaseInstances();
+
+        try (Stream<HistoricVariableInstance> stream = cmmnHistoryService.createHistoricVariableInstanceQuery().variableName("text").stream()) {
+            assertThat(stream.map(HistoricVariableInstance::getValue))
+                    .containsExactlyInAnyOrder("value0", "value1", "value2", "value3", "value4");
+        }
+
+        // The values stored in a byte array are fetched while the stream is consumed
+        try (Stream<HistoricVariableInstance> stream = cmmnHistoryService.createHistoricVariableInstanceQuery()
+                .caseInstanceId(caseInstanceIds.get(1)).variableName("bytes").stream()) {
+            assertThat(stream.map(variable -> new String((byte[]) variable.getValue(), StandardCharsets.UTF_8)))
+                    .containsExactly("bytes1");
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IncrementalSentryEvaluationTest extends FlowableCmmnTestCase {
+
+    protected boolean originalEnableIncrementalSentryEvaluation;
+    protected CaseDefinition caseDefinition;
+
+    @Before
+    public void deployWithSentryDependencyIndex() {
+        originalEnableIncrementalSentryEvaluation = cmmnEngineConfiguration.isEnableIncrementalSentryEvaluation();
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(true);
+
+        addDeploymentForAutoCleanup(cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/sentry/IncrementalSentryEvaluationTest.cmmn")
+                .deploy());
+        caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("incrementalSentryEvaluation").singleResult();
+    }
+
+    @After
+    public void resetIncrementalSentryEvaluation() {
+        cmmnEngineConfiguration.setEnableIncrementalSentryEvaluation(originalEnableIncrementalSentryEvaluation);
+    }
+
+    @Test
+    public void testSentryDependencyIndex() {
+        SentryDependencyIndex index = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId()).getSentryDependencyIndex();
+        assertThat(index).isNotNull();
+
+        assertThat(index.getDependentCriterionIds("planItemA", "complete")).containsExactlyInAnyOrder("entryB", "entryC");
+        assertThat(index.getDependentCriterionIds("planItemB", "complete")).containsExactlyInAnyOrder("entryC", "exitE");
+        assertThat(index.getDependentCriterionIds("planItemA", "terminate")).isEmpty();
+
+        // Criteria with an ifPart depend on variables and are not indexed
+        assertThat(index.getDependentCriterionIds("planItemA", "complete")).doesNotContain("entryD");
+    }
+
+    @Test
+    public void testCriteriaEvaluation() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("incrementalSentryEvaluation")
+                .variable("goToD", false)
+                .start();
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("A", "E");
+
+        completeTask(caseInstance, "A");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("B", "E");
+
+        completeTask(caseInstance, "B");
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("C");
+
+        // A variable change is evaluated without a life cycle event, so the ifPart of D is evaluated again
+        cmmnRuntimeService.setVariables(caseInstance.getId(), Collections.singletonMap("goToD", true));
+        assertThat(getActiveTaskNames(caseInstance)).containsExactly("C", "D");
+    }
+
+    protected List<String> getActiveTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list()
+                .stream()
+                .map(Task::getName)
+                .collect(Collectors.toList());
+    }
+
+    protected void completeTask(CaseInstance caseInstance, String name) {
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName(name).singleResult();
+        cmmnTaskService.complete(task.getId());
+    }
+}
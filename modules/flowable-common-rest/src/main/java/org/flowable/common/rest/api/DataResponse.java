@@ -15,6 +15,8 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +28,8 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor;
 
     public List<T> getData() {
         return data;
@@ -75,4 +79,12 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
+import org.flowable.common.engine.api.query.KeysetQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 
@@ -77,6 +79,10 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getCursor() == null) {
+            paginateRequest.setCursor(requestParams.get("cursor"));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
@@ -135,6 +141,10 @@ public interface PaginateListUtil {
         response.setSort(sort);
         response.setOrder(order);
 
+        if (paginateRequest.getCursor() != null) {
+            return paginateKeyset(paginateRequest.getCursor(), size, query, listProcessor, response);
+        }
+
         // Get result and set pagination parameters
         List<RES> list = listProcessor.processList(query.listPage(start, size));
         if (start == 0 && list.size() < size) {
@@ -149,4 +159,29 @@ public interface PaginateListUtil {
         return response;
     }
 
+    /**
+     * Gets the page after the cursor. The total is not calculated for keyset paged results, as that would require the count
+     * that keyset pagination avoids, and is returned as -1.
+     */
+    @SuppressWarnings("unchecked")
+    private static <RES, REQ> DataResponse<RES> paginateKeyset(String cursor, int size, Query<?, REQ> query, ListProcessor<REQ, RES> listProcessor,
+            DataResponse<RES> response) {
+        if (!(query instanceof KeysetQuery)) {
+            throw new FlowableIllegalArgumentException("Param 'cursor' is not supported for this query");
+        }
+        if (size == 0) {
+            throw new FlowableIllegalArgumentException("Value for param 'size' must be greater than 0 when using a cursor");
+        }
+
+        KeysetPage<REQ> page = ((KeysetQuery<REQ>) query).listAfter(cursor.isEmpty() ? null : cursor, size);
+        List<RES> list = listProcessor.processList(page.getResults());
+
+        response.setTotal(-1);
+        response.setSize(list.size());
+        response.setData(list);
+        response.setNextCursor(page.getNextCursor());
+
+        return response;
+    }
+
 }
@@ -29,6 +29,12 @@ public class PaginateRequest {
 
     protected String order;
 
+    /**
+     * When set, the query is paged with keyset pagination instead of the start: an empty cursor returns the first page,
+     * the next pages are returned for the next cursor of the previous response.
+     */
+    protected String cursor;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +66,12 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
 }
@@ -40,7 +40,6 @@ import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
@@ -208,6 +207,14 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to precompile input entries that compare an input variable with a literal (e.g. {@code "gold"} or {@code >= 10}) and to index
+     * equality entries per input column. These entries are then evaluated without EL expressions, other entries are still evaluated as EL expression.
+     *
+     * The evaluation results and the audit trail are the same as without the index.
+     */
+    protected boolean enableDecisionTableIndex;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -502,9 +509,9 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
         // Decision cache
         if (definitionCache == null) {
             if (decisionCacheLimit <= 0) {
-                definitionCache = new DefaultDeploymentCache<>();
+                definitionCache = createDeploymentCache("decisionCache");
             } else {
-                definitionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
+                definitionCache = createDeploymentCache("decisionCache", decisionCacheLimit);
             }
         }
 
@@ -1130,6 +1137,15 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
         return this;
     }
 
+    public boolean isEnableDecisionTableIndex() {
+        return enableDecisionTableIndex;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableIndex(boolean enableDecisionTableIndex) {
+        this.enableDecisionTableIndex = enableDecisionTableIndex;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
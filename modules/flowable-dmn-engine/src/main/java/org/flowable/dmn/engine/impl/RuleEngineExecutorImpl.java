@@ -12,9 +12,11 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -23,6 +25,7 @@ import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -56,6 +59,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     protected ObjectMapper objectMapper;
     protected DmnEngineConfiguration dmnEngineConfiguration;
 
+    // weak keys, so that the index is removed together with the decision table when it is removed from the decision cache
+    protected Map<DecisionTable, DecisionTableIndex> decisionTableIndexes = Collections.synchronizedMap(new WeakHashMap<>());
+
     public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors, ExpressionManager expressionManager, 
             ObjectMapper objectMapper, DmnEngineConfiguration dmnEngineConfiguration) {
         
@@ -120,9 +126,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         try {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
+            DecisionTableIndex.Evaluation indexEvaluation = createDecisionTableIndexEvaluation(decisionTable, executionContext);
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+                DecisionRule rule = rules.get(ruleIndex);
+                boolean ruleResult = executeRule(rule, ruleIndex, indexEvaluation, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -164,6 +173,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+        return executeRule(rule, -1, null, executionContext);
+    }
+
+    protected boolean executeRule(DecisionRule rule, int ruleIndex, DecisionTableIndex.Evaluation indexEvaluation, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
@@ -176,7 +189,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        for (int entryIndex = 0; entryIndex < inputEntries.size(); entryIndex++) {
+            RuleInputClauseContainer conditionContainer = inputEntries.get(entryIndex);
 
             // resetting value
             String inputEntryId = conditionContainer.getInputEntry().getId();
@@ -188,7 +203,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
                     conditionResult = true;
                 } else {
-                    conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    Boolean indexedResult = indexEvaluation != null ? indexEvaluation.getInputEntryResult(ruleIndex, entryIndex) : null;
+                    if (indexedResult != null) {
+                        conditionResult = indexedResult;
+                    } else {
+                        conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
+                    }
                 }
 
                 // add audit entry
@@ -227,6 +247,25 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
+    protected DecisionTableIndex.Evaluation createDecisionTableIndexEvaluation(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        if (dmnEngineConfiguration == null || !dmnEngineConfiguration.isEnableDecisionTableIndex()) {
+            return null;
+        }
+
+        DecisionTableIndex decisionTableIndex = getDecisionTableIndex(decisionTable);
+        if (!decisionTableIndex.hasCompiledEntries()) {
+            return null;
+        }
+        return decisionTableIndex.createEvaluation(executionContext.getStackVariables());
+    }
+
+    /**
+     * Returns the index with the precompiled input entries of the decision table, creating it when it doesn't exist yet.
+     */
+    public DecisionTableIndex getDecisionTableIndex(DecisionTable decisionTable) {
+        return decisionTableIndexes.computeIfAbsent(decisionTable, DecisionTableIndex::new);
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
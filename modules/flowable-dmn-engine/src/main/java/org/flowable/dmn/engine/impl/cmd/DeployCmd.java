@@ -23,12 +23,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
 import org.flowable.dmn.api.DmnDeployment;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DeploymentSettings;
 import org.flowable.dmn.engine.impl.DmnDeploymentQueryImpl;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnResourceEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.DmnResourceEntityManager;
 import org.flowable.dmn.engine.impl.repository.DmnDeploymentBuilderImpl;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 
@@ -78,14 +80,6 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
 
             if (!existingDeployments.isEmpty()) {
                 DmnDeploymentEntity existingDeployment = (DmnDeploymentEntity) existingDeployments.get(0);
-
-                Map<String, EngineResource> resourceMap = new HashMap<>();
-                List<DmnResourceEntity> resourceList = dmnEngineConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
-                for (DmnResourceEntity resourceEntity : resourceList) {
-                    resourceMap.put(resourceEntity.getName(), resourceEntity);
-                }
-                existingDeployment.setResources(resourceMap);
-                
                 if (!deploymentsDiffer(deployment, existingDeployment)) {
                     return existingDeployment;
                 }
@@ -94,6 +88,10 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
 
         deployment.setNew(true);
 
+        if (deploymentBuilder.isDuplicateFilterEnabled() && dmnEngineConfiguration.isEnableDeploymentManifest()) {
+            addDeploymentManifest(deployment, dmnEngineConfiguration.getResourceEntityManager());
+        }
+
         // Save the data
         dmnEngineConfiguration.getDeploymentEntityManager().insert(deployment);
 
@@ -116,10 +114,27 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
 
     protected boolean deploymentsDiffer(DmnDeploymentEntity deployment, DmnDeploymentEntity saved) {
 
-        if (deployment.getResources() == null || saved.getResources() == null) {
+        if (deployment.getResources() == null) {
             return true;
         }
 
+        // Only the manifest of the saved deployment is read when it has one, instead of all of its resources
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        if (dmnEngineConfiguration.isEnableDeploymentManifest()) {
+            DmnResourceEntity savedManifest = dmnEngineConfiguration.getResourceEntityManager()
+                    .findResourceByDeploymentIdAndResourceName(saved.getId(), DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+            if (savedManifest != null && savedManifest.isGenerated()) {
+                return DeploymentManifestUtil.resourcesDiffer(deployment.getResources(), savedManifest.getBytes());
+            }
+        }
+
+        Map<String, EngineResource> resourceMap = new HashMap<>();
+        List<DmnResourceEntity> resourceList = dmnEngineConfiguration.getResourceEntityManager().findResourcesByDeploymentId(saved.getId());
+        for (DmnResourceEntity resourceEntity : resourceList) {
+            resourceMap.put(resourceEntity.getName(), resourceEntity);
+        }
+        saved.setResources(resourceMap);
+
         Map<String, EngineResource> resources = deployment.getResources();
         Map<String, EngineResource> savedResources = saved.getResources();
 
@@ -142,4 +157,16 @@ public class DeployCmd<T> implements Command<DmnDeployment>, Serializable {
         }
         return false;
     }
+
+    protected void addDeploymentManifest(DmnDeploymentEntity deployment, DmnResourceEntityManager resourceEntityManager) {
+        if (deployment.getResources() == null || deployment.getResources().containsKey(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME)) {
+            return;
+        }
+
+        DmnResourceEntity manifest = resourceEntityManager.create();
+        manifest.setName(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+        manifest.setBytes(DeploymentManifestUtil.createManifest(deployment.getResources()));
+        manifest.setGenerated(true);
+        deployment.addResource(manifest);
+    }
 }
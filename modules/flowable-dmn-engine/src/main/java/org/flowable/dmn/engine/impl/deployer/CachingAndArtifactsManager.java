@@ -14,12 +14,14 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -45,6 +47,7 @@ public class CachingAndArtifactsManager {
             } else {
                 Decision decision = parsedDeployment.getDecisionForDecisionEntity(decisionEntity);
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
+                precompileDecisionTable(decision, dmnEngineConfiguration);
             }
 
             decisionCache.add(decisionEntity.getId(), cacheEntry);
@@ -54,4 +57,11 @@ public class CachingAndArtifactsManager {
             deployment.addDecisionCacheEntry(decisionEntity.getId(), cacheEntry);
         }
     }
+
+    protected void precompileDecisionTable(Decision decision, DmnEngineConfiguration dmnEngineConfiguration) {
+        if (dmnEngineConfiguration.isEnableDecisionTableIndex() && decision != null && decision.getExpression() instanceof DecisionTable
+                && dmnEngineConfiguration.getRuleEngineExecutor() instanceof RuleEngineExecutorImpl) {
+            ((RuleEngineExecutorImpl) dmnEngineConfiguration.getRuleEngineExecutor()).getDecisionTableIndex((DecisionTable) decision.getExpression());
+        }
+    }
 }
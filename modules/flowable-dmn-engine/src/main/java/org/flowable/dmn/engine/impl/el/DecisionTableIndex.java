@@ -0,0 +1,246 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.impl.el.VariableContainerELResolver;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Precompiled input entries of a {@link DecisionTable}.
+ *
+ * Input entries that compare the input variable with a literal are compiled into {@link InputEntryPredicate}s.
+ * Equality entries are additionally indexed per input column by their literal, so that all matching equality entries of a column
+ * are found with one lookup instead of evaluating every entry. Input entries that cannot be compiled are not part of the index
+ * and need to be evaluated as EL expression.
+ *
+ * The index does not keep a reference to the decision table, so that it can be cached with the decision table as weak key.
+ */
+public class DecisionTableIndex {
+
+    protected static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    protected static final Set<String> RESERVED_IDENTIFIERS = Set.of("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "true", "false",
+            "null", "empty", "div", "mod", "instanceof", VariableContainerELResolver.LOGGED_IN_USER_KEY, VariableContainerELResolver.CURRENT_TENANT_ID_KEY);
+
+    /**
+     * For every rule and input entry of the rule, the number of the compiled input entry or -1 if the input entry was not compiled.
+     */
+    protected final int[][] compiledEntryNumbers;
+    protected final List<CompiledInputEntry> compiledEntries = new ArrayList<>();
+
+    public DecisionTableIndex(DecisionTable decisionTable) {
+        Map<String, Column> columnsByVariable = new LinkedHashMap<>();
+        List<DecisionRule> rules = decisionTable.getRules();
+        compiledEntryNumbers = new int[rules.size()][];
+
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            List<RuleInputClauseContainer> inputEntries = rules.get(ruleIndex).getInputEntries();
+            int[] ruleEntryNumbers = new int[inputEntries.size()];
+            Arrays.fill(ruleEntryNumbers, -1);
+            compiledEntryNumbers[ruleIndex] = ruleEntryNumbers;
+
+            for (int entryIndex = 0; entryIndex < inputEntries.size(); entryIndex++) {
+                RuleInputClauseContainer inputEntry = inputEntries.get(entryIndex);
+                String inputVariable = getIndexableInputVariable(inputEntry.getInputClause());
+                if (inputVariable == null || inputEntry.getInputEntry() == null) {
+                    continue;
+                }
+
+                InputEntryPredicate predicate = InputEntryPredicate.compile(inputEntry.getInputEntry().getText());
+                if (predicate == null) {
+                    continue;
+                }
+
+                Column column = columnsByVariable.computeIfAbsent(inputVariable, Column::new);
+
+                int compiledEntryNumber = compiledEntries.size();
+                compiledEntries.add(new CompiledInputEntry(column, predicate));
+                ruleEntryNumbers[entryIndex] = compiledEntryNumber;
+                column.addEntry(compiledEntryNumber, predicate);
+            }
+        }
+    }
+
+    protected String getIndexableInputVariable(InputClause inputClause) {
+        if (inputClause == null || inputClause.getInputExpression() == null) {
+            return null;
+        }
+
+        String inputExpression = inputClause.getInputExpression().getText();
+        if (StringUtils.isEmpty(inputExpression) || !IDENTIFIER_PATTERN.matcher(inputExpression).matches()
+                || RESERVED_IDENTIFIERS.contains(inputExpression)) {
+            return null;
+        }
+        return inputExpression;
+    }
+
+    /**
+     * Creates the evaluation of this index for the variables of one decision table execution.
+     */
+    public Evaluation createEvaluation(Map<String, Object> variables) {
+        return new Evaluation(variables);
+    }
+
+    public boolean hasCompiledEntries() {
+        return !compiledEntries.isEmpty();
+    }
+
+    public int getNumberOfCompiledEntries() {
+        return compiledEntries.size();
+    }
+
+    protected static class CompiledInputEntry {
+
+        protected final Column column;
+        protected final InputEntryPredicate predicate;
+
+        protected CompiledInputEntry(Column column, InputEntryPredicate predicate) {
+            this.column = column;
+            this.predicate = predicate;
+        }
+    }
+
+    protected static class Column {
+
+        protected final String variableName;
+
+        // compiled equality entries by their literal
+        protected final Map<String, BitSet> stringEqualityEntries = new HashMap<>();
+        protected final BitSet stringEqualityEntryNumbers = new BitSet();
+        protected final Map<BigInteger, BitSet> integerEqualityEntries = new HashMap<>();
+        protected final BitSet integerEqualityEntryNumbers = new BitSet();
+
+        protected Column(String variableName) {
+            this.variableName = variableName;
+        }
+
+        protected void addEntry(int compiledEntryNumber, InputEntryPredicate predicate) {
+            if (predicate.getOperator() != InputEntryPredicate.Operator.EQ) {
+                return;
+            }
+
+            Object literal = predicate.getLiteral();
+            if (literal instanceof String) {
+                stringEqualityEntries.computeIfAbsent((String) literal, key -> new BitSet()).set(compiledEntryNumber);
+                stringEqualityEntryNumbers.set(compiledEntryNumber);
+
+            } else if (literal instanceof Long) {
+                integerEqualityEntries.computeIfAbsent(BigInteger.valueOf((Long) literal), key -> new BitSet()).set(compiledEntryNumber);
+                integerEqualityEntryNumbers.set(compiledEntryNumber);
+            }
+        }
+    }
+
+    /**
+     * The results of the compiled input entries for the variables of one decision table execution.
+     * Columns are only evaluated when one of their entries is requested.
+     */
+    public class Evaluation {
+
+        protected final Map<String, Object> variables;
+        protected final Map<Column, ColumnEvaluation> columnEvaluations = new HashMap<>();
+
+        protected Evaluation(Map<String, Object> variables) {
+            this.variables = variables;
+        }
+
+        /**
+         * @return the result of the input entry, or null if the input entry needs to be evaluated as EL expression
+         */
+        public Boolean getInputEntryResult(int ruleIndex, int entryIndex) {
+            if (ruleIndex >= compiledEntryNumbers.length || entryIndex >= compiledEntryNumbers[ruleIndex].length) {
+                return null;
+            }
+
+            int compiledEntryNumber = compiledEntryNumbers[ruleIndex][entryIndex];
+            if (compiledEntryNumber < 0) {
+                return null;
+            }
+
+            CompiledInputEntry compiledEntry = compiledEntries.get(compiledEntryNumber);
+            ColumnEvaluation columnEvaluation = columnEvaluations.computeIfAbsent(compiledEntry.column, this::evaluateColumn);
+            return columnEvaluation.getResult(compiledEntryNumber, compiledEntry.predicate);
+        }
+
+        protected ColumnEvaluation evaluateColumn(Column column) {
+            if (variables == null || !variables.containsKey(column.variableName)) {
+                // the variable is resolved by the EL resolvers
+                return ColumnEvaluation.UNRESOLVED;
+            }
+
+            Object value = variables.get(column.variableName);
+            BitSet indexedEntryNumbers = null;
+            BitSet matchingEntryNumbers = null;
+            if (value instanceof String) {
+                // equality of a String with a String literal is String equality
+                indexedEntryNumbers = column.stringEqualityEntryNumbers;
+                matchingEntryNumbers = column.stringEqualityEntries.get(value);
+
+            } else if (value instanceof BigInteger || value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                // equality of an integer number with a Long literal is integer equality
+                indexedEntryNumbers = column.integerEqualityEntryNumbers;
+                BigInteger integerValue = value instanceof BigInteger ? (BigInteger) value : BigInteger.valueOf(((Number) value).longValue());
+                matchingEntryNumbers = column.integerEqualityEntries.get(integerValue);
+            }
+
+            return new ColumnEvaluation(value, indexedEntryNumbers, matchingEntryNumbers);
+        }
+    }
+
+    protected static class ColumnEvaluation {
+
+        protected static final ColumnEvaluation UNRESOLVED = new ColumnEvaluation(null, null, null);
+
+        protected final Object value;
+        protected final BitSet indexedEntryNumbers;
+        protected final BitSet matchingEntryNumbers;
+
+        protected ColumnEvaluation(Object value, BitSet indexedEntryNumbers, BitSet matchingEntryNumbers) {
+            this.value = value;
+            this.indexedEntryNumbers = indexedEntryNumbers;
+            this.matchingEntryNumbers = matchingEntryNumbers;
+        }
+
+        protected Boolean getResult(int compiledEntryNumber, InputEntryPredicate predicate) {
+            if (this == UNRESOLVED) {
+                return null;
+            }
+
+            if (indexedEntryNumbers != null && indexedEntryNumbers.get(compiledEntryNumber)) {
+                return matchingEntryNumbers != null && matchingEntryNumbers.get(compiledEntryNumber);
+            }
+
+            try {
+                return predicate.test(value);
+            } catch (RuntimeException e) {
+                // the value can't be coerced, the EL evaluation will report the failure
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * A precompiled input entry consisting of a comparison operator and a literal (e.g. {@code "gold"}, {@code >= 10}, {@code != true}).
+ *
+ * The predicate uses the same operations and type coercion as the EL expression that the {@link ELInputEntryExpressionPreParser}
+ * creates for the input entry, so evaluating it gives the same result as evaluating that expression.
+ *
+ * Input entries that are not a simple comparison with a literal are not compiled and need to be evaluated as EL expression.
+ */
+public class InputEntryPredicate {
+
+    // Only literals for which the EL parser creates the same value: Long, Double, Boolean and String without escapes
+    protected static final Pattern INPUT_ENTRY_PATTERN = Pattern.compile(
+            "(==|!=|<=|>=|<|>)?[ \\t]*(-?\\d{1,18}|-?\\d{1,18}\\.\\d{1,18}|\"[^\"\\\\#${}]*\"|'[^'\\\\#${}]*'|true|false)");
+
+    protected final Operator operator;
+    protected final Object literal;
+
+    public InputEntryPredicate(Operator operator, Object literal) {
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    /**
+     * @return the predicate for the input entry text, or null if the input entry is not a simple comparison with a literal
+     */
+    public static InputEntryPredicate compile(String inputEntryText) {
+        if (inputEntryText == null || inputEntryText.contains("fn_")) {
+            return null;
+        }
+
+        Matcher matcher = INPUT_ENTRY_PATTERN.matcher(inputEntryText);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        Operator operator = matcher.group(1) != null ? Operator.fromSymbol(matcher.group(1)) : Operator.EQ;
+        return new InputEntryPredicate(operator, parseLiteral(matcher.group(2)));
+    }
+
+    protected static Object parseLiteral(String literalText) {
+        char firstChar = literalText.charAt(0);
+        if (firstChar == '"' || firstChar == '\'') {
+            return literalText.substring(1, literalText.length() - 1);
+        } else if ("true".equals(literalText) || "false".equals(literalText)) {
+            return Boolean.valueOf(literalText);
+        } else if (literalText.indexOf('.') >= 0) {
+            return Double.valueOf(literalText);
+        } else {
+            return Long.valueOf(literalText);
+        }
+    }
+
+    /**
+     * Evaluates the predicate for the given input value.
+     * Throws the same exceptions as the EL operation would in case the value cannot be coerced to the type of the literal.
+     */
+    public boolean test(Object value) {
+        switch (operator) {
+            case EQ:
+                return BooleanOperations.eq(TypeConverter.DEFAULT, value, literal);
+            case NE:
+                return BooleanOperations.ne(TypeConverter.DEFAULT, value, literal);
+            case LT:
+                return BooleanOperations.lt(TypeConverter.DEFAULT, value, literal);
+            case LE:
+                return BooleanOperations.le(TypeConverter.DEFAULT, value, literal);
+            case GT:
+                return BooleanOperations.gt(TypeConverter.DEFAULT, value, literal);
+            case GE:
+                return BooleanOperations.ge(TypeConverter.DEFAULT, value, literal);
+            default:
+                throw new IllegalStateException("Unsupported operator " + operator);
+        }
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public Object getLiteral() {
+        return literal;
+    }
+
+    public enum Operator {
+
+        EQ("=="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">=");
+
+        protected final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public static Operator fromSymbol(String symbol) {
+            for (Operator operator : values()) {
+                if (operator.symbol.equals(symbol)) {
+                    return operator;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operator " + symbol);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests that decision tables evaluated with precompiled and indexed input entries give the same results and audit trail as without.
+ */
+public class DecisionTableIndexTest {
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment
+    public void indexedDecisionTable() {
+        assertSameExecution(1, "gold", "result1");
+        assertSameExecution(2, "silver", "result2", "result3", "result4");
+        assertSameExecution(3.0, "bronze", "result3", "result5");
+        assertSameExecution("2", "silver", "result2", "result3", "result4");
+        assertSameExecution(7L, "platinum", "result3");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/runtime/DecisionTableIndexTest.indexedDecisionTable.dmn")
+    public void indexedDecisionTableWithInvalidInput() {
+        DecisionExecutionAuditContainer indexedResult = execute(true, "notANumber", "gold");
+        DecisionExecutionAuditContainer result = execute(false, "notANumber", "gold");
+
+        assertThat(indexedResult.isFailed()).isTrue();
+        assertThat(indexedResult.getExceptionMessage()).isEqualTo(result.getExceptionMessage());
+        assertThat(auditTrail(indexedResult)).isEqualTo(auditTrail(result));
+    }
+
+    protected void assertSameExecution(Object inputVariable1, String inputVariable2, String... expectedOutputs) {
+        DecisionExecutionAuditContainer indexedResult = execute(true, inputVariable1, inputVariable2);
+        DecisionExecutionAuditContainer result = execute(false, inputVariable1, inputVariable2);
+
+        assertThat(indexedResult.isFailed()).isFalse();
+        assertThat(indexedResult.getDecisionResult())
+                .extracting(output -> output.get("outputVariable1"))
+                .containsExactly((Object[]) expectedOutputs);
+        assertThat(indexedResult.getDecisionResult()).isEqualTo(result.getDecisionResult());
+        assertThat(auditTrail(indexedResult)).isEqualTo(auditTrail(result));
+    }
+
+    protected DecisionExecutionAuditContainer execute(boolean enableDecisionTableIndex, Object inputVariable1, String inputVariable2) {
+        DmnEngine dmnEngine = flowableDmnRule.getDmnEngine();
+        DmnEngineConfiguration dmnEngineConfiguration = dmnEngine.getDmnEngineConfiguration();
+        dmnEngineConfiguration.setEnableDecisionTableIndex(enableDecisionTableIndex);
+        try {
+            return dmnEngine.getDmnDecisionService().createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", inputVariable1)
+                    .variable("inputVariable2", inputVariable2)
+                    .executeWithAuditTrail();
+        } finally {
+            dmnEngineConfiguration.setEnableDecisionTableIndex(false);
+        }
+    }
+
+    protected List<String> auditTrail(DecisionExecutionAuditContainer auditContainer) {
+        List<String> auditTrail = new ArrayList<>();
+        for (Map.Entry<Integer, RuleExecutionAuditContainer> ruleExecution : auditContainer.getRuleExecutions().entrySet()) {
+            RuleExecutionAuditContainer ruleAudit = ruleExecution.getValue();
+            auditTrail.add("rule " + ruleExecution.getKey() + " valid=" + ruleAudit.isValid() + " exception=" + ruleAudit.getExceptionMessage());
+            for (ExpressionExecution conditionResult : ruleAudit.getConditionResults()) {
+                auditTrail.add("  condition " + conditionResult.getId() + "=" + conditionResult.getResult() + " exception=" + conditionResult.getException());
+            }
+            for (ExpressionExecution conclusionResult : ruleAudit.getConclusionResults()) {
+                auditTrail.add("  conclusion " + conclusionResult.getId() + "=" + conclusionResult.getResult());
+            }
+        }
+        return auditTrail;
+    }
+}
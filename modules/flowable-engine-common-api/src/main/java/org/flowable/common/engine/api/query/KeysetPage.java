@@ -0,0 +1,46 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+import java.util.List;
+
+/**
+ * A page of results of a {@link KeysetQuery}.
+ */
+public class KeysetPage<U> {
+
+    protected final List<U> results;
+    protected final String nextCursor;
+
+    public KeysetPage(List<U> results, String nextCursor) {
+        this.results = results;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<U> getResults() {
+        return results;
+    }
+
+    /**
+     * @return the opaque cursor to pass to {@link KeysetQuery#listAfter(String, int)} to get the next page,
+     * or null when there are no more results
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+}
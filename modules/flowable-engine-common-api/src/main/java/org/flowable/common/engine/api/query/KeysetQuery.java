@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.query;
+
+/**
+ * A query that can be paged by keyset (seek) pagination: instead of skipping a number of rows, every page continues after
+ * the last row of the previous page, which keeps the cost of a page independent of how deep it is.
+ *
+ * Keyset pagination requires an ordering on at most one property next to the id. The id is always added as the last order
+ * property, so that the ordering is unique. A property that can be null must be ordered with nulls first or nulls last.
+ */
+public interface KeysetQuery<U> {
+
+    /**
+     * Executes the query and returns at most pageSize results that come after the given cursor in the order of the query.
+     *
+     * @param cursor the {@link KeysetPage#getNextCursor() next cursor} of the previous page, or null for the first page.
+     *               The cursor must be used with the same query criteria and ordering as the query that returned it.
+     * @param pageSize the maximum number of results of the page
+     * @throws org.flowable.common.engine.api.FlowableIllegalArgumentException when the ordering of the query doesn't support keyset pagination
+     * or the cursor is invalid for the ordering of the query
+     */
+    KeysetPage<U> listAfter(String cursor, int pageSize);
+
+}
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.api.query;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Describes basic methods for querying.
@@ -61,4 +62,14 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
      * Executes the query and get a list of entities as the result.
      */
     List<U> listPage(int firstResult, int maxResults);
+
+    /**
+     * Executes the query and returns a stream of the resulting entities. Queries that support it fetch the entities from a database
+     * cursor while the stream is consumed, other queries return a stream over the {@link #list()} of the entities.
+     * A stream over a cursor holds a database connection until it is closed, so the stream must always be closed, e.g. with a
+     * try-with-resources statement.
+     */
+    default Stream<U> stream() {
+        return list().stream();
+    }
 }
@@ -26,6 +26,9 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
 
 import javax.naming.InitialContext;
 import javax.sql.DataSource;
@@ -80,6 +83,7 @@ import org.flowable.common.engine.impl.db.FlowableStringTypeHandler;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
+import org.flowable.common.engine.impl.db.QueryStreamFetchSizePlugin;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.db.SchemaManagerDatabaseConfiguration;
 import org.flowable.common.engine.impl.db.SchemaManagerDatabaseConfigurationSessionFactory;
@@ -105,6 +109,10 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -214,6 +222,20 @@ public abstract class AbstractEngineConfiguration {
     // Event Registry //////////////////////////////////////////////////
     protected Map<String, EventRegistryEventConsumer> eventRegistryEventConsumers = new HashMap<>();
 
+    // DEPLOYMENT CACHES ///////////////////////////////////////////////
+
+    /**
+     * If set to true, the deployment caches (definitions, models, expressions, ...) created by the engine are {@link ConcurrentDeploymentCache} instances,
+     * which don't use a global lock on lookups and keep hit, miss and eviction statistics (see {@link #getDeploymentCacheStatistics()}).
+     * Default false, which uses the {@link DefaultDeploymentCache}.
+     */
+    protected boolean enableConcurrentDeploymentCaches;
+
+    /**
+     * The deployment caches created by this engine configuration, by name.
+     */
+    protected Map<String, DeploymentCache<?>> deploymentCaches = new ConcurrentHashMap<>();
+
     // MYBATIS SQL SESSION FACTORY /////////////////////////////////////
 
     protected boolean isDbHistoryUsed = true;
@@ -236,6 +258,62 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, entities that track their own changes (see {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity})
+     * are only checked for updates at flush time when they have been marked as dirty, instead of comparing the persistent state of every cached entity.
+     * This makes commands that load many entities without changing them (e.g. large history queries) cheaper to flush. Default false.
+     */
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    /**
+     * If set to true, updates of entities that use the same update statement are sent to the database as one JDBC batch
+     * instead of one statement per entity. The update count of every row is still checked, so optimistic locking works as with regular updates.
+     * Default false. Should only be enabled for JDBC drivers that return the update count of every batched statement.
+     */
+    protected boolean isBatchUpdateEnabled;
+
+    /**
+     * The maximum number of update statements that are sent in one JDBC batch, when {@link #isBatchUpdateEnabled} is true.
+     */
+    protected int maxNrOfStatementsInBatchUpdate = 100;
+
+    /**
+     * The number of rows that are fetched from the database at once when the results of a query are streamed.
+     * Note that not all JDBC drivers take the fetch size into account by default (e.g. MySQL needs <code>useCursorFetch=true</code>).
+     */
+    protected int queryStreamFetchSize = 1000;
+
+    /**
+     * The data source of the connections on which query results are streamed. A stream holds its own connection until it is closed,
+     * independent of the transaction in which it was opened, so this must be a data source that doesn't return the connection of
+     * the current transaction. When not set, the {@link #dataSource} is used. The Spring configurations set this to the data source
+     * that is wrapped by the transaction-aware proxy.
+     */
+    protected DataSource queryStreamDataSource;
+
+    /**
+     * Whether the database supports SELECT ... FOR UPDATE SKIP LOCKED. When not set, this is determined once from the product name and
+     * version of the database when the engine is built, since e.g. MySQL before 8.0.1 and MariaDB before 10.6 don't support it.
+     */
+    protected Boolean skipLockedSupported;
+
+    /**
+     * Whether the XML conversion and validation of the resources of a deployment is done in parallel on the {@link #deploymentParsingPool}.
+     * The parse results are still applied and persisted one resource after the other, in the order of the resources, in the deploying transaction.
+     */
+    protected boolean enableParallelDeploymentParsing;
+
+    /**
+     * The pool used when {@link #enableParallelDeploymentParsing} is true. The common fork-join pool is used when not set.
+     */
+    protected ForkJoinPool deploymentParsingPool;
+
+    /**
+     * Whether a manifest with the hashes of the resources is stored with deployments that use duplicate filtering.
+     * Duplicate filtering then only needs to read the manifest of the latest deployment, instead of the content of all of its resources.
+     */
+    protected boolean enableDeploymentManifest;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
     protected String mybatisMappingFile;
@@ -733,6 +811,16 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(isEntityDirtyTrackingEnabled);
+        dbSqlSessionFactory.setBatchUpdateEnabled(isBatchUpdateEnabled);
+        dbSqlSessionFactory.setMaxNrOfStatementsInBatchUpdate(maxNrOfStatementsInBatchUpdate);
+        dbSqlSessionFactory.setQueryStreamFetchSize(queryStreamFetchSize);
+        dbSqlSessionFactory.setQueryStreamDataSource(queryStreamDataSource != null ? queryStreamDataSource : dataSource);
+
+        if (skipLockedSupported == null) {
+            skipLockedSupported = dataSource != null && DbUtil.isSkipLockedSupported(dataSource, databaseType, logger);
+        }
+        dbSqlSessionFactory.setSkipLockedSupported(skipLockedSupported);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -777,6 +865,57 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    /**
+     * Creates a deployment cache without a limit.
+     */
+    public <T> DeploymentCache<T> createDeploymentCache(String cacheName) {
+        DeploymentCache<T> deploymentCache;
+        if (enableConcurrentDeploymentCaches) {
+            deploymentCache = new ConcurrentDeploymentCache<>();
+        } else {
+            deploymentCache = new DefaultDeploymentCache<>();
+        }
+        deploymentCaches.put(cacheName, deploymentCache);
+        return deploymentCache;
+    }
+
+    /**
+     * Creates a deployment cache that holds at most the given number of elements.
+     */
+    public <T> DeploymentCache<T> createDeploymentCache(String cacheName, int limit) {
+        DeploymentCache<T> deploymentCache;
+        if (enableConcurrentDeploymentCaches) {
+            deploymentCache = new ConcurrentDeploymentCache<>(limit);
+        } else {
+            deploymentCache = new DefaultDeploymentCache<>(limit);
+        }
+        deploymentCaches.put(cacheName, deploymentCache);
+        return deploymentCache;
+    }
+
+    /**
+     * Creates a deployment cache of which the total weight of the elements, as calculated by the weigher, is at most the given max weight.
+     * As the {@link DefaultDeploymentCache} has no notion of weight, this always creates a {@link ConcurrentDeploymentCache}.
+     */
+    public <T> DeploymentCache<T> createDeploymentCache(String cacheName, long maxWeight, ToLongFunction<T> weigher) {
+        DeploymentCache<T> deploymentCache = new ConcurrentDeploymentCache<>(maxWeight, weigher);
+        deploymentCaches.put(cacheName, deploymentCache);
+        return deploymentCache;
+    }
+
+    /**
+     * Returns the statistics of the deployment caches created by this engine configuration that keep statistics, by cache name.
+     */
+    public Map<String, DeploymentCacheStatistics> getDeploymentCacheStatistics() {
+        Map<String, DeploymentCacheStatistics> statistics = new HashMap<>();
+        for (Map.Entry<String, DeploymentCache<?>> entry : deploymentCaches.entrySet()) {
+            if (entry.getValue() instanceof ConcurrentDeploymentCache) {
+                statistics.put(entry.getKey(), ((ConcurrentDeploymentCache<?>) entry.getValue()).getStatistics());
+            }
+        }
+        return statistics;
+    }
+
     public void initTransactionFactory() {
         if (transactionFactory == null) {
             if (transactionsExternallyManaged) {
@@ -851,6 +990,7 @@ public abstract class AbstractEngineConfiguration {
 
         initMybatisTypeHandlers(configuration);
         initCustomMybatisInterceptors(configuration);
+        initMyBatisQueryStreamFetchSizePlugin(configuration);
         if (isEnableLogSqlExecutionTime()) {
             initMyBatisLogSqlExecutionTimePlugin(configuration);
         }
@@ -950,6 +1090,10 @@ public abstract class AbstractEngineConfiguration {
         configuration.addInterceptor(new LogSqlExecutionTimePlugin());
     }
 
+    public void initMyBatisQueryStreamFetchSizePlugin(Configuration configuration) {
+        configuration.addInterceptor(new QueryStreamFetchSizePlugin());
+    }
+
     public Configuration parseMybatisConfiguration(XMLConfigBuilder parser) {
         Configuration configuration = parser.parse();
 
@@ -1598,6 +1742,105 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableConcurrentDeploymentCaches() {
+        return enableConcurrentDeploymentCaches;
+    }
+
+    public AbstractEngineConfiguration setEnableConcurrentDeploymentCaches(boolean enableConcurrentDeploymentCaches) {
+        this.enableConcurrentDeploymentCaches = enableConcurrentDeploymentCaches;
+        return this;
+    }
+
+    public Map<String, DeploymentCache<?>> getDeploymentCaches() {
+        return deploymentCaches;
+    }
+
+    public AbstractEngineConfiguration setDeploymentCaches(Map<String, DeploymentCache<?>> deploymentCaches) {
+        this.deploymentCaches = deploymentCaches;
+        return this;
+    }
+
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isBatchUpdateEnabled() {
+        return isBatchUpdateEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchUpdateEnabled(boolean isBatchUpdateEnabled) {
+        this.isBatchUpdateEnabled = isBatchUpdateEnabled;
+        return this;
+    }
+
+    public int getMaxNrOfStatementsInBatchUpdate() {
+        return maxNrOfStatementsInBatchUpdate;
+    }
+
+    public AbstractEngineConfiguration setMaxNrOfStatementsInBatchUpdate(int maxNrOfStatementsInBatchUpdate) {
+        this.maxNrOfStatementsInBatchUpdate = maxNrOfStatementsInBatchUpdate;
+        return this;
+    }
+
+    public int getQueryStreamFetchSize() {
+        return queryStreamFetchSize;
+    }
+
+    public AbstractEngineConfiguration setQueryStreamFetchSize(int queryStreamFetchSize) {
+        this.queryStreamFetchSize = queryStreamFetchSize;
+        return this;
+    }
+
+    public DataSource getQueryStreamDataSource() {
+        return queryStreamDataSource;
+    }
+
+    public AbstractEngineConfiguration setQueryStreamDataSource(DataSource queryStreamDataSource) {
+        this.queryStreamDataSource = queryStreamDataSource;
+        return this;
+    }
+
+    public Boolean getSkipLockedSupported() {
+        return skipLockedSupported;
+    }
+
+    public AbstractEngineConfiguration setSkipLockedSupported(Boolean skipLockedSupported) {
+        this.skipLockedSupported = skipLockedSupported;
+        return this;
+    }
+
+    public boolean isEnableParallelDeploymentParsing() {
+        return enableParallelDeploymentParsing;
+    }
+
+    public AbstractEngineConfiguration setEnableParallelDeploymentParsing(boolean enableParallelDeploymentParsing) {
+        this.enableParallelDeploymentParsing = enableParallelDeploymentParsing;
+        return this;
+    }
+
+    public ForkJoinPool getDeploymentParsingPool() {
+        return deploymentParsingPool != null ? deploymentParsingPool : ForkJoinPool.commonPool();
+    }
+
+    public AbstractEngineConfiguration setDeploymentParsingPool(ForkJoinPool deploymentParsingPool) {
+        this.deploymentParsingPool = deploymentParsingPool;
+        return this;
+    }
+
+    public boolean isEnableDeploymentManifest() {
+        return enableDeploymentManifest;
+    }
+
+    public AbstractEngineConfiguration setEnableDeploymentManifest(boolean enableDeploymentManifest) {
+        this.enableDeploymentManifest = enableDeploymentManifest;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
@@ -60,6 +60,19 @@ public class AsyncTaskExecutorConfiguration {
      */
     protected String threadPoolNamingPattern;
 
+    /**
+     * Whether every task is executed on a new virtual thread instead of on the thread pool.
+     * This requires Java 21 or later. When virtual threads are used, the pool sizes, the keep alive
+     * and the queue size are not used, the number of tasks is limited by the {@link #maxConcurrentTasks}.
+     */
+    protected boolean useVirtualThreads;
+
+    /**
+     * The maximum number of tasks that are executed at the same time when virtual threads are used.
+     * More tasks are rejected in the same way as tasks are rejected by the thread pool when its queue is full.
+     */
+    protected int maxConcurrentTasks = 256;
+
     public int getCorePoolSize() {
         return corePoolSize;
     }
@@ -116,6 +129,22 @@ public class AsyncTaskExecutorConfiguration {
         this.threadPoolNamingPattern = threadPoolNamingPattern;
     }
 
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public int getMaxConcurrentTasks() {
+        return maxConcurrentTasks;
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        this.maxConcurrentTasks = maxConcurrentTasks;
+    }
+
     public void setThreadNamePrefix(String prefix) {
         if (prefix == null) {
             this.threadPoolNamingPattern = "%d";
@@ -20,13 +20,17 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +62,11 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
      */
     protected BlockingQueue<Runnable> threadPoolQueue;
 
+    /**
+     * Limits the number of concurrently executed tasks when virtual threads are used
+     */
+    protected Semaphore concurrencyLimiter;
+
     protected ThreadFactory threadFactory;
 
     protected RejectedExecutionHandler rejectedExecutionHandler;
@@ -76,12 +85,35 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     @Override
     public void execute(Runnable task) {
-        executorService.execute(task);
+        if (concurrencyLimiter != null) {
+            executeWithConcurrencyLimit(task);
+        } else {
+            executorService.execute(task);
+        }
+    }
+
+    protected void executeWithConcurrencyLimit(Runnable task) {
+        if (!concurrencyLimiter.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum number of " + getMaxConcurrentTasks() + " concurrent tasks reached");
+        }
+
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    concurrencyLimiter.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            concurrencyLimiter.release();
+            throw e;
+        }
     }
 
     @Override
     public CompletableFuture<?> submit(Runnable task) {
-        return CompletableFuture.runAsync(task, executorService);
+        return CompletableFuture.runAsync(task, this::execute);
     }
 
     @Override
@@ -93,7 +125,7 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
                 sneakyThrow(exception);
                 return null;
             }
-        }, executorService);
+        }, this::execute);
     }
 
     public void start() {
@@ -123,10 +155,15 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
             }
 
             executorService = null;
+            concurrencyLimiter = null;
         }
     }
 
     protected ExecutorService initializeExecutor() {
+        if (isUseVirtualThreads()) {
+            return initializeVirtualThreadExecutor();
+        }
+
         if (threadPoolQueue == null) {
             int queueSize = getQueueSize();
             logger.info("Creating thread pool queue of size {}", queueSize);
@@ -158,6 +195,35 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     }
 
+    protected ExecutorService initializeVirtualThreadExecutor() {
+        int maxConcurrentTasks = getMaxConcurrentTasks();
+        logger.info("Creating virtual thread per task executor with maxConcurrentTasks {}", maxConcurrentTasks);
+        concurrencyLimiter = new Semaphore(maxConcurrentTasks);
+
+        if (threadFactory != null) {
+            logger.warn("The configured thread factory {} is ignored, because virtual threads are enabled", threadFactory);
+        }
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactory(StringUtils.substringBefore(getThreadPoolNamingPattern(), "%d"));
+
+        // Virtual threads are only available as of Java 21, while Flowable is compiled for Java 17
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, virtualThreadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Could not create virtual thread per task executor. Virtual threads require Java 21 or later", e);
+        }
+    }
+
+    protected ThreadFactory createVirtualThreadFactory(String threadNamePrefix) {
+        try {
+            Class<?> threadBuilderClass = Class.forName("java.lang.Thread$Builder");
+            Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class).invoke(threadBuilder, threadNamePrefix, 0L);
+            return (ThreadFactory) threadBuilderClass.getMethod("factory").invoke(threadBuilder);
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Could not create virtual thread factory. Virtual threads require Java 21 or later", e);
+        }
+    }
+
     public AsyncTaskExecutorConfiguration getConfiguration() {
         return configuration;
     }
@@ -210,6 +276,26 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
         getConfiguration().setAwaitTerminationPeriod(Duration.ofSeconds(secondsToWaitOnShutdown));
     }
 
+    public boolean isUseVirtualThreads() {
+        return configuration.isUseVirtualThreads();
+    }
+
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        configuration.setUseVirtualThreads(useVirtualThreads);
+    }
+
+    public int getMaxConcurrentTasks() {
+        return configuration.getMaxConcurrentTasks();
+    }
+
+    public void setMaxConcurrentTasks(int maxConcurrentTasks) {
+        configuration.setMaxConcurrentTasks(maxConcurrentTasks);
+    }
+
+    public Semaphore getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
     public BlockingQueue<Runnable> getThreadPoolQueue() {
         return threadPoolQueue;
     }
@@ -244,6 +330,9 @@ public class DefaultAsyncTaskExecutor implements AsyncTaskExecutor {
 
     @Override
     public int getRemainingCapacity() {
+        if (concurrencyLimiter != null) {
+            return concurrencyLimiter.availablePermits();
+        }
         return threadPoolQueue.remainingCapacity();
     }
 }
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,8 +24,16 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
@@ -289,6 +298,14 @@ public class DbSqlSession implements Session {
         }
     }
     
+    /**
+     * Opens a stream over the results of the given statement, see {@link DbSqlSessionFactory#openStream(String, ListQueryParameterObject)}.
+     * The results are read through a separate session, so they are never loaded into or taken from the entity cache of this session.
+     */
+    public <T> Stream<T> selectStream(String statement, ListQueryParameterObject parameter) {
+        return dbSqlSessionFactory.openStream(statement, parameter);
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -418,6 +435,7 @@ public class DbSqlSession implements Session {
         }
 
         Collection<Class<? extends Entity>> immutableEntities = dbSqlSessionFactory.getImmutableEntities();
+        boolean entityDirtyTrackingEnabled = dbSqlSessionFactory.isEntityDirtyTrackingEnabled();
         for (Class<?> clazz : cachedObjects.keySet()) {
             if (immutableEntities.contains(clazz)) {
                 continue;
@@ -426,6 +444,11 @@ public class DbSqlSession implements Session {
             Map<String, CachedEntity> classCache = cachedObjects.get(clazz);
             for (CachedEntity cachedObject : classCache.values()) {
 
+                // Entities that track their own changes don't need their persistent state to be compared when they haven't been touched
+                if (entityDirtyTrackingEnabled && cachedObject.isUnchangedByDirtyTracking()) {
+                    continue;
+                }
+
                 Entity cachedEntity = cachedObject.getEntity();
 
                 // Executions are stored as a hierarchical tree, and updates are important to execute
@@ -601,7 +624,11 @@ public class DbSqlSession implements Session {
         }
 
         if (!updatedObjects.isEmpty()) {
-            updatedObjects.forEach(this::flushUpdateEntity);
+            if (dbSqlSessionFactory.isBatchUpdateEnabled() && updatedObjects.size() > 1) {
+                flushBatchUpdates(updatedObjects);
+            } else {
+                updatedObjects.forEach(this::flushUpdateEntity);
+            }
         }
 
         updatedObjects.clear();
@@ -629,6 +656,100 @@ public class DbSqlSession implements Session {
         }
     }
 
+    /**
+     * Sends every run of consecutive updated entities sharing the same update statement as one JDBC batch.
+     * Only consecutive updates are batched, so the updates are executed in the order in which they were issued.
+     */
+    protected void flushBatchUpdates(List<Entity> entitiesToUpdate) {
+        String currentUpdateStatement = null;
+        List<Entity> currentBatch = new ArrayList<>();
+        for (Entity updatedObject : entitiesToUpdate) {
+            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+            if (updateStatement == null) {
+                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+            }
+
+            if (!updateStatement.equals(currentUpdateStatement)) {
+                flushUpdateEntities(currentUpdateStatement, currentBatch);
+                currentUpdateStatement = updateStatement;
+                currentBatch = new ArrayList<>();
+            }
+            currentBatch.add(updatedObject);
+        }
+
+        flushUpdateEntities(currentUpdateStatement, currentBatch);
+    }
+
+    protected void flushUpdateEntities(String updateStatement, List<Entity> entitiesToUpdate) {
+        if (entitiesToUpdate.size() == 1) {
+            flushUpdateEntity(entitiesToUpdate.get(0));
+        } else if (entitiesToUpdate.size() > 1) {
+            flushBatchUpdateEntities(updateStatement, entitiesToUpdate);
+        }
+    }
+
+    protected void flushBatchUpdateEntities(String updateStatement, List<Entity> entitiesToUpdate) {
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            int maxNrOfStatementsInBatchUpdate = dbSqlSessionFactory.getMaxNrOfStatementsInBatchUpdate();
+            int fromIndex = 0;
+            while (fromIndex < entitiesToUpdate.size()) {
+                int toIndex = Math.min(fromIndex + maxNrOfStatementsInBatchUpdate, entitiesToUpdate.size());
+                List<Entity> subList = entitiesToUpdate.subList(fromIndex, toIndex);
+                for (Entity updatedObject : subList) {
+                    LOGGER.debug("batch updating: {}", updatedObject);
+                    batchSqlSession.update(updateStatement, updatedObject);
+                }
+
+                verifyBatchUpdateCounts(batchSqlSession.flushStatements(), subList);
+                fromIndex = toIndex;
+            }
+
+        } finally {
+            batchSqlSession.close();
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        for (Entity updatedObject : entitiesToUpdate) {
+            if (updatedObject instanceof HasRevision) {
+                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            }
+        }
+    }
+
+    /**
+     * Checks the update count of every statement in the batch, so that an entity that was concurrently
+     * changed by another transaction (i.e. its revision didn't match) leads to an optimistic locking exception, as with a regular update.
+     */
+    protected void verifyBatchUpdateCounts(List<BatchResult> batchResults, List<Entity> entitiesToUpdate) {
+        int entityIndex = 0;
+        for (BatchResult batchResult : batchResults) {
+            for (int updateCount : batchResult.getUpdateCounts()) {
+                Entity updatedObject = entitiesToUpdate.get(entityIndex++);
+                if (updateCount == 0) {
+                    throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+
+                } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                    throw new FlowableException("The JDBC driver did not return an update count for the batched update of " + updatedObject
+                            + ". Optimistic locking cannot be verified, batch updates should be disabled for this database.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens a MyBatis session with a batch executor that shares the connection (and thus the transaction) of the current session.
+     * Closing the returned session does not close the connection.
+     */
+    protected SqlSession openBatchSqlSession() {
+        Configuration configuration = sqlSession.getConfiguration();
+        Transaction transaction = new ManagedTransaction(sqlSession.getConnection(), false);
+        Executor executor = configuration.newExecutor(transaction, ExecutorType.BATCH);
+        return new DefaultSqlSession(configuration, executor, false);
+    }
+
     protected void flushBulkUpdate(BulkUpdateOperation bulkUpdateOperation) {
         // Bulk update
         bulkUpdateOperation.execute(sqlSession);
@@ -13,6 +13,8 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,7 +24,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.sql.DataSource;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
@@ -64,6 +72,16 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean isEntityDirtyTrackingEnabled;
+
+    protected boolean isBatchUpdateEnabled;
+    protected int maxNrOfStatementsInBatchUpdate = 100;
+
+    protected int queryStreamFetchSize = 1000;
+    protected DataSource queryStreamDataSource;
+
+    protected boolean skipLockedSupported;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -163,6 +181,78 @@ public class DbSqlSessionFactory implements SessionFactory {
         return (mappedStatement != null ? mappedStatement : statement);
     }
 
+    // streams
+    // ///////////////////////////////////////////
+
+    /**
+     * Opens a {@link Stream} over the results of the given select statement, which fetches the rows from a database cursor
+     * while the stream is consumed.
+     *
+     * The stream uses its own {@link SqlSession} on a dedicated connection of the {@link #queryStreamDataSource}, independent of
+     * the command context and of the (possibly externally managed) transaction in which it is opened. The entities are not added to
+     * the entity cache. The session and its connection are released when the stream is closed, so the stream must always be closed.
+     */
+    public <T> Stream<T> openStream(String statement, ListQueryParameterObject parameter) {
+        parameter.setDatabaseType(databaseType);
+        parameter.setFetchSize(queryStreamFetchSize);
+        Connection connection = openQueryStreamConnection();
+        SqlSession sqlSession = null;
+        try {
+            sqlSession = sqlSessionFactory.openSession(connection);
+            Cursor<T> cursor = sqlSession.selectCursor(mapStatement(statement), parameter);
+            SqlSession cursorSqlSession = sqlSession;
+            return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> closeStream(cursor, cursorSqlSession, connection));
+        } catch (RuntimeException e) {
+            closeQueryStreamSession(sqlSession, connection);
+            throw e;
+        }
+    }
+
+    protected Connection openQueryStreamConnection() {
+        DataSource dataSource = queryStreamDataSource != null ? queryStreamDataSource : sqlSessionFactory.getConfiguration().getEnvironment().getDataSource();
+        try {
+            Connection connection = dataSource.getConnection();
+            // Some JDBC drivers (e.g. PostgreSQL) only use the fetch size when auto commit is disabled
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            throw new FlowableException("Could not open a connection for the query stream", e);
+        }
+    }
+
+    protected void closeStream(Cursor<?> cursor, SqlSession sqlSession, Connection connection) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new FlowableException("Could not close the query cursor", e);
+        } finally {
+            closeQueryStreamSession(sqlSession, connection);
+        }
+    }
+
+    protected void closeQueryStreamSession(SqlSession sqlSession, Connection connection) {
+        try {
+            // The stream only reads, so its transaction is ended before the connection is given back
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            throw new FlowableException("Could not end the transaction of the query stream", e);
+        } finally {
+            try {
+                if (sqlSession != null) {
+                    sqlSession.close();
+                }
+            } finally {
+                try {
+                    // The session only closes the connection it was opened with when the transactions are not externally managed
+                    connection.close();
+                } catch (SQLException e) {
+                    throw new FlowableException("Could not close the connection of the query stream", e);
+                }
+            }
+        }
+    }
+
     // customized getters and setters
     // ///////////////////////////////////////////
 
@@ -179,6 +269,17 @@ public class DbSqlSessionFactory implements SessionFactory {
         return "oracle".equals(getDatabaseType());
     }
 
+    /**
+     * @return whether the database supports SELECT ... FOR UPDATE SKIP LOCKED, as determined from the database version when the engine was built
+     */
+    public boolean isSkipLockedSupported() {
+        return skipLockedSupported;
+    }
+
+    public void setSkipLockedSupported(boolean skipLockedSupported) {
+        this.skipLockedSupported = skipLockedSupported;
+    }
+
     public Boolean isBulkInsertable(Class<? extends Entity> entityClass) {
         return bulkInserteableEntityClasses != null && bulkInserteableEntityClasses.contains(entityClass);
     }
@@ -204,6 +305,30 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isEntityDirtyTrackingEnabled() {
+        return isEntityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean isEntityDirtyTrackingEnabled) {
+        this.isEntityDirtyTrackingEnabled = isEntityDirtyTrackingEnabled;
+    }
+
+    public boolean isBatchUpdateEnabled() {
+        return isBatchUpdateEnabled;
+    }
+
+    public void setBatchUpdateEnabled(boolean isBatchUpdateEnabled) {
+        this.isBatchUpdateEnabled = isBatchUpdateEnabled;
+    }
+
+    public int getMaxNrOfStatementsInBatchUpdate() {
+        return maxNrOfStatementsInBatchUpdate;
+    }
+
+    public void setMaxNrOfStatementsInBatchUpdate(int maxNrOfStatementsInBatchUpdate) {
+        this.maxNrOfStatementsInBatchUpdate = maxNrOfStatementsInBatchUpdate;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -357,4 +482,20 @@ public class DbSqlSessionFactory implements SessionFactory {
     public void setUsePrefixId(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
     }
+
+    public int getQueryStreamFetchSize() {
+        return queryStreamFetchSize;
+    }
+
+    public void setQueryStreamFetchSize(int queryStreamFetchSize) {
+        this.queryStreamFetchSize = queryStreamFetchSize;
+    }
+
+    public DataSource getQueryStreamDataSource() {
+        return queryStreamDataSource;
+    }
+
+    public void setQueryStreamDataSource(DataSource queryStreamDataSource) {
+        this.queryStreamDataSource = queryStreamDataSource;
+    }
 }
@@ -74,6 +74,8 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    // The number of rows the driver fetches per round trip, only set when the results are streamed
+    protected int fetchSize = -1;
     
     public ListQueryParameterObject() {
         
@@ -280,6 +282,14 @@ public class ListQueryParameterObject {
         return databaseType;
     }
 
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
     public String getNullHandlingColumn() {
         return nullHandlingColumn;
     }
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * Applies the fetch size of a {@link ListQueryParameterObject} to the JDBC statement that executes it,
+ * so that streamed query results are fetched from the database in chunks instead of all at once.
+ *
+ * Note that some drivers need additional configuration for this, e.g. MySQL only uses a server side cursor with <code>useCursorFetch=true</code>.
+ */
+@Intercepts({
+        @Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class, Integer.class })
+})
+public class QueryStreamFetchSizePlugin implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object retVal = invocation.proceed();
+        Object parameterObject = ((StatementHandler) invocation.getTarget()).getParameterHandler().getParameterObject();
+        if (retVal instanceof Statement && parameterObject instanceof ListQueryParameterObject) {
+            int fetchSize = ((ListQueryParameterObject) parameterObject).getFetchSize();
+            if (fetchSize > 0) {
+                ((Statement) retVal).setFetchSize(fetchSize);
+            }
+        }
+        return retVal;
+    }
+
+    @Override
+    public Object plugin(Object target) {
+        return Plugin.wrap(target, this);
+    }
+
+    @Override
+    public void setProperties(Properties properties) {
+
+    }
+}
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -37,6 +38,10 @@ public class CachedEntity {
         if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
+            if (entity instanceof DirtyTrackingEntity) {
+                // The entity is equal to the stored state, changes done when loading it (e.g. by the mapping) don't count
+                ((DirtyTrackingEntity) entity).setDirty(false);
+            }
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
@@ -58,6 +63,16 @@ public class CachedEntity {
         this.originalPersistentState = originalPersistentState;
     }
 
+    /**
+     * Returns true if it is known that the entity hasn't changed, without calculating its persistent state.
+     * This is only the case for a {@link DirtyTrackingEntity} that is not dirty and of which the original state was stored.
+     */
+    public boolean isUnchangedByDirtyTracking() {
+        return originalPersistentState != null
+                && entity instanceof DirtyTrackingEntity
+                && !((DirtyTrackingEntity) entity).isDirty();
+    }
+
     public boolean hasChanged() {
         Object currentPersistentState = entity.getPersistentState();
         return currentPersistentState != null && !entity.getPersistentState().equals(originalPersistentState)
@@ -0,0 +1,231 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache that allows concurrent reads and writes without a global lock.
+ * 
+ * Contrary to the {@link DefaultDeploymentCache}, a lookup does not reorder a shared structure:
+ * every entry keeps the time it was last accessed and only when the cache is over its limit,
+ * the least recently used entries are evicted (while holding an eviction lock, which lookups never take).
+ * An eviction removes entries until the total weight is 5% below the maximum weight,
+ * such that the cost of finding the least recently used entries is spread over many additions.
+ * 
+ * The limit is expressed as a maximum weight. By default every entry has a weight of 1, which makes the maximum weight
+ * the maximum number of entries. A custom weigher can be passed to give large objects (e.g. big process models) a bigger weight.
+ * 
+ * Hits, misses and evictions are counted and can be retrieved through {@link #getStatistics()}.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    /**
+     * Access times closer to each other than this are considered equal, which avoids writing the access time on every lookup.
+     */
+    protected static final long ACCESS_TIME_RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * An eviction brings the total weight down to the max weight minus the max weight divided by this value.
+     */
+    protected static final long EVICTION_BATCH_DIVISOR = 20;
+
+    protected final Map<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+
+    protected final long maxWeight;
+    protected final long evictionLowWaterMark;
+    protected final ToLongFunction<T> weigher;
+    protected final AtomicLong totalWeight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1L, null);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache of which the total weight of the elements, as calculated by the given weigher, will not be higher than the max weight.
+     * A negative max weight means there is no limit.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, ToLongFunction<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.evictionLowWaterMark = maxWeight - maxWeight / EVICTION_BATCH_DIVISOR;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (isBounded()) {
+            entry.recordAccess();
+        }
+        return entry.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        long weight = weigh(obj);
+        CacheEntry<T> previousEntry = cache.put(id, new CacheEntry<>(obj, weight));
+        long weightDifference = previousEntry != null ? weight - previousEntry.weight : weight;
+        long newTotalWeight = totalWeight.addAndGet(weightDifference);
+
+        if (isBounded() && newTotalWeight > maxWeight) {
+            evict();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> removedEntry = cache.remove(id);
+        if (removedEntry != null) {
+            totalWeight.addAndGet(-removedEntry.weight);
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        for (String id : new ArrayList<>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected boolean isBounded() {
+        return maxWeight >= 0;
+    }
+
+    protected long weigh(T obj) {
+        if (weigher == null) {
+            return 1L;
+        }
+        return Math.max(weigher.applyAsLong(obj), 0L);
+    }
+
+    /**
+     * Removes the least recently used entries until the total weight is at the eviction low water mark.
+     * Only one thread evicts at a time, lookups are never blocked by an eviction.
+     */
+    protected void evict() {
+        evictionLock.lock();
+        try {
+            if (totalWeight.get() <= maxWeight) {
+                return;
+            }
+
+            List<Map.Entry<String, CacheEntry<T>>> entries = new ArrayList<>(cache.entrySet());
+            entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessTime));
+
+            for (Map.Entry<String, CacheEntry<T>> entry : entries) {
+                if (totalWeight.get() <= evictionLowWaterMark) {
+                    break;
+                }
+
+                if (cache.remove(entry.getKey(), entry.getValue())) {
+                    totalWeight.addAndGet(-entry.getValue().weight);
+                    evictionCount.increment();
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} will be evicted", entry.getKey());
+                    }
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public DeploymentCacheStatistics getStatistics() {
+        return new DeploymentCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), cache.size(), totalWeight.get());
+    }
+
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected final long weight;
+        protected volatile long lastAccessTime;
+
+        protected CacheEntry(T value, long weight) {
+            this.value = value;
+            this.weight = weight;
+            this.lastAccessTime = System.nanoTime();
+        }
+
+        protected void recordAccess() {
+            long now = System.nanoTime();
+            if (now - lastAccessTime > ACCESS_TIME_RESOLUTION_NANOS) {
+                lastAccessTime = now;
+            }
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ public abstract class AbstractEntityNoRevision implements Entity {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    protected boolean isDirty;
     
     protected Object originalPersistentState;
 
@@ -67,6 +68,18 @@ public abstract class AbstractEntityNoRevision implements Entity {
         this.isDeleted = isDeleted;
     }
 
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    protected void markDirty() {
+        this.isDirty = true;
+    }
+
     @Override
     public Object getOriginalPersistentState() {
         return originalPersistentState;
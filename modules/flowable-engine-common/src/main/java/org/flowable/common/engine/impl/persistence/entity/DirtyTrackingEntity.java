@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} that marks itself as dirty whenever a part of its persistent state is changed.
+ * 
+ * When entity dirty tracking is enabled, entities implementing this interface that are not dirty
+ * are skipped when determining the updated entities at flush time, instead of comparing their persistent state.
+ * Implementations must therefore mark themselves dirty on every change that affects {@link #getPersistentState()}.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -13,11 +13,15 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
@@ -41,6 +45,9 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
 
+    // The position after which a keyset paged query continues, only set while executing listAfter
+    protected KeysetCursor keysetCursor;
+
     protected AbstractQuery() {
         parameter = this;
     }
@@ -151,6 +158,126 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeList(Context.getCommandContext());
     }
 
+    @Override
+    public Stream<U> stream() {
+        this.resultType = ResultType.LIST;
+        checkQueryOk();
+        if (commandExecutor != null) {
+            return commandExecutor.execute(this::executeStream);
+        }
+        return executeStream(Context.getCommandContext());
+    }
+
+    /**
+     * Opens the stream of results. The returned stream must not depend on the given command context,
+     * as the stream is consumed after the command context is closed.
+     *
+     * By default this is a stream over the results of {@link #executeList(CommandContext)}. Queries that can read their results
+     * from a database cursor override this.
+     */
+    protected Stream<U> executeStream(CommandContext commandContext) {
+        return executeList(commandContext).stream();
+    }
+
+    /**
+     * Executes the query as a keyset paged query. Only available for the queries that provide the values of the order by columns
+     * through {@link #getKeysetValueProvider(String)} and include the keyset condition in their where clause.
+     */
+    public KeysetPage<U> listAfter(String cursor, int pageSize) {
+        if (pageSize <= 0) {
+            throw new FlowableIllegalArgumentException("The page size of a keyset paged query must be greater than 0");
+        }
+
+        OrderBy keysetOrderBy = getKeysetOrderBy();
+        Function<U, ?> valueProvider = getKeysetValueProvider(keysetOrderBy.getColumnName());
+        Function<U, ?> idProvider = getKeysetValueProvider(KeysetCursor.ID_COLUMN);
+        if (valueProvider == null || idProvider == null) {
+            throw new FlowableIllegalArgumentException("Keyset pagination is not supported when ordering on " + keysetOrderBy.getColumnName());
+        }
+
+        NullHandlingOnOrder nullHandling = keysetOrderBy.getNullHandlingOnOrder();
+        if (nullHandling == null && isKeysetColumnNullable(keysetOrderBy.getColumnName())) {
+            // The position of null values differs between databases, the keyset condition can only skip them when it is explicit
+            throw new FlowableIllegalArgumentException("Keyset pagination when ordering on " + keysetOrderBy.getColumnName()
+                    + " requires ordering with nulls first or nulls last");
+        }
+
+        if (cursor != null) {
+            KeysetCursor previousCursor = KeysetCursor.decode(cursor);
+            if (!previousCursor.matches(keysetOrderBy.getColumnName(), keysetOrderBy.getDirection(), nullHandling)) {
+                throw new FlowableIllegalArgumentException("The cursor " + cursor + " does not match the ordering of the query");
+            }
+            // The column name is taken from the query itself, as it is included as is in the query
+            keysetCursor = new KeysetCursor(keysetOrderBy.getColumnName(), keysetOrderBy.getDirection(), nullHandling,
+                    previousCursor.getValue(), previousCursor.getId());
+        }
+
+        List<U> results;
+        try {
+            // One extra row is fetched to know whether there is a next page
+            results = listPage(0, pageSize + 1);
+        } finally {
+            keysetCursor = null;
+        }
+
+        String nextCursor = null;
+        if (results.size() > pageSize) {
+            results = new ArrayList<>(results.subList(0, pageSize));
+            U lastResult = results.get(pageSize - 1);
+            Object lastValue = valueProvider.apply(lastResult);
+            if (lastValue == null && nullHandling == null && !KeysetCursor.ID_COLUMN.equals(keysetOrderBy.getColumnName())) {
+                throw new FlowableException("Keyset pagination is not supported for null values of " + keysetOrderBy.getColumnName()
+                        + " without ordering with nulls first or nulls last");
+            }
+            nextCursor = new KeysetCursor(keysetOrderBy.getColumnName(), keysetOrderBy.getDirection(), nullHandling, lastValue,
+                    (String) idProvider.apply(lastResult)).encode();
+        }
+
+        return new KeysetPage<>(results, nextCursor);
+    }
+
+    /**
+     * Returns the order by on which the keyset is based and makes sure that the ordering ends with the id.
+     */
+    protected OrderBy getKeysetOrderBy() {
+        checkQueryOk();
+        List<OrderBy> orderBys = orderByCollection != null ? new ArrayList<>(orderByCollection) : new ArrayList<>();
+        if (orderBys.isEmpty()) {
+            addOrder(KeysetCursor.ID_COLUMN, SORTORDER_ASC, null);
+            return orderByCollection.iterator().next();
+        }
+
+        OrderBy keysetOrderBy = orderBys.get(0);
+        boolean endsWithId = orderBys.size() == 2 && KeysetCursor.ID_COLUMN.equals(orderBys.get(1).getColumnName())
+                && keysetOrderBy.getDirection().equals(orderBys.get(1).getDirection());
+        if (orderBys.size() > 1 && !endsWithId) {
+            throw new FlowableIllegalArgumentException("Keyset pagination only supports ordering on one property");
+        }
+
+        if (orderBys.size() == 1 && !KeysetCursor.ID_COLUMN.equals(keysetOrderBy.getColumnName())) {
+            addOrder(KeysetCursor.ID_COLUMN, keysetOrderBy.getDirection(), null);
+        }
+        return keysetOrderBy;
+    }
+
+    /**
+     * @return the function that returns the value of the given order by column for a result, or null when keyset pagination is not supported for that column
+     */
+    protected Function<U, ?> getKeysetValueProvider(String columnName) {
+        return null;
+    }
+
+    /**
+     * @return whether the given order by column can contain null values, keyset pagination on such a column requires ordering with nulls first or nulls last
+     */
+    protected boolean isKeysetColumnNullable(String columnName) {
+        return false;
+    }
+
+    public KeysetCursor getKeysetCursor() {
+        return keysetCursor;
+    }
+
     @Override
     public long count() {
         this.resultType = ResultType.COUNT;
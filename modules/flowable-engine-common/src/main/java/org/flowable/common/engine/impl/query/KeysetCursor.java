@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.query;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.Query.NullHandlingOnOrder;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The position of a keyset paged query: the values of the order by column and the id of the last row of the previous page.
+ * The value is null when the last row has no value for a column ordered with nulls first or nulls last.
+ *
+ * The cursor is handed out to clients as an opaque, url safe string.
+ */
+public class KeysetCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String ID_COLUMN = "RES.ID_";
+
+    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    protected static final String TYPE_STRING = "string";
+    protected static final String TYPE_INTEGER = "integer";
+    protected static final String TYPE_LONG = "long";
+    protected static final String TYPE_DATE = "date";
+
+    protected static final String NULLS_FIRST = "first";
+    protected static final String NULLS_LAST = "last";
+
+    protected final String columnName;
+    protected final String direction;
+    protected final NullHandlingOnOrder nullHandlingOnOrder;
+    protected final Object value;
+    protected final String id;
+
+    public KeysetCursor(String columnName, String direction, NullHandlingOnOrder nullHandlingOnOrder, Object value, String id) {
+        this.columnName = columnName;
+        this.direction = direction;
+        this.nullHandlingOnOrder = nullHandlingOnOrder;
+        this.value = value;
+        this.id = id;
+    }
+
+    public boolean isOrderedById() {
+        return ID_COLUMN.equals(columnName);
+    }
+
+    /**
+     * @return the operator that selects the rows after this cursor
+     */
+    public String getComparator() {
+        return ListQueryParameterObject.SORTORDER_DESC.equals(direction) ? "<" : ">";
+    }
+
+    public boolean isNullsFirst() {
+        return nullHandlingOnOrder == NullHandlingOnOrder.NULLS_FIRST;
+    }
+
+    public boolean isNullsLast() {
+        return nullHandlingOnOrder == NullHandlingOnOrder.NULLS_LAST;
+    }
+
+    public boolean matches(String columnName, String direction, NullHandlingOnOrder nullHandlingOnOrder) {
+        return this.columnName.equals(columnName) && this.direction.equals(direction) && this.nullHandlingOnOrder == nullHandlingOnOrder;
+    }
+
+    public String encode() {
+        ObjectNode node = OBJECT_MAPPER.createObjectNode();
+        node.put("column", columnName);
+        node.put("direction", direction);
+        node.put("id", id);
+        if (isNullsFirst()) {
+            node.put("nulls", NULLS_FIRST);
+        } else if (isNullsLast()) {
+            node.put("nulls", NULLS_LAST);
+        }
+
+        // A null value is left out, the position of the null values is given by the null handling
+        if (!isOrderedById() && (value != null || nullHandlingOnOrder == null)) {
+            if (value instanceof Date) {
+                node.put("type", TYPE_DATE);
+                node.put("value", ((Date) value).getTime());
+            } else if (value instanceof Integer) {
+                node.put("type", TYPE_INTEGER);
+                node.put("value", (Integer) value);
+            } else if (value instanceof Long) {
+                node.put("type", TYPE_LONG);
+                node.put("value", (Long) value);
+            } else if (value instanceof String) {
+                node.put("type", TYPE_STRING);
+                node.put("value", (String) value);
+            } else {
+                throw new FlowableIllegalArgumentException("Keyset pagination is not supported for values of " + columnName + ": " + value);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(node.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        JsonNode node;
+        try {
+            node = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor, e);
+        }
+
+        if (node == null || !node.path("column").isTextual() || !node.path("direction").isTextual() || !node.path("id").isTextual()) {
+            throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+        }
+
+        String columnName = node.path("column").asText();
+        NullHandlingOnOrder nullHandlingOnOrder = null;
+        if (node.has("nulls")) {
+            String nulls = node.path("nulls").asText();
+            if (NULLS_FIRST.equals(nulls)) {
+                nullHandlingOnOrder = NullHandlingOnOrder.NULLS_FIRST;
+            } else if (NULLS_LAST.equals(nulls)) {
+                nullHandlingOnOrder = NullHandlingOnOrder.NULLS_LAST;
+            } else {
+                throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+            }
+        }
+
+        Object value = null;
+        if (!ID_COLUMN.equals(columnName) && (node.has("value") || nullHandlingOnOrder == null)) {
+            JsonNode valueNode = node.path("value");
+            String type = node.path("type").asText();
+            if (TYPE_DATE.equals(type) && valueNode.canConvertToLong()) {
+                value = new Date(valueNode.longValue());
+            } else if (TYPE_INTEGER.equals(type) && valueNode.canConvertToInt()) {
+                value = valueNode.intValue();
+            } else if (TYPE_LONG.equals(type) && valueNode.canConvertToLong()) {
+                value = valueNode.longValue();
+            } else if (TYPE_STRING.equals(type) && valueNode.isTextual()) {
+                value = valueNode.textValue();
+            } else {
+                throw new FlowableIllegalArgumentException("Invalid cursor " + cursor);
+            }
+        }
+
+        return new KeysetCursor(columnName, node.path("direction").asText(), nullHandlingOnOrder, value, node.path("id").asText());
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public NullHandlingOnOrder getNullHandlingOnOrder() {
+        return nullHandlingOnOrder;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public String getId() {
+        return id;
+    }
+}
@@ -18,6 +18,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -26,6 +28,8 @@ import javax.script.ScriptException;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +42,13 @@ import org.slf4j.LoggerFactory;
  * indicates thread safe read access.
  * </p>
  *
+ * <p>
+ * When {@link #setCacheCompiledScripts(boolean) compiled script caching} is enabled, scripts for cached engines
+ * that implement {@link Compilable} are compiled once and the {@link CompiledScript} is reused for subsequent evaluations
+ * of the same script. Whether the compiled script was found in the cache is added as the {@link #COMPILED_SCRIPT_CACHE_TRACE_TAG}
+ * trace tag to the {@link ScriptTrace}.
+ * </p>
+ *
  * @author Tom Baeyens
  * @author Joram Barrez
  * @author Frederik Heremans
@@ -51,12 +62,20 @@ public class ScriptingEngines {
     public static final String DEFAULT_SCRIPTING_LANGUAGE = "juel";
     public static final String GROOVY_SCRIPTING_LANGUAGE = "groovy";
 
+    public static final String COMPILED_SCRIPT_CACHE_TRACE_TAG = "compiledScriptCache";
+    public static final String COMPILED_SCRIPT_CACHE_HIT = "hit";
+    public static final String COMPILED_SCRIPT_CACHE_MISS = "miss";
+
     private final ScriptEngineManager scriptEngineManager;
     protected ScriptBindingsFactory scriptBindingsFactory;
 
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    protected boolean cacheCompiledScripts;
+    protected int compiledScriptCacheLimit = 1024;
+    protected ConcurrentDeploymentCache<CompiledScript> compiledScriptCache;
+
     protected ScriptTraceEnhancer defaultTraceEnhancer;
 
     protected ScriptTraceListener scriptErrorListener = null;
@@ -85,10 +104,28 @@ public class ScriptingEngines {
 
     protected Object evaluate(ScriptEngine scriptEngine, ScriptEngineRequest request, Bindings bindings) {
         long startNanos = System.nanoTime();
+        String compiledScriptCacheResult = null;
         try {
-            Object scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            Object scriptResult;
+            if (isCompiledScriptCacheable(scriptEngine, request)) {
+                String cacheKey = request.getLanguage() + ":" + request.getScript();
+                CompiledScript compiledScript = compiledScriptCache.get(cacheKey);
+                if (compiledScript != null) {
+                    compiledScriptCacheResult = COMPILED_SCRIPT_CACHE_HIT;
+                } else {
+                    compiledScriptCacheResult = COMPILED_SCRIPT_CACHE_MISS;
+                    compiledScript = ((Compilable) scriptEngine).compile(request.getScript());
+                    compiledScriptCache.add(cacheKey, compiledScript);
+                }
+                scriptResult = compiledScript.eval(bindings);
+
+            } else {
+                scriptResult = scriptEngine.eval(request.getScript(), bindings);
+            }
+
             if (scriptSuccessListener != null) {
                 DefaultScriptTrace scriptTrace = DefaultScriptTrace.successTrace(Duration.ofNanos(System.nanoTime() - startNanos), request);
+                addCompiledScriptCacheTraceTag(scriptTrace, compiledScriptCacheResult);
                 enhanceScriptTrace(request, scriptTrace);
                 notifyScriptTraceListener(scriptSuccessListener, scriptTrace);
             }
@@ -99,6 +136,7 @@ public class ScriptingEngines {
                 LOGGER.debug("Caught exception evaluating script for {}. {}{}{}", request.getVariableContainer(), request.getLanguage(), System.lineSeparator(),
                         request.getScript());
             }
+            addCompiledScriptCacheTraceTag(scriptTrace, compiledScriptCacheResult);
             enhanceScriptTrace(request, scriptTrace);
             if (scriptErrorListener != null) {
                 notifyScriptTraceListener(scriptErrorListener, scriptTrace);
@@ -111,6 +149,22 @@ public class ScriptingEngines {
         }
     }
 
+    /**
+     * Compiled scripts are only cached for engines that are cached themselves,
+     * as only those are reused across evaluations and are safe to be used by multiple threads.
+     */
+    protected boolean isCompiledScriptCacheable(ScriptEngine scriptEngine, ScriptEngineRequest request) {
+        return cacheCompiledScripts
+                && scriptEngine instanceof Compilable
+                && cachedEngines.get(request.getLanguage()) == scriptEngine;
+    }
+
+    protected void addCompiledScriptCacheTraceTag(DefaultScriptTrace scriptTrace, String compiledScriptCacheResult) {
+        if (compiledScriptCacheResult != null) {
+            scriptTrace.addTraceTag(COMPILED_SCRIPT_CACHE_TRACE_TAG, compiledScriptCacheResult);
+        }
+    }
+
     protected void notifyScriptTraceListener(ScriptTraceListener listener, ScriptTrace scriptTrace) {
         try {
             listener.onScriptTrace(scriptTrace);
@@ -212,6 +266,38 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+        if (cacheCompiledScripts && compiledScriptCache == null) {
+            compiledScriptCache = new ConcurrentDeploymentCache<>(compiledScriptCacheLimit);
+        }
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    /**
+     * Sets the maximum number of compiled scripts that are kept. Needs to be set before enabling the compiled script cache.
+     */
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+    }
+
+    public DeploymentCacheStatistics getCompiledScriptCacheStatistics() {
+        return compiledScriptCache != null ? compiledScriptCache.getStatistics() : null;
+    }
+
+    public void clearCompiledScriptCache() {
+        if (compiledScriptCache != null) {
+            compiledScriptCache.clear();
+        }
+    }
+
     public ScriptTraceEnhancer getDefaultTraceEnhancer() {
         return defaultTraceEnhancer;
     }
@@ -18,6 +18,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.sql.DataSource;
 
@@ -42,6 +44,9 @@ public class DbUtil {
     public static final String DATABASE_TYPE_DB2 = "db2";
     public static final String DATABASE_TYPE_COCKROACHDB = "cockroachdb";
 
+    protected static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+)(?:\\.(\\d+))?");
+    protected static final Pattern MARIADB_VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+)(?:\\.(\\d+))?-MariaDB", Pattern.CASE_INSENSITIVE);
+
     public static Properties getDefaultDatabaseTypeMappings() {
         Properties databaseTypeMappings = new Properties();
         databaseTypeMappings.setProperty("H2", DATABASE_TYPE_H2);
@@ -127,4 +132,78 @@ public class DbUtil {
         return databaseType;
     }
 
+    /**
+     * Determines whether the database supports SELECT ... FOR UPDATE SKIP LOCKED, based on the product name and version of the database.
+     * A connection is only opened for the database types of which only some versions support it.
+     */
+    public static boolean isSkipLockedSupported(DataSource dataSource, String databaseType, Logger logger) {
+        if (DATABASE_TYPE_ORACLE.equals(databaseType)) {
+            return true;
+
+        } else if (!DATABASE_TYPE_POSTGRES.equals(databaseType) && !DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            return false;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            boolean skipLockedSupported = isSkipLockedSupported(databaseType, databaseMetaData.getDatabaseProductName(),
+                    databaseMetaData.getDatabaseProductVersion());
+            logger.debug("SKIP LOCKED supported by {} {}: {}", databaseMetaData.getDatabaseProductName(),
+                    databaseMetaData.getDatabaseProductVersion(), skipLockedSupported);
+            return skipLockedSupported;
+
+        } catch (SQLException e) {
+            throw new FlowableException("Exception while determining the SKIP LOCKED support of the database", e);
+        }
+    }
+
+    /**
+     * SKIP LOCKED is supported by Oracle, PostgreSQL 9.5+, MySQL 8.0.1+ and MariaDB 10.6+.
+     * MariaDB can report itself as MySQL with a version like 5.5.5-10.6.12-MariaDB, in which case the MariaDB version is used.
+     */
+    public static boolean isSkipLockedSupported(String databaseType, String databaseProductName, String databaseProductVersion) {
+        if (DATABASE_TYPE_ORACLE.equals(databaseType)) {
+            return true;
+
+        } else if (DATABASE_TYPE_POSTGRES.equals(databaseType)) {
+            return isVersionAtLeast(VERSION_PATTERN.matcher(databaseProductVersion != null ? databaseProductVersion : ""), 9, 5, 0);
+
+        } else if (DATABASE_TYPE_MYSQL.equals(databaseType)) {
+            if (databaseProductVersion == null) {
+                return false;
+            }
+
+            Matcher mariaDbVersion = MARIADB_VERSION_PATTERN.matcher(databaseProductVersion);
+            if (mariaDbVersion.find()) {
+                return isVersionAtLeast(mariaDbVersion, 10, 6, 0);
+
+            } else if (databaseProductName != null && databaseProductName.toLowerCase().contains("mariadb")) {
+                return isVersionAtLeast(VERSION_PATTERN.matcher(databaseProductVersion), 10, 6, 0);
+            }
+
+            return isVersionAtLeast(VERSION_PATTERN.matcher(databaseProductVersion), 8, 0, 1);
+        }
+
+        return false;
+    }
+
+    protected static boolean isVersionAtLeast(Matcher versionMatcher, int major, int minor, int patch) {
+        if (!versionMatcher.find(0)) {
+            return false;
+        }
+
+        int[] version = {
+                Integer.parseInt(versionMatcher.group(1)),
+                Integer.parseInt(versionMatcher.group(2)),
+                versionMatcher.group(3) != null ? Integer.parseInt(versionMatcher.group(3)) : 0
+        };
+        int[] requiredVersion = { major, minor, patch };
+        for (int i = 0; i < version.length; i++) {
+            if (version[i] != requiredVersion[i]) {
+                return version[i] > requiredVersion[i];
+            }
+        }
+        return true;
+    }
+
 }
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.repository.EngineResource;
+
+/**
+ * Creates and compares the manifest of a deployment, which contains the SHA-256 hash of every resource that was added to the deployment.
+ * The manifest is stored as a generated resource of the deployment, so that duplicate filtering can compare the resources of a new deployment
+ * with the latest deployment by only reading the manifest of the latest deployment, instead of all of its resources.
+ *
+ * Every line of the manifest contains the hex encoded hash, two spaces and the name of the resource, sorted by resource name.
+ */
+public class DeploymentManifestUtil {
+
+    public static final String MANIFEST_RESOURCE_NAME = "flowable-deployment.manifest";
+
+    protected static final int HASH_LENGTH = 64;
+    protected static final String SEPARATOR = "  ";
+
+    public static byte[] createManifest(Map<String, ? extends EngineResource> resources) {
+        Map<String, byte[]> resourceBytes = new HashMap<>();
+        for (EngineResource resource : resources.values()) {
+            if (!resource.isGenerated()) {
+                resourceBytes.put(resource.getName(), resource.getBytes());
+            }
+        }
+        return createManifestFromBytes(resourceBytes);
+    }
+
+    /**
+     * Creates the manifest for resources that are given by name and content, for engines whose resources are not {@link EngineResource}s.
+     */
+    public static byte[] createManifestFromBytes(Map<String, byte[]> resourceBytes) {
+        Map<String, String> hashes = new TreeMap<>();
+        for (Map.Entry<String, byte[]> resource : resourceBytes.entrySet()) {
+            if (!MANIFEST_RESOURCE_NAME.equals(resource.getKey())) {
+                hashes.put(resource.getKey(), hash(resource.getValue()));
+            }
+        }
+
+        StringBuilder manifest = new StringBuilder();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            manifest.append(entry.getValue()).append(SEPARATOR).append(entry.getKey()).append('\n');
+        }
+        return manifest.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static Map<String, String> readManifest(byte[] manifest) {
+        Map<String, String> hashes = new HashMap<>();
+        for (String line : new String(manifest, StandardCharsets.UTF_8).split("\n")) {
+            if (line.length() > HASH_LENGTH + SEPARATOR.length()) {
+                hashes.put(line.substring(HASH_LENGTH + SEPARATOR.length()), line.substring(0, HASH_LENGTH));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * @return true when a resource is not part of the manifest, or its content is different from the content the manifest was created with
+     */
+    public static boolean resourcesDiffer(Map<String, ? extends EngineResource> resources, byte[] savedManifest) {
+        Map<String, byte[]> resourceBytes = new HashMap<>();
+        for (EngineResource resource : resources.values()) {
+            resourceBytes.put(resource.getName(), resource.getBytes());
+        }
+        return resourceBytesDiffer(resourceBytes, savedManifest);
+    }
+
+    /**
+     * @return true when a resource, given by name and content, is not part of the manifest or its content is different from the content
+     * the manifest was created with
+     */
+    public static boolean resourceBytesDiffer(Map<String, byte[]> resourceBytes, byte[] savedManifest) {
+        Map<String, String> savedHashes = readManifest(savedManifest);
+        for (Map.Entry<String, byte[]> resource : resourceBytes.entrySet()) {
+            if (MANIFEST_RESOURCE_NAME.equals(resource.getKey())) {
+                continue;
+            }
+
+            String savedHash = savedHashes.get(resource.getKey());
+            if (savedHash == null || !savedHash.equals(hash(resource.getValue()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes != null ? bytes : new byte[0]));
+        } catch (NoSuchAlgorithmException e) {
+            throw new FlowableException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+}
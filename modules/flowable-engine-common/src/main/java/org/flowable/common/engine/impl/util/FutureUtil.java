@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.flowable.common.engine.api.FlowableException;
+
+public class FutureUtil {
+
+    /**
+     * Waits for the result of the future. When the computation failed, the exception of the computation itself is thrown,
+     * so that callers see the same exception as when the computation was done in the calling thread.
+     */
+    public static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Future was interrupted", e);
+        } catch (CancellationException e) {
+            throw new FlowableException("Future was canceled", e);
+        } catch (ExecutionException e) {
+            ExceptionUtil.sneakyThrow(e.getCause());
+            return null;
+        }
+    }
+
+}
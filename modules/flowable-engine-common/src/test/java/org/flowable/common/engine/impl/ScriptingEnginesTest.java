@@ -16,11 +16,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.AbstractScriptEngine;
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.SimpleBindings;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheStatistics;
 import org.flowable.common.engine.impl.scripting.CompositeScriptTraceListener;
 import org.flowable.common.engine.impl.scripting.FlowableScriptEvaluationException;
 import org.flowable.common.engine.impl.scripting.MapResolver;
@@ -255,6 +268,182 @@ public class ScriptingEnginesTest {
         });
     }
 
+    @Test
+    public void expectCompiledScriptIsCachedForCompilableEngine() {
+        // GIVEN
+        CompilingScriptEngineFactory compilingScriptEngineFactory = new CompilingScriptEngineFactory();
+        engines.addScriptEngineFactory(compilingScriptEngineFactory);
+        engines.setCacheCompiledScripts(true);
+        List<ScriptTrace> capturedTrace = new LinkedList<>();
+        engines.setScriptSuccessListener(capturedTrace::add);
+
+        ScriptEngineRequest request = ScriptEngineRequest.builder()
+                .script("myScript")
+                .language(CompilingScriptEngineFactory.NAME)
+                .variableContainer(VariableScope.empty())
+                .build();
+
+        // WHEN
+        Object firstResult = engines.evaluate(request).getResult();
+        Object secondResult = engines.evaluate(request).getResult();
+
+        // THEN
+        assertThat(firstResult).isEqualTo("compiled myScript");
+        assertThat(secondResult).isEqualTo("compiled myScript");
+        assertThat(compilingScriptEngineFactory.compileCount).hasValue(1);
+        assertThat(capturedTrace)
+                .extracting(trace -> trace.getTraceTags().get(ScriptingEngines.COMPILED_SCRIPT_CACHE_TRACE_TAG))
+                .containsExactly(ScriptingEngines.COMPILED_SCRIPT_CACHE_MISS, ScriptingEngines.COMPILED_SCRIPT_CACHE_HIT);
+
+        DeploymentCacheStatistics statistics = engines.getCompiledScriptCacheStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void expectScriptIsNotCompiledWhenCompiledScriptCacheIsDisabled() {
+        // GIVEN
+        CompilingScriptEngineFactory compilingScriptEngineFactory = new CompilingScriptEngineFactory();
+        engines.addScriptEngineFactory(compilingScriptEngineFactory);
+        List<ScriptTrace> capturedTrace = new LinkedList<>();
+        engines.setScriptSuccessListener(capturedTrace::add);
+
+        ScriptEngineRequest request = ScriptEngineRequest.builder()
+                .script("myScript")
+                .language(CompilingScriptEngineFactory.NAME)
+                .variableContainer(VariableScope.empty())
+                .build();
+
+        // WHEN
+        Object result = engines.evaluate(request).getResult();
+
+        // THEN
+        assertThat(result).isEqualTo("evaluated myScript");
+        assertThat(compilingScriptEngineFactory.compileCount).hasValue(0);
+        assertThat(capturedTrace).singleElement()
+                .satisfies(trace -> assertThat(trace.getTraceTags()).doesNotContainKey(ScriptingEngines.COMPILED_SCRIPT_CACHE_TRACE_TAG));
+        assertThat(engines.getCompiledScriptCacheStatistics()).isNull();
+    }
+
+    public static class CompilingScriptEngineFactory implements ScriptEngineFactory {
+
+        public static final String NAME = "compilingTestLanguage";
+
+        protected final AtomicInteger compileCount = new AtomicInteger();
+
+        @Override
+        public String getEngineName() {
+            return NAME;
+        }
+
+        @Override
+        public String getEngineVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public List<String> getExtensions() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getMimeTypes() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> getNames() {
+            return Collections.singletonList(NAME);
+        }
+
+        @Override
+        public String getLanguageName() {
+            return NAME;
+        }
+
+        @Override
+        public String getLanguageVersion() {
+            return "1.0";
+        }
+
+        @Override
+        public Object getParameter(String key) {
+            return "THREADING".equals(key) ? "MULTITHREADED" : null;
+        }
+
+        @Override
+        public String getMethodCallSyntax(String obj, String m, String... args) {
+            return null;
+        }
+
+        @Override
+        public String getOutputStatement(String toDisplay) {
+            return null;
+        }
+
+        @Override
+        public String getProgram(String... statements) {
+            return null;
+        }
+
+        @Override
+        public ScriptEngine getScriptEngine() {
+            return new CompilingScriptEngine(this);
+        }
+    }
+
+    public static class CompilingScriptEngine extends AbstractScriptEngine implements Compilable {
+
+        protected final CompilingScriptEngineFactory factory;
+
+        public CompilingScriptEngine(CompilingScriptEngineFactory factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object eval(String script, ScriptContext context) {
+            return "evaluated " + script;
+        }
+
+        @Override
+        public Object eval(Reader reader, ScriptContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompiledScript compile(String script) {
+            factory.compileCount.incrementAndGet();
+            return new CompiledScript() {
+
+                @Override
+                public Object eval(ScriptContext context) {
+                    return "compiled " + script;
+                }
+
+                @Override
+                public ScriptEngine getEngine() {
+                    return CompilingScriptEngine.this;
+                }
+            };
+        }
+
+        @Override
+        public CompiledScript compile(Reader script) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Bindings createBindings() {
+            return new SimpleBindings();
+        }
+
+        @Override
+        public ScriptEngineFactory getFactory() {
+            return factory;
+        }
+    }
+
     public static class MyBean {
 
         protected String foo;
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+class DefaultAsyncTaskExecutorTest {
+
+    protected DefaultAsyncTaskExecutor taskExecutor;
+
+    @AfterEach
+    void shutdownTaskExecutor() {
+        if (taskExecutor != null) {
+            taskExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void remainingCapacityOfThreadPool() {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setQueueSize(10);
+        taskExecutor = new DefaultAsyncTaskExecutor(configuration);
+        taskExecutor.start();
+
+        assertThat(taskExecutor.getConcurrencyLimiter()).isNull();
+        assertThat(taskExecutor.getRemainingCapacity()).isEqualTo(10);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsWithConcurrencyLimit() throws Exception {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setUseVirtualThreads(true);
+        configuration.setMaxConcurrentTasks(2);
+        configuration.setThreadNamePrefix("virtual-test-");
+        taskExecutor = new DefaultAsyncTaskExecutor(configuration);
+        taskExecutor.start();
+
+        assertThat(taskExecutor.getThreadPoolQueue()).isNull();
+        assertThat(taskExecutor.getRemainingCapacity()).isEqualTo(2);
+
+        CountDownLatch blockingLatch = new CountDownLatch(1);
+        CountDownLatch startedLatch = new CountDownLatch(2);
+        CompletableFuture<Boolean> firstTask = taskExecutor.submit(() -> {
+            startedLatch.countDown();
+            blockingLatch.await(10, TimeUnit.SECONDS);
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread());
+        });
+        CompletableFuture<String> secondTask = taskExecutor.submit(() -> {
+            startedLatch.countDown();
+            blockingLatch.await(10, TimeUnit.SECONDS);
+            return Thread.currentThread().getName();
+        });
+
+        assertThat(startedLatch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(taskExecutor.getRemainingCapacity()).isZero();
+        assertThatThrownBy(() -> taskExecutor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        blockingLatch.countDown();
+        assertThat(firstTask.get(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(secondTask.get(10, TimeUnit.SECONDS)).startsWith("virtual-test-");
+
+        // The permits are released after the tasks are done, which is just after the futures are completed
+        long waitUntil = System.currentTimeMillis() + 10000;
+        while (taskExecutor.getRemainingCapacity() < 2 && System.currentTimeMillis() < waitUntil) {
+            Thread.sleep(10);
+        }
+        assertThat(taskExecutor.getRemainingCapacity()).isEqualTo(2);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsIgnoreConfiguredThreadFactory() throws Exception {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setUseVirtualThreads(true);
+        taskExecutor = new DefaultAsyncTaskExecutor(configuration);
+        taskExecutor.setThreadFactory(Executors.defaultThreadFactory());
+        taskExecutor.start();
+
+        CompletableFuture<Boolean> task = taskExecutor.submit(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+        assertThat(task.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreadsNotAvailable() {
+        AsyncTaskExecutorConfiguration configuration = new AsyncTaskExecutorConfiguration();
+        configuration.setUseVirtualThreads(true);
+        DefaultAsyncTaskExecutor virtualTaskExecutor = new DefaultAsyncTaskExecutor(configuration);
+
+        assertThatThrownBy(virtualTaskExecutor::start)
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("Java 21");
+    }
+}
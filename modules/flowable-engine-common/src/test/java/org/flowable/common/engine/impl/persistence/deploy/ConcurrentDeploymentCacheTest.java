@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void unlimitedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("key0")).isEqualTo("value0");
+        assertThat(cache.get("key99")).isEqualTo("value99");
+        assertThat(cache.getStatistics().getEvictionCount()).isZero();
+    }
+
+    @Test
+    void leastRecentlyUsedIsEvicted() throws InterruptedException {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        cache.add("b", "B");
+
+        Thread.sleep(5);
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        Thread.sleep(5);
+        cache.add("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictionRemovesBatchOfEntries() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+        assertThat(cache.getStatistics().getEvictionCount()).isZero();
+
+        cache.add("key100", "value100");
+        assertThat(cache.size()).isEqualTo(95);
+        assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(6);
+        assertThat(cache.contains("key100")).isTrue();
+
+        for (int i = 101; i < 106; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(6);
+    }
+
+    @Test
+    void weightedCache() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10, String::length);
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbb");
+        assertThat(cache.getStatistics().getWeight()).isEqualTo(8);
+
+        cache.add("c", "cccccc");
+        assertThat(cache.getStatistics().getWeight()).isLessThanOrEqualTo(10);
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.remove("c");
+        assertThat(cache.getStatistics().getWeight()).isEqualTo(4);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getStatistics().getWeight()).isZero();
+    }
+
+    @Test
+    void replacingEntryKeepsWeightConsistent() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100, String::length);
+        cache.add("a", "aaaa");
+        cache.add("a", "aa");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getStatistics().getWeight()).isEqualTo(2);
+        assertThat(cache.getAll()).containsExactly("aa");
+    }
+
+    @Test
+    void statistics() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10);
+        cache.add("a", "A");
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        DeploymentCacheStatistics statistics = cache.getStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(2);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getRequestCount()).isEqualTo(3);
+        assertThat(statistics.getSize()).isEqualTo(1);
+
+        cache.resetStatistics();
+        assertThat(cache.getStatistics().getRequestCount()).isZero();
+    }
+
+}
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class DbUtilTest {
+
+    @Test
+    void skipLockedSupportedByMysql() {
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", "5.7.44")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", "8.0.0-dmr")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", "8.0.1")).isTrue();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", "8.4.3")).isTrue();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", null)).isFalse();
+    }
+
+    @Test
+    void skipLockedSupportedByMariaDb() {
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MariaDB", "10.5.23-MariaDB")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MariaDB", "10.6.16-MariaDB-1:10.6.16+maria~ubu2004")).isTrue();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MariaDB", "11.2.2")).isTrue();
+
+        // MariaDB reports itself with a MySQL 5.5.5 prefix when connected through the MySQL driver
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", "5.5.5-10.5.23-MariaDB")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MYSQL, "MySQL", "5.5.5-10.6.16-MariaDB")).isTrue();
+    }
+
+    @Test
+    void skipLockedSupportedByPostgresAndOracle() {
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_POSTGRES, "PostgreSQL", "9.4.26")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_POSTGRES, "PostgreSQL", "9.5.0")).isTrue();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_POSTGRES, "PostgreSQL", "16.1 (Debian 16.1-1.pgdg120+1)")).isTrue();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_ORACLE, "Oracle", "Oracle Database 19c")).isTrue();
+    }
+
+    @Test
+    void skipLockedNotSupportedByOtherDatabases() {
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_H2, "H2", "2.2.224 (2023-09-17)")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_MSSQL, "Microsoft SQL Server", "16.00.1000")).isFalse();
+        assertThat(DbUtil.isSkipLockedSupported(DbUtil.DATABASE_TYPE_COCKROACHDB, "CockroachDB", "23.1.0")).isFalse();
+    }
+
+}
@@ -14,12 +14,14 @@
 package org.flowable.engine.history;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
 import org.flowable.common.engine.api.query.BatchDeleteQuery;
 import org.flowable.common.engine.api.query.DeleteQuery;
+import org.flowable.common.engine.api.query.KeysetQuery;
 import org.flowable.common.engine.api.query.Query;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 
@@ -32,7 +34,7 @@ import org.flowable.engine.runtime.ProcessInstanceQuery;
  * @author Falko Menge
  */
 public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInstanceQuery, HistoricProcessInstance>, DeleteQuery<HistoricProcessInstanceQuery, HistoricProcessInstance>,
-        BatchDeleteQuery<HistoricProcessInstanceQuery> {
+        BatchDeleteQuery<HistoricProcessInstanceQuery>, KeysetQuery<HistoricProcessInstance> {
 
     /**
      * Only select historic process instances with the given process instance. {@link org.flowable.engine.runtime.ProcessInstance} ids and {@link HistoricProcessInstance} ids match.
@@ -528,6 +530,13 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      */
     HistoricProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include the process variables with the given names in the process query result.
+     * Unlike {@link #includeProcessVariables()}, the variables are not joined into the process instance query, but fetched with a separate query
+     * for all returned process instances.
+     */
+    HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Only select process instances that failed due to an exception happening during a job execution.
      */
@@ -16,6 +16,7 @@ package org.flowable.engine.impl;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -78,6 +79,11 @@ public class HistoricActivityInstanceQueryImpl extends AbstractQuery<HistoricAct
         return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findHistoricActivityInstancesByQueryCriteria(this);
     }
 
+    @Override
+    protected Stream<HistoricActivityInstance> executeStream(CommandContext commandContext) {
+        return CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).streamHistoricActivityInstancesByQueryCriteria(this);
+    }
+
     @Override
     public HistoricActivityInstanceQueryImpl processInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
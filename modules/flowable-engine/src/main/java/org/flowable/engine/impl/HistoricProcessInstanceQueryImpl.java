@@ -14,10 +14,17 @@
 package org.flowable.engine.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -27,6 +34,7 @@ import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.query.KeysetCursor;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -37,7 +45,9 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesUsingBatchesCmd;
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
 /**
@@ -96,6 +106,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     private List<List<String>> safeInvolvedGroups;
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected boolean includeProcessVariables;
+    protected Collection<String> processVariableNamesToInclude;
     protected boolean withJobException;
     protected String tenantId;
     protected String tenantIdLike;
@@ -585,6 +596,16 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return this;
     }
 
+    @Override
+    public HistoricProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricProcessInstanceQuery withJobException() {
         if (inOrStatement) {
@@ -1098,6 +1119,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         if (returnIdsOnly) {
             results = processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstanceIdsByQueryCriteria(this);
             
+        } else if (processVariableNamesToInclude != null) {
+            // The process instances are fetched first and the variables of all fetched process instances are fetched afterwards
+            results = processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesByQueryCriteria(this);
+            addIncludedVariables(results);
+
         } else if (includeProcessVariables) {
             results = processEngineConfiguration.getHistoricProcessInstanceEntityManager().findHistoricProcessInstancesAndVariablesByQueryCriteria(this);
 
@@ -1122,6 +1148,41 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    protected Stream<HistoricProcessInstance> executeStream(CommandContext commandContext) {
+        if (includeProcessVariables || returnIdsOnly) {
+            // The variables are fetched with a nested result map, which needs the whole result set
+            return super.executeStream(commandContext);
+        }
+
+        ensureVariablesInitialized();
+
+        if (withoutSorting) {
+            setIgnoreOrderBy();
+        }
+
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        // The streamed process instances are not localized, as the localization needs the command context
+        return processEngineConfiguration.getHistoricProcessInstanceEntityManager().streamHistoricProcessInstancesByQueryCriteria(this);
+    }
+
+    @Override
+    protected Function<HistoricProcessInstance, ?> getKeysetValueProvider(String columnName) {
+        if (withoutSorting) {
+            return null;
+        }
+
+        if (KeysetCursor.ID_COLUMN.equals(columnName) || HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_.getName().equals(columnName)) {
+            return HistoricProcessInstance::getId;
+        } else if (HistoricProcessInstanceQueryProperty.START_TIME.getName().equals(columnName)) {
+            return HistoricProcessInstance::getStartTime;
+        }
+        return null;
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricProcessInstance> results) {
 
         // Unlike the ExecutionEntityImpl, variables are not stored on the HistoricExecutionEntityImpl.
@@ -1149,9 +1210,34 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         }
     }
 
+    protected void addIncludedVariables(List<HistoricProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+
+        List<String> processInstanceIds = processInstances.stream().map(HistoricProcessInstance::getId).collect(Collectors.toList());
+        List<HistoricVariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> processInstanceIdsPart : getSafeList(processInstanceIds)) {
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+            query.executionIds(new HashSet<>(processInstanceIdsPart)).excludeTaskVariables();
+            query.variableNames(processVariableNamesToInclude);
+            for (HistoricVariableInstance variable : processEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableInstanceEntityManager()
+                    .findHistoricVariableInstancesByQueryCriteria(query)) {
+                variables.add((HistoricVariableInstanceEntity) variable);
+            }
+        }
+
+        Map<String, List<HistoricVariableInstanceEntity>> variablesByProcessInstanceId = variables.stream()
+                .collect(Collectors.groupingBy(HistoricVariableInstanceEntity::getExecutionId));
+        for (HistoricProcessInstance processInstance : processInstances) {
+            ((HistoricProcessInstanceEntity) processInstance).getQueryVariables()
+                    .addAll(variablesByProcessInstanceId.getOrDefault(processInstance.getId(), Collections.emptyList()));
+        }
+    }
+
     @Override
     public void enhanceCachedValue(HistoricProcessInstanceEntity processInstance) {
-        if (includeProcessVariables) {
+        if (includeProcessVariables && processVariableNamesToInclude == null) {
             processInstance.getQueryVariables()
                     .addAll(processEngineConfiguration.getVariableServiceConfiguration().getHistoricVariableInstanceEntityManager()
                             .findHistoricalVariableInstancesByProcessInstanceId(processInstance.getId()));
@@ -1380,6 +1466,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return includeProcessVariables;
     }
 
+    public Collection<String> getProcessVariableNamesToInclude() {
+        return processVariableNamesToInclude;
+    }
+
     public boolean isWithException() {
         return withJobException;
     }
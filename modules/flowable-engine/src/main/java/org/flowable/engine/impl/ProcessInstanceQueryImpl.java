@@ -15,9 +15,13 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -31,7 +35,9 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryValue;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -83,6 +89,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> processVariableNamesToInclude;
     protected boolean withJobException;
     protected String name;
     protected String nameLike;
@@ -628,6 +635,16 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = variableNames;
+        return this;
+    }
+
     @Override
     public ProcessInstanceQuery withJobException() {
         this.withJobException = true;
@@ -993,7 +1010,11 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
             processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
         }
         
-        if (includeProcessVariables) {
+        if (processVariableNamesToInclude != null) {
+            // The process instances are fetched first and the variables of all fetched process instances are fetched afterwards
+            processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
+            addIncludedVariables(processInstances);
+        } else if (includeProcessVariables) {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceAndVariablesByQueryCriteria(this);
         } else {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
@@ -1012,9 +1033,33 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    protected void addIncludedVariables(List<ProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+
+        List<String> processInstanceIds = processInstances.stream().map(ProcessInstance::getId).collect(Collectors.toList());
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> processInstanceIdsPart : getSafeList(processInstanceIds)) {
+            InternalVariableInstanceQuery query = processEngineConfiguration.getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .executionIds(processInstanceIdsPart)
+                    .withoutTaskId()
+                    .names(processVariableNamesToInclude);
+            variables.addAll(query.list());
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByProcessInstanceId = variables.stream()
+                .collect(Collectors.groupingBy(VariableInstanceEntity::getExecutionId));
+        for (ProcessInstance processInstance : processInstances) {
+            ((ExecutionEntity) processInstance).getQueryVariables()
+                    .addAll(variablesByProcessInstanceId.getOrDefault(processInstance.getId(), Collections.emptyList()));
+        }
+    }
+
     @Override
     public void enhanceCachedValue(ExecutionEntity processInstance) {
-        if (includeProcessVariables) {
+        if (includeProcessVariables && processVariableNamesToInclude == null) {
             processInstance.getQueryVariables().addAll(processEngineConfiguration.getVariableServiceConfiguration()
                     .getVariableService().findVariableInstancesByExecutionId(processInstance.getId()));
         }
@@ -1240,6 +1285,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getProcessVariableNamesToInclude() {
+        return processVariableNamesToInclude;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
@@ -29,12 +29,14 @@ import org.flowable.engine.delegate.FutureJavaDelegate;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.bpmn.helper.DelegateExpressionUtil;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
+import org.flowable.engine.impl.bpmn.helper.FutureJavaDelegateContinuation;
 import org.flowable.engine.impl.bpmn.helper.SkipExpressionUtil;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.BpmnOverrideContext;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
 import org.flowable.engine.impl.delegate.ActivityBehaviorInvocation;
+import org.flowable.engine.impl.delegate.FutureJavaDelegateActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableJavaDelegate;
 import org.flowable.engine.impl.delegate.TriggerableJavaDelegateContextImpl;
@@ -55,7 +57,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Slawomir Wojtasiak (Patch for ACT-1159)
  * @author Falko Menge
  */
-public class ServiceTaskDelegateExpressionActivityBehavior extends TaskActivityBehavior {
+public class ServiceTaskDelegateExpressionActivityBehavior extends TaskActivityBehavior implements FutureJavaDelegateActivityBehavior {
 
     private static final long serialVersionUID = 1L;
 
@@ -194,7 +196,10 @@ public class ServiceTaskDelegateExpressionActivityBehavior extends TaskActivityB
                     if (invocationResult instanceof CompletableFuture) {
                         CompletableFuture<Object> future = (CompletableFuture<Object>) invocationResult;
 
-                        CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                        if (!FutureJavaDelegateContinuation.continueAfterCommit(future, execution,
+                                continuedExecution -> new FutureJavaDelegateCompleteAction(futureJavaDelegate, continuedExecution, loggingSessionEnabled))) {
+                            CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                        }
                     } else {
                         throw new FlowableIllegalStateException(
                                 "Invocation result " + invocationResult + " from invocation " + invocation + " was not a CompletableFuture");
@@ -219,6 +224,18 @@ public class ServiceTaskDelegateExpressionActivityBehavior extends TaskActivityB
         }
     }
 
+    @Override
+    public BiConsumer<Object, Throwable> createFutureCompleteAction(DelegateExecution execution) {
+        // The delegate is resolved again, the result of the future could be applied by another engine than the one that invoked the delegate
+        Object delegate = DelegateExpressionUtil.resolveDelegateExpression(expression, execution, fieldDeclarations);
+        if (!(delegate instanceof FutureJavaDelegate)) {
+            throw new FlowableIllegalArgumentException("Delegate expression " + expression + " did not resolve to an implementation of " + FutureJavaDelegate.class);
+        }
+
+        boolean loggingSessionEnabled = CommandContextUtil.getProcessEngineConfiguration().isLoggingSessionEnabled();
+        return new FutureJavaDelegateCompleteAction((FutureJavaDelegate<Object>) delegate, execution, loggingSessionEnabled);
+    }
+
     protected void handleException(Throwable exc, DelegateExecution execution, boolean loggingSessionEnabled) {
         if (loggingSessionEnabled) {
             BpmnLoggingSessionUtil.addErrorLoggingData(LoggingSessionConstants.TYPE_SERVICE_TASK_EXCEPTION,
@@ -28,9 +28,11 @@ import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.FutureJavaDelegate;
 import org.flowable.engine.impl.bpmn.helper.ErrorPropagation;
+import org.flowable.engine.impl.bpmn.helper.FutureJavaDelegateContinuation;
 import org.flowable.engine.impl.bpmn.helper.SkipExpressionUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.delegate.FutureJavaDelegateActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableJavaDelegate;
 import org.flowable.engine.impl.delegate.TriggerableJavaDelegateContextImpl;
@@ -42,7 +44,8 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 /**
  * @author Filip Hrisafov
  */
-public class ServiceTaskFutureJavaDelegateActivityBehavior extends TaskActivityBehavior implements ActivityBehavior, TriggerableJavaDelegate {
+public class ServiceTaskFutureJavaDelegateActivityBehavior extends TaskActivityBehavior implements ActivityBehavior, TriggerableJavaDelegate,
+        FutureJavaDelegateActivityBehavior {
 
     private static final long serialVersionUID = 1L;
 
@@ -136,7 +139,9 @@ public class ServiceTaskFutureJavaDelegateActivityBehavior extends TaskActivityB
                 if (invocationResult instanceof CompletableFuture) {
                     CompletableFuture<Object> future = (CompletableFuture<Object>) invocationResult;
 
-                    CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                    if (!FutureJavaDelegateContinuation.continueAfterCommit(future, execution, this::createFutureCompleteAction)) {
+                        CommandContextUtil.getAgenda(commandContext).planFutureOperation(future, new FutureJavaDelegateCompleteAction(futureJavaDelegate, execution, loggingSessionEnabled));
+                    }
                 } else {
                     throw new FlowableIllegalStateException(
                             "Invocation result " + invocationResult + " from invocation " + invocation + " was not a CompletableFuture");
@@ -205,6 +210,12 @@ public class ServiceTaskFutureJavaDelegateActivityBehavior extends TaskActivityB
         }
     }
 
+    @Override
+    public BiConsumer<Object, Throwable> createFutureCompleteAction(DelegateExecution execution) {
+        boolean loggingSessionEnabled = CommandContextUtil.getProcessEngineConfiguration().isLoggingSessionEnabled();
+        return new FutureJavaDelegateCompleteAction((FutureJavaDelegate<Object>) futureJavaDelegate, execution, loggingSessionEnabled);
+    }
+
     protected void handleException(Throwable throwable, DelegateExecution execution, boolean loggingSessionEnabled) {
         if (loggingSessionEnabled) {
             BpmnLoggingSessionUtil.addErrorLoggingData(LoggingSessionConstants.TYPE_SERVICE_TASK_EXCEPTION,
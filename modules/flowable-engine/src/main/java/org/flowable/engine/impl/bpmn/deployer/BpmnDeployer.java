@@ -13,9 +13,11 @@
 package org.flowable.engine.impl.bpmn.deployer;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -45,6 +47,7 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManager;
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
+import org.flowable.engine.impl.util.BpmnModelSnapshotUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +88,7 @@ public class BpmnDeployer implements EngineDeployer {
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
+        createAndPersistBpmnModelSnapshotsIfNeeded(parsedDeployment);
 
         if (deployment.isNew()) {
             if (!deploymentSettings.containsKey(DeploymentSettings.IS_DERIVED_DEPLOYMENT)) {
@@ -139,6 +143,34 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Persists the snapshots of the converted BPMN models, which were written while parsing a new deployment, as generated resources of the deployment.
+     */
+    protected void createAndPersistBpmnModelSnapshotsIfNeeded(ParsedDeployment parsedDeployment) {
+        final DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!deploymentEntity.isNew()) {
+            return;
+        }
+
+        final ResourceEntityManager resourceEntityManager = CommandContextUtil.getProcessEngineConfiguration().getResourceEntityManager();
+
+        Set<String> resourceNames = new HashSet<>();
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            String resourceName = parsedDeployment.getResourceForProcessDefinition(processDefinition).getName();
+            String snapshotResourceName = BpmnModelSnapshotUtil.getSnapshotResourceName(resourceName);
+            byte[] bpmnModelSnapshot = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition).getBpmnModelSnapshot();
+            if (bpmnModelSnapshot != null && resourceNames.add(resourceName) && !deploymentEntity.getResources().containsKey(snapshotResourceName)) {
+                ResourceEntity resource = resourceEntityManager.create();
+                resource.setName(snapshotResourceName);
+                resource.setBytes(bpmnModelSnapshot);
+                resource.setDeploymentId(deploymentEntity.getId());
+                resource.setGenerated(true);
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource);
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
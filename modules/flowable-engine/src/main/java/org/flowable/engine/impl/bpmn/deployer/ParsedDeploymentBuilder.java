@@ -17,14 +17,21 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
+import org.flowable.common.engine.impl.util.FutureUtil;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.BpmnModelSnapshotUtil;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,15 +56,23 @@ public class ParsedDeploymentBuilder {
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
+        List<EngineResource> bpmnResources = new ArrayList<>();
         for (EngineResource resource : deploymentEntity.getResources().values()) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
-                }
+                bpmnResources.add(resource);
+            }
+        }
+
+        List<BpmnParse> parses = bpmnResources.size() > 1 && isParallelParsingEnabled()
+                ? createBpmnParsesInParallel(bpmnResources) : createBpmnParses(bpmnResources);
+
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            EngineResource resource = bpmnResources.get(i);
+            BpmnParse parse = parses.get(i);
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -65,7 +80,65 @@ public class ParsedDeploymentBuilder {
                 processDefinitionsToBpmnParseMap, processDefinitionsToResourceMap);
     }
 
+    protected List<BpmnParse> createBpmnParses(List<EngineResource> bpmnResources) {
+        List<BpmnParse> parses = new ArrayList<>(bpmnResources.size());
+        for (EngineResource resource : bpmnResources) {
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            parses.add(createBpmnParseFromResource(resource));
+        }
+        return parses;
+    }
+
+    /**
+     * Converts and validates the resources in parallel. The parse handlers are applied afterwards on the deploying thread,
+     * in the order of the resources, as they need the command context. A failure is reported for the first failing resource
+     * in that order, the same as when parsing sequentially.
+     */
+    protected List<BpmnParse> createBpmnParsesInParallel(List<EngineResource> bpmnResources) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        ForkJoinPool pool = processEngineConfiguration.getDeploymentParsingPool();
+
+        List<BpmnParse> parses = new ArrayList<>(bpmnResources.size());
+        List<Future<BpmnParse>> conversions = new ArrayList<>(bpmnResources.size());
+        for (EngineResource resource : bpmnResources) {
+            BpmnParse parse = createBpmnParse(resource);
+            parses.add(parse);
+            conversions.add(pool.submit(() -> parse.convert(processEngineConfiguration)));
+        }
+
+        for (int i = 0; i < bpmnResources.size(); i++) {
+            EngineResource resource = bpmnResources.get(i);
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            try {
+                FutureUtil.getResult(conversions.get(i)).execute();
+            } catch (RuntimeException e) {
+                for (int j = i + 1; j < conversions.size(); j++) {
+                    conversions.get(j).cancel(false);
+                }
+                LOGGER.error("Could not parse resource {}", resource.getName(), e);
+                throw e;
+            }
+        }
+        return parses;
+    }
+
+    protected boolean isParallelParsingEnabled() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        return processEngineConfiguration != null && processEngineConfiguration.isEnableParallelDeploymentParsing();
+    }
+
     protected BpmnParse createBpmnParseFromResource(EngineResource resource) {
+        BpmnParse bpmnParse = createBpmnParse(resource);
+        try {
+            bpmnParse.execute();
+        } catch (Exception e) {
+            LOGGER.error("Could not parse resource {}", resource.getName(), e);
+            throw e;
+        }
+        return bpmnParse;
+    }
+
+    protected BpmnParse createBpmnParse(EngineResource resource) {
         String resourceName = resource.getName();
         ByteArrayInputStream inputStream = new ByteArrayInputStream(resource.getBytes());
 
@@ -75,6 +148,23 @@ public class ParsedDeploymentBuilder {
                 .deployment(deployment)
                 .name(resourceName);
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processEngineConfiguration != null && processEngineConfiguration.isEnableBpmnModelSnapshots()) {
+            if (deployment.isNew()) {
+                bpmnParse.createBpmnModelSnapshot(true);
+
+            } else {
+                // Only snapshots generated by the engine are read, a resource added to the deployment with the same name is ignored
+                EngineResource snapshotResource = deployment.getResources().get(BpmnModelSnapshotUtil.getSnapshotResourceName(resourceName));
+                if (snapshotResource != null && snapshotResource.isGenerated()) {
+                    BpmnModel bpmnModel = BpmnModelSnapshotUtil.readSnapshot(snapshotResource.getBytes());
+                    if (bpmnModel != null) {
+                        bpmnParse.sourceBpmnModel(bpmnModel);
+                    }
+                }
+            }
+        }
+
         if (deploymentSettings != null) {
 
             // Schema validation if needed
@@ -93,12 +183,6 @@ public class ParsedDeploymentBuilder {
             bpmnParse.setValidateProcess(false);
         }
 
-        try {
-            bpmnParse.execute();
-        } catch (Exception e) {
-            LOGGER.error("Could not parse resource {}", resource.getName(), e);
-            throw e;
-        }
         return bpmnParse;
     }
 
@@ -16,6 +16,7 @@ package org.flowable.engine.impl.bpmn.helper;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.FlowElement;
@@ -34,12 +35,14 @@ import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.delegate.TransactionDependentExecutionListener;
 import org.flowable.engine.delegate.TransactionDependentTaskListener;
 import org.flowable.engine.impl.bpmn.behavior.AbstractBpmnActivityBehavior;
+import org.flowable.engine.impl.bpmn.behavior.MultiInstanceActivityBehavior;
 import org.flowable.engine.impl.bpmn.behavior.ServiceTaskFutureJavaDelegateActivityBehavior;
 import org.flowable.engine.impl.bpmn.behavior.ServiceTaskJavaDelegateActivityBehavior;
 import org.flowable.engine.impl.bpmn.listener.DelegateExecutionListener;
 import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
 import org.flowable.engine.impl.context.BpmnOverrideContext;
 import org.flowable.engine.impl.delegate.ActivityBehavior;
+import org.flowable.engine.impl.delegate.FutureJavaDelegateActivityBehavior;
 import org.flowable.engine.impl.delegate.SubProcessActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableActivityBehavior;
 import org.flowable.engine.impl.delegate.TriggerableJavaDelegate;
@@ -63,7 +66,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * @author Yvo Swillens
  * @author martin.grofcik
  */
-public class ClassDelegate extends AbstractClassDelegate implements TaskListener, ExecutionListener, TransactionDependentExecutionListener, TransactionDependentTaskListener, SubProcessActivityBehavior, CustomPropertiesResolver {
+public class ClassDelegate extends AbstractClassDelegate implements TaskListener, ExecutionListener, TransactionDependentExecutionListener, TransactionDependentTaskListener, SubProcessActivityBehavior, CustomPropertiesResolver,
+        FutureJavaDelegateActivityBehavior {
 
     private static final long serialVersionUID = 1L;
 
@@ -270,6 +274,26 @@ public class ClassDelegate extends AbstractClassDelegate implements TaskListener
         }
     }
 
+    // Future java delegate activity behavior
+
+    @Override
+    public BiConsumer<Object, Throwable> createFutureCompleteAction(DelegateExecution execution) {
+        if (activityBehaviorInstance == null) {
+            activityBehaviorInstance = getActivityBehaviorInstance();
+        }
+
+        ActivityBehavior behavior = activityBehaviorInstance;
+        if (behavior instanceof MultiInstanceActivityBehavior) {
+            behavior = ((MultiInstanceActivityBehavior) behavior).getInnerActivityBehavior();
+        }
+
+        if (behavior instanceof FutureJavaDelegateActivityBehavior) {
+            return ((FutureJavaDelegateActivityBehavior) behavior).createFutureCompleteAction(execution);
+        } else {
+            throw new FlowableException("createFutureCompleteAction() can only be called on a " + FutureJavaDelegateActivityBehavior.class.getName() + " instance for " + execution);
+        }
+    }
+
     protected ActivityBehavior getActivityBehaviorInstance() {
         Object delegateInstance = instantiateDelegate(className, fieldDeclarations);
 
@@ -0,0 +1,209 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.helper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.CompleteFutureJavaDelegateCmd;
+import org.flowable.engine.impl.jobexecutor.FutureJavaDelegateContinuationJobHandler;
+import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Continues a future java delegate in a new transaction once its future completes, instead of waiting for the future
+ * in the transaction that created it.
+ *
+ * The execution stays in the service task as a wait state and a {@link FutureJavaDelegateContinuationJobHandler} timer job is created
+ * in the same transaction, which is then committed, releasing its connection. When the future completes, the timer job is moved to the
+ * executable jobs, which apply the result with the usual retries and dead letter handling. The result is serialized into the job,
+ * so that the job can be executed by any engine. When the future is lost, e.g. because the engine was stopped, the timer job becomes due
+ * after the continuation timeout and invokes the delegate again.
+ */
+public class FutureJavaDelegateContinuation {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FutureJavaDelegateContinuation.class);
+
+    /**
+     * @return true when the future will be continued in a new transaction, false when the complete action
+     *         should be planned on the agenda as usual, e.g. because the future is already done
+     */
+    public static boolean continueAfterCommit(CompletableFuture<Object> future, DelegateExecution execution,
+            Function<ExecutionEntity, BiConsumer<Object, Throwable>> completeActionProvider) {
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.isEnableFutureJavaDelegateContinuation() || future.isDone()) {
+            return false;
+        }
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        FutureJavaDelegateContinuationJobHandler jobHandler = getJobHandler(processEngineConfiguration);
+        if (transactionContext == null || jobHandler == null) {
+            return false;
+        }
+
+        // The activity instance identifies this visit of the service task, the execution could enter the same activity again later on
+        ExecutionEntity executionEntity = (ExecutionEntity) execution;
+        ActivityInstanceEntity activityInstance = CommandContextUtil.getActivityInstanceEntityManager(commandContext).findUnfinishedActivityInstance(executionEntity);
+        if (activityInstance == null) {
+            return false;
+        }
+
+        String executionId = executionEntity.getId();
+        String activityInstanceId = activityInstance.getId();
+        TimerJobEntity timerJob = createContinuationJob(executionEntity, activityInstanceId, processEngineConfiguration);
+        jobHandler.removeExpiredPendingFutures(processEngineConfiguration.getClock().getCurrentTime());
+        FutureJavaDelegateContinuationJobHandler.PendingFuture pendingFuture = jobHandler.addPendingFuture(activityInstanceId, future,
+                completeActionProvider, timerJob.getDuedate());
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        AsyncTaskExecutor taskExecutor = processEngineConfiguration.getAsyncTaskExecutor();
+
+        // Only continue once the wait state is committed, otherwise the continuation could run before the execution is visible
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> future.whenCompleteAsync((value, throwable) -> {
+            // The future could have been forgotten in the meantime, e.g. because it expired or the delegate was invoked again
+            if (jobHandler.getPendingFuture(activityInstanceId) != pendingFuture) {
+                return;
+            }
+            pendingFuture.complete(value, unwrap(throwable));
+
+            try {
+                commandExecutor.execute(new CompleteFutureJavaDelegateCmd(executionId, activityInstanceId, pendingFuture));
+            } catch (RuntimeException e) {
+                // The continuation job still applies the result once it becomes due
+                LOGGER.warn("Could not schedule the continuation of execution {} after the completion of its future, it continues when the continuation job is due",
+                        executionId, e);
+            }
+        }, taskExecutor::execute));
+
+        transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> {
+            future.cancel(true);
+            jobHandler.removePendingFuture(activityInstanceId, pendingFuture);
+        });
+        return true;
+    }
+
+    public static boolean isWaitingInActivityInstance(ExecutionEntity execution, String activityInstanceId, CommandContext commandContext) {
+        if (execution == null || execution.isEnded() || execution.isDeleted()) {
+            return false;
+        }
+
+        ActivityInstanceEntity activityInstance = CommandContextUtil.getActivityInstanceEntityManager(commandContext).findUnfinishedActivityInstance(execution);
+        return activityInstance != null && activityInstance.getId().equals(activityInstanceId);
+    }
+
+    public static FutureJavaDelegateContinuationJobHandler getJobHandler(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (processEngineConfiguration.getJobHandlers() != null
+                && processEngineConfiguration.getJobHandlers().get(FutureJavaDelegateContinuationJobHandler.TYPE) instanceof FutureJavaDelegateContinuationJobHandler) {
+            return (FutureJavaDelegateContinuationJobHandler) processEngineConfiguration.getJobHandlers().get(FutureJavaDelegateContinuationJobHandler.TYPE);
+        }
+        return null;
+    }
+
+    /**
+     * @return the Base64 encoded serialized result, or null when the value or the exception of the future can't be serialized
+     */
+    public static String serializeResult(FutureJavaDelegateContinuationJobHandler.FutureResult result) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(result);
+        } catch (IOException e) {
+            LOGGER.debug("The result of the future can't be serialized, it can only be applied by this engine", e);
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+    }
+
+    public static FutureJavaDelegateContinuationJobHandler.FutureResult deserializeResult(String serializedResult) {
+        try (ObjectInputStream objectInputStream = createObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(serializedResult)))) {
+            return (FutureJavaDelegateContinuationJobHandler.FutureResult) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            throw new FlowableException("Couldn't deserialize the result of the future", e);
+        }
+    }
+
+    protected static ObjectInputStream createObjectInputStream(InputStream inputStream) throws IOException {
+        return new ObjectInputStream(inputStream) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                return ReflectUtil.loadClass(desc.getName());
+            }
+        };
+    }
+
+    protected static TimerJobEntity createContinuationJob(ExecutionEntity execution, String activityInstanceId,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+
+        TimerJobEntity timerJob = processEngineConfiguration.getJobServiceConfiguration().getTimerJobService().createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(FutureJavaDelegateContinuationJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(activityInstanceId);
+        timerJob.setExclusive(true);
+        timerJob.setRetries(processEngineConfiguration.getAsyncExecutorNumberOfRetries());
+        timerJob.setDuedate(new Date(now.getTime() + processEngineConfiguration.getFutureJavaDelegateContinuationTimeout().toMillis()));
+        timerJob.setExecutionId(execution.getId());
+        timerJob.setProcessInstanceId(execution.getProcessInstanceId());
+        timerJob.setProcessDefinitionId(execution.getProcessDefinitionId());
+        timerJob.setElementId(execution.getCurrentActivityId());
+        if (execution.getCurrentFlowElement() != null) {
+            timerJob.setElementName(execution.getCurrentFlowElement().getName());
+        }
+        if (execution.getTenantId() != null) {
+            timerJob.setTenantId(execution.getTenantId());
+        }
+
+        processEngineConfiguration.getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timerJob);
+        return timerJob;
+    }
+
+    protected static Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        } else if (throwable instanceof CancellationException) {
+            return new FlowableException("Future was canceled", throwable);
+        }
+        return throwable;
+    }
+
+}
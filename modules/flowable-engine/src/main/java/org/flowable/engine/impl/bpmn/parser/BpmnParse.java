@@ -46,6 +46,7 @@ import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.BpmnModelSnapshotUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.io.ResourceStreamSource;
 import org.flowable.validation.ProcessValidator;
@@ -113,6 +114,16 @@ public class BpmnParse implements BpmnXMLConstants {
      */
     protected Map<String, String> prefixs = new HashMap<>();
 
+    /** The already converted model to use instead of converting the source, e.g. read from a snapshot. */
+    protected BpmnModel sourceBpmnModel;
+
+    /** Whether a snapshot of the converted model is written, before any parse handler is applied to the model. */
+    protected boolean createBpmnModelSnapshot;
+    protected byte[] bpmnModelSnapshot;
+
+    /** Whether {@link #convert(ProcessEngineConfigurationImpl)} was already called, e.g. on another thread during a parallel deployment. */
+    protected boolean converted;
+
     // Factories
     protected ActivityBehaviorFactory activityBehaviorFactory;
     protected ListenerFactory listenerFactory;
@@ -132,9 +143,41 @@ public class BpmnParse implements BpmnXMLConstants {
     }
 
     public BpmnParse execute() {
+        if (!converted) {
+            convert(CommandContextUtil.getProcessEngineConfiguration());
+        }
+
         try {
+            bpmnModel.setSourceSystemId(sourceSystemId);
+            bpmnModel.setEventSupport(new FlowableEventSupport());
+
+            // Validation successful (or no validation)
+
+            // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
+            applyParseHandlers();
+
+            // Finally, process the diagram interchange info
+            processDI();
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        } catch (Exception e) {
+            if (e instanceof FlowableException) {
+                throw (FlowableException) e;
+            } else if (e instanceof XMLException) {
+                throw (XMLException) e;
+            } else {
+                throw new FlowableException("Error parsing XML", e);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Converts the source to the {@link BpmnModel} and validates it, without applying the parse handlers.
+     * This does not need a command context, so it can be done on another thread than the one executing the deployment.
+     */
+    public BpmnParse convert(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
             BpmnXMLConverter converter = new BpmnXMLConverter();
 
             boolean enableSafeBpmnXml = false;
@@ -144,12 +187,18 @@ public class BpmnParse implements BpmnXMLConstants {
                 encoding = processEngineConfiguration.getXmlEncoding();
             }
 
-            if (encoding != null) {
+            if (sourceBpmnModel != null) {
+                bpmnModel = sourceBpmnModel;
+            } else if (encoding != null) {
                 bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
             } else {
                 bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
             }
 
+            if (createBpmnModelSnapshot && sourceBpmnModel == null) {
+                bpmnModelSnapshot = BpmnModelSnapshotUtil.writeSnapshot(bpmnModel);
+            }
+
             // XSD validation goes first, then process/semantic validation
             if (validateProcess) {
                 ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
@@ -186,17 +235,6 @@ public class BpmnParse implements BpmnXMLConstants {
                 }
             }
 
-            bpmnModel.setSourceSystemId(sourceSystemId);
-            bpmnModel.setEventSupport(new FlowableEventSupport());
-
-            // Validation successful (or no validation)
-
-            // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
-            applyParseHandlers();
-
-            // Finally, process the diagram interchange info
-            processDI();
-
         } catch (Exception e) {
             if (e instanceof FlowableException) {
                 throw (FlowableException) e;
@@ -207,6 +245,7 @@ public class BpmnParse implements BpmnXMLConstants {
             }
         }
 
+        converted = true;
         return this;
     }
 
@@ -266,6 +305,16 @@ public class BpmnParse implements BpmnXMLConstants {
         this.streamSource = streamSource;
     }
 
+    public BpmnParse sourceBpmnModel(BpmnModel bpmnModel) {
+        this.sourceBpmnModel = bpmnModel;
+        return this;
+    }
+
+    public BpmnParse createBpmnModelSnapshot(boolean createBpmnModelSnapshot) {
+        this.createBpmnModelSnapshot = createBpmnModelSnapshot;
+        return this;
+    }
+
     public BpmnParse setSourceSystemId(String sourceSystemId) {
         this.sourceSystemId = sourceSystemId;
         return this;
@@ -466,6 +515,20 @@ public class BpmnParse implements BpmnXMLConstants {
         this.bpmnModel = bpmnModel;
     }
 
+    /**
+     * @return the snapshot of the converted model, or null when no snapshot was requested or the model could not be written
+     */
+    public byte[] getBpmnModelSnapshot() {
+        return bpmnModelSnapshot;
+    }
+
+    /**
+     * @return the model read from a snapshot that is used instead of converting the BPMN XML, or null when the XML is converted
+     */
+    public BpmnModel getSourceBpmnModel() {
+        return sourceBpmnModel;
+    }
+
     public ActivityBehaviorFactory getActivityBehaviorFactory() {
         return activityBehaviorFactory;
     }
@@ -32,6 +32,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 import javax.xml.namespace.QName;
 
@@ -98,7 +99,6 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
@@ -220,6 +220,7 @@ import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.JsonVariableAggregator;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
@@ -254,6 +255,8 @@ import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryConfigurationSettings;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.history.async.AsyncActivityHistoryJobHandler;
+import org.flowable.engine.impl.history.async.WriteBehindActivityHistoryManager;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DefaultIdentityLinkInterceptor;
@@ -267,6 +270,7 @@ import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ExternalWorkerTaskCompleteJobHandler;
+import org.flowable.engine.impl.jobexecutor.FutureJavaDelegateContinuationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceActivityCompletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
@@ -280,6 +284,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -500,6 +505,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected boolean isAsyncHistoryEnabled;
 
+    /**
+     * Whether the historic activity instances are written by the async history executor instead of in the transaction of the runtime changes.
+     * Only used when async history is enabled.
+     */
+    protected boolean asyncActivityHistoryEnabled;
+
     // Change Tenant ID Manager
 
     protected ChangeTenantIdManager changeTenantIdManager;
@@ -556,6 +567,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    /**
+     * When set to a positive value, the process definition cache is limited by the total weight of the cached process definitions
+     * (as calculated by the {@link #processDefinitionCacheWeigher}) instead of by the number of process definitions.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
+    protected ToLongFunction<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher = new ProcessDefinitionCacheEntryWeigher();
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
@@ -666,6 +683,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ProcessValidator processValidator;
     protected ServiceTaskValidator customServiceTaskValidator;
 
+    // ID GENERATOR /////////////////////////////////////////////////////////////
+
+    /**
+     * If set to true and no custom id generator is configured, a {@link PrefetchingDbIdGenerator} is used instead of the {@link DbIdGenerator}.
+     * It hands out ids without synchronization and fetches the next id block in the background before the current block runs out.
+     */
+    protected boolean enableIdBlockPrefetching;
+
+    /**
+     * The maximum id block size the {@link PrefetchingDbIdGenerator} grows to under high id consumption.
+     * When not set, the block size is not adapted and the {@link #idBlockSize} is always used.
+     */
+    protected int maxIdBlockSize = -1;
+
     // OTHER ////////////////////////////////////////////////////////////////////
 
     protected List<FormEngine> customFormEngines;
@@ -734,6 +765,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected List<ResolverFactory> resolverFactories;
     protected Collection<ResolverFactory> preDefaultResolverFactories;
     protected Collection<ResolverFactory> postDefaultResolverFactories;
+    /**
+     * If set to true, scripts of script engines that support compilation are compiled once and the compiled script is reused
+     * for subsequent evaluations of the same script. Only applies to script engines that are safe to be used by multiple threads.
+     */
+    protected boolean enableCompiledScriptCache;
+    protected int compiledScriptCacheLimit = 1024;
     // END SCRIPTING
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
@@ -784,6 +821,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected Duration eventRegistryUniqueProcessInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Whether a node-local index of the event subscriptions per event type and correlation key is kept, so that events received
+     * by the event registry that cannot match any event subscription don't need to query the database.
+     * Disabled by default. Only enable it for single node deployments: the index doesn't see event subscriptions created by other nodes
+     * until its next rebuild, and the events received in the meantime are not delivered to them.
+     */
+    protected boolean enableEventSubscriptionCorrelationIndex;
+
+    /**
+     * The interval in which the event subscription correlation index is rebuilt from the database.
+     */
+    protected Duration eventSubscriptionCorrelationIndexReconcileInterval = Duration.ofSeconds(60);
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -792,6 +842,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableSafeBpmnXml;
 
+    /**
+     * Set this to true to store a binary snapshot of the converted BPMN model of every newly deployed BPMN resource as a generated deployment resource.
+     * When a process definition needs to be deployed again, e.g. after it was removed from the process definition cache or after a restart,
+     * the model is then read from the snapshot instead of converting the BPMN XML again.
+     */
+    protected boolean enableBpmnModelSnapshots;
+
     /**
      * The following settings will determine the amount of entities loaded at once when the engine needs to load multiple entities (eg. when suspending a process definition with all its process
      * instances).
@@ -830,6 +887,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected FlowableEngineAgendaFactory agendaFactory;
     protected AgendaFutureMaxWaitTimeoutProvider agendaFutureMaxWaitTimeoutProvider;
 
+    /**
+     * Whether a future java delegate whose future is not done yet makes the service task a wait state, continuing in a new transaction
+     * once the future completes, instead of waiting for the future in the current transaction.
+     */
+    protected boolean enableFutureJavaDelegateContinuation;
+
+    /**
+     * The time after which the continuation job of a future java delegate becomes due, even when its future did not complete yet.
+     * The job then fails, so that an execution whose future was lost, e.g. because the engine was restarted, ends up as a dead letter job.
+     */
+    protected Duration futureJavaDelegateContinuationTimeout = Duration.ofHours(1);
+
     protected boolean handleProcessEngineExecutorsAfterEngineCreate = true;
 
     // Backwards compatibility //////////////////////////////////////////////////////////////
@@ -1203,7 +1272,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initHistoryManager() {
         if (historyManager == null) {
-            historyManager = new DefaultHistoryManager(this);
+            if (isAsyncHistoryEnabled && asyncActivityHistoryEnabled) {
+                historyManager = new WriteBehindActivityHistoryManager(this);
+            } else {
+                historyManager = new DefaultHistoryManager(this);
+            }
         }
     }
 
@@ -1386,6 +1459,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueProcessInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setEnableEventSubscriptionCorrelationIndex(this.enableEventSubscriptionCorrelationIndex);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndexReconcileInterval(this.eventSubscriptionCorrelationIndexReconcileInterval);
 
         this.eventSubscriptionServiceConfiguration.setConfigurators(this.eventSubscriptionServiceConfigurators);
         this.eventSubscriptionServiceConfiguration.init();
@@ -1615,10 +1690,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
+            if (processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = createDeploymentCache("processDefinitionCache", processDefinitionCacheMaxWeight, processDefinitionCacheWeigher);
+            } else if (processDefinitionCacheLimit <= 0) {
+                processDefinitionCache = createDeploymentCache("processDefinitionCache");
             } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
+                processDefinitionCache = createDeploymentCache("processDefinitionCache", processDefinitionCacheLimit);
             }
         }
     }
@@ -1636,9 +1713,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void initAppResourceCache() {
         if (appResourceCache == null) {
             if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
+                appResourceCache = createDeploymentCache("appResourceCache");
             } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
+                appResourceCache = createDeploymentCache("appResourceCache", appResourceCacheLimit);
             }
         }
     }
@@ -1646,9 +1723,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
             if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
+                knowledgeBaseCache = createDeploymentCache("knowledgeBaseCache");
             } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
+                knowledgeBaseCache = createDeploymentCache("knowledgeBaseCache", knowledgeBaseCacheLimit);
             }
         }
     }
@@ -1894,6 +1971,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         AsyncTriggerJobHandler asyncTriggerJobHandler = new AsyncTriggerJobHandler();
         jobHandlers.put(asyncTriggerJobHandler.getType(), asyncTriggerJobHandler);
 
+        FutureJavaDelegateContinuationJobHandler futureJavaDelegateContinuationJobHandler = new FutureJavaDelegateContinuationJobHandler();
+        jobHandlers.put(futureJavaDelegateContinuationJobHandler.getType(), futureJavaDelegateContinuationJobHandler);
+
         TriggerTimerEventJobHandler triggerTimerEventJobHandler = new TriggerTimerEventJobHandler();
         jobHandlers.put(triggerTimerEventJobHandler.getType(), triggerTimerEventJobHandler);
 
@@ -1963,6 +2043,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (isAsyncHistoryEnabled) {
             historyJobHandlers = new HashMap<>();
 
+            AsyncActivityHistoryJobHandler asyncActivityHistoryJobHandler = new AsyncActivityHistoryJobHandler(this);
+            historyJobHandlers.put(asyncActivityHistoryJobHandler.getType(), asyncActivityHistoryJobHandler);
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -2109,7 +2192,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initIdGenerator() {
         if (idGenerator == null) {
-            DbIdGenerator dbIdGenerator = new DbIdGenerator();
+            DbIdGenerator dbIdGenerator;
+            if (enableIdBlockPrefetching) {
+                PrefetchingDbIdGenerator prefetchingDbIdGenerator = new PrefetchingDbIdGenerator();
+                prefetchingDbIdGenerator.setMaxIdBlockSize(maxIdBlockSize);
+                dbIdGenerator = prefetchingDbIdGenerator;
+            } else {
+                dbIdGenerator = new DbIdGenerator();
+            }
             dbIdGenerator.setIdBlockSize(idBlockSize);
             idGenerator = dbIdGenerator;
         }
@@ -2270,6 +2360,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(scriptBindingsFactory);
             scriptingEngines.setDefaultTraceEnhancer(new ProcessEngineScriptTraceEnhancer());
+            scriptingEngines.setCompiledScriptCacheLimit(compiledScriptCacheLimit);
+            scriptingEngines.setCacheCompiledScripts(enableCompiledScriptCache);
         }
     }
 
@@ -2278,7 +2370,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(createDeploymentCache("expressionCache", expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -2551,6 +2643,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     @Override
     public void close() {
+        if (idGenerator instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) idGenerator).shutdown();
+        }
+
         super.close();
 
         if (asyncTaskExecutor != null && shutdownAsyncTaskExecutor) {
@@ -2888,6 +2984,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableIdBlockPrefetching() {
+        return enableIdBlockPrefetching;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableIdBlockPrefetching(boolean enableIdBlockPrefetching) {
+        this.enableIdBlockPrefetching = enableIdBlockPrefetching;
+        return this;
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    public ProcessEngineConfigurationImpl setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+        return this;
+    }
+
     public String getWsSyncFactoryClassName() {
         return wsSyncFactoryClassName;
     }
@@ -2968,6 +3082,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableCompiledScriptCache() {
+        return enableCompiledScriptCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCompiledScriptCache(boolean enableCompiledScriptCache) {
+        this.enableCompiledScriptCache = enableCompiledScriptCache;
+        return this;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
     @Override
     public VariableTypes getVariableTypes() {
         return variableTypes;
@@ -3412,6 +3544,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableFutureJavaDelegateContinuation() {
+        return enableFutureJavaDelegateContinuation;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableFutureJavaDelegateContinuation(boolean enableFutureJavaDelegateContinuation) {
+        this.enableFutureJavaDelegateContinuation = enableFutureJavaDelegateContinuation;
+        return this;
+    }
+
+    public Duration getFutureJavaDelegateContinuationTimeout() {
+        return futureJavaDelegateContinuationTimeout;
+    }
+
+    public ProcessEngineConfigurationImpl setFutureJavaDelegateContinuationTimeout(Duration futureJavaDelegateContinuationTimeout) {
+        this.futureJavaDelegateContinuationTimeout = futureJavaDelegateContinuationTimeout;
+        return this;
+    }
+
     public Map<String, JobHandler> getJobHandlers() {
         return jobHandlers;
     }
@@ -3737,6 +3887,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public ToLongFunction<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(ToLongFunction<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3809,6 +3977,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableBpmnModelSnapshots() {
+        return enableBpmnModelSnapshots;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableBpmnModelSnapshots(boolean enableBpmnModelSnapshots) {
+        this.enableBpmnModelSnapshots = enableBpmnModelSnapshots;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setEventDispatcher(FlowableEventDispatcher eventDispatcher) {
         this.eventDispatcher = eventDispatcher;
@@ -3905,6 +4082,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableEventSubscriptionCorrelationIndex() {
+        return enableEventSubscriptionCorrelationIndex;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableEventSubscriptionCorrelationIndex(boolean enableEventSubscriptionCorrelationIndex) {
+        this.enableEventSubscriptionCorrelationIndex = enableEventSubscriptionCorrelationIndex;
+        return this;
+    }
+
+    public Duration getEventSubscriptionCorrelationIndexReconcileInterval() {
+        return eventSubscriptionCorrelationIndexReconcileInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setEventSubscriptionCorrelationIndexReconcileInterval(Duration eventSubscriptionCorrelationIndexReconcileInterval) {
+        this.eventSubscriptionCorrelationIndexReconcileInterval = eventSubscriptionCorrelationIndexReconcileInterval;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -4321,6 +4516,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncActivityHistoryEnabled() {
+        return asyncActivityHistoryEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncActivityHistoryEnabled(boolean asyncActivityHistoryEnabled) {
+        this.asyncActivityHistoryEnabled = asyncActivityHistoryEnabled;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -4742,6 +4946,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorUseVirtualThreads() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().isUseVirtualThreads();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorUseVirtualThreads(boolean useVirtualThreads) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setUseVirtualThreads(useVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentTasks() {
+        return getOrCreateAsyncExecutorTaskExecutorConfiguration().getMaxConcurrentTasks();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentTasks(int maxConcurrentTasks) {
+        getOrCreateAsyncExecutorTaskExecutorConfiguration().setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     public ThreadFactory getAsyncExecutorThreadFactory() {
         return asyncExecutorThreadFactory;
     }
@@ -5063,6 +5285,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncHistoryExecutorUseVirtualThreads() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().isUseVirtualThreads();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorUseVirtualThreads(boolean useVirtualThreads) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setUseVirtualThreads(useVirtualThreads);
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorMaxConcurrentTasks() {
+        return getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().getMaxConcurrentTasks();
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorMaxConcurrentTasks(int maxConcurrentTasks) {
+        getOrCreateAsyncHistoryExecutorTaskExecutorConfiguration().setMaxConcurrentTasks(maxConcurrentTasks);
+        return this;
+    }
+
     public BlockingQueue<Runnable> getAsyncHistoryExecutorThreadPoolQueue() {
         return asyncHistoryExecutorThreadPoolQueue;
     }
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.helper.FutureJavaDelegateContinuation;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.FutureJavaDelegateContinuationJobHandler;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Moves the continuation job of a future java delegate to the executable jobs once its future completed,
+ * so that the result is applied to the execution that is waiting in the service task.
+ * The result is serialized into the custom values of the job, so that it can be applied by any engine.
+ */
+public class CompleteFutureJavaDelegateCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompleteFutureJavaDelegateCmd.class);
+
+    protected String executionId;
+    protected String activityInstanceId;
+    protected FutureJavaDelegateContinuationJobHandler.PendingFuture pendingFuture;
+
+    public CompleteFutureJavaDelegateCmd(String executionId, String activityInstanceId, FutureJavaDelegateContinuationJobHandler.PendingFuture pendingFuture) {
+        this.executionId = executionId;
+        this.activityInstanceId = activityInstanceId;
+        this.pendingFuture = pendingFuture;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ExecutionEntity execution = processEngineConfiguration.getExecutionEntityManager().findById(executionId);
+        FutureJavaDelegateContinuationJobHandler jobHandler = FutureJavaDelegateContinuation.getJobHandler(processEngineConfiguration);
+
+        // The process instance could have been deleted or moved while the future was running
+        if (!FutureJavaDelegateContinuation.isWaitingInActivityInstance(execution, activityInstanceId, commandContext)) {
+            LOGGER.debug("Execution {} is no longer waiting in activity instance {}, the result of the future is ignored", executionId, activityInstanceId);
+            if (jobHandler != null) {
+                jobHandler.removePendingFuture(activityInstanceId, pendingFuture);
+            }
+            return null;
+        }
+
+        String serializedResult = FutureJavaDelegateContinuation.serializeResult(pendingFuture.getResult());
+
+        // A continuation job that already failed is retried, or was moved to the dead letter jobs, with the result being available now
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        for (TimerJobEntity timerJob : jobServiceConfiguration.getTimerJobService().findTimerJobsByExecutionId(executionId)) {
+            if (FutureJavaDelegateContinuationJobHandler.TYPE.equals(timerJob.getJobHandlerType())
+                    && activityInstanceId.equals(timerJob.getJobHandlerConfiguration())) {
+                JobEntity job = jobServiceConfiguration.getJobManager().moveTimerJobToExecutableJob(timerJob);
+                if (job != null && serializedResult != null) {
+                    job.setCustomValues(serializedResult);
+                }
+            }
+        }
+        return null;
+    }
+
+}
@@ -26,6 +26,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
@@ -33,6 +34,8 @@ import org.flowable.engine.impl.DeploymentQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.repository.DeploymentBuilderImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
@@ -110,6 +113,10 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
 
         deployment.setNew(true);
 
+        if (deploymentBuilder.isDuplicateFilterEnabled() && processEngineConfiguration.isEnableDeploymentManifest()) {
+            addDeploymentManifest(deployment, processEngineConfiguration.getResourceEntityManager());
+        }
+
         // Save the data
         processEngineConfiguration.getDeploymentEntityManager().insert(deployment);
 
@@ -157,7 +164,21 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
 
     protected boolean deploymentsDiffer(DeploymentEntity deployment, DeploymentEntity saved) {
 
-        if (deployment.getResources() == null || saved.getResources() == null) {
+        if (deployment.getResources() == null) {
+            return true;
+        }
+
+        // Only the manifest of the saved deployment is read when it has one, instead of all of its resources
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processEngineConfiguration.isEnableDeploymentManifest()) {
+            ResourceEntity savedManifest = processEngineConfiguration.getResourceEntityManager()
+                    .findResourceByDeploymentIdAndResourceName(saved.getId(), DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+            if (savedManifest != null && savedManifest.isGenerated()) {
+                return DeploymentManifestUtil.resourcesDiffer(deployment.getResources(), savedManifest.getBytes());
+            }
+        }
+
+        if (saved.getResources() == null) {
             return true;
         }
 
@@ -184,6 +205,18 @@ public class DeployCmd<T> implements Command<Deployment>, Serializable {
         return false;
     }
 
+    protected void addDeploymentManifest(DeploymentEntity deployment, ResourceEntityManager resourceEntityManager) {
+        if (deployment.getResources() == null || deployment.getResources().containsKey(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME)) {
+            return;
+        }
+
+        ResourceEntity manifest = resourceEntityManager.create();
+        manifest.setName(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+        manifest.setBytes(DeploymentManifestUtil.createManifest(deployment.getResources()));
+        manifest.setGenerated(true);
+        deployment.addResource(manifest);
+    }
+
     protected void scheduleProcessDefinitionActivation(CommandContext commandContext, DeploymentEntity deployment) {
         for (ProcessDefinitionEntity processDefinitionEntity : deployment.getDeployedArtifacts(ProcessDefinitionEntity.class)) {
 
@@ -0,0 +1,230 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DbIdGenerator} that hands out ids from an atomic counter instead of a synchronized method
+ * and that fetches the next id block in the background before the current block runs out.
+ *
+ * <p>
+ * The next block is requested as soon as the remaining ids in the current block drop below {@link #getPrefetchThreshold()}
+ * (a fraction of the block). The size of the requested block is adapted to the observed consumption rate so that one block
+ * lasts about {@link #getTargetBlockDurationMillis()}, bounded by {@link #getIdBlockSize()} and {@link #getMaxIdBlockSize()}.
+ * This reduces the number of updates of the id property row under high throughput.
+ * </p>
+ *
+ * <p>
+ * Only when the current block is exhausted before the prefetched block is available, threads wait for the block to be fetched.
+ * If prefetching fails, the next block is fetched synchronously like the {@link DbIdGenerator} does.
+ * </p>
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    protected int maxIdBlockSize = -1;
+    protected double prefetchThreshold = 0.25;
+    protected long targetBlockDurationMillis = 5000;
+
+    protected volatile ExecutorService prefetchExecutorService;
+    protected boolean shutdownPrefetchExecutorService;
+
+    protected final AtomicReference<ActiveIdBlock> activeBlock = new AtomicReference<>();
+    protected final AtomicReference<CompletableFuture<IdBlock>> prefetchedBlock = new AtomicReference<>();
+    protected final Object blockSwitchLock = new Object();
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            ActiveIdBlock block = activeBlock.get();
+            if (block != null) {
+                long id = block.nextId.getAndIncrement();
+                if (id <= block.lastId) {
+                    if (id == block.prefetchId) {
+                        // Exactly one thread gets the prefetch id of a block, so only one prefetch is triggered per block
+                        prefetchNewBlock(block, id);
+                    }
+                    return Long.toString(id);
+                }
+            }
+
+            switchToNewBlock(block);
+        }
+    }
+
+    @Override
+    protected void getNewBlock() {
+        switchToNewBlock(activeBlock.get());
+    }
+
+    protected void switchToNewBlock(ActiveIdBlock exhaustedBlock) {
+        synchronized (blockSwitchLock) {
+            if (activeBlock.get() != exhaustedBlock) {
+                // Another thread already switched to a new block
+                return;
+            }
+
+            IdBlock idBlock = null;
+            CompletableFuture<IdBlock> prefetch = prefetchedBlock.getAndSet(null);
+            if (prefetch != null) {
+                try {
+                    idBlock = prefetch.join();
+                } catch (CompletionException e) {
+                    LOGGER.warn("Prefetching of id block failed, fetching id block synchronously", e.getCause());
+                }
+            }
+
+            if (idBlock == null) {
+                idBlock = fetchBlock(idBlockSize);
+            }
+
+            activeBlock.set(new ActiveIdBlock(idBlock, prefetchThreshold));
+        }
+    }
+
+    protected void prefetchNewBlock(ActiveIdBlock block, long prefetchId) {
+        int blockSize = determineNextBlockSize(block, prefetchId);
+        CompletableFuture<IdBlock> prefetch = new CompletableFuture<>();
+        if (!prefetchedBlock.compareAndSet(null, prefetch)) {
+            // A prefetched block is still waiting to be used
+            return;
+        }
+
+        try {
+            obtainPrefetchExecutorService().execute(() -> {
+                try {
+                    prefetch.complete(fetchBlock(blockSize));
+                } catch (Throwable t) {
+                    prefetch.completeExceptionally(t);
+                }
+            });
+        } catch (RuntimeException e) {
+            // e.g. rejected because the executor is shut down. The block will be fetched synchronously when needed.
+            prefetchedBlock.compareAndSet(prefetch, null);
+            LOGGER.debug("Could not prefetch id block", e);
+        }
+    }
+
+    protected int determineNextBlockSize(ActiveIdBlock block, long prefetchId) {
+        int maxBlockSize = Math.max(idBlockSize, maxIdBlockSize);
+        long consumedIds = prefetchId - block.firstId + 1;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - block.activationNanos);
+        if (elapsedMillis <= 0) {
+            return maxBlockSize;
+        }
+
+        long blockSize = consumedIds * targetBlockDurationMillis / elapsedMillis;
+        return (int) Math.max(idBlockSize, Math.min(maxBlockSize, blockSize));
+    }
+
+    protected IdBlock fetchBlock(int blockSize) {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(blockSize));
+    }
+
+    protected ExecutorService obtainPrefetchExecutorService() {
+        if (prefetchExecutorService == null) {
+            synchronized (this) {
+                if (prefetchExecutorService == null) {
+                    prefetchExecutorService = Executors.newSingleThreadExecutor(new BasicThreadFactory.Builder()
+                            .namingPattern("flowable-id-block-prefetch-%d")
+                            .daemon(true)
+                            .build());
+                    shutdownPrefetchExecutorService = true;
+                }
+            }
+        }
+        return prefetchExecutorService;
+    }
+
+    /**
+     * Shuts down the prefetch executor service if it was created by this id generator.
+     */
+    public void shutdown() {
+        if (prefetchExecutorService != null && shutdownPrefetchExecutorService) {
+            prefetchExecutorService.shutdown();
+        }
+    }
+
+    public int getMaxIdBlockSize() {
+        return maxIdBlockSize;
+    }
+
+    /**
+     * Sets the maximum size of an id block when adapting the block size to the consumption rate.
+     * When it is smaller than the {@link #getIdBlockSize() id block size}, the block size is not adapted.
+     */
+    public void setMaxIdBlockSize(int maxIdBlockSize) {
+        this.maxIdBlockSize = maxIdBlockSize;
+    }
+
+    public double getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    /**
+     * Sets the fraction of the current block that should remain when the next block is prefetched.
+     */
+    public void setPrefetchThreshold(double prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    public long getTargetBlockDurationMillis() {
+        return targetBlockDurationMillis;
+    }
+
+    public void setTargetBlockDurationMillis(long targetBlockDurationMillis) {
+        this.targetBlockDurationMillis = targetBlockDurationMillis;
+    }
+
+    public ExecutorService getPrefetchExecutorService() {
+        return prefetchExecutorService;
+    }
+
+    public void setPrefetchExecutorService(ExecutorService prefetchExecutorService) {
+        this.prefetchExecutorService = prefetchExecutorService;
+        this.shutdownPrefetchExecutorService = false;
+    }
+
+    protected static class ActiveIdBlock {
+
+        protected final long firstId;
+        protected final long lastId;
+        protected final long prefetchId;
+        protected final long activationNanos;
+        protected final AtomicLong nextId;
+
+        protected ActiveIdBlock(IdBlock idBlock, double prefetchThreshold) {
+            this.firstId = idBlock.getNextId();
+            this.lastId = idBlock.getLastId();
+            long remainingIdsOnPrefetch = (long) ((lastId - firstId + 1) * prefetchThreshold);
+            this.prefetchId = Math.max(firstId, lastId - remainingIdsOnPrefetch);
+            this.activationNanos = System.nanoTime();
+            this.nextId = new AtomicLong(firstId);
+        }
+    }
+}
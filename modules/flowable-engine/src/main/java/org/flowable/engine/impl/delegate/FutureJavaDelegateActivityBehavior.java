@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.delegate;
+
+import java.util.function.BiConsumer;
+
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.FutureJavaDelegate;
+
+/**
+ * An {@link ActivityBehavior} that invokes a {@link FutureJavaDelegate} and can apply the result of its future in a later transaction,
+ * which isn't necessarily executed by the engine that invoked the delegate.
+ */
+public interface FutureJavaDelegateActivityBehavior extends ActivityBehavior {
+
+    /**
+     * @return the action that applies the result of the future to the given execution, which is waiting in the activity of this behavior
+     */
+    BiConsumer<Object, Throwable> createFutureCompleteAction(DelegateExecution execution);
+
+}
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -42,6 +43,7 @@ import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventregistry.impl.consumer.CorrelationKey;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +65,11 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return "bpmnEventConsumer";
     }
 
+    @Override
+    protected String getEventSubscriptionScopeType() {
+        return ScopeTypes.BPMN;
+    }
+
     @Override
     protected EventRegistryProcessingInfo eventReceived(EventInstance eventInstance) {
 
@@ -71,10 +78,17 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
 
-        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
-
         Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
+        return eventReceived(eventInstance, correlationKeys, eventSubscriptions);
+    }
+
+    @Override
+    protected EventRegistryProcessingInfo eventReceived(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+            List<EventSubscription> eventSubscriptions) {
+
+        EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Found {} for {}", eventSubscriptions, eventInstance);
         }
@@ -284,6 +298,17 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         return null;
     }
 
+    @Override
+    protected boolean hasPossibleEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        EventSubscriptionCorrelationIndex correlationIndex = processEngineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionCorrelationIndex();
+        if (correlationIndex == null) {
+            return true;
+        }
+
+        List<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toList());
+        return correlationIndex.hasPossibleEventSubscriptions(scopeType, eventInstance.getEventKey(), correlationKeyValues, commandExecutor);
+    }
+
     @Override
     protected EventSubscriptionQuery createEventSubscriptionQuery() {
         return new EventSubscriptionQueryImpl(commandExecutor, processEngineConfiguration.getEventSubscriptionServiceConfiguration());
@@ -284,6 +284,16 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
 
     @Override
     public void recordTaskInfoChange(TaskEntity taskEntity, String activityInstanceId, Date changeTime) {
+        boolean assigneeChanged = recordHistoricTaskInfoChange(taskEntity, changeTime);
+        if (assigneeChanged) {
+            updateHistoricActivityInstanceAssignee(taskEntity, activityInstanceId);
+        }
+    }
+
+    /**
+     * @return whether the assignee of the historic task instance changed
+     */
+    protected boolean recordHistoricTaskInfoChange(TaskEntity taskEntity, Date changeTime) {
         boolean assigneeChanged = false;
         if (getHistoryConfigurationSettings().isHistoryEnabledForUserTask(taskEntity)) {
             HistoricTaskService historicTaskService = processEngineConfiguration.getTaskServiceConfiguration().getHistoricTaskService();
@@ -300,8 +310,11 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 }
             }
         }
+        return assigneeChanged;
+    }
 
-        if (assigneeChanged && getHistoryConfigurationSettings().isHistoryEnabledForActivity(taskEntity.getProcessDefinitionId(), taskEntity.getTaskDefinitionKey())) {
+    protected void updateHistoricActivityInstanceAssignee(TaskEntity taskEntity, String activityInstanceId) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForActivity(taskEntity.getProcessDefinitionId(), taskEntity.getTaskDefinitionKey())) {
             if (taskEntity.getExecutionId() != null) {
                 HistoricActivityInstanceEntity historicActivityInstance;
                 if (activityInstanceId != null) {
@@ -483,20 +496,27 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
                 }
             }
 
-            // because of upgrade runtimeActivity instances can be only subset of historicActivity instances
-            HistoricActivityInstanceQueryImpl historicActivityQuery = new HistoricActivityInstanceQueryImpl();
-            historicActivityQuery.processInstanceId(processInstance.getId());
-            List<HistoricActivityInstance> historicActivities = getHistoricActivityInstanceEntityManager().findHistoricActivityInstancesByQueryCriteria(historicActivityQuery);
-            if (historicActivities != null) {
-                for (HistoricActivityInstance historicActivityInstance : historicActivities) {
-                    HistoricActivityInstanceEntity activityEntity = (HistoricActivityInstanceEntity) historicActivityInstance;
-                    activityEntity.setProcessDefinitionId(processDefinitionEntity.getId());
-                    getHistoricActivityInstanceEntityManager().update(activityEntity);
-                }
+            updateProcessDefinitionIdInHistoricActivityInstances(processDefinitionEntity, processInstance);
+        }
+    }
+
+    protected void updateProcessDefinitionIdInHistoricActivityInstances(ProcessDefinitionEntity processDefinitionEntity, ExecutionEntity processInstance) {
+        // because of upgrade runtimeActivity instances can be only subset of historicActivity instances
+        HistoricActivityInstanceQueryImpl historicActivityQuery = new HistoricActivityInstanceQueryImpl();
+        historicActivityQuery.processInstanceId(processInstance.getId());
+        List<HistoricActivityInstance> historicActivities = getHistoricActivityInstanceEntityManager().findHistoricActivityInstancesByQueryCriteria(historicActivityQuery);
+        if (historicActivities != null) {
+            for (HistoricActivityInstance historicActivityInstance : historicActivities) {
+                updateProcessDefinitionIdInHistoricActivityInstance(processDefinitionEntity, (HistoricActivityInstanceEntity) historicActivityInstance);
             }
         }
     }
 
+    protected void updateProcessDefinitionIdInHistoricActivityInstance(ProcessDefinitionEntity processDefinitionEntity, HistoricActivityInstanceEntity historicActivityInstance) {
+        historicActivityInstance.setProcessDefinitionId(processDefinitionEntity.getId());
+        getHistoricActivityInstanceEntityManager().update(historicActivityInstance);
+    }
+
     @Override
     public void updateHistoricActivityInstance(ActivityInstance activityInstance) {
         if (getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
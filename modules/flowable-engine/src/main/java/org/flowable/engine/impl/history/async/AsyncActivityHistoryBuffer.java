@@ -0,0 +1,198 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.runtime.ActivityInstance;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Collects the historic activity instances recorded in one command context and, when the command context closes,
+ * schedules them as one history job.
+ *
+ * Every activity instance is kept once, with the latest state of the activity instance. An activity instance that is started and ended
+ * in the same command context is therefore written as one insert with the end time.
+ *
+ * Every activity instance is written with the state and the revision that its runtime activity instance has once this command context
+ * is flushed, both are determined when the command context closes. History jobs can be executed in another order than they were created in,
+ * so the job handler stores this revision on the historic activity instance and uses it to skip updates that are older.
+ */
+public class AsyncActivityHistoryBuffer implements CommandContextCloseListener {
+
+    public static final String ATTRIBUTE_KEY = "asyncActivityHistoryBuffer";
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected Map<String, BufferedActivityInstance> activityInstances = new LinkedHashMap<>();
+
+    public AsyncActivityHistoryBuffer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    /**
+     * Adds the current state of the activity instance to the buffer.
+     *
+     * @param created whether the activity instance is created in this command context, so that the history job can insert it without looking it up
+     * @return the buffered historic activity instance
+     */
+    public HistoricActivityInstanceEntity addActivityInstance(ActivityInstance activityInstance, boolean created) {
+        BufferedActivityInstance bufferedActivityInstance = activityInstances.get(activityInstance.getId());
+        HistoricActivityInstanceEntity historicActivityInstance = processEngineConfiguration.getHistoricActivityInstanceEntityManager().create(activityInstance);
+        if (bufferedActivityInstance == null) {
+            bufferedActivityInstance = new BufferedActivityInstance(activityInstance, historicActivityInstance, created);
+            activityInstances.put(activityInstance.getId(), bufferedActivityInstance);
+        } else {
+            bufferedActivityInstance.activityInstance = activityInstance;
+            bufferedActivityInstance.historicActivityInstance = historicActivityInstance;
+        }
+        return historicActivityInstance;
+    }
+
+    /**
+     * Returns the revision the runtime activity instance has after the flush of the command context, or 0 when the activity instance has no revision.
+     * The revision is only incremented when the runtime activity instance is actually updated in this command context.
+     */
+    protected int getRevisionAfterFlush(ActivityInstance activityInstance, boolean created, EntityCache entityCache) {
+        if (!(activityInstance instanceof HasRevision)) {
+            return 0;
+        }
+
+        HasRevision revisionedActivityInstance = (HasRevision) activityInstance;
+        if (created) {
+            return revisionedActivityInstance.getRevision();
+        }
+
+        Map<String, CachedEntity> cachedActivityInstances = entityCache.getAllCachedEntities().get(activityInstance.getClass());
+        CachedEntity cachedActivityInstance = cachedActivityInstances != null ? cachedActivityInstances.get(activityInstance.getId()) : null;
+        if (cachedActivityInstance != null && cachedActivityInstance.hasChanged()) {
+            return revisionedActivityInstance.getRevisionNext();
+        }
+        return revisionedActivityInstance.getRevision();
+    }
+
+    public HistoricActivityInstanceEntity findHistoricActivityInstance(String executionId, String activityId, boolean endTimeMustBeNull) {
+        for (BufferedActivityInstance bufferedActivityInstance : activityInstances.values()) {
+            HistoricActivityInstanceEntity historicActivityInstance = bufferedActivityInstance.historicActivityInstance;
+            if (activityId.equals(historicActivityInstance.getActivityId()) && executionId.equals(historicActivityInstance.getExecutionId())
+                    && (!endTimeMustBeNull || historicActivityInstance.getEndTime() == null)) {
+                return historicActivityInstance;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        if (activityInstances.isEmpty()) {
+            return;
+        }
+
+        EntityCache entityCache = commandContext.getSession(EntityCache.class);
+        ObjectNode configurationNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        ArrayNode activityInstancesNode = configurationNode.putArray(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_INSTANCES);
+        for (BufferedActivityInstance bufferedActivityInstance : activityInstances.values()) {
+            // The runtime activity instance can have been changed after it was added, so its latest state is written
+            ActivityInstance activityInstance = bufferedActivityInstance.activityInstance;
+            bufferedActivityInstance.historicActivityInstance = processEngineConfiguration.getHistoricActivityInstanceEntityManager().create(activityInstance);
+            bufferedActivityInstance.revision = getRevisionAfterFlush(activityInstance, bufferedActivityInstance.created, entityCache);
+            activityInstancesNode.add(toJson(bufferedActivityInstance));
+        }
+        activityInstances.clear();
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobService().createHistoryJob();
+        historyJob.setJobHandlerType(AsyncActivityHistoryJobHandler.TYPE);
+        historyJob.setRetries(jobServiceConfiguration.getAsyncHistoryExecutorNumberOfRetries());
+        historyJob.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
+        historyJob.setAdvancedJobHandlerConfiguration(configurationNode.toString());
+        jobServiceConfiguration.getHistoryJobService().scheduleHistoryJob(historyJob);
+    }
+
+    protected ObjectNode toJson(BufferedActivityInstance bufferedActivityInstance) {
+        HistoricActivityInstanceEntity historicActivityInstance = bufferedActivityInstance.historicActivityInstance;
+        ObjectNode node = processEngineConfiguration.getObjectMapper().createObjectNode();
+        AsyncHistoryJsonUtil.putIfTrue(node, AsyncActivityHistoryJobHandler.FIELD_CREATED, bufferedActivityInstance.created);
+        node.put(AsyncActivityHistoryJobHandler.FIELD_REVISION, bufferedActivityInstance.revision);
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_ID, historicActivityInstance.getId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_PROCESS_DEFINITION_ID, historicActivityInstance.getProcessDefinitionId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_PROCESS_INSTANCE_ID, historicActivityInstance.getProcessInstanceId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_EXECUTION_ID, historicActivityInstance.getExecutionId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_ID, historicActivityInstance.getActivityId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_NAME, historicActivityInstance.getActivityName());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_TYPE, historicActivityInstance.getActivityType());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_TASK_ID, historicActivityInstance.getTaskId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_CALLED_PROCESS_INSTANCE_ID, historicActivityInstance.getCalledProcessInstanceId());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_ASSIGNEE, historicActivityInstance.getAssignee());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_COMPLETED_BY, historicActivityInstance.getCompletedBy());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_START_TIME, historicActivityInstance.getStartTime());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_END_TIME, historicActivityInstance.getEndTime());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_DURATION, historicActivityInstance.getDurationInMillis());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_TRANSACTION_ORDER, historicActivityInstance.getTransactionOrder());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_DELETE_REASON, historicActivityInstance.getDeleteReason());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_TENANT_ID, historicActivityInstance.getTenantId());
+        return node;
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public Integer order() {
+        // After the listeners that might still change runtime data, but before the sessions are flushed
+        return 200;
+    }
+
+    @Override
+    public boolean multipleAllowed() {
+        return false;
+    }
+
+    protected static class BufferedActivityInstance {
+
+        protected ActivityInstance activityInstance;
+        protected HistoricActivityInstanceEntity historicActivityInstance;
+        protected final boolean created;
+        protected int revision;
+
+        protected BufferedActivityInstance(ActivityInstance activityInstance, HistoricActivityInstanceEntity historicActivityInstance, boolean created) {
+            this.activityInstance = activityInstance;
+            this.historicActivityInstance = historicActivityInstance;
+            this.created = created;
+        }
+    }
+}
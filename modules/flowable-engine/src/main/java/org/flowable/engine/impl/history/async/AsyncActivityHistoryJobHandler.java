@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityManager;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies the historic activity instances collected by an {@link AsyncActivityHistoryBuffer}.
+ *
+ * Activity instances that were created in the buffered transaction are inserted, which allows the inserts of one job to be
+ * flushed as one bulk insert. Other activity instances are updated. When such an activity instance is not found, because the job
+ * that inserts it has not been executed yet, the update is rescheduled in a new history job, without using the retries of this job.
+ *
+ * History jobs are not necessarily executed in the order they were created in. Every activity instance therefore carries the revision
+ * of its runtime activity instance. An update writes this revision as the revision of the historic activity instance, and is skipped
+ * when the historic activity instance already has the same or a higher revision, so the newest runtime state always wins.
+ */
+public class AsyncActivityHistoryJobHandler implements HistoryJobHandler {
+
+    public static final String TYPE = "async-activity-history";
+
+    public static final String FIELD_ACTIVITY_INSTANCES = "activityInstances";
+    public static final String FIELD_CREATED = "created";
+    public static final String FIELD_REVISION = "revision";
+    public static final String FIELD_RESCHEDULE_COUNT = "rescheduleCount";
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_PROCESS_DEFINITION_ID = "processDefinitionId";
+    public static final String FIELD_PROCESS_INSTANCE_ID = "processInstanceId";
+    public static final String FIELD_EXECUTION_ID = "executionId";
+    public static final String FIELD_ACTIVITY_ID = "activityId";
+    public static final String FIELD_ACTIVITY_NAME = "activityName";
+    public static final String FIELD_ACTIVITY_TYPE = "activityType";
+    public static final String FIELD_TASK_ID = "taskId";
+    public static final String FIELD_CALLED_PROCESS_INSTANCE_ID = "calledProcessInstanceId";
+    public static final String FIELD_ASSIGNEE = "assignee";
+    public static final String FIELD_COMPLETED_BY = "completedBy";
+    public static final String FIELD_START_TIME = "startTime";
+    public static final String FIELD_END_TIME = "endTime";
+    public static final String FIELD_DURATION = "durationInMillis";
+    public static final String FIELD_TRANSACTION_ORDER = "transactionOrder";
+    public static final String FIELD_DELETE_REASON = "deleteReason";
+    public static final String FIELD_TENANT_ID = "tenantId";
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public AsyncActivityHistoryJobHandler(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        JsonNode configurationNode;
+        try {
+            configurationNode = processEngineConfiguration.getObjectMapper().readTree(job.getAdvancedJobHandlerConfiguration());
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not read the activity history of " + job, e);
+        }
+
+        HistoricActivityInstanceEntityManager historicActivityInstanceEntityManager = processEngineConfiguration.getHistoricActivityInstanceEntityManager();
+        Map<String, Boolean> historicProcessInstanceExists = new HashMap<>();
+        ArrayNode notInsertedActivityInstancesNode = null;
+        for (JsonNode activityInstanceNode : configurationNode.path(FIELD_ACTIVITY_INSTANCES)) {
+            ObjectNode node = (ObjectNode) activityInstanceNode;
+
+            // The history of the process instance might have been deleted before this job was executed
+            String processInstanceId = AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_PROCESS_INSTANCE_ID);
+            if (processInstanceId != null && !historicProcessInstanceExists.computeIfAbsent(processInstanceId,
+                    id -> processEngineConfiguration.getHistoricProcessInstanceEntityManager().findById(id) != null)) {
+                continue;
+            }
+
+            String id = AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_ID);
+            if (AsyncHistoryJsonUtil.getBooleanFromJson(node, FIELD_CREATED, false)) {
+                HistoricActivityInstanceEntity historicActivityInstance = historicActivityInstanceEntityManager.create();
+                historicActivityInstance.setId(id);
+                historicActivityInstance.setProcessDefinitionId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_PROCESS_DEFINITION_ID));
+                historicActivityInstance.setProcessInstanceId(processInstanceId);
+                historicActivityInstance.setTenantId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_TENANT_ID));
+                copyJsonToHistoricActivityInstance(node, historicActivityInstance);
+                historicActivityInstanceEntityManager.insert(historicActivityInstance, false);
+
+            } else {
+                // The update is applied directly, with a condition on the revision, instead of through the entity cache
+                HistoricActivityInstanceEntity historicActivityInstance = historicActivityInstanceEntityManager.create();
+                historicActivityInstance.setId(id);
+                historicActivityInstance.setRevision(node.path(FIELD_REVISION).asInt(0));
+                historicActivityInstance.setProcessDefinitionId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_PROCESS_DEFINITION_ID));
+                copyJsonToHistoricActivityInstance(node, historicActivityInstance);
+
+                // Nothing is updated when the historic activity instance is newer, or when it isn't inserted yet
+                if (historicActivityInstanceEntityManager.updateHistoricActivityInstanceToRevision(historicActivityInstance) == 0
+                        && historicActivityInstanceEntityManager.findById(id) == null) {
+                    if (notInsertedActivityInstancesNode == null) {
+                        notInsertedActivityInstancesNode = processEngineConfiguration.getObjectMapper().createArrayNode();
+                    }
+                    notInsertedActivityInstancesNode.add(node);
+                }
+            }
+        }
+
+        if (notInsertedActivityInstancesNode != null) {
+            rescheduleNotInsertedActivityInstances(job, configurationNode, notInsertedActivityInstancesNode, jobServiceConfiguration);
+        }
+    }
+
+    protected void rescheduleNotInsertedActivityInstances(HistoryJobEntity job, JsonNode configurationNode, ArrayNode activityInstancesNode,
+            JobServiceConfiguration jobServiceConfiguration) {
+
+        int rescheduleCount = configurationNode.path(FIELD_RESCHEDULE_COUNT).asInt(0) + 1;
+        if (rescheduleCount > jobServiceConfiguration.getAsyncHistoryExecutorNumberOfRetries()) {
+            throw new FlowableException("Historic activity instances of " + job + " are still not inserted after " + (rescheduleCount - 1) + " reschedules");
+        }
+
+        ObjectNode rescheduledConfigurationNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        rescheduledConfigurationNode.put(FIELD_RESCHEDULE_COUNT, rescheduleCount);
+        rescheduledConfigurationNode.set(FIELD_ACTIVITY_INSTANCES, activityInstancesNode);
+
+        HistoryJobEntity rescheduledJob = jobServiceConfiguration.getHistoryJobService().createHistoryJob();
+        rescheduledJob.setJobHandlerType(TYPE);
+        rescheduledJob.setRetries(job.getRetries());
+        rescheduledJob.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
+        rescheduledJob.setTenantId(job.getTenantId());
+        rescheduledJob.setAdvancedJobHandlerConfiguration(rescheduledConfigurationNode.toString());
+        jobServiceConfiguration.getHistoryJobService().scheduleHistoryJob(rescheduledJob);
+    }
+
+    protected void copyJsonToHistoricActivityInstance(ObjectNode node, HistoricActivityInstanceEntity historicActivityInstance) {
+        historicActivityInstance.setExecutionId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_EXECUTION_ID));
+        historicActivityInstance.setActivityId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_ACTIVITY_ID));
+        historicActivityInstance.setActivityName(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_ACTIVITY_NAME));
+        historicActivityInstance.setActivityType(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_ACTIVITY_TYPE));
+        historicActivityInstance.setTaskId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_TASK_ID));
+        historicActivityInstance.setCalledProcessInstanceId(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_CALLED_PROCESS_INSTANCE_ID));
+        historicActivityInstance.setAssignee(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_ASSIGNEE));
+        historicActivityInstance.setCompletedBy(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_COMPLETED_BY));
+        historicActivityInstance.setStartTime(AsyncHistoryJsonUtil.getDateFromJson(node, FIELD_START_TIME));
+        historicActivityInstance.setEndTime(AsyncHistoryJsonUtil.getDateFromJson(node, FIELD_END_TIME));
+        historicActivityInstance.setDurationInMillis(AsyncHistoryJsonUtil.getLongFromJson(node, FIELD_DURATION));
+        historicActivityInstance.setTransactionOrder(AsyncHistoryJsonUtil.getIntegerFromJson(node, FIELD_TRANSACTION_ORDER));
+        historicActivityInstance.setDeleteReason(AsyncHistoryJsonUtil.getStringFromJson(node, FIELD_DELETE_REASON));
+    }
+
+}
@@ -0,0 +1,184 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.HistoricActivityInstanceQueryImpl;
+import org.flowable.engine.impl.history.DefaultHistoryManager;
+import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.runtime.ActivityInstance;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+
+/**
+ * A {@link DefaultHistoryManager} that doesn't write the historic activity instances in the transaction of the runtime changes.
+ *
+ * The historic activity instances recorded in a transaction are collected in an {@link AsyncActivityHistoryBuffer}, where the start,
+ * updates and end of the same activity instance are coalesced into one row. When the command context closes, the buffered rows are
+ * written as one history job, which the async history executor applies later with an {@link AsyncActivityHistoryJobHandler}.
+ * All other history is still written in the transaction of the runtime changes.
+ *
+ * Historic activity instances are therefore only visible in the history queries once the history job has been executed.
+ *
+ * Changes to existing activity instances, like an assignee change, a migration or a dynamic injection, are applied to the runtime
+ * activity instances and buffered from there, so they reach the historic activity instances through the same history job.
+ * The exceptions are historic activity instances without a runtime activity instance (e.g. ones created before the runtime
+ * activity instances were introduced) and the fallback for a task without a runtime activity instance; these are still
+ * updated in the transaction of the runtime changes, and only when their historic activity instance has already been written.
+ *
+ * This history manager can be combined with other history managers through the {@link org.flowable.engine.impl.history.CompositeHistoryManager}.
+ */
+public class WriteBehindActivityHistoryManager extends DefaultHistoryManager {
+
+    public WriteBehindActivityHistoryManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public void recordActivityStart(ActivityInstance activityInstance) {
+        if (activityInstance != null && activityInstance.getActivityId() != null
+                && getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+
+            HistoricActivityInstanceEntity historicActivityInstance = getActivityHistoryBuffer().addActivityInstance(activityInstance, true);
+
+            FlowableEventDispatcher eventDispatcher = getEventDispatcher();
+            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstance),
+                        processEngineConfiguration.getEngineCfgKey());
+            }
+        }
+    }
+
+    @Override
+    public void recordActivityEnd(ActivityInstance activityInstance) {
+        if (activityInstance != null && getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+            HistoricActivityInstanceEntity historicActivityInstance = getActivityHistoryBuffer().addActivityInstance(activityInstance, false);
+
+            FlowableEventDispatcher eventDispatcher = getEventDispatcher();
+            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance),
+                        processEngineConfiguration.getEngineCfgKey());
+            }
+        }
+    }
+
+    @Override
+    public void updateHistoricActivityInstance(ActivityInstance activityInstance) {
+        if (activityInstance.getExecutionId() != null && getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+            getActivityHistoryBuffer().addActivityInstance(activityInstance, false);
+        }
+    }
+
+    @Override
+    public void createHistoricActivityInstance(ActivityInstance activityInstance) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+            getActivityHistoryBuffer().addActivityInstance(activityInstance, true);
+        }
+    }
+
+    @Override
+    public void recordTaskInfoChange(TaskEntity taskEntity, String activityInstanceId, Date changeTime) {
+        if (activityInstanceId != null) {
+            // The assignee of the runtime activity instance has already been buffered through updateHistoricActivityInstance
+            recordHistoricTaskInfoChange(taskEntity, changeTime);
+        } else {
+            super.recordTaskInfoChange(taskEntity, activityInstanceId, changeTime);
+        }
+    }
+
+    @Override
+    public void updateActivity(ExecutionEntity childExecution, String oldActivityId, FlowElement newFlowElement, TaskEntity task, Date updateTime) {
+        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            // The runtime activity instances have already been moved to the new activity
+            List<ActivityInstanceEntity> activityInstances = getEntityCache().findInCache(ActivityInstanceEntity.class);
+            for (ActivityInstanceEntity activityInstance : activityInstances) {
+                if (childExecution.getId().equals(activityInstance.getExecutionId())
+                        && childExecution.getActivityId() != null && childExecution.getActivityId().equals(activityInstance.getActivityId())) {
+                    updateHistoricActivityInstance(activityInstance);
+                }
+            }
+        }
+
+        if (isHistoryLevelAtLeast(HistoryLevel.AUDIT)) {
+            HistoricTaskService historicTaskService = processEngineConfiguration.getTaskServiceConfiguration().getHistoricTaskService();
+            historicTaskService.recordTaskInfoChange(task, updateTime, processEngineConfiguration);
+        }
+    }
+
+    @Override
+    protected void updateProcessDefinitionIdInHistoricActivityInstances(ProcessDefinitionEntity processDefinitionEntity, ExecutionEntity processInstance) {
+        // The process definition id of the runtime activity instances has already been updated
+        Set<String> bufferedActivityInstanceIds = new HashSet<>();
+        List<ActivityInstanceEntity> activityInstances = getActivityInstanceEntityManager().findActivityInstancesByProcessInstanceId(processInstance.getId(), false);
+        for (ActivityInstanceEntity activityInstance : activityInstances) {
+            updateHistoricActivityInstance(activityInstance);
+            bufferedActivityInstanceIds.add(activityInstance.getId());
+        }
+
+        // Historic activity instances without a runtime activity instance never get a history job, so they are updated directly
+        HistoricActivityInstanceQueryImpl historicActivityQuery = new HistoricActivityInstanceQueryImpl();
+        historicActivityQuery.processInstanceId(processInstance.getId());
+        List<HistoricActivityInstance> historicActivities = getHistoricActivityInstanceEntityManager().findHistoricActivityInstancesByQueryCriteria(historicActivityQuery);
+        if (historicActivities != null) {
+            for (HistoricActivityInstance historicActivityInstance : historicActivities) {
+                if (!bufferedActivityInstanceIds.contains(historicActivityInstance.getId())) {
+                    updateProcessDefinitionIdInHistoricActivityInstance(processDefinitionEntity, (HistoricActivityInstanceEntity) historicActivityInstance);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected HistoricActivityInstanceEntity findHistoricActivityInstance(ExecutionEntity execution, String activityId, boolean endTimeMustBeNull) {
+        if (activityId == null) {
+            return null;
+        }
+
+        AsyncActivityHistoryBuffer activityHistoryBuffer = (AsyncActivityHistoryBuffer) getCommandContext().getAttribute(AsyncActivityHistoryBuffer.ATTRIBUTE_KEY);
+        if (activityHistoryBuffer != null) {
+            HistoricActivityInstanceEntity historicActivityInstance = activityHistoryBuffer.findHistoricActivityInstance(execution.getId(), activityId, endTimeMustBeNull);
+            if (historicActivityInstance != null) {
+                return historicActivityInstance;
+            }
+        }
+
+        return super.findHistoricActivityInstance(execution, activityId, endTimeMustBeNull);
+    }
+
+    protected AsyncActivityHistoryBuffer getActivityHistoryBuffer() {
+        CommandContext commandContext = getCommandContext();
+        AsyncActivityHistoryBuffer activityHistoryBuffer = (AsyncActivityHistoryBuffer) commandContext.getAttribute(AsyncActivityHistoryBuffer.ATTRIBUTE_KEY);
+        if (activityHistoryBuffer == null) {
+            activityHistoryBuffer = new AsyncActivityHistoryBuffer(processEngineConfiguration);
+            commandContext.addAttribute(AsyncActivityHistoryBuffer.ATTRIBUTE_KEY, activityHistoryBuffer);
+            commandContext.addCloseListener(activityHistoryBuffer);
+        }
+        return activityHistoryBuffer;
+    }
+
+}
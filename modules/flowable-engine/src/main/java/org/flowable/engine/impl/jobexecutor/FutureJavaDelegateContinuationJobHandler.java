@@ -0,0 +1,218 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.bpmn.behavior.MultiInstanceActivityBehavior;
+import org.flowable.engine.impl.bpmn.helper.FutureJavaDelegateContinuation;
+import org.flowable.engine.impl.delegate.FutureJavaDelegateActivityBehavior;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the result of the future of a future java delegate to the execution that is waiting in the service task.
+ *
+ * The job is created as a timer job when the service task becomes a wait state and is moved to the executable jobs once the future completes,
+ * so a failing complete action is retried and eventually moved to the dead letter jobs like any other job.
+ * The configuration of the job is the id of the activity instance of the service task, which identifies the visit of the service task
+ * the future belongs to.
+ *
+ * The engine that invoked the delegate keeps the future in memory and, once it completes, stores its serialized result in the custom values
+ * of the job. Any engine can therefore apply the result, also after a restart. A result that can't be serialized is only available on
+ * the engine that invoked the delegate. When no result is available, e.g. because the future was lost or didn't complete before the
+ * continuation timeout, the delegate is invoked again.
+ */
+public class FutureJavaDelegateContinuationJobHandler implements JobHandler {
+
+    public static final String TYPE = "future-java-delegate-continuation";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FutureJavaDelegateContinuationJobHandler.class);
+
+    protected final Map<String, PendingFuture> pendingFutures = new ConcurrentHashMap<>();
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ExecutionEntity execution = (ExecutionEntity) variableScope;
+
+        // The execution could have left the service task, or entered it again, while the future was running
+        if (!FutureJavaDelegateContinuation.isWaitingInActivityInstance(execution, configuration, commandContext)) {
+            LOGGER.debug("Execution {} is no longer waiting in activity instance {}, the result of the future is ignored", job.getExecutionId(), configuration);
+            removePendingFuture(configuration);
+            return;
+        }
+
+        PendingFuture pendingFuture = pendingFutures.get(configuration);
+        if (pendingFuture != null && pendingFuture.isCompleted()) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, context -> removePendingFuture(configuration));
+            pendingFuture.getCompleteActionProvider().apply(execution).accept(pendingFuture.getResult().getValue(), pendingFuture.getResult().getThrowable());
+            return;
+        }
+
+        FutureJavaDelegateActivityBehavior activityBehavior = getFutureJavaDelegateActivityBehavior(execution);
+        if (activityBehavior == null) {
+            throw new FlowableException("The activity " + execution.getCurrentActivityId() + " of " + execution + " does not invoke a future java delegate");
+        }
+
+        String serializedResult = job.getCustomValues();
+        if (serializedResult != null) {
+            FutureResult result = FutureJavaDelegateContinuation.deserializeResult(serializedResult);
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, context -> removePendingFuture(configuration));
+            activityBehavior.createFutureCompleteAction(execution).accept(result.getValue(), result.getThrowable());
+
+        } else {
+            // The future was lost, e.g. because the engine that invoked the delegate was stopped, or it didn't complete before the continuation timeout
+            LOGGER.info("The future of {} in activity {} did not complete or its result is no longer available, the delegate is invoked again",
+                    execution, execution.getCurrentActivityId());
+            if (pendingFuture != null) {
+                removePendingFuture(configuration);
+                pendingFuture.getFuture().cancel(true);
+            }
+
+            // Invoking the delegate again creates a new continuation job for the new future
+            activityBehavior.execute(execution);
+        }
+    }
+
+    protected FutureJavaDelegateActivityBehavior getFutureJavaDelegateActivityBehavior(ExecutionEntity execution) {
+        FlowElement flowElement = execution.getCurrentFlowElement();
+        if (flowElement instanceof FlowNode) {
+            Object behavior = ((FlowNode) flowElement).getBehavior();
+            if (behavior instanceof MultiInstanceActivityBehavior && !execution.isMultiInstanceRoot()) {
+                behavior = ((MultiInstanceActivityBehavior) behavior).getInnerActivityBehavior();
+            }
+            if (behavior instanceof FutureJavaDelegateActivityBehavior) {
+                return (FutureJavaDelegateActivityBehavior) behavior;
+            }
+        }
+        return null;
+    }
+
+    public PendingFuture addPendingFuture(String activityInstanceId, CompletableFuture<?> future,
+            Function<ExecutionEntity, BiConsumer<Object, Throwable>> completeActionProvider, Date expirationTime) {
+        PendingFuture pendingFuture = new PendingFuture(future, completeActionProvider, expirationTime);
+        pendingFutures.put(activityInstanceId, pendingFuture);
+        return pendingFuture;
+    }
+
+    public PendingFuture getPendingFuture(String activityInstanceId) {
+        return pendingFutures.get(activityInstanceId);
+    }
+
+    public void removePendingFuture(String activityInstanceId) {
+        pendingFutures.remove(activityInstanceId);
+    }
+
+    public void removePendingFuture(String activityInstanceId, PendingFuture pendingFuture) {
+        pendingFutures.remove(activityInstanceId, pendingFuture);
+    }
+
+    /**
+     * Forgets the futures whose continuation timeout has passed, e.g. because their continuation job was executed by another engine.
+     * Futures that didn't complete are canceled, their continuation jobs are due by then and invoke the delegate again.
+     */
+    public void removeExpiredPendingFutures(Date now) {
+        pendingFutures.values().removeIf(pendingFuture -> {
+            if (pendingFuture.getExpirationTime().before(now)) {
+                pendingFuture.getFuture().cancel(true);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    public int getNumberOfPendingFutures() {
+        return pendingFutures.size();
+    }
+
+    public static class PendingFuture {
+
+        protected final CompletableFuture<?> future;
+        protected final Function<ExecutionEntity, BiConsumer<Object, Throwable>> completeActionProvider;
+        protected final Date expirationTime;
+        protected volatile FutureResult result;
+
+        public PendingFuture(CompletableFuture<?> future, Function<ExecutionEntity, BiConsumer<Object, Throwable>> completeActionProvider, Date expirationTime) {
+            this.future = future;
+            this.completeActionProvider = completeActionProvider;
+            this.expirationTime = expirationTime;
+        }
+
+        public void complete(Object value, Throwable throwable) {
+            this.result = new FutureResult(value, throwable);
+        }
+
+        public CompletableFuture<?> getFuture() {
+            return future;
+        }
+
+        public Function<ExecutionEntity, BiConsumer<Object, Throwable>> getCompleteActionProvider() {
+            return completeActionProvider;
+        }
+
+        public Date getExpirationTime() {
+            return expirationTime;
+        }
+
+        public boolean isCompleted() {
+            return result != null;
+        }
+
+        public FutureResult getResult() {
+            return result;
+        }
+    }
+
+    public static class FutureResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final Object value;
+        protected final Throwable throwable;
+
+        public FutureResult(Object value, Throwable throwable) {
+            this.value = value;
+            this.throwable = throwable;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public Throwable getThrowable() {
+            return throwable;
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.function.ToLongFunction;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+
+/**
+ * Weighs a {@link ProcessDefinitionCacheEntry} by the number of flow elements (including the ones in sub processes)
+ * of all the processes of its {@link BpmnModel}, as that is a good indication of the memory a cached process definition takes.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements ToLongFunction<ProcessDefinitionCacheEntry> {
+
+    @Override
+    public long applyAsLong(ProcessDefinitionCacheEntry cacheEntry) {
+        BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+        if (bpmnModel == null) {
+            return 1L;
+        }
+
+        long weight = 0L;
+        for (Process process : bpmnModel.getProcesses()) {
+            weight += process.findFlowElementsOfType(FlowElement.class, true).size();
+        }
+        return Math.max(weight, 1L);
+    }
+
+}
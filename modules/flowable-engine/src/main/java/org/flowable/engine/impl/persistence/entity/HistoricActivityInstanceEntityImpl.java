@@ -18,6 +18,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.runtime.ActivityInstance;
 
@@ -25,7 +26,7 @@ import org.flowable.engine.runtime.ActivityInstance;
  * @author Christian Stettler
  * @author Joram Barrez
  */
-public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEntityImpl implements HistoricActivityInstanceEntity {
+public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEntityImpl implements HistoricActivityInstanceEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -94,6 +95,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setTransactionOrder(Integer transactionOrder) {
+        markDirty();
         this.transactionOrder = transactionOrder;
     }
     
@@ -104,6 +106,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setActivityId(String activityId) {
+        markDirty();
         this.activityId = activityId;
     }
 
@@ -114,6 +117,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setActivityName(String activityName) {
+        markDirty();
         this.activityName = activityName;
     }
 
@@ -124,6 +128,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setActivityType(String activityType) {
+        markDirty();
         this.activityType = activityType;
     }
 
@@ -134,6 +139,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
 
@@ -144,6 +150,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setAssignee(String assignee) {
+        markDirty();
         this.assignee = assignee;
     }
 
@@ -154,6 +161,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setCompletedBy(String completedBy) {
+        markDirty();
         this.completedBy = completedBy;
     }
 
@@ -164,6 +172,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setTaskId(String taskId) {
+        markDirty();
         this.taskId = taskId;
     }
 
@@ -174,6 +183,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setCalledProcessInstanceId(String calledProcessInstanceId) {
+        markDirty();
         this.calledProcessInstanceId = calledProcessInstanceId;
     }
 
@@ -184,6 +194,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
 
     @Override
     public void setTenantId(String tenantId) {
+        markDirty();
         this.tenantId = tenantId;
     }
 
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -38,6 +39,8 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
+    Stream<HistoricActivityInstance> streamHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
+
     List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
@@ -49,4 +52,14 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
     void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    /**
+     * Directly updates the stored historic activity instance with the state of the given, not cached, historic activity instance.
+     * The revision of the given historic activity instance is the revision of the runtime activity instance it was created from: the stored
+     * historic activity instance is only updated when it has an older revision, and gets the given revision. When the given revision is 0,
+     * the stored historic activity instance is updated unless it is ended and the given one isn't.
+     *
+     * @return the number of updated historic activity instances, 0 when the historic activity instance doesn't exist or is newer
+     */
+    int updateHistoricActivityInstanceToRevision(HistoricActivityInstanceEntity historicActivityInstance);
 }
\ No newline at end of file
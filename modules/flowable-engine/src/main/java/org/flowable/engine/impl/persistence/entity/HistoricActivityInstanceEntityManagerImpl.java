@@ -16,6 +16,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -74,6 +75,11 @@ public class HistoricActivityInstanceEntityManagerImpl
         return dataManager.findHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery);
     }
 
+    @Override
+    public Stream<HistoricActivityInstance> streamHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
+        return dataManager.streamHistoricActivityInstancesByQueryCriteria(historicActivityInstanceQuery);
+    }
+
     @Override
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricActivityInstancesByNativeQuery(parameterMap);
@@ -99,6 +105,11 @@ public class HistoricActivityInstanceEntityManagerImpl
         dataManager.deleteHistoricActivityInstancesForNonExistingProcessInstances();
     }
 
+    @Override
+    public int updateHistoricActivityInstanceToRevision(HistoricActivityInstanceEntity historicActivityInstance) {
+        return dataManager.updateHistoricActivityInstanceToRevision(historicActivityInstance);
+    }
+
     protected HistoryManager getHistoryManager() {
         return engineConfiguration.getHistoryManager();
     }
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInitializingList;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
@@ -29,7 +30,7 @@ import org.flowable.variable.service.impl.persistence.entity.HistoricVariableIns
  * @author Christian Stettler
  * @author Joram Barrez
  */
-public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEntityImpl implements HistoricProcessInstanceEntity {
+public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEntityImpl implements HistoricProcessInstanceEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -123,6 +124,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setEndActivityId(String endActivityId) {
+        markDirty();
         this.endActivityId = endActivityId;
     }
 
@@ -133,6 +135,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty();
         this.businessKey = businessKey;
     }
 
@@ -143,6 +146,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setBusinessStatus(String businessStatus) {
+        markDirty();
         this.businessStatus = businessStatus;
     }
 
@@ -153,6 +157,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty();
         this.startUserId = startUserId;
     }
 
@@ -163,6 +168,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setStartActivityId(String startUserId) {
+        markDirty();
         this.startActivityId = startUserId;
     }
 
@@ -173,6 +179,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setSuperProcessInstanceId(String superProcessInstanceId) {
+        markDirty();
         this.superProcessInstanceId = superProcessInstanceId;
     }
 
@@ -183,6 +190,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setTenantId(String tenantId) {
+        markDirty();
         this.tenantId = tenantId;
     }
 
@@ -197,6 +205,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -220,6 +229,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setDescription(String description) {
+        markDirty();
         this.description = description;
     }
 
@@ -239,6 +249,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setProcessDefinitionKey(String processDefinitionKey) {
+        markDirty();
         this.processDefinitionKey = processDefinitionKey;
     }
 
@@ -249,6 +260,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setProcessDefinitionName(String processDefinitionName) {
+        markDirty();
         this.processDefinitionName = processDefinitionName;
     }
 
@@ -259,6 +271,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setProcessDefinitionVersion(Integer processDefinitionVersion) {
+        markDirty();
         this.processDefinitionVersion = processDefinitionVersion;
     }
 
@@ -269,6 +282,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setProcessDefinitionCategory(String processDefinitionCategory) {
+        markDirty();
         this.processDefinitionCategory = processDefinitionCategory;
     }
 
@@ -279,6 +293,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setDeploymentId(String deploymentId) {
+        markDirty();
         this.deploymentId = deploymentId;
     }
     
@@ -289,6 +304,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty();
         this.callbackId = callbackId;
     }
 
@@ -299,6 +315,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty();
         this.callbackType = callbackType;
     }
 
@@ -309,6 +326,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setReferenceId(String referenceId) {
+        markDirty();
         this.referenceId = referenceId;
     }
 
@@ -319,6 +337,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setReferenceType(String referenceType) {
+        markDirty();
         this.referenceType = referenceType;
     }
 
@@ -329,6 +348,7 @@ public class HistoricProcessInstanceEntityImpl extends HistoricScopeInstanceEnti
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty();
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
@@ -35,6 +35,7 @@ public abstract class HistoricScopeInstanceEntityImpl extends AbstractBpmnEngine
 
     @Override
     public void markEnded(String deleteReason, Date endTime) {
+        markDirty();
         if (this.endTime == null) {
             this.deleteReason = deleteReason;
             if (endTime != null) {
@@ -77,26 +78,31 @@ public abstract class HistoricScopeInstanceEntityImpl extends AbstractBpmnEngine
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty();
         this.startTime = startTime;
     }
 
     @Override
     public void setEndTime(Date endTime) {
+        markDirty();
         this.endTime = endTime;
     }
 
     @Override
     public void setDurationInMillis(Long durationInMillis) {
+        markDirty();
         this.durationInMillis = durationInMillis;
     }
 
@@ -107,6 +113,7 @@ public abstract class HistoricScopeInstanceEntityImpl extends AbstractBpmnEngine
 
     @Override
     public void setDeleteReason(String deleteReason) {
+        markDirty();
         this.deleteReason = deleteReason;
     }
 }
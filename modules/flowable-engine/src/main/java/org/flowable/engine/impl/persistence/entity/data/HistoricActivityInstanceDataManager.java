@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity.data;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -41,6 +42,8 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
+    Stream<HistoricActivityInstance> streamHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
+
     List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     long findHistoricActivityInstanceCountByNativeQuery(Map<String, Object> parameterMap);
@@ -50,4 +53,6 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
     void bulkDeleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
 
     void deleteHistoricActivityInstancesForNonExistingProcessInstances();
+
+    int updateHistoricActivityInstanceToRevision(HistoricActivityInstanceEntity historicActivityInstance);
 }
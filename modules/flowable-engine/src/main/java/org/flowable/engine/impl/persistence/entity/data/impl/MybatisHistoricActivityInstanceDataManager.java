@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.history.HistoricActivityInstance;
@@ -102,6 +103,11 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getDbSqlSession().selectList("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
     }
 
+    @Override
+    public Stream<HistoricActivityInstance> streamHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
+        return getDbSqlSession().selectStream("selectHistoricActivityInstancesByQueryCriteria", historicActivityInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricActivityInstance> findHistoricActivityInstancesByNativeQuery(Map<String, Object> parameterMap) {
@@ -128,4 +134,9 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesForNonExistingProcessInstances", null, HistoricActivityInstanceEntityImpl.class);
     }
 
+    @Override
+    public int updateHistoricActivityInstanceToRevision(HistoricActivityInstanceEntity historicActivityInstance) {
+        return getDbSqlSession().directUpdate("updateHistoricActivityInstanceToRevision", historicActivityInstance);
+    }
+
 }
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.ProcessEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes and reads the binary snapshot of a {@link BpmnModel}, which is stored as a generated resource next to the BPMN resource
+ * it was converted from. Reading the snapshot avoids converting the BPMN XML again when a process definition is
+ * deployed again after a process definition cache miss.
+ *
+ * A snapshot is only read when it was written by the same engine version, otherwise null is returned and the BPMN XML needs to be converted.
+ * Only the classes of the BPMN model and basic JDK types can be read from a snapshot, and the depth, number of references and size
+ * of a snapshot are limited.
+ */
+public class BpmnModelSnapshotUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnModelSnapshotUtil.class);
+
+    public static final String SNAPSHOT_RESOURCE_SUFFIX = ".snapshot";
+
+    protected static final String MAGIC = "flowable-bpmn-model";
+    protected static final int FORMAT_VERSION = 1;
+
+    /**
+     * The maximum depth of the object graph of a snapshot. The sequence flows reference their source and target elements, so the depth
+     * grows with the length of the longest path through a process.
+     */
+    protected static final int MAX_DEPTH = 5000;
+
+    /** The maximum number of object references in a snapshot. */
+    protected static final int MAX_REFERENCES = 1_000_000;
+
+    /** The maximum number of bytes read from the uncompressed snapshot. */
+    protected static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    /** The maximum length of an array in a snapshot. */
+    protected static final int MAX_ARRAY_LENGTH = 100_000;
+
+    protected static final ObjectInputFilter SNAPSHOT_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=" + MAX_DEPTH + ";maxrefs=" + MAX_REFERENCES + ";maxbytes=" + MAX_BYTES + ";maxarray=" + MAX_ARRAY_LENGTH
+                    + ";org.flowable.bpmn.model.**;java.lang.*;java.util.*;java.math.*;com.fasterxml.jackson.databind.node.*;!*");
+
+    public static String getSnapshotResourceName(String resourceName) {
+        return resourceName + SNAPSHOT_RESOURCE_SUFFIX;
+    }
+
+    /**
+     * @return the snapshot of the model, or null when the model could not be written
+     */
+    public static byte[] writeSnapshot(BpmnModel bpmnModel) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (DataOutputStream dataOutputStream = new DataOutputStream(new GZIPOutputStream(outputStream))) {
+            dataOutputStream.writeUTF(MAGIC);
+            dataOutputStream.writeInt(FORMAT_VERSION);
+            dataOutputStream.writeUTF(ProcessEngine.VERSION);
+
+            ObjectOutputStream objectOutputStream = new ObjectOutputStream(dataOutputStream);
+            objectOutputStream.writeObject(bpmnModel);
+            objectOutputStream.flush();
+
+        } catch (IOException | RuntimeException | StackOverflowError e) {
+            // Very deep models can exceed the stack, the model is then converted from the BPMN XML at every deploy
+            LOGGER.debug("Could not write BPMN model snapshot", e);
+            return null;
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @return the model of the snapshot, or null when the snapshot was not written by this engine version
+     */
+    public static BpmnModel readSnapshot(byte[] snapshot) {
+        try (DataInputStream dataInputStream = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(snapshot)))) {
+            if (!MAGIC.equals(dataInputStream.readUTF()) || dataInputStream.readInt() != FORMAT_VERSION
+                    || !ProcessEngine.VERSION.equals(dataInputStream.readUTF())) {
+                return null;
+            }
+
+            ObjectInputStream objectInputStream = new ObjectInputStream(dataInputStream);
+            objectInputStream.setObjectInputFilter(SNAPSHOT_FILTER);
+            Object bpmnModel = objectInputStream.readObject();
+            return bpmnModel instanceof BpmnModel ? (BpmnModel) bpmnModel : null;
+
+        } catch (IOException | ClassNotFoundException | RuntimeException | StackOverflowError e) {
+            LOGGER.debug("Could not read BPMN model snapshot, the BPMN resource will be parsed instead", e);
+            return null;
+        }
+    }
+
+}
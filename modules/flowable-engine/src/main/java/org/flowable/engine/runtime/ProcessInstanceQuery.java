@@ -13,6 +13,7 @@
 package org.flowable.engine.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -409,6 +410,13 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      */
     ProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include the process variables with the given names in the process query result.
+     * Unlike {@link #includeProcessVariables()}, the variables are not joined into the process instance query, but fetched with a separate query
+     * for all returned process instances.
+     */
+    ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Only select process instances that failed due to an exception happening during a job execution.
      */
@@ -127,6 +127,14 @@ public class ProfilingDbSqlSession extends DbSqlSession {
         super.flushUpdateEntity(updatedObject);
     }
 
+    @Override
+    protected void flushBatchUpdateEntities(String updateStatement, List<Entity> entitiesToUpdate) {
+        if (getCurrentCommandExecution() != null && !entitiesToUpdate.isEmpty()) {
+            getCurrentCommandExecution().addDbUpdate(entitiesToUpdate.get(0).getClass().getName() + "-batch-with-" + entitiesToUpdate.size());
+        }
+        super.flushBatchUpdateEntities(updateStatement, entitiesToUpdate);
+    }
+
     @Override
     protected void flushBulkUpdate(BulkUpdateOperation bulkUpdateOperation) {
         // Bulk update
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.TaskInfo;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+public class HistoricQueryStreamTest extends PluggableFlowableTestCase {
+
+    protected List<String> processInstanceIds = new ArrayList<>();
+
+    @BeforeEach
+    public void startProcessInstances() {
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess", "key" + i).getId());
+        }
+    }
+
+    @Test
+    public void testStreamHistoricProcessInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        try (Stream<HistoricProcessInstance> stream = historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceBusinessKey().asc().stream()) {
+            assertThat(stream.map(HistoricProcessInstance::getBusinessKey))
+                    .containsExactly("key0", "key1", "key2", "key3", "key4");
+        }
+
+        try (Stream<HistoricProcessInstance> stream = historyService.createHistoricProcessInstanceQuery().processInstanceBusinessKey("key3").stream()) {
+            assertThat(stream.map(HistoricProcessInstance::getId)).containsExactly(processInstanceIds.get(3));
+        }
+    }
+
+    @Test
+    public void testStreamHistoricTaskInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        List<String> taskIds = historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().list().stream().map(TaskInfo::getId).toList();
+        assertThat(taskIds).hasSize(5);
+
+        try (Stream<HistoricTaskInstance> stream = historyService.createHistoricTaskInstanceQuery().orderByTaskId().asc().stream()) {
+            assertThat(stream.map(TaskInfo::getId)).containsExactlyElementsOf(taskIds);
+        }
+    }
+
+    @Test
+    public void testStreamHistoricActivityInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        try (Stream<HistoricActivityInstance> stream = historyService.createHistoricActivityInstanceQuery().activityId("theTask").stream()) {
+            assertThat(stream.map(HistoricActivityInstance::getProcessInstanceId)).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        }
+    }
+
+    @Test
+    public void testStreamHistoricVariableInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        for (int i = 0; i < processInstanceIds.size(); i++) {
+            runtimeService.setVariable(processInstanceIds.get(i), "text", "value" + i);
+            runtimeService.setVariable(processInstanceIds.get(i), "bytes", ("bytes" + i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (Stream<HistoricVariableInstance> stream = historyService.createHistoricVariableInstanceQuery().variableName("text").stream()) {
+            assertThat(stream.map(HistoricVariableInstance::getValue))
+                    .containsExactlyInAnyOrder("value0", "value1", "value2", "value3", "value4");
+        }
+
+        // The values stored in a byte array are fetched while the stream is consumed
+        try (Stream<HistoricVariableInstance> stream = historyService.createHistoricVariableInstanceQuery()
+                .processInstanceId(processInstanceIds.get(2)).variableName("bytes").stream()) {
+            assertThat(stream.map(variable -> new String((byte[]) variable.getValue(), StandardCharsets.UTF_8)))
+                    .containsExactly("bytes2");
+        }
+    }
+
+    @Test
+    public void testStreamWithVariablesUsesList() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        runtimeService.setVariable(processInstanceIds.get(1), "text", "value");
+
+        try (Stream<HistoricProcessInstance> stream = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceIds.get(1))
+                .includeProcessVariables().stream()) {
+            assertThat(stream.map(HistoricProcessInstance::getProcessVariables))
+                    .containsExactly(Map.of("text", "value"));
+        }
+
+        try (Stream<HistoricTaskInstance> stream = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceIds.get(1))
+                .includeProcessVariables().stream()) {
+            assertThat(stream.map(HistoricTaskInstance::getProcessVariables))
+                    .containsExactly(Map.of("text", "value"));
+        }
+    }
+
+    @Test
+    public void testStreamOfQueryWithoutCursor() {
+        try (Stream<ProcessInstance> stream = runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().stream()) {
+            assertThat(stream.map(ProcessInstance::getId)).containsExactlyElementsOf(processInstanceIds.stream().sorted().toList());
+        }
+    }
+
+}
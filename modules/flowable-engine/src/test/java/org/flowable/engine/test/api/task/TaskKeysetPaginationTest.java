@@ -0,0 +1,217 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.KeysetPage;
+import org.flowable.common.engine.api.query.KeysetQuery;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskInfo;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskKeysetPaginationTest extends PluggableFlowableTestCase {
+
+    protected List<String> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    public void createTasks() {
+        Date now = new Date();
+        for (int i = 0; i < 7; i++) {
+            // Two tasks per create time, to make sure that tasks with the same create time are not skipped or repeated
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() - (i / 2) * 60_000L));
+            Task task = taskService.newTask();
+            task.setName("task" + i);
+            task.setPriority(i % 3);
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @AfterEach
+    public void deleteTasks() {
+        taskService.deleteTasks(taskIds, true);
+    }
+
+    @Test
+    public void testListAfterOrderedById() {
+        List<Task> pagedTasks = listAllPages(() -> taskService.createTaskQuery(), 3);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskId().asc().list().stream().map(Task::getId).toList());
+    }
+
+    @Test
+    public void testListAfterOrderedByCreateTime() {
+        List<Task> pagedTasks = listAllPages(() -> taskService.createTaskQuery().orderByTaskCreateTime().desc(), 2);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskCreateTime().desc().orderByTaskId().desc().list()
+                        .stream().map(Task::getId).toList());
+    }
+
+    @Test
+    public void testListAfterOrderedByPriority() {
+        List<Task> pagedTasks = listAllPages(() -> taskService.createTaskQuery().orderByTaskPriority().asc(), 3);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskId().asc().list()
+                        .stream().map(Task::getId).toList());
+    }
+
+    @Test
+    public void testListAfterOrderedByDueDateNullsLast() {
+        setDueDates();
+
+        List<Task> pagedTasks = listAllPages(() -> taskService.createTaskQuery().orderByDueDateNullsLast().asc(), 2);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByDueDateNullsLast().asc().orderByTaskId().asc().list()
+                        .stream().map(Task::getId).toList());
+        assertThat(pagedTasks.get(pagedTasks.size() - 1).getDueDate()).isNull();
+    }
+
+    @Test
+    public void testListAfterOrderedByDueDateNullsFirst() {
+        setDueDates();
+
+        List<Task> pagedTasks = listAllPages(() -> taskService.createTaskQuery().orderByDueDateNullsFirst().desc(), 2);
+
+        assertThat(pagedTasks)
+                .extracting(Task::getId)
+                .containsExactlyElementsOf(taskService.createTaskQuery().orderByDueDateNullsFirst().desc().orderByTaskId().desc().list()
+                        .stream().map(Task::getId).toList());
+        assertThat(pagedTasks.get(0).getDueDate()).isNull();
+    }
+
+    @Test
+    public void testListAfterOrderedByDueDateWithoutNullHandling() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByDueDate().asc().listAfter(null, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("nulls first or nulls last");
+
+        String nextCursor = taskService.createTaskQuery().orderByDueDateNullsLast().asc().listAfter(null, 2).getNextCursor();
+        assertThat(nextCursor).isNotNull();
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByDueDateNullsFirst().asc().listAfter(nextCursor, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("does not match the ordering");
+    }
+
+    @Test
+    public void testListAfterWithCriteria() {
+        KeysetPage<Task> page = taskService.createTaskQuery().taskPriority(1).listAfter(null, 10);
+
+        assertThat(page.getResults()).extracting(Task::getName).containsExactlyInAnyOrder("task1", "task4");
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void testHistoricTaskInstanceListAfter() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        List<HistoricTaskInstance> pagedTasks = listAllPages(() -> historyService.createHistoricTaskInstanceQuery().orderByHistoricTaskInstanceStartTime().asc(), 3);
+
+        assertThat(pagedTasks)
+                .extracting(TaskInfo::getId)
+                .containsExactlyInAnyOrderElementsOf(taskIds);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoricProcessInstanceListAfter() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+
+        List<HistoricProcessInstance> pagedProcessInstances = listAllPages(
+                () -> historyService.createHistoricProcessInstanceQuery().orderByProcessInstanceStartTime().desc(), 2);
+
+        assertThat(pagedProcessInstances)
+                .extracting(HistoricProcessInstance::getId)
+                .containsExactlyInAnyOrderElementsOf(processInstanceIds);
+    }
+
+    @Test
+    public void testListAfterWithInvalidCursor() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().listAfter("invalid", 10))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        String nextCursor = taskService.createTaskQuery().orderByTaskCreateTime().asc().listAfter(null, 2).getNextCursor();
+        assertThat(nextCursor).isNotNull();
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().listAfter(nextCursor, 2))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("does not match the ordering");
+    }
+
+    @Test
+    public void testListAfterWithUnsupportedOrdering() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().listAfter(null, 10))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("not supported");
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskPriority().asc().orderByTaskCreateTime().asc().listAfter(null, 10))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        assertThatThrownBy(() -> taskService.createTaskQuery().listAfter(null, 0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected void setDueDates() {
+        // Three tasks with a due date, two of them with the same one, the other tasks without a due date
+        Date dueDate = new Date();
+        taskService.setDueDate(taskIds.get(1), dueDate);
+        taskService.setDueDate(taskIds.get(3), dueDate);
+        taskService.setDueDate(taskIds.get(5), new Date(dueDate.getTime() + 60_000L));
+    }
+
+    protected <U> List<U> listAllPages(Supplier<KeysetQuery<U>> querySupplier, int pageSize) {
+        List<U> results = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<U> page = querySupplier.get().listAfter(cursor, pageSize);
+            assertThat(page.getResults()).hasSizeLessThanOrEqualTo(pageSize);
+            results.addAll(page.getResults());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return results;
+    }
+
+}
@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.Test;
+
+public class TaskQueryBatchedVariablesTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testIncludeProcessVariablesByName() {
+        ProcessInstance processInstance1 = startProcessInstance("one");
+        ProcessInstance processInstance2 = startProcessInstance("two");
+
+        List<Task> tasks = taskService.createTaskQuery().includeProcessVariables(List.of("a", "b")).orderByTaskId().asc().list();
+        assertThat(tasks).hasSize(2);
+        for (Task task : tasks) {
+            String value = task.getProcessInstanceId().equals(processInstance1.getId()) ? "one" : "two";
+            assertThat(task.getProcessVariables()).containsOnly(entry("a", value + "A"), entry("b", value + "B"));
+            assertThat(task.getTaskLocalVariables()).isEmpty();
+        }
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance2.getId()).includeTaskLocalVariables(List.of("local"))
+                .includeProcessVariables(List.of("c")).singleResult();
+        assertThat(task.getTaskLocalVariables()).containsOnly(entry("local", "twoLocal"));
+        assertThat(task.getProcessVariables()).containsOnly(entry("c", "twoC"));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testIncludeProcessVariablesByNameWithPaging() {
+        for (int i = 0; i < 5; i++) {
+            startProcessInstance("value" + i);
+        }
+
+        List<Task> tasks = taskService.createTaskQuery().includeProcessVariables(List.of("a")).orderByTaskId().asc().listPage(1, 3);
+        assertThat(tasks).hasSize(3);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).containsOnlyKeys("a");
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testIncludeProcessVariablesByNameOnProcessInstanceQuery() {
+        ProcessInstance processInstance = startProcessInstance("one");
+
+        ProcessInstance result = runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                .includeProcessVariables(List.of("a", "c")).singleResult();
+        assertThat(result.getProcessVariables()).containsOnly(entry("a", "oneA"), entry("c", "oneC"));
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+                    .includeProcessVariables(List.of("b")).singleResult();
+            assertThat(historicProcessInstance.getProcessVariables()).containsOnly(entry("b", "oneB"));
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testIncludeProcessVariablesByNameOnHistoricTaskInstanceQuery() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        startProcessInstance("one");
+
+        HistoricTaskInstance historicTask = historyService.createHistoricTaskInstanceQuery().includeProcessVariables(List.of("a"))
+                .includeTaskLocalVariables(List.of("local")).singleResult();
+        assertThat(historicTask.getProcessVariables()).containsOnly(entry("a", "oneA"));
+        assertThat(historicTask.getTaskLocalVariables()).containsOnly(entry("local", "oneLocal"));
+    }
+
+    @Test
+    public void testIncludeVariablesWithoutNames() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables(Collections.emptyList()))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().includeProcessVariables(null))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected ProcessInstance startProcessInstance(String value) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", value + "A");
+        variables.put("b", value + "B");
+        variables.put("c", value + "C");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setVariableLocal(task.getId(), "local", value + "Local");
+        return processInstance;
+    }
+
+}
@@ -0,0 +1,462 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricDetail;
+import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.BinaryJsonType;
+import org.flowable.variable.service.impl.types.CompressedSerializableType;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BinaryVariableTypesTest extends PluggableFlowableTestCase {
+
+    protected VariableServiceConfiguration variableServiceConfiguration;
+
+    @BeforeEach
+    public void setUp() {
+        variableServiceConfiguration = processEngineConfiguration.getVariableServiceConfiguration();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // Remove the variables while their types are still registered
+        for (ProcessInstance processInstance : runtimeService.createProcessInstanceQuery().list()) {
+            runtimeService.deleteProcessInstance(processInstance.getId(), null);
+        }
+
+        variableServiceConfiguration
+                .setBinaryJsonVariableTypeEnabled(false)
+                .setBinaryJsonVariableDeltaPersistenceEnabled(false)
+                .setCompressedSerializableVariableTypeEnabled(false)
+                .setVariableCompressionThreshold(1024)
+                .setVariableMaxDecompressedSize(64 * 1024 * 1024);
+        reinitBinaryVariableTypes();
+    }
+
+    @Test
+    public void testBinaryVariableTypesRegisteredForReading() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        assertThat(variableTypes.getVariableType(BinaryJsonType.TYPE_NAME)).isInstanceOf(BinaryJsonType.class);
+        assertThat(variableTypes.getVariableType(CompressedSerializableType.TYPE_NAME)).isInstanceOf(CompressedSerializableType.class);
+        assertThat(variableTypes.getTypeIndex(BinaryJsonType.TYPE_NAME)).isGreaterThan(variableTypes.getTypeIndex(JsonType.TYPE_NAME));
+        assertThat(variableTypes.getTypeIndex(CompressedSerializableType.TYPE_NAME)).isGreaterThan(variableTypes.getTypeIndex(SerializableType.TYPE_NAME));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBinaryVariablesReadableAfterDisabling() {
+        enableBinaryVariableTypes();
+
+        ObjectNode customer = processEngineConfiguration.getObjectMapper().createObjectNode();
+        customer.put("name", "Kermit");
+        HashMap<String, String> compressedValue = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            compressedValue.put("key" + i, "A value that compresses well");
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .variable("compressed", compressedValue)
+                .start();
+
+        variableServiceConfiguration
+                .setBinaryJsonVariableTypeEnabled(false)
+                .setCompressedSerializableVariableTypeEnabled(false);
+        reinitBinaryVariableTypes();
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "customer").getTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "compressed").getTypeName())
+                .isEqualTo(CompressedSerializableType.TYPE_NAME);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "compressed")).isEqualTo(compressedValue);
+
+        // New values are written with the regular types again
+        runtimeService.setVariable(processInstance.getId(), "customer", customer);
+        runtimeService.setVariable(processInstance.getId(), "compressed", compressedValue);
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "customer").getTypeName()).isEqualTo(JsonType.TYPE_NAME);
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "compressed").getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "compressed")).isEqualTo(compressedValue);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testMaxDecompressedSize() {
+        enableBinaryVariableTypes();
+
+        ArrayNode orders = processEngineConfiguration.getObjectMapper().createArrayNode();
+        HashMap<String, String> compressedValue = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            orders.addObject().put("id", i).put("description", "Order line description");
+            compressedValue.put("key" + i, "A value that compresses well");
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("orders", orders)
+                .variable("compressed", compressedValue)
+                .start();
+
+        variableServiceConfiguration.setVariableMaxDecompressedSize(1024);
+        reinitBinaryVariableTypes();
+
+        assertThatThrownBy(() -> runtimeService.getVariable(processInstance.getId(), "orders"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("exceeds the maximum size of 1024 bytes");
+        assertThatThrownBy(() -> runtimeService.getVariable(processInstance.getId(), "compressed"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("exceeds the maximum size of 1024 bytes");
+
+        variableServiceConfiguration.setVariableMaxDecompressedSize(-1);
+        reinitBinaryVariableTypes();
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "orders")).isEqualTo(orders);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "compressed")).isEqualTo(compressedValue);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBinaryJsonVariable() {
+        enableBinaryVariableTypes();
+
+        ObjectNode customer = processEngineConfiguration.getObjectMapper().createObjectNode();
+        customer.put("name", "Kermit");
+        customer.putObject("address").put("city", "Zurich");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "customer");
+        assertThat(variableInstance.getTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+        assertThat(variableInstance.getTextValue()).isNull();
+        assertThat(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCompressedBinaryJsonVariable() {
+        enableBinaryVariableTypes();
+
+        ArrayNode orders = processEngineConfiguration.getObjectMapper().createArrayNode();
+        for (int i = 0; i < 200; i++) {
+            orders.addObject().put("id", i).put("description", "Order line description");
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("orders", orders)
+                .start();
+
+        byte[] bytes = getVariableBytes(processInstance.getId(), "orders");
+        assertThat(bytes).isNotEmpty();
+        assertThat(bytes.length).isLessThan(orders.toString().length() / 4);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "orders")).isEqualTo(orders);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testJsonVariableMigratedOnUpdate() {
+        ObjectNode customer = processEngineConfiguration.getObjectMapper().createObjectNode();
+        customer.put("name", "Kermit");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "customer").getTypeName()).isEqualTo(JsonType.TYPE_NAME);
+
+        enableBinaryVariableTypes();
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+
+        customer.put("name", "Gonzo");
+        runtimeService.setVariable(processInstance.getId(), "customer", customer);
+
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "customer");
+        assertThat(variableInstance.getTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+        assertThat(variableInstance.getTextValue()).isNull();
+        assertThat(runtimeService.getVariable(processInstance.getId(), "customer")).isEqualTo(customer);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testCompressedSerializableVariable() {
+        HashMap<String, String> uncompressedValue = new HashMap<>();
+        uncompressedValue.put("key", "value");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("uncompressed", uncompressedValue);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "uncompressed").getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+
+        enableBinaryVariableTypes();
+
+        HashMap<String, String> compressedValue = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            compressedValue.put("key" + i, "A value that compresses well");
+        }
+        runtimeService.setVariable(processInstance.getId(), "compressed", compressedValue);
+
+        assertThat(runtimeService.getVariableInstance(processInstance.getId(), "compressed").getTypeName())
+                .isEqualTo(CompressedSerializableType.TYPE_NAME);
+        byte[] bytes = getVariableBytes(processInstance.getId(), "compressed");
+        assertThat(bytes[0]).isEqualTo((byte) 0x1f);
+        assertThat(bytes[1]).isEqualTo((byte) 0x8b);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "compressed")).isEqualTo(compressedValue);
+
+        // Values written before the compressed type was enabled can still be read
+        assertThat(runtimeService.getVariable(processInstance.getId(), "uncompressed")).isEqualTo(uncompressedValue);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBinaryJsonVariableDeltaPersistence() {
+        variableServiceConfiguration.setBinaryJsonVariableDeltaPersistenceEnabled(true);
+        enableBinaryVariableTypes();
+
+        ObjectNode caseFile = processEngineConfiguration.getObjectMapper().createObjectNode();
+        caseFile.put("status", "open");
+        ArrayNode documents = caseFile.putArray("documents");
+        for (int i = 0; i < 100; i++) {
+            documents.addObject().put("name", "Document " + i);
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("caseFile", caseFile)
+                .start();
+
+        byte[] baseBytes = getVariableBytes(processInstance.getId(), "caseFile");
+
+        managementService.executeCommand(commandContext -> {
+            ObjectNode value = (ObjectNode) runtimeService.getVariable(processInstance.getId(), "caseFile");
+            value.put("status", "in review");
+            ((ArrayNode) value.get("documents")).remove(99);
+            return null;
+        });
+
+        caseFile.put("status", "in review");
+        documents.remove(99);
+
+        VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "caseFile");
+        assertThat(variableInstance.getTextValue()).contains("\"op\":\"replace\"");
+        assertThat(getVariableBytes(processInstance.getId(), "caseFile")).isEqualTo(baseBytes);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "caseFile")).isEqualTo(caseFile);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            Object historicValue = managementService.executeCommand(commandContext -> historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId()).variableName("caseFile").singleResult().getValue());
+            assertThat(historicValue).isEqualTo(caseFile);
+        }
+
+        // A patch that no longer fits in the text value is folded into a new base document
+        managementService.executeCommand(commandContext -> {
+            ObjectNode value = (ObjectNode) runtimeService.getVariable(processInstance.getId(), "caseFile");
+            for (JsonNode document : value.get("documents")) {
+                ((ObjectNode) document).put("description", "A description that makes the patch too long for the text value");
+            }
+            return null;
+        });
+
+        for (JsonNode document : documents) {
+            ((ObjectNode) document).put("description", "A description that makes the patch too long for the text value");
+        }
+
+        variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "caseFile");
+        assertThat(variableInstance.getTextValue()).isNull();
+        assertThat(getVariableBytes(processInstance.getId(), "caseFile")).isNotEqualTo(baseBytes);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "caseFile")).isEqualTo(caseFile);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBinaryJsonVariableDeltaPersistenceArrayInsert() throws Exception {
+        variableServiceConfiguration.setBinaryJsonVariableDeltaPersistenceEnabled(true);
+        enableBinaryVariableTypes();
+
+        ArrayNode documents = processEngineConfiguration.getObjectMapper().createArrayNode();
+        for (int i = 0; i < 100; i++) {
+            documents.addObject().put("name", "Document " + i);
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("documents", documents)
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            ArrayNode value = (ArrayNode) runtimeService.getVariable(processInstance.getId(), "documents");
+            value.insertObject(0).put("name", "Cover letter");
+            return null;
+        });
+        managementService.executeCommand(commandContext -> {
+            ArrayNode value = (ArrayNode) runtimeService.getVariable(processInstance.getId(), "documents");
+            value.remove(51);
+            return null;
+        });
+
+        documents.insertObject(0).put("name", "Cover letter");
+        documents.remove(51);
+
+        // Only the inserted and the removed element are in the patch, not every element after them
+        JsonNode patch = processEngineConfiguration.getObjectMapper().readTree(
+                runtimeService.getVariableInstance(processInstance.getId(), "documents").getTextValue());
+        assertThat(patch).hasSize(2);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "documents")).isEqualTo(documents);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBinaryJsonVariableDeltaPersistenceHistoricDetails() {
+        variableServiceConfiguration.setBinaryJsonVariableDeltaPersistenceEnabled(true);
+        enableBinaryVariableTypes();
+
+        ObjectNode caseFile = processEngineConfiguration.getObjectMapper().createObjectNode();
+        caseFile.put("status", "open");
+        ObjectNode originalCaseFile = caseFile.deepCopy();
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("caseFile", caseFile)
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            ObjectNode value = (ObjectNode) runtimeService.getVariable(processInstance.getId(), "caseFile");
+            value.put("status", "in review");
+            return null;
+        });
+
+        caseFile.put("status", "in review");
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+            managementService.executeCommand(commandContext -> {
+                List<HistoricDetail> historicDetails = historyService.createHistoricDetailQuery()
+                        .processInstanceId(processInstance.getId())
+                        .variableUpdates()
+                        .list();
+                assertThat(historicDetails).hasSize(2);
+
+                HistoricDetailVariableInstanceUpdateEntity createDetail = null;
+                HistoricDetailVariableInstanceUpdateEntity updateDetail = null;
+                for (HistoricDetail historicDetail : historicDetails) {
+                    HistoricDetailVariableInstanceUpdateEntity detail = (HistoricDetailVariableInstanceUpdateEntity) historicDetail;
+                    if (detail.getTextValue() == null) {
+                        createDetail = detail;
+                    } else {
+                        updateDetail = detail;
+                    }
+                }
+
+                assertThat(createDetail).isNotNull();
+                assertThat(createDetail.getValue()).isEqualTo(originalCaseFile);
+
+                // Every historic detail is readable on its own, so the update detail holds the patch and a copy of the base document
+                assertThat(updateDetail).isNotNull();
+                assertThat(updateDetail.getTextValue()).contains("\"op\":\"replace\"");
+                assertThat(updateDetail.getBytes()).isEqualTo(createDetail.getBytes());
+                assertThat(updateDetail.getValue()).isEqualTo(caseFile);
+                return null;
+            });
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBinaryJsonVariableInvalidPatch() {
+        variableServiceConfiguration.setBinaryJsonVariableDeltaPersistenceEnabled(true);
+        enableBinaryVariableTypes();
+
+        ObjectNode caseFile = processEngineConfiguration.getObjectMapper().createObjectNode();
+        caseFile.putArray("documents").addObject().put("name", "Document");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("caseFile", caseFile)
+                .start();
+
+        managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "caseFile");
+            variableInstance.setTextValue("[{\"op\":\"replace\",\"path\":\"/documents/5\",\"value\":{}}]");
+            return null;
+        });
+
+        assertThatThrownBy(() -> runtimeService.getVariable(processInstance.getId(), "caseFile"))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("/documents/5");
+
+        // Without the patch the base document is read again
+        managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "caseFile");
+            variableInstance.setTextValue(null);
+            return null;
+        });
+        assertThat(runtimeService.getVariable(processInstance.getId(), "caseFile")).isEqualTo(caseFile);
+    }
+
+    protected void enableBinaryVariableTypes() {
+        variableServiceConfiguration
+                .setBinaryJsonVariableTypeEnabled(true)
+                .setCompressedSerializableVariableTypeEnabled(true)
+                .setVariableCompressionThreshold(256);
+        reinitBinaryVariableTypes();
+    }
+
+    protected void reinitBinaryVariableTypes() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        for (String typeName : new String[] { BinaryJsonType.TYPE_NAME, CompressedSerializableType.TYPE_NAME }) {
+            VariableType variableType = variableTypes.getVariableType(typeName);
+            if (variableType != null) {
+                variableTypes.removeType(variableType);
+            }
+        }
+        variableServiceConfiguration.initBinaryVariableTypes();
+    }
+
+    protected byte[] getVariableBytes(String processInstanceId, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstanceId, variableName);
+            return variableInstance.getBytes();
+        });
+    }
+
+}
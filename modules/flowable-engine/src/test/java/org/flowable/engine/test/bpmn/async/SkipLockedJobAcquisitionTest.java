@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.DbUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorConfiguration;
+import org.flowable.job.service.impl.cmd.AcquireJobsWithSkipLockedCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public class SkipLockedJobAcquisitionTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    public void resetClock() {
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    public void testSkipLockedSupportIsDeterminedFromDatabaseVersion() {
+        boolean skipLockedSupported = managementService.executeCommand(commandContext -> commandContext.getSession(DbSqlSession.class)
+                .getDbSqlSessionFactory().isSkipLockedSupported());
+
+        assertThat(skipLockedSupported).isEqualTo(processEngineConfiguration.getSkipLockedSupported());
+        assertThat(skipLockedSupported).isEqualTo(DbUtil.isSkipLockedSupported(processEngineConfiguration.getDataSource(),
+                processEngineConfiguration.getDatabaseType(), LoggerFactory.getLogger(getClass())));
+        if (!DbUtil.DATABASE_TYPE_ORACLE.equals(processEngineConfiguration.getDatabaseType())
+                && !DbUtil.DATABASE_TYPE_POSTGRES.equals(processEngineConfiguration.getDatabaseType())
+                && !DbUtil.DATABASE_TYPE_MYSQL.equals(processEngineConfiguration.getDatabaseType())) {
+            assertThat(skipLockedSupported).isFalse();
+        }
+    }
+
+    @Test
+    @Deployment
+    public void testAsyncAndTimerJobsAreAcquired() {
+        AsyncJobExecutorConfiguration asyncExecutorConfiguration = processEngineConfiguration.getAsyncExecutorConfiguration();
+        boolean originalSkipLockedAcquireEnabled = asyncExecutorConfiguration.isSkipLockedAcquireEnabled();
+        try {
+            // On databases without SKIP LOCKED support the acquisition falls back to optimistic locking
+            asyncExecutorConfiguration.setSkipLockedAcquireEnabled(true);
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("skipLockedAcquisition");
+            waitForJobExecutorToProcessAllJobs(10000, 200);
+
+            assertThat(runtimeService.getVariable(processInstance.getId(), "invoked")).isEqualTo("true");
+            assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+            Date now = processEngineConfiguration.getClock().getCurrentTime();
+            processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 2 * 60 * 60 * 1000));
+            waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(10000, 200);
+
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey())
+                    .isEqualTo("afterTimer");
+        } finally {
+            asyncExecutorConfiguration.setSkipLockedAcquireEnabled(originalSkipLockedAcquireEnabled);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/SkipLockedJobAcquisitionTest.testAsyncAndTimerJobsAreAcquired.bpmn20.xml")
+    public void testConcurrentAcquisitionSkipsLockedJobs() throws Exception {
+        assumeTrue(processEngineConfiguration.getSkipLockedSupported(), "The database does not support SKIP LOCKED");
+
+        runtimeService.startProcessInstanceByKey("skipLockedAcquisition");
+        runtimeService.startProcessInstanceByKey("skipLockedAcquisition");
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        CountDownLatch firstAcquired = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        // The first acquisition keeps its transaction, and thus the row locks, open until the second acquisition is done
+        CompletableFuture<List<String>> firstAcquisition = CompletableFuture.supplyAsync(() -> managementService.executeCommand(commandContext -> {
+            List<? extends JobInfoEntity> jobs = new AcquireJobsWithSkipLockedCmd(processEngineConfiguration.getAsyncExecutor(), 1,
+                    jobServiceConfiguration.getJobEntityManager()).execute(commandContext);
+            firstAcquired.countDown();
+            try {
+                releaseFirst.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return jobs.stream().map(JobInfoEntity::getId).collect(Collectors.toList());
+        }));
+
+        try {
+            assertThat(firstAcquired.await(10, TimeUnit.SECONDS)).isTrue();
+
+            List<String> secondJobIds = managementService.executeCommand(commandContext -> new AcquireJobsWithSkipLockedCmd(
+                    processEngineConfiguration.getAsyncExecutor(), 1, jobServiceConfiguration.getJobEntityManager()).execute(commandContext))
+                    .stream().map(JobInfoEntity::getId).collect(Collectors.toList());
+
+            releaseFirst.countDown();
+            List<String> firstJobIds = firstAcquisition.get(10, TimeUnit.SECONDS);
+
+            assertThat(firstJobIds).hasSize(1);
+            assertThat(secondJobIds).hasSize(1).doesNotContainAnyElementsOf(firstJobIds);
+        } finally {
+            releaseFirst.countDown();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.BpmnParseFactory;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.BpmnModelSnapshotUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BpmnModelSnapshotTest extends PluggableFlowableTestCase {
+
+    protected static final String RESOURCE_NAME = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+
+    protected BpmnParseFactory originalBpmnParseFactory;
+    protected List<BpmnParse> createdBpmnParses = new ArrayList<>();
+
+    @BeforeEach
+    public void enableSnapshots() {
+        processEngineConfiguration.setEnableBpmnModelSnapshots(true);
+
+        BpmnParser bpmnParser = processEngineConfiguration.getBpmnParser();
+        originalBpmnParseFactory = bpmnParser.getBpmnParseFactory();
+        bpmnParser.setBpmnParseFactory(parser -> {
+            BpmnParse bpmnParse = originalBpmnParseFactory.createBpmnParse(parser);
+            createdBpmnParses.add(bpmnParse);
+            return bpmnParse;
+        });
+    }
+
+    @AfterEach
+    public void disableSnapshots() {
+        processEngineConfiguration.getBpmnParser().setBpmnParseFactory(originalBpmnParseFactory);
+        processEngineConfiguration.setEnableBpmnModelSnapshots(false);
+        repositoryService.createDeploymentQuery().list()
+                .forEach(deployment -> repositoryService.deleteDeployment(deployment.getId(), true));
+    }
+
+    @Test
+    public void testSnapshotIsStoredAndUsedAfterCacheMiss() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(RESOURCE_NAME).deploy().getId();
+
+        String snapshotResourceName = BpmnModelSnapshotUtil.getSnapshotResourceName(RESOURCE_NAME);
+        assertThat(repositoryService.getDeploymentResourceNames(deploymentId)).contains(RESOURCE_NAME, snapshotResourceName);
+
+        BpmnModel bpmnModel = BpmnModelSnapshotUtil.readSnapshot(IoUtil.readInputStream(
+                repositoryService.getResourceAsStream(deploymentId, snapshotResourceName), snapshotResourceName));
+        assertThat(bpmnModel).isNotNull();
+        assertThat(bpmnModel.getProcessById("oneTaskProcess").getFlowElement("theTask")).isInstanceOf(UserTask.class);
+        UserTask userTask = (UserTask) bpmnModel.getProcessById("oneTaskProcess").getFlowElement("theTask");
+        assertThat(userTask.getIncomingFlows()).extracting(SequenceFlow::getSourceRef).containsExactly("theStart");
+        assertThat(userTask.getBehavior()).isNull();
+
+        assertThat(createdBpmnParses).hasSize(1);
+        assertThat(createdBpmnParses.get(0).getSourceBpmnModel()).isNull();
+
+        createdBpmnParses.clear();
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        // The process definition is deployed again from the snapshot, without converting the BPMN XML
+        assertThat(createdBpmnParses).hasSize(1);
+        assertThat(createdBpmnParses.get(0).getSourceBpmnModel()).isNotNull();
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("theTask");
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    public void testSnapshotResourceAddedToDeploymentIsIgnored() {
+        String snapshotResourceName = BpmnModelSnapshotUtil.getSnapshotResourceName(RESOURCE_NAME);
+        repositoryService.createDeployment()
+                .addClasspathResource(RESOURCE_NAME)
+                .addBytes(snapshotResourceName, "not a snapshot".getBytes(StandardCharsets.UTF_8))
+                .deploy();
+
+        createdBpmnParses.clear();
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertThat(createdBpmnParses).hasSize(1);
+        assertThat(createdBpmnParses.get(0).getSourceBpmnModel()).isNull();
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getTaskDefinitionKey()).isEqualTo("theTask");
+    }
+
+    @Test
+    public void testInvalidSnapshotIsNotRead() {
+        assertThat(BpmnModelSnapshotUtil.readSnapshot("not a snapshot".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
+}
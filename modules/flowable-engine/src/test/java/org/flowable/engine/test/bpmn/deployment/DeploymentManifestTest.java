@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DeploymentManifestTest extends PluggableFlowableTestCase {
+
+    protected static final String RESOURCE_NAME = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+
+    @BeforeEach
+    public void enableManifest() {
+        processEngineConfiguration.setEnableDeploymentManifest(true);
+    }
+
+    @AfterEach
+    public void disableManifest() {
+        processEngineConfiguration.setEnableDeploymentManifest(false);
+        repositoryService.createDeploymentQuery().list()
+                .forEach(deployment -> repositoryService.deleteDeployment(deployment.getId(), true));
+    }
+
+    @Test
+    public void testManifestIsStoredWithDeployment() {
+        Deployment deployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+
+        assertThat(repositoryService.getDeploymentResourceNames(deployment.getId()))
+                .containsExactlyInAnyOrder(RESOURCE_NAME, DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+
+        byte[] resource = IoUtil.readInputStream(repositoryService.getResourceAsStream(deployment.getId(), RESOURCE_NAME), RESOURCE_NAME);
+        byte[] manifest = IoUtil.readInputStream(repositoryService.getResourceAsStream(deployment.getId(), DeploymentManifestUtil.MANIFEST_RESOURCE_NAME),
+                DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+        assertThat(DeploymentManifestUtil.readManifest(manifest)).containsOnlyKeys(RESOURCE_NAME)
+                .containsEntry(RESOURCE_NAME, DeploymentManifestUtil.hash(resource));
+    }
+
+    @Test
+    public void testDuplicateFilteringUsesManifest() {
+        Deployment deployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+
+        Deployment sameDeployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+        assertThat(sameDeployment.getId()).isEqualTo(deployment.getId());
+
+        String changedXml = new String(IoUtil.readInputStream(getClass().getClassLoader().getResourceAsStream(RESOURCE_NAME), RESOURCE_NAME),
+                StandardCharsets.UTF_8).replace("name=\"my task\"", "name=\"my changed task\"");
+        Deployment changedDeployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addString(RESOURCE_NAME, changedXml)
+                .deploy();
+        assertThat(changedDeployment.getId()).isNotEqualTo(deployment.getId());
+
+        Deployment additionalResourceDeployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addString(RESOURCE_NAME, changedXml)
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .deploy();
+        assertThat(additionalResourceDeployment.getId()).isNotIn(deployment.getId(), changedDeployment.getId());
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testDeploymentWithoutManifestIsComparedByContent() {
+        processEngineConfiguration.setEnableDeploymentManifest(false);
+        Deployment deployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+        assertThat(repositoryService.getDeploymentResourceNames(deployment.getId())).containsExactly(RESOURCE_NAME);
+
+        processEngineConfiguration.setEnableDeploymentManifest(true);
+        Deployment sameDeployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+        assertThat(sameDeployment.getId()).isEqualTo(deployment.getId());
+    }
+
+}
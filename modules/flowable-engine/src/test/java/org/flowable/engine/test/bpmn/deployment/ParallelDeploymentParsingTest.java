@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.validation.validator.Problems;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelDeploymentParsingTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    public void enableParallelParsing() {
+        processEngineConfiguration.setEnableParallelDeploymentParsing(true);
+    }
+
+    @AfterEach
+    public void disableParallelParsing() {
+        processEngineConfiguration.setEnableParallelDeploymentParsing(false);
+        repositoryService.createDeploymentQuery().list()
+                .forEach(deployment -> repositoryService.deleteDeployment(deployment.getId(), true));
+    }
+
+    @Test
+    public void testDeployMultipleResources() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/oneSubProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        assertThat(repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).list())
+                .extracting(ProcessDefinition::getKey)
+                .containsExactlyInAnyOrder("oneTaskProcess", "twoTasksProcess", "startSimpleSubProcess");
+
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+        assertThat(runtimeService.startProcessInstanceByKey("twoTasksProcess").getId()).isNotNull();
+    }
+
+    @Test
+    public void testInvalidResourceIsReported() {
+        assertThatThrownBy(() -> repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/bpmn/deployment/processWithLongId.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .deploy())
+                .isExactlyInstanceOf(FlowableException.class)
+                .hasMessageContaining(Problems.PROCESS_DEFINITION_ID_TOO_LONG);
+
+        assertThat(repositoryService.createDeploymentQuery().count()).isZero();
+    }
+
+}
@@ -0,0 +1,270 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.servicetask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.async.AsyncTaskInvoker;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.FutureJavaDelegate;
+import org.flowable.engine.impl.bpmn.helper.FutureJavaDelegateContinuation;
+import org.flowable.engine.impl.jobexecutor.FutureJavaDelegateContinuationJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ServiceTaskFutureContinuationTest extends PluggableFlowableTestCase {
+
+    protected static final String PROCESS_RESOURCE = "org/flowable/engine/test/bpmn/servicetask/ServiceTaskFutureContinuationTest.testServiceTaskIsContinuedAfterFutureCompletes.bpmn20.xml";
+    protected static final String CLASS_PROCESS_RESOURCE = "org/flowable/engine/test/bpmn/servicetask/ServiceTaskFutureContinuationTest.classDelegate.bpmn20.xml";
+
+    @BeforeEach
+    void enableContinuation() {
+        processEngineConfiguration.setEnableFutureJavaDelegateContinuation(true);
+    }
+
+    @AfterEach
+    void disableContinuation() {
+        processEngineConfiguration.setEnableFutureJavaDelegateContinuation(false);
+    }
+
+    @Test
+    @Deployment
+    void testServiceTaskIsContinuedAfterFutureCompletes() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("futureContinuation")
+                .transientVariable("bean", new ResultDelegate(future))
+                .start();
+
+        // The start command is committed while the future is still running
+        Execution execution = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("serviceTask").singleResult();
+        assertThat(execution).isNotNull();
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isNull();
+
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(timerJob.getJobHandlerType()).isEqualTo(FutureJavaDelegateContinuationJobHandler.TYPE);
+        assertThat(timerJob.getElementId()).isEqualTo("serviceTask");
+
+        future.complete("done");
+
+        Job job = waitForContinuationJob(processInstance.getId());
+        managementService.executeJob(job.getId());
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("done");
+        assertThat(getJobHandler().getNumberOfPendingFutures()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    void testCompletedFutureIsContinuedInSameTransaction() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("futureContinuation")
+                .transientVariable("bean", new ResultDelegate(CompletableFuture.completedFuture("done")))
+                .start();
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("done");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    void testResultIsIgnoredWhenProcessInstanceWasDeleted() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("futureContinuation")
+                .transientVariable("bean", new ResultDelegate(future))
+                .start();
+        assertThat(getJobHandler().getNumberOfPendingFutures()).isEqualTo(1);
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        assertThat(managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+
+        future.complete("done");
+
+        // The continuation forgets the result once it noticed that the execution is no longer waiting for it
+        await().atMost(Duration.ofSeconds(10)).until(() -> getJobHandler().getNumberOfPendingFutures() == 0);
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    void testFailingContinuationIsRetried() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ResultDelegate delegate = new ResultDelegate(future);
+        delegate.failures.set(1);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("futureContinuation")
+                .transientVariable("bean", delegate)
+                .start();
+
+        future.complete("done");
+
+        Job job = waitForContinuationJob(processInstance.getId());
+        assertThatThrownBy(() -> managementService.executeJob(job.getId()))
+                .hasMessageContaining("afterExecution failed");
+
+        // The failed job is retried like any other job, with the result of the future still being available
+        Job retryJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(retryJob.getRetries()).isEqualTo(processEngineConfiguration.getAsyncExecutorNumberOfRetries() - 1);
+        assertThat(retryJob.getExceptionMessage()).contains("afterExecution failed");
+
+        managementService.moveTimerToExecutableJob(retryJob.getId());
+        managementService.executeJob(retryJob.getId());
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("done");
+    }
+
+    @Test
+    @Deployment(resources = CLASS_PROCESS_RESOURCE)
+    void testResultIsAppliedByAnotherEngine() {
+        StaticResultDelegate.future = new CompletableFuture<>();
+        StaticResultDelegate.invocations.set(0);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("futureContinuationClass");
+
+        StaticResultDelegate.future.complete("done");
+        Job job = waitForContinuationJob(processInstance.getId());
+        assertThat(job.getJobHandlerConfiguration()).isNotNull();
+
+        // Another engine doesn't know the future, it applies the result that was stored in the job
+        getJobHandler().removePendingFuture(job.getJobHandlerConfiguration());
+        managementService.executeJob(job.getId());
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("done");
+        assertThat(StaticResultDelegate.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = CLASS_PROCESS_RESOURCE)
+    void testDelegateIsInvokedAgainWhenFutureWasLost() {
+        StaticResultDelegate.future = new CompletableFuture<>();
+        StaticResultDelegate.invocations.set(0);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("futureContinuationClass");
+
+        // The timer job becomes due after the continuation timeout, e.g. when the future was lost because the engine was restarted
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        getJobHandler().removePendingFuture(timerJob.getJobHandlerConfiguration());
+        CompletableFuture<String> lostFuture = StaticResultDelegate.future;
+        StaticResultDelegate.future = new CompletableFuture<>();
+
+        managementService.moveTimerToExecutableJob(timerJob.getId());
+        managementService.executeJob(timerJob.getId());
+
+        assertThat(StaticResultDelegate.invocations.get()).isEqualTo(2);
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("serviceTask").count()).isEqualTo(1);
+        Job newTimerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(newTimerJob.getId()).isNotEqualTo(timerJob.getId());
+        assertThat(newTimerJob.getJobHandlerConfiguration()).isEqualTo(timerJob.getJobHandlerConfiguration());
+
+        // The lost future is ignored, the future of the new invocation continues the process instance
+        lostFuture.complete("lost");
+        StaticResultDelegate.future.complete("done");
+        Job job = waitForContinuationJob(processInstance.getId());
+        managementService.executeJob(job.getId());
+
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "result")).isEqualTo("done");
+    }
+
+    @Test
+    @Deployment(resources = PROCESS_RESOURCE)
+    void testExpiredPendingFutureIsRemoved() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("futureContinuation")
+                .transientVariable("bean", new ResultDelegate(future))
+                .start();
+        assertThat(getJobHandler().getNumberOfPendingFutures()).isEqualTo(1);
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        getJobHandler().removeExpiredPendingFutures(now);
+        assertThat(getJobHandler().getNumberOfPendingFutures()).isEqualTo(1);
+
+        Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        getJobHandler().removeExpiredPendingFutures(new Date(timerJob.getDuedate().getTime() + 1000));
+        assertThat(getJobHandler().getNumberOfPendingFutures()).isZero();
+        assertThat(future).isCancelled();
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    protected Job waitForContinuationJob(String processInstanceId) {
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> managementService.createJobQuery().processInstanceId(processInstanceId).count() == 1);
+        return managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+    }
+
+    protected FutureJavaDelegateContinuationJobHandler getJobHandler() {
+        return FutureJavaDelegateContinuation.getJobHandler(processEngineConfiguration);
+    }
+
+    static class ResultDelegate implements FutureJavaDelegate<String> {
+
+        protected final CompletableFuture<String> future;
+        protected final AtomicInteger failures = new AtomicInteger();
+
+        ResultDelegate(CompletableFuture<String> future) {
+            this.future = future;
+        }
+
+        @Override
+        public CompletableFuture<String> execute(DelegateExecution execution, AsyncTaskInvoker taskInvoker) {
+            return future;
+        }
+
+        @Override
+        public void afterExecution(DelegateExecution execution, String executionData) {
+            if (failures.getAndDecrement() > 0) {
+                throw new FlowableException("afterExecution failed");
+            }
+            execution.setVariable("result", executionData);
+        }
+    }
+
+    public static class StaticResultDelegate implements FutureJavaDelegate<String> {
+
+        protected static volatile CompletableFuture<String> future;
+        protected static final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public CompletableFuture<String> execute(DelegateExecution execution, AsyncTaskInvoker taskInvoker) {
+            invocations.incrementAndGet();
+            return future;
+        }
+
+        @Override
+        public void afterExecution(DelegateExecution execution, String executionData) {
+            execution.setVariable("result", executionData);
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the JDBC batched flushing of entity updates.
+ */
+public class BatchUpdateTest extends CustomConfigurationFlowableTestCase {
+
+    public BatchUpdateTest() {
+        super("batchUpdateTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setBatchUpdateEnabled(true);
+        processEngineConfiguration.setMaxNrOfStatementsInBatchUpdate(3);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testBatchUpdateOfTasks() {
+        ProcessInstance processInstance = startProcessInstanceWithParallelTasks(5);
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+            for (Task task : tasks) {
+                task.setName("Updated " + task.getName());
+                task.setPriority(10);
+            }
+            return null;
+        });
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks)
+                .hasSize(5)
+                .extracting(Task::getName, Task::getPriority)
+                .containsOnly(tuple("Updated Parallel Task", 10));
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        Task nextTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(nextTask.getTaskDefinitionKey()).isEqualTo("nextTask");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testBatchUpdateDetectsConcurrentModification() {
+        ProcessInstance processInstance = startProcessInstanceWithParallelTasks(4);
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        assertThatThrownBy(() -> commandExecutor.execute(commandContext -> {
+            List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+
+            // Change one of the tasks in another transaction, so that its revision doesn't match anymore
+            String concurrentlyChangedTaskId = tasks.get(2).getId();
+            commandExecutor.execute(new CommandConfig().transactionRequiresNew(), nestedCommandContext -> {
+                Task task = taskService.createTaskQuery().taskId(concurrentlyChangedTaskId).singleResult();
+                task.setDescription("Changed concurrently");
+                return null;
+            });
+
+            for (Task task : tasks) {
+                task.setDescription("Changed in batch");
+            }
+            return null;
+        }))
+                .isInstanceOf(FlowableOptimisticLockingException.class);
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks)
+                .extracting(Task::getDescription)
+                .containsOnly(null, "Changed concurrently");
+    }
+
+    protected ProcessInstance startProcessInstanceWithParallelTasks(int nrOfLoops) {
+        ProcessInstance processInstance = runtimeService
+                .startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", nrOfLoops));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        return processInstance;
+    }
+
+}
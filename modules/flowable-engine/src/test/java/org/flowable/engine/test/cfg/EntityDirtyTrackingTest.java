@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the flushing of entities when entity dirty tracking is enabled.
+ */
+public class EntityDirtyTrackingTest extends CustomConfigurationFlowableTestCase {
+
+    public EntityDirtyTrackingTest() {
+        super("entityDirtyTrackingTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setEntityDirtyTrackingEnabled(true);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testHistoryIsUpdatedWithDirtyTracking() {
+        ProcessInstance processInstance = runtimeService
+                .startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 3));
+
+        Task task;
+        while ((task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).listPage(0, 1).stream()
+                .findFirst().orElse(null)) != null) {
+            taskService.complete(task.getId());
+        }
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+                .processInstanceId(processInstance.getId()).singleResult();
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+        List<HistoricActivityInstance> historicActivityInstances = historyService.createHistoricActivityInstanceQuery()
+                .processInstanceId(processInstance.getId()).list();
+        assertThat(historicActivityInstances)
+                .isNotEmpty()
+                .allSatisfy(historicActivityInstance -> assertThat(historicActivityInstance.getEndTime()).isNotNull());
+
+        List<HistoricTaskInstance> historicTaskInstances = historyService.createHistoricTaskInstanceQuery()
+                .processInstanceId(processInstance.getId()).list();
+        assertThat(historicTaskInstances)
+                .hasSize(5)
+                .allSatisfy(historicTaskInstance -> assertThat(historicTaskInstance.getEndTime()).isNotNull());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testChangedHistoricEntityIsFlushed() {
+        ProcessInstance processInstance = runtimeService
+                .startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 3));
+
+        processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            HistoricTaskInstanceEntity historicTaskInstance = (HistoricTaskInstanceEntity) historyService
+                    .createHistoricTaskInstanceQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertThat(((DirtyTrackingEntity) historicTaskInstance).isDirty()).isFalse();
+
+            historicTaskInstance.setCategory("changed");
+            assertThat(((DirtyTrackingEntity) historicTaskInstance).isDirty()).isTrue();
+            return null;
+        });
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery()
+                .processInstanceId(processInstance.getId()).singleResult();
+        assertThat(historicTaskInstance.getCategory()).isEqualTo("changed");
+    }
+
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link PrefetchingDbIdGenerator}.
+ */
+public class PrefetchingDbIdGeneratorTest extends CustomConfigurationFlowableTestCase {
+
+    public PrefetchingDbIdGeneratorTest() {
+        super("prefetchingDbIdGeneratorTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setIdBlockSize(10);
+        processEngineConfiguration.setEnableIdBlockPrefetching(true);
+        processEngineConfiguration.setMaxIdBlockSize(200);
+    }
+
+    @Test
+    public void testIdsAreUniqueWhenGeneratedConcurrently() throws Exception {
+        IdGenerator idGenerator = processEngineConfiguration.getIdGenerator();
+        assertThat(idGenerator).isInstanceOf(PrefetchingDbIdGenerator.class);
+
+        int nrOfThreads = 8;
+        int nrOfIdsPerThread = 1000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(nrOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < nrOfThreads; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < nrOfIdsPerThread; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(nrOfThreads * nrOfIdsPerThread);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/multiInstanceParallel.bpmn20.xml")
+    public void testProcessInstancesWithPrefetchedIds() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ProcessInstance processInstance = runtimeService
+                    .startProcessInstanceByKey("parallelMultiInstance", Collections.singletonMap("nrOfLoops", 3));
+            processInstanceIds.add(processInstance.getId());
+        }
+
+        assertThat(processInstanceIds).doesNotHaveDuplicates();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(20);
+    }
+
+}
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.tuple;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,8 @@ import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 
@@ -365,6 +368,102 @@ public class BpmnEventRegistryConsumerTest extends AbstractBpmnEventRegistryCons
         assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isEqualTo(1);
     }
     
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskWithCorrelationAndPayload.bpmn20.xml")
+    public void testReceiveEventTaskWithBatchOfEvents() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "gonzo"));
+        ProcessInstance piggyProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "piggy"));
+
+        // The second kermit event is correlated after the first one has been handled, so it no longer finds the receive task
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "fozzie", "gonzo", "kermit");
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+                .isEqualTo("taskAfterTask");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).singleResult().getTaskDefinitionKey())
+                .isEqualTo("taskAfterTask");
+        assertThat(taskService.createTaskQuery().processInstanceId(piggyProcessInstance.getId()).count()).isZero();
+        assertThat(runtimeService.getVariables(kermitProcessInstance.getId()))
+                .containsOnly(
+                        entry("customerIdVar", "kermit"),
+                        entry("payload1", "Hello World")
+                );
+
+        inboundEventChannelAdapter.triggerTestEvents("piggy");
+        assertThat(taskService.createTaskQuery().processInstanceId(piggyProcessInstance.getId()).count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskNoCorrelation.bpmn20.xml")
+    public void testReceiveEventTaskNoCorrelationWithBatchOfEvents() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+        // The subscription without correlation matches both events, but it is only triggered by the first one
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo");
+
+        Task afterTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterTask.getTaskDefinitionKey()).isEqualTo("taskAfterTask");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("task").singleResult()).isNull();
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment
+    public void testReceiveEventTaskSubscribedByEarlierEventOfBatch() {
+        // The first event starts the process instance, which subscribes to the second event of the same batch
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo");
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceQuery().processDefinitionKey("process").singleResult();
+        assertThat(processInstance).isNotNull();
+        Task afterTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterTask.getTaskDefinitionKey()).isEqualTo("taskAfterTask");
+        assertThat(runtimeService.createEventSubscriptionQuery().activityId("task").singleResult()).isNull();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskWithCorrelationAndPayload.bpmn20.xml")
+    public void testReceiveEventTaskWithCorrelationIndex() {
+        // Started before the index exists, so only known to the index after rebuilding it from the database
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "kermit"));
+
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        EventSubscriptionCorrelationIndex correlationIndex = new EventSubscriptionCorrelationIndex(eventSubscriptionServiceConfiguration, Duration.ofMinutes(10));
+        eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(correlationIndex);
+        try {
+            correlationIndex.reconcile(processEngineConfiguration.getCommandExecutor());
+
+            ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Map.of("customerIdVar", "gonzo"));
+
+            String kermitConfiguration = runtimeService.createEventSubscriptionQuery().processInstanceId(kermitProcessInstance.getId())
+                    .singleResult().getConfiguration();
+            String gonzoConfiguration = runtimeService.createEventSubscriptionQuery().processInstanceId(gonzoProcessInstance.getId())
+                    .singleResult().getConfiguration();
+            assertThat(hasPossibleEventSubscriptions(correlationIndex, kermitConfiguration)).isTrue();
+            assertThat(hasPossibleEventSubscriptions(correlationIndex, gonzoConfiguration)).isTrue();
+            assertThat(hasPossibleEventSubscriptions(correlationIndex, "unknown")).isFalse();
+
+            inboundEventChannelAdapter.triggerTestEvent("fozzie");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isZero();
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isZero();
+
+            inboundEventChannelAdapter.triggerTestEvent("kermit");
+            assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isEqualTo(1);
+            assertThat(hasPossibleEventSubscriptions(correlationIndex, kermitConfiguration)).isFalse();
+
+            inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo");
+            assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isEqualTo(1);
+            assertThat(hasPossibleEventSubscriptions(correlationIndex, gonzoConfiguration)).isFalse();
+
+        } finally {
+            eventSubscriptionServiceConfiguration.setEventSubscriptionCorrelationIndex(null);
+        }
+    }
+
+    protected boolean hasPossibleEventSubscriptions(EventSubscriptionCorrelationIndex correlationIndex, String configuration) {
+        return correlationIndex.hasPossibleEventSubscriptions(ScopeTypes.BPMN, "myEvent", List.of(configuration),
+                processEngineConfiguration.getCommandExecutor());
+    }
+
     @Test
     @Deployment
     public void testReceiveEventTaskSkipExpression() {
@@ -24,6 +24,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -1613,6 +1617,71 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
         assertThat(runtimeService.getVariable(processInstance.getId(), "product")).isEqualTo(875L);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithWaitTimeoutWhenJobIsCreated() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = executorService.submit(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("simple", Duration.ofMinutes(30))
+                    .waitTimeout(Duration.ofSeconds(30))
+                    .acquireAndLock(1, "testWorker"));
+
+            ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                    .processDefinitionKey("simpleExternalWorker")
+                    .start();
+
+            List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(20, TimeUnit.SECONDS);
+            assertThat(acquiredJobs)
+                    .extracting(AcquiredExternalWorkerJob::getProcessInstanceId, AcquiredExternalWorkerJob::getLockOwner)
+                    .containsExactly(tuple(processInstance.getId(), "testWorker"));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithWaitTimeoutWhenNoJobIsCreated() {
+        runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .start();
+
+        long start = System.nanoTime();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("otherTopic", Duration.ofMinutes(30))
+                .waitTimeout(Duration.ofMillis(200))
+                .acquireAndLock(1, "testWorker");
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+
+        assertThatThrownBy(() -> managementService.createExternalWorkerJobAcquireBuilder().waitTimeout(Duration.ofSeconds(-1)))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("waitTimeout must not be negative");
+
+        // The signal of the topic is removed once nobody waits for it anymore
+        assertThat(processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobAcquireNotifier().getNumberOfSignalledTopics()).isZero();
+    }
+
+    @Test
+    void testAcquireWithWaitTimeoutIsLimitedToMaxWaitTimeout() {
+        Duration originalMaxWaitTimeout = processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobAcquireMaxWaitTimeout();
+        processEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobAcquireMaxWaitTimeout(Duration.ofMillis(100));
+        try {
+            long start = System.nanoTime();
+            List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("otherTopic", Duration.ofMinutes(30))
+                    .waitTimeout(Duration.ofMinutes(10))
+                    .acquireAndLock(1, "testWorker");
+
+            assertThat(acquiredJobs).isEmpty();
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(30));
+        } finally {
+            processEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobAcquireMaxWaitTimeout(originalMaxWaitTimeout);
+        }
+    }
+
     protected void addUserIdentityLinkToJob(Job job, String userId) {
         managementService.executeCommand(commandContext -> {
                     processEngineConfiguration.getIdentityLinkServiceConfiguration().getIdentityLinkService()
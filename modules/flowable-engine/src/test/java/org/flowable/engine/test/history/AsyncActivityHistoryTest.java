@@ -0,0 +1,192 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.AsyncActivityHistoryJobHandler;
+import org.flowable.engine.impl.history.async.WriteBehindActivityHistoryManager;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.runtime.ActivityInstance;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests the historic activity instances written by the {@link WriteBehindActivityHistoryManager}.
+ */
+public class AsyncActivityHistoryTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncActivityHistoryTest() {
+        super("asyncActivityHistoryTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngineConfiguration.setAsyncActivityHistoryEnabled(true);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testActivityHistoryIsWrittenByHistoryJob() {
+        assertThat(processEngineConfiguration.getHistoryManager()).isInstanceOf(WriteBehindActivityHistoryManager.class);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(managementService.createHistoryJobQuery().count()).isEqualTo(1);
+
+        waitForHistoryJobs();
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).activityId("theTask")
+                .singleResult().getEndTime()).isNull();
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        waitForHistoryJobs();
+
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).activityType("userTask").list())
+                .extracting(HistoricActivityInstance::getActivityId, HistoricActivityInstance::getTaskId)
+                .containsExactly(tuple("theTask", task.getId()));
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(HistoricActivityInstance::getActivityId)
+                .contains("theStart", "theTask", "theEnd");
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).unfinished().count())
+                .isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOutOfOrderUpdatesKeepNewestRevision() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobs();
+
+        ActivityInstance activityInstance = runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId())
+                .activityId("theTask").singleResult();
+
+        String[] updateJobIds = new String[5];
+        for (int revision = 2; revision <= 4; revision++) {
+            ObjectNode updateNode = createActivityInstanceNode(activityInstance, revision);
+            updateNode.put(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_NAME, "Update " + revision);
+            updateNode.put(AsyncActivityHistoryJobHandler.FIELD_ASSIGNEE, "assignee" + revision);
+            updateJobIds[revision] = scheduleActivityHistoryJob(updateNode);
+        }
+
+        // The history jobs are executed from the newest to the oldest runtime revision
+        for (int revision = 4; revision >= 2; revision--) {
+            managementService.executeHistoryJob(updateJobIds[revision]);
+
+            HistoricActivityInstance historicActivityInstance = historyService.createHistoricActivityInstanceQuery()
+                    .activityInstanceId(activityInstance.getId()).singleResult();
+            assertThat(historicActivityInstance.getActivityName()).isEqualTo("Update 4");
+            assertThat(historicActivityInstance.getAssignee()).isEqualTo("assignee4");
+        }
+
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testAssigneeChangeIsWrittenByHistoryJob() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobs();
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).activityId("theTask")
+                .singleResult().getAssignee()).isNull();
+        assertThat(managementService.createHistoryJobQuery().count()).isEqualTo(1);
+
+        waitForHistoryJobs();
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).activityId("theTask")
+                .singleResult().getAssignee()).isEqualTo("kermit");
+
+        // The assignee change of the task history is still written in the transaction of the runtime changes
+        assertThat(historyService.createHistoricTaskInstanceQuery().taskId(task.getId()).singleResult().getAssignee()).isEqualTo("kermit");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testUpdateOfNotInsertedActivityInstanceIsRescheduled() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        HistoryJob insertJob = managementService.createHistoryJobQuery().singleResult();
+
+        ActivityInstance activityInstance = runtimeService.createActivityInstanceQuery().processInstanceId(processInstance.getId())
+                .activityId("theTask").singleResult();
+        ObjectNode updateNode = createActivityInstanceNode(activityInstance, 2);
+        updateNode.put(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_NAME, "Updated");
+        String updateJobId = scheduleActivityHistoryJob(updateNode);
+        int retries = managementService.createHistoryJobQuery().jobId(updateJobId).singleResult().getRetries();
+
+        managementService.executeHistoryJob(updateJobId);
+        assertThat(managementService.createHistoryJobQuery().jobId(updateJobId).count()).isZero();
+        assertThat(managementService.createHistoryJobQuery().count()).isEqualTo(2);
+        assertThat(managementService.createHistoryJobQuery().list())
+                .filteredOn(historyJob -> !historyJob.getId().equals(insertJob.getId()))
+                .extracting(HistoryJob::getRetries)
+                .containsExactly(retries);
+
+        managementService.executeHistoryJob(insertJob.getId());
+        waitForHistoryJobs();
+
+        assertThat(historyService.createHistoricActivityInstanceQuery().activityInstanceId(activityInstance.getId()).singleResult().getActivityName())
+                .isEqualTo("Updated");
+    }
+
+    protected ObjectNode createActivityInstanceNode(ActivityInstance activityInstance, int revision) {
+        ObjectNode node = processEngineConfiguration.getObjectMapper().createObjectNode();
+        node.put(AsyncActivityHistoryJobHandler.FIELD_ID, activityInstance.getId());
+        node.put(AsyncActivityHistoryJobHandler.FIELD_REVISION, revision);
+        node.put(AsyncActivityHistoryJobHandler.FIELD_PROCESS_DEFINITION_ID, activityInstance.getProcessDefinitionId());
+        node.put(AsyncActivityHistoryJobHandler.FIELD_PROCESS_INSTANCE_ID, activityInstance.getProcessInstanceId());
+        node.put(AsyncActivityHistoryJobHandler.FIELD_EXECUTION_ID, activityInstance.getExecutionId());
+        node.put(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_ID, activityInstance.getActivityId());
+        node.put(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_NAME, activityInstance.getActivityName());
+        node.put(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_TYPE, activityInstance.getActivityType());
+        AsyncHistoryJsonUtil.putIfNotNull(node, AsyncActivityHistoryJobHandler.FIELD_START_TIME, activityInstance.getStartTime());
+        return node;
+    }
+
+    protected String scheduleActivityHistoryJob(ObjectNode activityInstanceNode) {
+        ObjectNode configurationNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        configurationNode.putArray(AsyncActivityHistoryJobHandler.FIELD_ACTIVITY_INSTANCES).add(activityInstanceNode);
+
+        return managementService.executeCommand(commandContext -> {
+            JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+            HistoryJobEntity historyJob = jobServiceConfiguration.getHistoryJobService().createHistoryJob();
+            historyJob.setJobHandlerType(AsyncActivityHistoryJobHandler.TYPE);
+            historyJob.setRetries(jobServiceConfiguration.getAsyncHistoryExecutorNumberOfRetries());
+            historyJob.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
+            historyJob.setAdvancedJobHandlerConfiguration(configurationNode.toString());
+            jobServiceConfiguration.getHistoryJobService().scheduleHistoryJob(historyJob);
+            return historyJob.getId();
+        });
+    }
+
+    protected void waitForHistoryJobs() {
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngineConfiguration, managementService, 10000, 200, false);
+    }
+
+}
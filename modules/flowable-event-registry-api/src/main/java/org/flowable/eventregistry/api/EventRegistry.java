@@ -73,11 +73,30 @@ public interface EventRegistry {
      */
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Batch listeners of adapters should call this method to process all the events received in one batch.
+     * The event subscriptions for the events are looked up in bulk, instead of once per event.
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        for (InboundEvent event : events) {
+            eventReceived(channelModel, event);
+        }
+    }
+
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send multiple events to all the registered event consumers at once.
+     */
+    default void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+            sendEventToConsumers(eventRegistryEvent);
+        }
+    }
+
     /**
      * Send out the {@code eventInstance} via the given system {@link OutboundEventProcessor}.
      */
@@ -12,12 +12,30 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Joram Barrez
  */
 public interface EventRegistryEventConsumer {
 
     EventRegistryProcessingInfo eventReceived(EventRegistryEvent event);
+
+    /**
+     * Consume multiple events at once, e.g. all the events received in one poll of an inbound channel.
+     * Implementations can use this to correlate the events in bulk.
+     * By default every event is consumed on its own.
+     *
+     * @return the processing info of every event, in the order of the given events
+     */
+    default List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            processingInfos.add(eventReceived(event));
+        }
+        return processingInfos;
+    }
     
     String getConsumerKey();
 }
@@ -162,6 +162,13 @@ public interface InboundChannelModelBuilder {
          */
         InboundRabbitChannelBuilder ackMode(String ackMode);
 
+        /**
+         * Sets whether the listener receives the messages in batches (true/false or an expression).
+         * The events of a batch are correlated with one event subscription lookup per event definition.
+         * The container factory needs to be configured for consumer batching. See the Spring Rabbit docs for more info.
+         */
+        InboundRabbitChannelBuilder batchListener(String batchListener);
+
         /**
          * Continue building the {@link InboundChannelModel} by configuring the next parts (if any).
          */
@@ -193,6 +200,13 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder property(String name, String value);
 
+        /**
+         * Sets whether the listener receives all the records of a poll at once (true/false or an expression).
+         * The events of a poll are correlated with one event subscription lookup per event definition
+         * and the records are only acknowledged once all the events of the poll have been handled.
+         */
+        InboundKafkaChannelBuilder batchListener(String batchListener);
+
         /**
          * Continue building the {@link InboundChannelModel} by configuring the next parts (if any).
          */
@@ -31,6 +31,7 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected Collection<TopicPartition> topicPartitions;
     protected String clientIdPrefix;
     protected String concurrency;
+    protected String batchListener;
     protected RetryConfiguration retry;
     protected List<CustomProperty> customProperties;
 
@@ -91,6 +92,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(String batchListener) {
+        this.batchListener = batchListener;
+    }
+
     public RetryConfiguration getRetry() {
         return retry;
     }
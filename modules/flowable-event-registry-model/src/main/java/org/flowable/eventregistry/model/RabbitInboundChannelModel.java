@@ -29,6 +29,7 @@ public class RabbitInboundChannelModel extends InboundChannelModel {
     protected String admin;
 
     protected String concurrency;
+    protected String batchListener;
     protected String executor;
     protected String ackMode;
 
@@ -77,6 +78,14 @@ public class RabbitInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public String getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(String batchListener) {
+        this.batchListener = batchListener;
+    }
+
     public String getExecutor() {
         return executor;
     }
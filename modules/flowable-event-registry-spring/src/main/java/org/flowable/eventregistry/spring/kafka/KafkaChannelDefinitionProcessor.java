@@ -235,6 +235,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
         if (retryTopicConfiguration != null) {
 
+            if (isBatchListener(channelModel)) {
+                throw new FlowableException("Channel model " + channelModel.getKey() + " in tenant " + tenantId
+                        + " has retry topic configuration, which is not supported for batch listeners");
+            }
+
             Collection<String> topics;
             if (mainEndpoint.getTopics().isEmpty()) {
                 TopicPartitionOffset[] topicPartitionsToAssign = mainEndpoint.getTopicPartitionsToAssign();
@@ -744,10 +749,24 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
     @SuppressWarnings("unchecked")
     protected GenericMessageListener<ConsumerRecord<Object, Object>> createMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
         @SuppressWarnings("rawtypes")
-        GenericMessageListener kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        GenericMessageListener kafkaChannelMessageListenerAdapter;
+        if (isBatchListener(inboundChannelModel)) {
+            // The container detects from the listener type that it needs to pass all the records of a poll at once
+            kafkaChannelMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        } else {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        }
         return kafkaChannelMessageListenerAdapter;
     }
 
+    protected boolean isBatchListener(InboundChannelModel inboundChannelModel) {
+        if (inboundChannelModel instanceof KafkaInboundChannelModel) {
+            String batchListener = ((KafkaInboundChannelModel) inboundChannelModel).getBatchListener();
+            return StringUtils.hasText(batchListener) && resolveExpressionAsBoolean(batchListener, "batchListener", false);
+        }
+        return false;
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         logger.info("Starting to unregister channel {} in tenant {}", channelModel.getKey(), tenantId);
@@ -139,6 +139,7 @@ public class RabbitChannelDefinitionProcessor implements BeanFactoryAware, Appli
         endpoint.setAdmin(resolveAdmin(channelModel));
         endpoint.setTaskExecutor(resolveExecutor(channelModel));
         endpoint.setAckMode(resolveAckMode(channelModel));
+        endpoint.setBatchListener(resolveBatchListener(channelModel));
 
         endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
         return endpoint;
@@ -250,6 +251,22 @@ public class RabbitChannelDefinitionProcessor implements BeanFactoryAware, Appli
         }
     }
 
+    protected boolean resolveBatchListener(RabbitInboundChannelModel channelDefinition) {
+        String batchListenerAttr = channelDefinition.getBatchListener();
+        if (StringUtils.hasText(batchListenerAttr)) {
+            Object batchListener = resolveExpression(batchListenerAttr);
+            if (batchListener instanceof String) {
+                return Boolean.parseBoolean((String) batchListener);
+            } else if (batchListener instanceof Boolean) {
+                return (Boolean) batchListener;
+            } else {
+                throw new IllegalArgumentException("batchListener in definition [ " + channelDefinition + " ] must resolve to a String or Boolean");
+            }
+        } else {
+            return false;
+        }
+    }
+
     protected TaskExecutor resolveExecutor(RabbitInboundChannelModel channelDefinition) {
         String executorBeanName = resolve(channelDefinition.getExecutor());
         if (StringUtils.hasText(executorBeanName)) {
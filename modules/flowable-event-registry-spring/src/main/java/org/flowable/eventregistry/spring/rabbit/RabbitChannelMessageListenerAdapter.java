@@ -12,7 +12,12 @@
  */
 package org.flowable.eventregistry.spring.rabbit;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageListener;
@@ -35,6 +40,16 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
         eventRegistry.eventReceived(inboundChannelModel, new RabbitInboundEvent(message));
     }
 
+    @Override
+    public void onMessageBatch(List<Message> messages) {
+        // Only invoked when the listener container is configured for consumer batching
+        Collection<InboundEvent> events = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            events.add(new RabbitInboundEvent(message));
+        }
+        eventRegistry.eventsReceived(inboundChannelModel, events);
+    }
+
     public EventRegistry getEventRegistry() {
         return eventRegistry;
     }
@@ -12,8 +12,10 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.CorrelationKeyGenerator;
@@ -81,6 +83,11 @@ public class DefaultEventRegistry implements EventRegistry {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
+
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
         Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
@@ -94,14 +101,54 @@ public class DefaultEventRegistry implements EventRegistry {
             if (debugLoggingEnabled) {
                 logger.debug("Event consumer {} processed event {} with result {}", eventConsumer, eventRegistryEvent, processingInfo);
             }
-            if (processingInfo != null && processingInfo.getEventConsumerInfos() != null && !processingInfo.getEventConsumerInfos().isEmpty()) {
-                if (eventRegistryProcessingInfo == null) {
-                    eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
+            eventRegistryProcessingInfo = mergeProcessingInfo(eventRegistryProcessingInfo, processingInfo);
+        }
+
+        handleProcessingInfo(eventRegistryEvent, eventRegistryProcessingInfo);
+    }
+
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        if (eventRegistryEvents.size() == 1) {
+            sendEventToConsumers(eventRegistryEvents.iterator().next());
+            return;
+        }
+
+        List<EventRegistryEvent> events = new ArrayList<>(eventRegistryEvents);
+        List<EventRegistryProcessingInfo> eventRegistryProcessingInfos = new ArrayList<>(Collections.nCopies(events.size(), null));
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        boolean debugLoggingEnabled = logger.isDebugEnabled();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            if (debugLoggingEnabled) {
+                logger.debug("Sending {} events to event consumer {}", events.size(), eventConsumer);
+            }
+            List<EventRegistryProcessingInfo> processingInfos = eventConsumer.eventsReceived(events);
+            for (int i = 0; i < events.size(); i++) {
+                EventRegistryProcessingInfo processingInfo = processingInfos.get(i);
+                if (debugLoggingEnabled) {
+                    logger.debug("Event consumer {} processed event {} with result {}", eventConsumer, events.get(i), processingInfo);
                 }
-                eventRegistryProcessingInfo.setEventConsumerInfos(processingInfo.getEventConsumerInfos());
+                eventRegistryProcessingInfos.set(i, mergeProcessingInfo(eventRegistryProcessingInfos.get(i), processingInfo));
+            }
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            handleProcessingInfo(events.get(i), eventRegistryProcessingInfos.get(i));
+        }
+    }
+
+    protected EventRegistryProcessingInfo mergeProcessingInfo(EventRegistryProcessingInfo eventRegistryProcessingInfo, EventRegistryProcessingInfo processingInfo) {
+        if (processingInfo != null && processingInfo.getEventConsumerInfos() != null && !processingInfo.getEventConsumerInfos().isEmpty()) {
+            if (eventRegistryProcessingInfo == null) {
+                eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
             }
+            eventRegistryProcessingInfo.setEventConsumerInfos(processingInfo.getEventConsumerInfos());
         }
-        
+        return eventRegistryProcessingInfo;
+    }
+
+    protected void handleProcessingInfo(EventRegistryEvent eventRegistryEvent, EventRegistryProcessingInfo eventRegistryProcessingInfo) {
+        boolean debugLoggingEnabled = logger.isDebugEnabled();
         if (eventRegistryProcessingInfo == null || !eventRegistryProcessingInfo.eventHandled()) {
 
             EventRegistryNonMatchingEventConsumer nonMatchingEventConsumer = engineConfiguration.getNonMatchingEventConsumer();
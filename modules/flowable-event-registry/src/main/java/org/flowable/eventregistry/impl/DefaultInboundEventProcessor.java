@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -44,4 +46,17 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(events.size());
+        for (InboundEvent event : events) {
+            eventRegistryEvents.addAll(inboundEventProcessingPipeline.run(channelModel, event));
+        }
+
+        if (!eventRegistryEvents.isEmpty()) {
+            eventRegistry.sendEventsToConsumers(eventRegistryEvents);
+        }
+    }
+
 }
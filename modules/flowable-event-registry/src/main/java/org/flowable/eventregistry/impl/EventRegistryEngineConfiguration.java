@@ -32,7 +32,6 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.FullDeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -433,9 +432,9 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
 
         if (eventDefinitionCache == null) {
             if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
+                eventDefinitionCache = createDeploymentCache("eventDefinitionCache");
             } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
+                eventDefinitionCache = createDeploymentCache("eventDefinitionCache", eventDefinitionCacheLimit);
             }
         }
         
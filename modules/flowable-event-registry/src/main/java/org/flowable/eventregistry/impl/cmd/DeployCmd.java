@@ -22,11 +22,13 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.impl.EventDeploymentQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
 import org.flowable.eventregistry.impl.persistence.entity.EventDeploymentEntity;
 import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntity;
+import org.flowable.eventregistry.impl.persistence.entity.EventResourceEntityManager;
 import org.flowable.eventregistry.impl.repository.EventDeploymentBuilderImpl;
 import org.flowable.eventregistry.impl.util.CommandContextUtil;
 
@@ -77,14 +79,6 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
 
             if (!existingDeployments.isEmpty()) {
                 EventDeploymentEntity existingDeployment = (EventDeploymentEntity) existingDeployments.get(0);
-
-                Map<String, EventResourceEntity> resourceMap = new HashMap<>();
-                List<EventResourceEntity> resourceList = eventRegistryConfiguration.getResourceEntityManager().findResourcesByDeploymentId(existingDeployment.getId());
-                for (EventResourceEntity resourceEntity : resourceList) {
-                    resourceMap.put(resourceEntity.getName(), resourceEntity);
-                }
-                existingDeployment.setResources(resourceMap);
-                
                 if (!deploymentsDiffer(deployment, existingDeployment)) {
                     return existingDeployment;
                 }
@@ -93,6 +87,10 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
 
         deployment.setNew(true);
 
+        if (deploymentBuilder.isDuplicateFilterEnabled() && eventRegistryConfiguration.isEnableDeploymentManifest()) {
+            addDeploymentManifest(deployment, eventRegistryConfiguration.getResourceEntityManager());
+        }
+
         // Save the data
         eventRegistryConfiguration.getDeploymentEntityManager().insert(deployment);
 
@@ -111,10 +109,27 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
 
     protected boolean deploymentsDiffer(EventDeploymentEntity deployment, EventDeploymentEntity saved) {
 
-        if (deployment.getResources() == null || saved.getResources() == null) {
+        if (deployment.getResources() == null) {
             return true;
         }
 
+        // Only the manifest of the saved deployment is read when it has one, instead of all of its resources
+        EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+        if (eventRegistryConfiguration.isEnableDeploymentManifest()) {
+            EventResourceEntity savedManifest = eventRegistryConfiguration.getResourceEntityManager()
+                    .findResourceByDeploymentIdAndResourceName(saved.getId(), DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+            if (savedManifest != null) {
+                return DeploymentManifestUtil.resourceBytesDiffer(getResourceBytes(deployment.getResources()), savedManifest.getBytes());
+            }
+        }
+
+        Map<String, EventResourceEntity> resourceMap = new HashMap<>();
+        List<EventResourceEntity> resourceList = eventRegistryConfiguration.getResourceEntityManager().findResourcesByDeploymentId(saved.getId());
+        for (EventResourceEntity resourceEntity : resourceList) {
+            resourceMap.put(resourceEntity.getName(), resourceEntity);
+        }
+        saved.setResources(resourceMap);
+
         Map<String, EventResourceEntity> resources = deployment.getResources();
         Map<String, EventResourceEntity> savedResources = saved.getResources();
 
@@ -135,4 +150,27 @@ public class DeployCmd<T> implements Command<EventDeployment>, Serializable {
         }
         return false;
     }
+
+    protected void addDeploymentManifest(EventDeploymentEntity deployment, EventResourceEntityManager resourceEntityManager) {
+        if (deployment.getResources() == null) {
+            return;
+        }
+
+        // Event resources are not marked as generated, so a resource that was added with the name of the manifest is always replaced
+        Map<String, byte[]> resourceBytes = getResourceBytes(deployment.getResources());
+        resourceBytes.remove(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+
+        EventResourceEntity manifest = resourceEntityManager.create();
+        manifest.setName(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+        manifest.setBytes(DeploymentManifestUtil.createManifestFromBytes(resourceBytes));
+        deployment.addResource(manifest);
+    }
+
+    protected Map<String, byte[]> getResourceBytes(Map<String, EventResourceEntity> resources) {
+        Map<String, byte[]> resourceBytes = new HashMap<>();
+        for (EventResourceEntity resource : resources.values()) {
+            resourceBytes.put(resource.getName(), resource.getBytes());
+        }
+        return resourceBytes;
+    }
 }
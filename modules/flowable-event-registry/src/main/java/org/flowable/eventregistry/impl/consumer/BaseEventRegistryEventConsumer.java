@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -55,8 +56,70 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
+        return eventReceived(getEventInstance(event));
+    }
+
+    /**
+     * Consumes the events with one event subscription query per event definition and tenant, instead of one query per event.
+     * The subscriptions are looked up before the first event is handled. Events that share a correlation key with an earlier event
+     * of the batch are looked up on their own after the earlier events are handled, as handling the earlier event can change their subscriptions.
+     * Once an event of the batch has triggered event subscriptions, the subscriptions of every later event are looked up again, as the earlier event
+     * can have removed them (e.g. a subscription without correlation matches every event) or created new ones (e.g. a started process instance that
+     * waits for a later event of the batch). This gives the same result as handling the events one by one.
+     */
+    @Override
+    public List<EventRegistryProcessingInfo> eventsReceived(List<EventRegistryEvent> events) {
+        String scopeType = getEventSubscriptionScopeType();
+        if (scopeType == null || events.size() < 2) {
+            return EventRegistryEventConsumer.super.eventsReceived(events);
+        }
+
+        int numberOfEvents = events.size();
+        List<EventInstance> eventInstances = new ArrayList<>(numberOfEvents);
+        List<Collection<CorrelationKey>> eventCorrelationKeys = new ArrayList<>(numberOfEvents);
+        Map<String, BatchQuery> batchQueries = new LinkedHashMap<>();
+        for (int i = 0; i < numberOfEvents; i++) {
+            EventInstance eventInstance = getEventInstance(events.get(i));
+            Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+            eventInstances.add(eventInstance);
+            eventCorrelationKeys.add(correlationKeys);
+
+            String batchQueryKey = eventInstance.getEventKey() + '|' + eventInstance.getTenantId();
+            BatchQuery batchQuery = batchQueries.computeIfAbsent(batchQueryKey, key -> new BatchQuery(eventInstance));
+            batchQuery.addEvent(i, correlationKeys);
+        }
+
+        List<List<EventSubscription>> eventSubscriptions = new ArrayList<>(Collections.nCopies(numberOfEvents, null));
+        for (BatchQuery batchQuery : batchQueries.values()) {
+            for (BatchQueryChunk chunk : batchQuery.chunks) {
+                List<EventSubscription> chunkEventSubscriptions = findEventSubscriptions(scopeType, batchQuery.eventInstance, chunk.correlationKeys);
+                for (int eventIndex : chunk.eventIndexes) {
+                    eventSubscriptions.set(eventIndex, filterEventSubscriptions(chunkEventSubscriptions, eventCorrelationKeys.get(eventIndex)));
+                }
+            }
+        }
+
+        List<EventRegistryProcessingInfo> processingInfos = new ArrayList<>(numberOfEvents);
+        boolean eventSubscriptionsTriggered = false;
+        for (int i = 0; i < numberOfEvents; i++) {
+            EventInstance eventInstance = eventInstances.get(i);
+            Collection<CorrelationKey> correlationKeys = eventCorrelationKeys.get(i);
+            List<EventSubscription> subscriptions = eventSubscriptions.get(i);
+            if (subscriptions == null || eventSubscriptionsTriggered) {
+                subscriptions = findEventSubscriptions(scopeType, eventInstance, correlationKeys);
+            }
+            processingInfos.add(eventReceived(eventInstance, correlationKeys, subscriptions));
+            if (!subscriptions.isEmpty()) {
+                eventSubscriptionsTriggered = true;
+            }
+        }
+
+        return processingInfos;
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            return eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -66,8 +129,36 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         }
     }
 
+    protected List<EventSubscription> filterEventSubscriptions(List<EventSubscription> eventSubscriptions, Collection<CorrelationKey> correlationKeys) {
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        List<EventSubscription> filteredEventSubscriptions = new ArrayList<>();
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (eventSubscription.getConfiguration() == null || correlationKeyValues.contains(eventSubscription.getConfiguration())) {
+                filteredEventSubscriptions.add(eventSubscription);
+            }
+        }
+        return filteredEventSubscriptions;
+    }
+
     protected abstract EventRegistryProcessingInfo eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles the event with the event subscriptions that were already looked up for the given correlation keys.
+     * By default, the event subscriptions are looked up again through {@link #eventReceived(EventInstance)}.
+     */
+    protected EventRegistryProcessingInfo eventReceived(EventInstance eventInstance, Collection<CorrelationKey> correlationKeys,
+            List<EventSubscription> eventSubscriptions) {
+        return eventReceived(eventInstance);
+    }
+
+    /**
+     * The scope type of the event subscriptions of this consumer.
+     * When null, events received in bulk are consumed one by one.
+     */
+    protected String getEventSubscriptionScopeType() {
+        return null;
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -157,7 +248,19 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         return result;
     }
 
+    /**
+     * Whether event subscriptions for the event instance could exist, used to skip the event subscription query when they can't.
+     * Implementations may only return false when it is certain that there are no matching event subscriptions.
+     */
+    protected boolean hasPossibleEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        return true;
+    }
+
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
+        if (!hasPossibleEventSubscriptions(scopeType, eventInstance, correlationKeys)) {
+            return Collections.emptyList();
+        }
+
         return commandExecutor.execute(commandContext -> {
 
             EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
@@ -212,4 +315,49 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
+    /**
+     * The events of a batch with the same event definition and tenant, whose event subscriptions can be looked up together.
+     */
+    protected static class BatchQuery {
+
+        // Keeps the number of correlation key values of one query well below the IN clause limits of the databases
+        protected static final int MAX_CORRELATION_KEYS_PER_QUERY = 500;
+
+        protected final EventInstance eventInstance;
+        protected final List<BatchQueryChunk> chunks = new ArrayList<>();
+        protected final Set<String> correlationKeyValues = new HashSet<>();
+
+        protected BatchQuery(EventInstance eventInstance) {
+            this.eventInstance = eventInstance;
+        }
+
+        protected void addEvent(int eventIndex, Collection<CorrelationKey> eventCorrelationKeys) {
+            for (CorrelationKey correlationKey : eventCorrelationKeys) {
+                if (correlationKeyValues.contains(correlationKey.getValue())) {
+                    // An earlier event of the batch has the same correlation key, the subscriptions are looked up when the event is handled
+                    return;
+                }
+            }
+
+            BatchQueryChunk chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+            if (chunk == null || (!chunk.correlationKeys.isEmpty()
+                    && chunk.correlationKeys.size() + eventCorrelationKeys.size() > MAX_CORRELATION_KEYS_PER_QUERY)) {
+                chunk = new BatchQueryChunk();
+                chunks.add(chunk);
+            }
+
+            chunk.eventIndexes.add(eventIndex);
+            chunk.correlationKeys.addAll(eventCorrelationKeys);
+            for (CorrelationKey correlationKey : eventCorrelationKeys) {
+                correlationKeyValues.add(correlationKey.getValue());
+            }
+        }
+    }
+
+    protected static class BatchQueryChunk {
+
+        protected final List<Integer> eventIndexes = new ArrayList<>();
+        protected final Collection<CorrelationKey> correlationKeys = new ArrayList<>();
+    }
+
 }
@@ -251,6 +251,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return this;
         }
 
+        @Override
+        public InboundRabbitChannelBuilder batchListener(String batchListener) {
+            this.rabbitChannel.setBatchListener(batchListener);
+            return this;
+        }
+
         @Override
         public InboundEventProcessingPipelineBuilder eventProcessingPipeline() {
             channelDefinitionBuilder.inboundEventProcessingPipelineBuilder = new InboundEventProcessingPipelineBuilderImpl<>(rabbitChannel, eventRepositoryService,
@@ -298,6 +304,12 @@ public class InboundChannelDefinitionBuilderImpl implements InboundChannelModelB
             return this;
         }
 
+        @Override
+        public InboundKafkaChannelBuilder batchListener(String batchListener) {
+            kafkaChannel.setBatchListener(batchListener);
+            return this;
+        }
+
         @Override
         public InboundEventProcessingPipelineBuilder eventProcessingPipeline() {
             channelDefinitionBuilder.inboundEventProcessingPipelineBuilder = new InboundEventProcessingPipelineBuilderImpl<>(kafkaChannel,
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.flowable.common.engine.impl.util.DeploymentManifestUtil;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.eventregistry.api.EventDeployment;
+import org.flowable.eventregistry.test.AbstractFlowableEventTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DeploymentManifestTest extends AbstractFlowableEventTest {
+
+    protected static final String RESOURCE_NAME = "org/flowable/eventregistry/test/deployment/simpleEvent.event";
+
+    @BeforeEach
+    public void enableManifest() {
+        eventEngineConfiguration.setEnableDeploymentManifest(true);
+    }
+
+    @AfterEach
+    public void disableManifest() {
+        eventEngineConfiguration.setEnableDeploymentManifest(false);
+        repositoryService.createDeploymentQuery().list()
+                .forEach(deployment -> repositoryService.deleteDeployment(deployment.getId()));
+    }
+
+    @Test
+    public void testManifestIsStoredWithDeployment() {
+        EventDeployment deployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+
+        assertThat(repositoryService.getDeploymentResourceNames(deployment.getId()))
+                .containsExactlyInAnyOrder(RESOURCE_NAME, DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+
+        byte[] resource = IoUtil.readInputStream(repositoryService.getResourceAsStream(deployment.getId(), RESOURCE_NAME), RESOURCE_NAME);
+        assertThat(DeploymentManifestUtil.readManifest(readManifest(deployment.getId()))).containsOnlyKeys(RESOURCE_NAME)
+                .containsEntry(RESOURCE_NAME, DeploymentManifestUtil.hash(resource));
+    }
+
+    @Test
+    public void testDuplicateFilteringUsesManifest() {
+        EventDeployment deployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+
+        EventDeployment sameDeployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .deploy();
+        assertThat(sameDeployment.getId()).isEqualTo(deployment.getId());
+
+        String changedEvent = new String(IoUtil.readInputStream(getClass().getClassLoader().getResourceAsStream(RESOURCE_NAME), RESOURCE_NAME),
+                StandardCharsets.UTF_8).replace("\"My event\"", "\"My changed event\"");
+        EventDeployment changedDeployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addString(RESOURCE_NAME, changedEvent)
+                .deploy();
+        assertThat(changedDeployment.getId()).isNotEqualTo(deployment.getId());
+        assertThat(repositoryService.createDeploymentQuery().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void testManifestResourceAddedToDeploymentIsReplaced() {
+        EventDeployment deployment = repositoryService.createDeployment().enableDuplicateFiltering().name("manifest")
+                .addClasspathResource(RESOURCE_NAME)
+                .addString(DeploymentManifestUtil.MANIFEST_RESOURCE_NAME, "not a manifest")
+                .deploy();
+
+        assertThat(DeploymentManifestUtil.readManifest(readManifest(deployment.getId()))).containsOnlyKeys(RESOURCE_NAME);
+    }
+
+    protected byte[] readManifest(String deploymentId) {
+        return IoUtil.readInputStream(repositoryService.getResourceAsStream(deploymentId, DeploymentManifestUtil.MANIFEST_RESOURCE_NAME),
+                DeploymentManifestUtil.MANIFEST_RESOURCE_NAME);
+    }
+
+}
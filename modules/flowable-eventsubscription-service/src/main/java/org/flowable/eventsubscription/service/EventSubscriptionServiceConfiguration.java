@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.UUID;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
@@ -60,6 +61,24 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
 
     protected ObjectMapper objectMapper;
 
+    // CORRELATION INDEX
+    // //////////////////////////////////////////////
+
+    /**
+     * Whether a node-local index of the event subscriptions per event type and correlation key is kept,
+     * so that the event registry consumers can skip the event subscription query for events without any matching subscription.
+     * Disabled by default, as it is not safe for deployments where multiple nodes create event subscriptions.
+     */
+    protected boolean enableEventSubscriptionCorrelationIndex;
+
+    /**
+     * The interval in which the correlation index is rebuilt from the database.
+     * Event subscriptions created by other nodes are only taken into account by the index after a rebuild.
+     */
+    protected Duration eventSubscriptionCorrelationIndexReconcileInterval = Duration.ofSeconds(60);
+
+    protected EventSubscriptionCorrelationIndex eventSubscriptionCorrelationIndex;
+
     public EventSubscriptionServiceConfiguration(String engineName) {
         super(engineName);
     }
@@ -77,6 +96,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
 
         initDataManagers();
         initEntityManagers();
+        initEventSubscriptionCorrelationIndex();
 
         configuratorsAfterInit();
     }
@@ -96,6 +116,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initEventSubscriptionCorrelationIndex() {
+        if (enableEventSubscriptionCorrelationIndex && eventSubscriptionCorrelationIndex == null) {
+            eventSubscriptionCorrelationIndex = new EventSubscriptionCorrelationIndex(this, eventSubscriptionCorrelationIndexReconcileInterval);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -158,4 +184,31 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         this.lockOwner = lockOwner;
         return this;
     }
+
+    public boolean isEnableEventSubscriptionCorrelationIndex() {
+        return enableEventSubscriptionCorrelationIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEnableEventSubscriptionCorrelationIndex(boolean enableEventSubscriptionCorrelationIndex) {
+        this.enableEventSubscriptionCorrelationIndex = enableEventSubscriptionCorrelationIndex;
+        return this;
+    }
+
+    public Duration getEventSubscriptionCorrelationIndexReconcileInterval() {
+        return eventSubscriptionCorrelationIndexReconcileInterval;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionCorrelationIndexReconcileInterval(Duration eventSubscriptionCorrelationIndexReconcileInterval) {
+        this.eventSubscriptionCorrelationIndexReconcileInterval = eventSubscriptionCorrelationIndexReconcileInterval;
+        return this;
+    }
+
+    public EventSubscriptionCorrelationIndex getEventSubscriptionCorrelationIndex() {
+        return eventSubscriptionCorrelationIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionCorrelationIndex(EventSubscriptionCorrelationIndex eventSubscriptionCorrelationIndex) {
+        this.eventSubscriptionCorrelationIndex = eventSubscriptionCorrelationIndex;
+        return this;
+    }
 }
@@ -0,0 +1,255 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.persistence.entity.CompensateEventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.MessageEventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A node-local index of the number of event subscriptions per scope type, event type and configuration (correlation key),
+ * used by the event registry consumers to skip the event subscription query for events that cannot match any subscription.
+ *
+ * The index is kept up to date by the event subscriptions inserted and deleted through the event subscription entity manager
+ * of this node and is periodically rebuilt from the database. Subscriptions created on other nodes, or deleted in bulk,
+ * are only taken into account by the next rebuild. Because of that the index only gives a negative answer when it has been
+ * rebuilt within the reconcile interval; in all other cases it answers that subscriptions might exist.
+ * Signal, message and compensate event subscriptions are not part of the index.
+ *
+ * The negative answers are trusted: an event is not delivered to subscriptions the index doesn't know about. The index is therefore
+ * not safe for deployments where multiple nodes create event subscriptions, as an event received shortly after another node created
+ * a matching subscription is dropped until the next rebuild, which can take up to the reconcile interval. Only enable it for single
+ * node deployments.
+ */
+public class EventSubscriptionCorrelationIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventSubscriptionCorrelationIndex.class);
+
+    protected static final Set<String> EXCLUDED_EVENT_TYPES = Set.of(SignalEventSubscriptionEntity.EVENT_TYPE,
+            MessageEventSubscriptionEntity.EVENT_TYPE, CompensateEventSubscriptionEntity.EVENT_TYPE);
+
+    protected final EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+    protected final Duration reconcileInterval;
+
+    protected final ReentrantLock reconcileLock = new ReentrantLock();
+
+    protected volatile Map<IndexKey, Long> counts = new ConcurrentHashMap<>();
+    // the counts that are being rebuilt from the database, null when no rebuild is in progress
+    protected volatile Map<IndexKey, Long> rebuildCounts;
+    protected volatile long lastReconcileNanos;
+    protected volatile boolean reconciled;
+
+    public EventSubscriptionCorrelationIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration, Duration reconcileInterval) {
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    /**
+     * @return false if there are no event subscriptions for the event type and scope type, with either no configuration
+     * or one of the given configurations; true if there might be
+     */
+    public boolean hasPossibleEventSubscriptions(String scopeType, String eventType, Collection<String> configurations, CommandExecutor commandExecutor) {
+        if (EXCLUDED_EVENT_TYPES.contains(eventType) || !isWarm(commandExecutor)) {
+            return true;
+        }
+
+        Map<IndexKey, Long> currentCounts = counts;
+        if (currentCounts.containsKey(new IndexKey(scopeType, eventType, null))) {
+            return true;
+        }
+
+        if (configurations != null) {
+            for (String configuration : configurations) {
+                if (currentCounts.containsKey(new IndexKey(scopeType, eventType, configuration))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    protected boolean isWarm(CommandExecutor commandExecutor) {
+        if (isReconciledWithinInterval()) {
+            return true;
+        }
+
+        // Only one thread rebuilds the index, the other threads fall back to querying the database in the meantime
+        if (reconcileLock.tryLock()) {
+            try {
+                if (!isReconciledWithinInterval()) {
+                    reconcile(commandExecutor);
+                }
+            } finally {
+                reconcileLock.unlock();
+            }
+            return isReconciledWithinInterval();
+        }
+
+        return false;
+    }
+
+    protected boolean isReconciledWithinInterval() {
+        return reconciled && System.nanoTime() - lastReconcileNanos < reconcileInterval.toNanos();
+    }
+
+    /**
+     * Rebuilds the index from the event subscriptions in the database.
+     */
+    public void reconcile(CommandExecutor commandExecutor) {
+        reconcileLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            Map<IndexKey, Long> newCounts = new ConcurrentHashMap<>();
+            rebuildCounts = newCounts;
+
+            try {
+                List<EventSubscriptionCorrelationCount> correlationCounts = commandExecutor.execute(commandContext -> eventSubscriptionServiceConfiguration
+                        .getEventSubscriptionEntityManager().findEventSubscriptionCorrelationCounts());
+                for (EventSubscriptionCorrelationCount correlationCount : correlationCounts) {
+                    newCounts.merge(new IndexKey(correlationCount.getScopeType(), correlationCount.getEventType(), correlationCount.getConfiguration()),
+                            correlationCount.getCount(), Long::sum);
+                }
+
+            } catch (RuntimeException e) {
+                rebuildCounts = null;
+                LOGGER.warn("Could not rebuild the event subscription correlation index", e);
+                return;
+            }
+
+            synchronized (this) {
+                counts = newCounts;
+                rebuildCounts = null;
+                lastReconcileNanos = startNanos;
+                reconciled = true;
+            }
+
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * Adds the inserted event subscription to the index.
+     * The subscription is counted immediately, so that the index never misses a subscription that is about to be committed.
+     */
+    public void eventSubscriptionInserted(EventSubscriptionEntity eventSubscription) {
+        IndexKey key = createIndexKey(eventSubscription);
+        if (key == null) {
+            return;
+        }
+
+        Map<IndexKey, Long> insertCounts = counts;
+        insertCounts.merge(key, 1L, Long::sum);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            // A rebuild that started before the commit might not see the subscription, make sure it is counted in the rebuilt index
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> addCommitted(key, insertCounts));
+        }
+    }
+
+    protected synchronized void addCommitted(IndexKey key, Map<IndexKey, Long> insertCounts) {
+        Map<IndexKey, Long> currentRebuildCounts = rebuildCounts;
+        if (currentRebuildCounts != null) {
+            currentRebuildCounts.merge(key, 1L, Long::sum);
+        } else if (counts != insertCounts) {
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Removes the deleted event subscription from the index once the deletion is committed.
+     */
+    public void eventSubscriptionDeleted(EventSubscriptionEntity eventSubscription) {
+        IndexKey key = createIndexKey(eventSubscription);
+        if (key == null) {
+            return;
+        }
+
+        Map<IndexKey, Long> deleteCounts = counts;
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> removeCommitted(key, deleteCounts));
+        } else {
+            removeCommitted(key, deleteCounts);
+        }
+    }
+
+    protected synchronized void removeCommitted(IndexKey key, Map<IndexKey, Long> deleteCounts) {
+        // When the index has been rebuilt in the meantime, the rebuilt counts either already reflect the deletion
+        // or still count the subscription, which only makes the index more conservative until the next rebuild
+        if (counts == deleteCounts) {
+            counts.computeIfPresent(key, (indexKey, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    protected IndexKey createIndexKey(EventSubscriptionEntity eventSubscription) {
+        if (eventSubscription.getEventType() == null || EXCLUDED_EVENT_TYPES.contains(eventSubscription.getEventType())) {
+            return null;
+        }
+        return new IndexKey(eventSubscription.getScopeType(), eventSubscription.getEventType(), eventSubscription.getConfiguration());
+    }
+
+    public Duration getReconcileInterval() {
+        return reconcileInterval;
+    }
+
+    protected static class IndexKey {
+
+        protected final String scopeType;
+        protected final String eventType;
+        protected final String configuration;
+
+        protected IndexKey(String scopeType, String eventType, String configuration) {
+            this.scopeType = scopeType;
+            this.eventType = eventType;
+            this.configuration = configuration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IndexKey that = (IndexKey) o;
+            return Objects.equals(scopeType, that.scopeType) && Objects.equals(eventType, that.eventType)
+                    && Objects.equals(configuration, that.configuration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scopeType, eventType, configuration);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.List;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationCount;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 
 /**
@@ -90,6 +91,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     long findEventSubscriptionCountByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl);
 
+    List<EventSubscriptionCorrelationCount> findEventSubscriptionCorrelationCounts();
+
     /* Find (signal) */
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
@@ -25,6 +25,8 @@ import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineE
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationCount;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
 
@@ -107,6 +109,31 @@ public class EventSubscriptionEntityManagerImpl
         return result;
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getEventSubscriptionCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.eventSubscriptionInserted(entity);
+        }
+    }
+
+    @Override
+    public void delete(EventSubscriptionEntity entity, boolean fireDeleteEvent) {
+        super.delete(entity, fireDeleteEvent);
+
+        EventSubscriptionCorrelationIndex correlationIndex = serviceConfiguration.getEventSubscriptionCorrelationIndex();
+        if (correlationIndex != null) {
+            correlationIndex.eventSubscriptionDeleted(entity);
+        }
+    }
+
+    @Override
+    public List<EventSubscriptionCorrelationCount> findEventSubscriptionCorrelationCounts() {
+        return dataManager.findEventSubscriptionCorrelationCounts();
+    }
+
     @Override
     public long findEventSubscriptionCountByQueryCriteria(EventSubscriptionQueryImpl eventSubscriptionQueryImpl) {
         return dataManager.findEventSubscriptionCountByQueryCriteria(eventSubscriptionQueryImpl);
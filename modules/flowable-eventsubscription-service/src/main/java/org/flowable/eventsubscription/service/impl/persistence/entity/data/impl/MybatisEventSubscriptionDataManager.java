@@ -24,6 +24,7 @@ import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionCorrelationCount;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.CompensateEventSubscriptionEntity;
 import org.flowable.eventsubscription.service.impl.persistence.entity.CompensateEventSubscriptionEntityImpl;
@@ -302,6 +303,11 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return getDbSqlSession().selectList(query, params);
     }
 
+    @Override
+    public List<EventSubscriptionCorrelationCount> findEventSubscriptionCorrelationCounts() {
+        return getDbSqlSession().getSqlSession().selectList("selectEventSubscriptionCorrelationCounts");
+    }
+
     @Override
     public MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId) {
         Map<String, String> params = new HashMap<>();
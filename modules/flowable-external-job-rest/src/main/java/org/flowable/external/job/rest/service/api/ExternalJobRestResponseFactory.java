@@ -55,7 +55,14 @@ public class ExternalJobRestResponseFactory {
     }
 
     public List<AcquiredExternalWorkerJobResponse> createAcquiredExternalWorkerJobResponseList(List<AcquiredExternalWorkerJob> jobs) {
-        RestUrlBuilder urlBuilder = createUrlBuilder();
+        return createAcquiredExternalWorkerJobResponseList(jobs, createUrlBuilder());
+    }
+
+    /**
+     * Creates the responses with the given url builder, which can be created through {@link #createUrlBuilder()} while still processing the request,
+     * e.g. when the jobs are acquired on another thread.
+     */
+    public List<AcquiredExternalWorkerJobResponse> createAcquiredExternalWorkerJobResponseList(List<AcquiredExternalWorkerJob> jobs, RestUrlBuilder urlBuilder) {
         List<AcquiredExternalWorkerJobResponse> responseList = new ArrayList<>(jobs.size());
         for (AcquiredExternalWorkerJob job : jobs) {
             responseList.add(createAcquiredExternalWorkerJobResponse(job, urlBuilder));
@@ -176,7 +183,7 @@ public class ExternalJobRestResponseFactory {
         return value;
     }
 
-    protected RestUrlBuilder createUrlBuilder() {
+    public RestUrlBuilder createUrlBuilder() {
         return RestUrlBuilder.fromCurrentRequest();
     }
 
@@ -43,6 +43,11 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When there are no jobs to acquire, wait at most this duration for jobs of the topic before returning. ISO-8601 duration format PnDTnHnMn.nS. By default the request returns immediately. The wait is limited to the maximum wait timeout configured on the engine.",
+            example = "PT30S", dataType = "string")
+    protected Duration waitTimeout;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +95,12 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
 }
@@ -16,16 +16,17 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableForbiddenException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.rest.util.RestUrlBuilder;
 import org.flowable.common.rest.variable.EngineRestVariable;
 import org.flowable.external.job.rest.service.api.ExternalJobRestResponseFactory;
 import org.flowable.external.job.rest.service.api.ExternalWorkerJobBaseResource;
-import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
 import org.flowable.job.api.ExternalWorkerJobFailureBuilder;
@@ -60,7 +61,7 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             @ApiResponse(code = 403, message = "Indicates the user does not have the rights acquire the jobs."),
     })
     @PostMapping(value = "/acquire/jobs", produces = "application/json")
-    public List<AcquiredExternalWorkerJobResponse> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
+    public CompletableFuture<List<AcquiredExternalWorkerJobResponse>> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
         ExternalWorkerJobAcquireBuilder acquireBuilder = createExternalWorkerAcquireBuilder();
 
         if (restApiInterceptor != null) {
@@ -81,10 +82,17 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
+        if (request.getWaitTimeout() != null) {
+            acquireBuilder.waitTimeout(request.getWaitTimeout());
+        }
+
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
-            List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
-                    .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
-            return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
+            // The request is processed asynchronously, a request that waits for jobs doesn't hold a request thread.
+            // The url builder is created up front, the jobs might be acquired on a thread without the current request.
+            RestUrlBuilder urlBuilder = restResponseFactory.createUrlBuilder();
+            return acquireBuilder
+                    .acquireAndLockAsync(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries())
+                    .thenApply(acquiredJobs -> restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs, urlBuilder));
         } else {
             throw new FlowableIllegalArgumentException("workerId is required");
         }
@@ -15,6 +15,7 @@ package org.flowable.external.job.rest.service.api.acquire;
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -22,7 +23,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
@@ -35,11 +39,14 @@ import org.flowable.engine.ManagementService;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.external.job.rest.service.ExternalJobRestSpringBootTest;
 import org.flowable.job.api.ExternalWorkerJob;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireNotifier;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -204,6 +211,55 @@ class ExternalWorkerAcquireJobResourceTest {
                         + "]");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void acquireJobsWithWaitTimeoutDoesNotHoldRequestThread() throws Exception {
+        ExternalWorkerJobAcquireNotifier acquireNotifier = ((ProcessEngineConfigurationImpl) processEngineConfiguration).getJobServiceConfiguration()
+                .getExternalWorkerJobAcquireNotifier();
+
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker1");
+        request.put("waitTimeout", "PT20S");
+
+        CompletableFuture<ResponseEntity<String>> responseFuture = CompletableFuture
+                .supplyAsync(() -> restTemplate.postForEntity("/service/acquire/jobs", request, String.class));
+
+        await("waiting acquire request")
+                .atMost(Duration.ofSeconds(10))
+                .until(() -> acquireNotifier.getNumberOfSignalledTopics() == 1);
+
+        // While waiting for jobs no thread is processing the request
+        await("request thread released")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> Thread.getAllStackTraces().values().stream()
+                        .flatMap(Arrays::stream)
+                        .noneMatch(element -> element.getClassName().equals(ExternalWorkerAcquireJobResource.class.getName())
+                                || element.getClassName().equals(ExternalWorkerJobAcquireBuilderImpl.class.getName())));
+        assertThat(responseFuture).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        ResponseEntity<String> response = responseFuture.get(10, TimeUnit.SECONDS);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        String body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThatJson(body)
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "  {"
+                        + "    processInstanceId: '" + processInstance.getId() + "',"
+                        + "    elementId: 'externalWorkerTask',"
+                        + "    lockOwner: 'testWorker1'"
+                        + "  }"
+                        + "]");
+        await("waiter unregistered")
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> acquireNotifier.getNumberOfSignalledTopics() == 0);
+    }
+
     @Test
     @CmmnDeployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.cmmn")
     void acquireJobsReturnsCaseVariables() {
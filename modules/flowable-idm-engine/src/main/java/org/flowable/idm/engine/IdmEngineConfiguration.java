@@ -48,6 +48,8 @@ import org.flowable.idm.engine.impl.IdmIdentityServiceImpl;
 import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
 import org.flowable.idm.engine.impl.authentication.BlankSalt;
 import org.flowable.idm.engine.impl.authentication.ClearTextPasswordEncoder;
+import org.flowable.idm.engine.impl.cache.DefaultGroupMembershipCache;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.db.EntityDependencyOrder;
@@ -127,6 +129,14 @@ public class IdmEngineConfiguration extends AbstractBuildableEngineConfiguration
     protected PasswordEncoder passwordEncoder;
     protected PasswordSalt passwordSalt;
 
+    /**
+     * Whether the groups of a user are cached, see {@link GroupMembershipCache}.
+     */
+    protected boolean enableGroupMembershipCache;
+    protected int groupMembershipCacheSize = 1000;
+    protected long groupMembershipCacheExpirationTime = 60000L; // default: one minute
+    protected GroupMembershipCache groupMembershipCache;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -206,6 +216,7 @@ public class IdmEngineConfiguration extends AbstractBuildableEngineConfiguration
 
         initSessionFactories();
         initPasswordEncoder();
+        initGroupMembershipCache();
         initServices();
         initDataManagers();
         initEntityManagers();
@@ -329,6 +340,12 @@ public class IdmEngineConfiguration extends AbstractBuildableEngineConfiguration
         }
     }
 
+    public void initGroupMembershipCache() {
+        if (groupMembershipCache == null && enableGroupMembershipCache) {
+            groupMembershipCache = new DefaultGroupMembershipCache(groupMembershipCacheSize, groupMembershipCacheExpirationTime, this::getClock);
+        }
+    }
+
     // command executors
     // ////////////////////////////////////////////////////////
 
@@ -793,6 +810,42 @@ public class IdmEngineConfiguration extends AbstractBuildableEngineConfiguration
         return this;
     }
 
+    public boolean isEnableGroupMembershipCache() {
+        return enableGroupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setEnableGroupMembershipCache(boolean enableGroupMembershipCache) {
+        this.enableGroupMembershipCache = enableGroupMembershipCache;
+        return this;
+    }
+
+    public int getGroupMembershipCacheSize() {
+        return groupMembershipCacheSize;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheSize(int groupMembershipCacheSize) {
+        this.groupMembershipCacheSize = groupMembershipCacheSize;
+        return this;
+    }
+
+    public long getGroupMembershipCacheExpirationTime() {
+        return groupMembershipCacheExpirationTime;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheExpirationTime(long groupMembershipCacheExpirationTime) {
+        this.groupMembershipCacheExpirationTime = groupMembershipCacheExpirationTime;
+        return this;
+    }
+
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+        return this;
+    }
+
     @Override
     public IdmEngineConfiguration setSessionFactories(Map<Class<?>, SessionFactory> sessionFactories) {
         this.sessionFactories = sessionFactories;
@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.query.AbstractQuery;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.GroupQuery;
 import org.flowable.idm.api.GroupQueryProperty;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
 
@@ -150,9 +151,27 @@ public class GroupQueryImpl extends AbstractQuery<GroupQuery, Group> implements
 
     @Override
     public List<Group> executeList(CommandContext commandContext) {
+        GroupMembershipCache groupMembershipCache = CommandContextUtil.getIdmEngineConfiguration(commandContext).getGroupMembershipCache();
+        if (groupMembershipCache != null && isGroupMemberOnly()) {
+            List<Group> groups = groupMembershipCache.get(userId);
+            if (groups == null) {
+                groups = CommandContextUtil.getGroupEntityManager(commandContext).findGroupByQueryCriteria(this);
+                groupMembershipCache.add(userId, groups);
+            }
+            return groups;
+        }
+
         return CommandContextUtil.getGroupEntityManager(commandContext).findGroupByQueryCriteria(this);
     }
 
+    /**
+     * @return whether this query only fetches all groups of one user, which is the query that can be answered by the {@link GroupMembershipCache}
+     */
+    protected boolean isGroupMemberOnly() {
+        return userId != null && id == null && ids == null && name == null && nameLike == null && nameLikeIgnoreCase == null
+                && type == null && userIds == null && !isNeedsPaging() && orderByCollection == null;
+    }
+
     // getters ////////////////////////////////////////////////////////
 
     @Override
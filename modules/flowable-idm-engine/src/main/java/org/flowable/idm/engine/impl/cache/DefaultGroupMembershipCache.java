@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
+import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
+
+/**
+ * Default {@link GroupMembershipCache}: a least recently used cache with a maximum number of users, of which the entries expire
+ * after a fixed time.
+ *
+ * The cache is shared by all threads, so it keeps immutable copies of the groups and every lookup returns new group entities.
+ */
+public class DefaultGroupMembershipCache implements GroupMembershipCache {
+
+    protected final Supplier<ClockReader> clockReader;
+    protected final long expirationTime;
+    protected final Map<String, CacheEntry> cache;
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+    protected final AtomicLong evictionCount = new AtomicLong();
+
+    public DefaultGroupMembershipCache(int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        this.clockReader = clockReader;
+        this.expirationTime = expirationTime;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(cacheSize + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                boolean removeEldest = size() > cacheSize;
+                if (removeEldest) {
+                    evictionCount.incrementAndGet();
+                }
+                return removeEldest;
+            }
+        });
+    }
+
+    @Override
+    public List<Group> get(String userId) {
+        CacheEntry cacheEntry = cache.get(userId);
+        if (cacheEntry != null) {
+            if (clockReader.get().getCurrentTime().getTime() - cacheEntry.timestamp < expirationTime) {
+                hitCount.incrementAndGet();
+                return cacheEntry.toGroups();
+            }
+
+            cache.remove(userId, cacheEntry);
+            evictionCount.incrementAndGet();
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    @Override
+    public void add(String userId, List<Group> groups) {
+        List<CachedGroup> cachedGroups = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            cachedGroups.add(new CachedGroup(group));
+        }
+        cache.put(userId, new CacheEntry(clockReader.get().getCurrentTime().getTime(), cachedGroups));
+    }
+
+    @Override
+    public void invalidateUser(String userId) {
+        cache.remove(userId);
+    }
+
+    @Override
+    public void invalidateGroup(String groupId) {
+        synchronized (cache) {
+            Iterator<CacheEntry> iterator = cache.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().containsGroup(groupId)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    protected static class CacheEntry {
+
+        protected final long timestamp;
+        protected final List<CachedGroup> groups;
+
+        protected CacheEntry(long timestamp, List<CachedGroup> groups) {
+            this.timestamp = timestamp;
+            this.groups = groups;
+        }
+
+        protected boolean containsGroup(String groupId) {
+            for (CachedGroup group : groups) {
+                if (groupId.equals(group.id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        protected List<Group> toGroups() {
+            List<Group> result = new ArrayList<>(groups.size());
+            for (CachedGroup group : groups) {
+                result.add(group.toGroup());
+            }
+            return result;
+        }
+    }
+
+    protected static class CachedGroup {
+
+        protected final String id;
+        protected final String name;
+        protected final String type;
+        protected final Integer revision;
+
+        protected CachedGroup(Group group) {
+            this.id = group.getId();
+            this.name = group.getName();
+            this.type = group.getType();
+            this.revision = group instanceof HasRevision ? ((HasRevision) group).getRevision() : null;
+        }
+
+        protected Group toGroup() {
+            GroupEntity group = new GroupEntityImpl();
+            group.setId(id);
+            group.setName(name);
+            group.setType(type);
+            if (revision != null) {
+                group.setRevision(revision);
+            }
+            return group;
+        }
+    }
+
+}
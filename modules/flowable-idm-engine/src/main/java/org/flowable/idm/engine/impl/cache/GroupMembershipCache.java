@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.List;
+
+import org.flowable.idm.api.Group;
+
+/**
+ * Cache for the groups a user is a member of. The groups of a user are fetched internally by the engines, for example when querying
+ * the tasks of a candidate user, so caching them avoids a membership query for every such query.
+ *
+ * The cache is invalidated when memberships, groups or users are changed through the {@link org.flowable.idm.api.IdmIdentityService}.
+ * Changes made in other ways, or by other nodes of a cluster, become visible once the cached entry expires.
+ */
+public interface GroupMembershipCache {
+
+    /**
+     * @return the cached groups of the user, or null when the groups of the user are not cached or the cached entry has expired
+     */
+    List<Group> get(String userId);
+
+    void add(String userId, List<Group> groups);
+
+    /**
+     * Removes the cached groups of the given user.
+     */
+    void invalidateUser(String userId);
+
+    /**
+     * Removes the cached groups of all users that are a member of the given group.
+     */
+    void invalidateGroup(String groupId);
+
+    void clear();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+
+    int size();
+
+}
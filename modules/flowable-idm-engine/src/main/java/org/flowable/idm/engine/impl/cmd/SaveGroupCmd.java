@@ -22,6 +22,7 @@ import org.flowable.idm.api.Group;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.util.CommandContextUtil;
+import org.flowable.idm.engine.impl.util.GroupMembershipCacheUtil;
 
 /**
  * @author Joram Barrez
@@ -58,6 +59,8 @@ public class SaveGroupCmd implements Command<Void>, Serializable {
                 CommandContextUtil.getDbSqlSession(commandContext).update((Entity) group);
             }
 
+            // The cached groups of the members would otherwise still have the old values of the group
+            GroupMembershipCacheUtil.invalidateGroup(commandContext, group.getId());
         }
         return null;
     }
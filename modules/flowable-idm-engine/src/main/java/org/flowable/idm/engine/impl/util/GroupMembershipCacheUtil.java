@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.util;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
+
+/**
+ * Invalidates the entries of the {@link GroupMembershipCache} that are changed by a command.
+ *
+ * The entries are invalidated immediately and once more when the transaction is committed. A query in another transaction
+ * that runs before the commit still reads the old memberships and could otherwise put them back in the cache.
+ */
+public class GroupMembershipCacheUtil {
+
+    public static void invalidateUser(CommandContext commandContext, String userId) {
+        GroupMembershipCache groupMembershipCache = CommandContextUtil.getIdmEngineConfiguration(commandContext).getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            groupMembershipCache.invalidateUser(userId);
+
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> groupMembershipCache.invalidateUser(userId));
+            }
+        }
+    }
+
+    public static void invalidateGroup(CommandContext commandContext, String groupId) {
+        GroupMembershipCache groupMembershipCache = CommandContextUtil.getIdmEngineConfiguration(commandContext).getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            groupMembershipCache.invalidateGroup(groupId);
+
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> groupMembershipCache.invalidateGroup(groupId));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.idm.api.Group;
+import org.flowable.idm.engine.impl.cache.DefaultGroupMembershipCache;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
+import org.flowable.idm.engine.impl.cmd.CreateMembershipCmd;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GroupMembershipCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected GroupMembershipCache groupMembershipCache;
+
+    @BeforeEach
+    public void setUp() {
+        groupMembershipCache = new DefaultGroupMembershipCache(2, 60000L, idmEngineConfiguration::getClock);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+
+        idmIdentityService.saveUser(idmIdentityService.newUser("kermit"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("fozzie"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("gonzo"));
+        idmIdentityService.saveGroup(idmIdentityService.newGroup("muppets"));
+        idmIdentityService.saveGroup(idmIdentityService.newGroup("frogs"));
+        idmIdentityService.createMembership("kermit", "muppets");
+        idmIdentityService.createMembership("fozzie", "muppets");
+        idmIdentityService.createMembership("gonzo", "muppets");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        idmEngineConfiguration.setGroupMembershipCache(null);
+        idmEngineConfiguration.getClock().reset();
+
+        idmIdentityService.deleteUser("kermit");
+        idmIdentityService.deleteUser("fozzie");
+        idmIdentityService.deleteUser("gonzo");
+        idmIdentityService.deleteGroup("muppets");
+        idmIdentityService.deleteGroup("frogs");
+    }
+
+    @Test
+    public void testGroupsOfUserAreCached() {
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).extracting(Group::getId).containsExactly("muppets");
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.getHitCount()).isZero();
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).extracting(Group::getId).containsExactly("muppets");
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.getHitCount()).isEqualTo(1);
+
+        // Other group queries are not answered by the cache
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").groupId("muppets").count()).isEqualTo(1);
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").orderByGroupId().asc().list()).hasSize(1);
+        assertThat(groupMembershipCache.getHitCount()).isEqualTo(1);
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCacheIsInvalidatedOnMembershipChanges() {
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).extracting(Group::getId).containsExactly("muppets");
+
+        idmIdentityService.createMembership("kermit", "frogs");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).extracting(Group::getId)
+                .containsExactlyInAnyOrder("muppets", "frogs");
+
+        idmIdentityService.deleteMembership("kermit", "muppets");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).extracting(Group::getId).containsExactly("frogs");
+
+        idmIdentityService.deleteGroup("frogs");
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).isEmpty();
+        assertThat(groupMembershipCache.getHitCount()).isZero();
+    }
+
+    @Test
+    public void testCacheIsInvalidatedWhenTransactionIsCommitted() {
+        List<Group> groupsBeforeCommit = idmIdentityService.createGroupQuery().groupMember("kermit").list();
+
+        idmEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            new CreateMembershipCmd("kermit", "frogs").execute(commandContext);
+
+            // A query in another transaction can still cache the memberships from before the commit
+            groupMembershipCache.add("kermit", groupsBeforeCommit);
+            return null;
+        });
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").list()).extracting(Group::getId)
+                .containsExactlyInAnyOrder("muppets", "frogs");
+    }
+
+    @Test
+    public void testCachedGroupsAreNotShared() {
+        Group group = idmIdentityService.createGroupQuery().groupMember("kermit").singleResult();
+        group.setName("Changed name");
+
+        Group cachedGroup = idmIdentityService.createGroupQuery().groupMember("kermit").singleResult();
+        assertThat(groupMembershipCache.getHitCount()).isEqualTo(1);
+        assertThat(cachedGroup).isNotSameAs(group);
+        assertThat(cachedGroup.getName()).isNull();
+        cachedGroup.setName("Changed name");
+
+        assertThat(idmIdentityService.createGroupQuery().groupMember("kermit").singleResult())
+                .isNotSameAs(cachedGroup)
+                .extracting(Group::getId, Group::getName)
+                .containsExactly("muppets", null);
+    }
+
+    @Test
+    public void testCacheIsBoundedAndEntriesExpire() {
+        idmIdentityService.createGroupQuery().groupMember("kermit").list();
+        idmIdentityService.createGroupQuery().groupMember("fozzie").list();
+        idmIdentityService.createGroupQuery().groupMember("gonzo").list();
+        assertThat(groupMembershipCache.size()).isEqualTo(2);
+        assertThat(groupMembershipCache.getEvictionCount()).isEqualTo(1);
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(System.currentTimeMillis() + 120000L));
+        idmIdentityService.createGroupQuery().groupMember("gonzo").list();
+        assertThat(groupMembershipCache.getHitCount()).isZero();
+        assertThat(groupMembershipCache.getMissCount()).isEqualTo(4);
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.job.api;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -57,6 +58,16 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * Wait at most the given timeout for jobs of the topic when there are no jobs to acquire.
+     * While waiting, the jobs are acquired as soon as new jobs for the topic have been created by this engine.
+     * Jobs created by other nodes are only acquired when they are found once the timeout expired.
+     * Without a wait timeout the acquire returns immediately.
+     *
+     * @param waitTimeout the maximum duration to wait for jobs
+     */
+    ExternalWorkerJobAcquireBuilder waitTimeout(Duration waitTimeout);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
@@ -80,4 +91,15 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id, without blocking the calling thread while waiting for jobs.
+     * The returned future completes with the acquired jobs, or with an empty list once the {@link #waitTimeout(Duration) wait timeout} expired.
+     * The jobs are acquired by the calling thread when they are available right away, and otherwise by a thread of the engine.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     */
+    CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries);
+
 }
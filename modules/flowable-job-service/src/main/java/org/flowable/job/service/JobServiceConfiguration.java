@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -99,6 +101,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
     protected HistoryJobEntityManager historyJobEntityManager;
     protected ExternalWorkerJobEntityManager externalWorkerJobEntityManager;
 
+    protected ExternalWorkerJobAcquireNotifier externalWorkerJobAcquireNotifier;
+
+    /**
+     * The maximum duration an external worker job acquisition waits for new jobs. Longer wait timeouts are reduced to this duration.
+     */
+    protected Duration externalWorkerJobAcquireMaxWaitTimeout = Duration.ofMinutes(1);
+
     protected CommandExecutor commandExecutor;
 
     protected ExpressionManager expressionManager;
@@ -146,6 +155,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initExternalWorkerJobAcquireNotifier();
 
         configuratorsAfterInit();
     }
@@ -211,6 +221,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         }
     }
 
+    public void initExternalWorkerJobAcquireNotifier() {
+        if (externalWorkerJobAcquireNotifier == null) {
+            externalWorkerJobAcquireNotifier = new ExternalWorkerJobAcquireNotifier();
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -369,6 +385,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         return this;
     }
 
+    public ExternalWorkerJobAcquireNotifier getExternalWorkerJobAcquireNotifier() {
+        return externalWorkerJobAcquireNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAcquireNotifier(ExternalWorkerJobAcquireNotifier externalWorkerJobAcquireNotifier) {
+        this.externalWorkerJobAcquireNotifier = externalWorkerJobAcquireNotifier;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobAcquireMaxWaitTimeout() {
+        return externalWorkerJobAcquireMaxWaitTimeout;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAcquireMaxWaitTimeout(Duration externalWorkerJobAcquireMaxWaitTimeout) {
+        this.externalWorkerJobAcquireMaxWaitTimeout = externalWorkerJobAcquireMaxWaitTimeout;
+        return this;
+    }
+
     public CommandExecutor getCommandExecutor() {
         return commandExecutor;
     }
@@ -16,6 +16,8 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -40,6 +42,7 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Duration waitTimeout;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,8 +112,120 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder waitTimeout(Duration waitTimeout) {
+        if (waitTimeout != null && waitTimeout.isNegative()) {
+            throw new FlowableIllegalArgumentException("waitTimeout must not be negative");
+        }
+
+        this.waitTimeout = waitTimeout;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
+        ExternalWorkerJobAcquireNotifier acquireNotifier = jobServiceConfiguration.getExternalWorkerJobAcquireNotifier();
+        if (waitTimeout == null || waitTimeout.isZero() || acquireNotifier == null || topic == null) {
+            return doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        }
+
+        long deadline = System.nanoTime() + getEffectiveWaitTimeout().toNanos();
+        ExternalWorkerJobAcquireNotifier.TopicSignal topicSignal = acquireNotifier.registerWaiter(topic);
+        List<AcquiredExternalWorkerJob> acquiredJobs;
+        try {
+            // The version is read before querying, so that jobs created while querying wake up the wait below
+            long version = topicSignal.getVersion();
+            acquiredJobs = doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+            while (acquiredJobs.isEmpty()) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    break;
+                }
+
+                try {
+                    if (!topicSignal.await(version, Duration.ofNanos(remainingNanos))) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                // New jobs for the topic have been created, they might have been acquired by other workers in the meantime
+                version = topicSignal.getVersion();
+                acquiredJobs = doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+            }
+
+        } finally {
+            acquireNotifier.unregisterWaiter(topic, topicSignal);
+        }
+
+        return acquiredJobs;
+    }
+
+    @Override
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries) {
+        ExternalWorkerJobAcquireNotifier acquireNotifier = jobServiceConfiguration.getExternalWorkerJobAcquireNotifier();
+        if (waitTimeout == null || waitTimeout.isZero() || acquireNotifier == null || topic == null) {
+            try {
+                return CompletableFuture.completedFuture(doAcquireAndLock(numberOfTasks, workerId, numberOfRetries));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        long deadline = System.nanoTime() + getEffectiveWaitTimeout().toNanos();
+        ExternalWorkerJobAcquireNotifier.TopicSignal topicSignal = acquireNotifier.registerWaiter(topic);
+        CompletableFuture<List<AcquiredExternalWorkerJob>> result = new CompletableFuture<>();
+        result.whenComplete((acquiredJobs, throwable) -> acquireNotifier.unregisterWaiter(topic, topicSignal));
+        acquireOrWaitAsync(result, topicSignal, acquireNotifier.getScheduler(), deadline, numberOfTasks, workerId, numberOfRetries);
+        return result;
+    }
+
+    protected void acquireOrWaitAsync(CompletableFuture<List<AcquiredExternalWorkerJob>> result, ExternalWorkerJobAcquireNotifier.TopicSignal topicSignal,
+            ScheduledExecutorService scheduler, long deadline, int numberOfTasks, String workerId, int numberOfRetries) {
+
+        List<AcquiredExternalWorkerJob> acquiredJobs;
+        long version;
+        try {
+            // The version is read before querying, so that jobs created while querying complete the wait below
+            version = topicSignal.getVersion();
+            acquiredJobs = doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        long remainingNanos = deadline - System.nanoTime();
+        if (!acquiredJobs.isEmpty() || remainingNanos <= 0) {
+            result.complete(acquiredJobs);
+            return;
+        }
+
+        // No thread is held while waiting, the jobs are acquired again on the scheduler of the notifier once new jobs have been created
+        topicSignal.awaitAsync(version, Duration.ofNanos(remainingNanos), scheduler)
+                .thenAcceptAsync(signalled -> {
+                    if (signalled) {
+                        acquireOrWaitAsync(result, topicSignal, scheduler, deadline, numberOfTasks, workerId, numberOfRetries);
+                    } else {
+                        result.complete(Collections.emptyList());
+                    }
+                }, scheduler)
+                .exceptionally(throwable -> {
+                    result.completeExceptionally(throwable);
+                    return null;
+                });
+    }
+
+    protected Duration getEffectiveWaitTimeout() {
+        Duration maxWaitTimeout = jobServiceConfiguration.getExternalWorkerJobAcquireMaxWaitTimeout();
+        if (maxWaitTimeout != null && waitTimeout.compareTo(maxWaitTimeout) > 0) {
+            return maxWaitTimeout;
+        }
+        return waitTimeout;
+    }
+
+    protected List<AcquiredExternalWorkerJob> doAcquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
             try {
                 return commandExecutor.execute(new AcquireExternalWorkerJobsCmd(workerId, numberOfTasks, this, jobServiceConfiguration));
@@ -146,4 +261,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
 }
@@ -0,0 +1,179 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+/**
+ * Signals threads that are waiting to acquire external worker jobs of a topic when new jobs for that topic have been created.
+ *
+ * The signal is only in-process: jobs created by other nodes (or by an engine using another notifier) are not signalled
+ * and are only picked up once the wait times out.
+ *
+ * A signal is only kept for a topic while there are threads waiting for it, such that topics that are no longer
+ * asked for don't keep an entry.
+ *
+ * Asynchronous waiters don't hold a thread while waiting. Their timeouts, and the acquiring of the jobs once they are signalled,
+ * run on the small scheduled executor of this notifier.
+ */
+public class ExternalWorkerJobAcquireNotifier {
+
+    protected final Map<String, TopicSignal> topicSignals = new ConcurrentHashMap<>();
+
+    protected int schedulerPoolSize = 2;
+    protected volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Signals all threads waiting for jobs of the given topic.
+     */
+    public void notifyJobCreated(String topic) {
+        if (topic == null) {
+            return;
+        }
+
+        TopicSignal signal = topicSignals.get(topic);
+        if (signal != null) {
+            signal.signal();
+        }
+    }
+
+    /**
+     * Registers a waiter for the given topic. Every registered signal must be released with {@link #unregisterWaiter(String, TopicSignal)}.
+     * Reading the {@link TopicSignal#getVersion() version} of the signal before querying for jobs makes sure that jobs created in between are not missed.
+     */
+    public TopicSignal registerWaiter(String topic) {
+        return topicSignals.compute(topic, (key, signal) -> {
+            TopicSignal topicSignal = signal != null ? signal : new TopicSignal();
+            topicSignal.waiters++;
+            return topicSignal;
+        });
+    }
+
+    /**
+     * Releases a signal registered through {@link #registerWaiter(String)}. The signal is removed when the last waiter leaves.
+     */
+    public void unregisterWaiter(String topic, TopicSignal topicSignal) {
+        topicSignals.computeIfPresent(topic, (key, signal) -> {
+            if (signal != topicSignal) {
+                return signal;
+            }
+            signal.waiters--;
+            return signal.waiters > 0 ? signal : null;
+        });
+    }
+
+    public int getNumberOfSignalledTopics() {
+        return topicSignals.size();
+    }
+
+    public ScheduledExecutorService getScheduler() {
+        if (scheduler == null) {
+            synchronized (this) {
+                if (scheduler == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(schedulerPoolSize,
+                            new BasicThreadFactory.Builder().namingPattern("flowable-external-worker-acquire-%d").daemon(true).build());
+                    executor.setRemoveOnCancelPolicy(true);
+                    scheduler = executor;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    public int getSchedulerPoolSize() {
+        return schedulerPoolSize;
+    }
+
+    public void setSchedulerPoolSize(int schedulerPoolSize) {
+        this.schedulerPoolSize = schedulerPoolSize;
+    }
+
+    public static class TopicSignal {
+
+        // Only changed within the compute functions of the topic signals map
+        protected int waiters;
+        protected long version;
+        protected final List<CompletableFuture<Boolean>> asyncWaiters = new ArrayList<>();
+
+        public synchronized long getVersion() {
+            return version;
+        }
+
+        protected void signal() {
+            List<CompletableFuture<Boolean>> signalledWaiters;
+            synchronized (this) {
+                version++;
+                notifyAll();
+                signalledWaiters = new ArrayList<>(asyncWaiters);
+                asyncWaiters.clear();
+            }
+
+            // Completed outside of the lock, the waiters continue on the scheduler of the notifier
+            for (CompletableFuture<Boolean> signalledWaiter : signalledWaiters) {
+                signalledWaiter.complete(true);
+            }
+        }
+
+        /**
+         * Asynchronous variant of {@link #await(long, Duration)}, which doesn't hold the calling thread.
+         *
+         * @return a future that completes with true if a job has been created, or with false when the timeout expired
+         */
+        public CompletableFuture<Boolean> awaitAsync(long expectedVersion, Duration timeout, ScheduledExecutorService scheduler) {
+            CompletableFuture<Boolean> waiter = new CompletableFuture<>();
+            synchronized (this) {
+                if (version != expectedVersion) {
+                    return CompletableFuture.completedFuture(true);
+                }
+                asyncWaiters.add(waiter);
+            }
+
+            ScheduledFuture<?> timeoutFuture = scheduler.schedule(() -> waiter.complete(false), timeout.toNanos(), TimeUnit.NANOSECONDS);
+            waiter.whenComplete((signalled, throwable) -> {
+                timeoutFuture.cancel(false);
+                synchronized (this) {
+                    asyncWaiters.remove(waiter);
+                }
+            });
+            return waiter;
+        }
+
+        /**
+         * Waits until a job has been created after the given version was read, or until the timeout expires.
+         *
+         * @return true if a job has been created, false if the timeout expired
+         */
+        public synchronized boolean await(long expectedVersion, Duration timeout) throws InterruptedException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (version == expectedVersion) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * A {@link TransactionListener} that will, on post-commit, signal the threads waiting to acquire external worker jobs of the topic
+ * of a created external worker job.
+ */
+public class ExternalWorkerJobCreatedTransactionListener implements TransactionListener {
+
+    protected ExternalWorkerJobAcquireNotifier acquireNotifier;
+    protected String topic;
+
+    public ExternalWorkerJobCreatedTransactionListener(ExternalWorkerJobAcquireNotifier acquireNotifier, String topic) {
+        this.acquireNotifier = acquireNotifier;
+        this.topic = topic;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        acquireNotifier.notifyJobCreated(topic);
+    }
+
+}
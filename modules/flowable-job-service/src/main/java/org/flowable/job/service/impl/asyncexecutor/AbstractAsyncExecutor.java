@@ -40,6 +40,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected AcquireAsyncJobsDueRunnable asyncJobsDueRunnable;
     protected AcquireAsyncJobsDueLifecycleListener asyncJobsDueLifecycleListener;
     protected ResetExpiredJobsRunnable resetExpiredJobsRunnable;
+    protected ResetExpiredJobsLifecycleListener resetExpiredJobsLifecycleListener;
 
     protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
     
@@ -127,6 +128,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String resetRunnableName = resetExpiredRunnableName != null ?
                     resetExpiredRunnableName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-reset-expired-jobs";
             resetExpiredJobsRunnable = createResetExpiredJobsRunnable(resetRunnableName);
+            resetExpiredJobsRunnable.setLifecycleListener(resetExpiredJobsLifecycleListener);
         }
 
         if (asyncJobsDueRunnable == null) {
@@ -328,6 +330,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.timerLifecycleListener = timerLifecycleListener;
     }
 
+    public ResetExpiredJobsLifecycleListener getResetExpiredJobsLifecycleListener() {
+        return resetExpiredJobsLifecycleListener;
+    }
+
+    public void setResetExpiredJobsLifecycleListener(ResetExpiredJobsLifecycleListener resetExpiredJobsLifecycleListener) {
+        this.resetExpiredJobsLifecycleListener = resetExpiredJobsLifecycleListener;
+    }
+
     public boolean isGlobalAcquireLockEnabled() {
         return configuration.isGlobalAcquireLockEnabled();
     }
@@ -344,6 +354,14 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         configuration.setGlobalAcquireLockPrefix(globalAcquireLockPrefix);
     }
 
+    public boolean isSkipLockedAcquireEnabled() {
+        return configuration.isSkipLockedAcquireEnabled();
+    }
+
+    public void setSkipLockedAcquireEnabled(boolean skipLockedAcquireEnabled) {
+        configuration.setSkipLockedAcquireEnabled(skipLockedAcquireEnabled);
+    }
+
     public Duration getAsyncJobsGlobalLockWaitTime() {
         return configuration.getAsyncJobsGlobalLockWaitTime();
     }
@@ -471,6 +489,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             return configuration.isGlobalAcquireLockEnabled();
         }
 
+        @Override
+        public boolean isSkipLockedAcquireEnabled() {
+            return configuration.isSkipLockedAcquireEnabled();
+        }
+
         @Override
         public String getGlobalAcquireLockPrefix() {
             return configuration.getGlobalAcquireLockPrefix();
@@ -499,6 +522,11 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             return configuration.isGlobalAcquireLockEnabled();
         }
 
+        @Override
+        public boolean isSkipLockedAcquireEnabled() {
+            return configuration.isSkipLockedAcquireEnabled();
+        }
+
         @Override
         public String getGlobalAcquireLockPrefix() {
             return configuration.getGlobalAcquireLockPrefix();
@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireJobsWithGlobalAcquireLockCmd;
+import org.flowable.job.service.impl.cmd.AcquireJobsWithSkipLockedCmd;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -178,6 +179,9 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             if (globalAcquireLockEnabled) {
                 acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
 
+            } else if (configuration.isSkipLockedAcquireEnabled()) {
+                acquiredJobs = commandExecutor.execute(new AcquireJobsWithSkipLockedCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+
             } else {
                 acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
 
@@ -53,6 +53,10 @@ public interface AcquireJobsRunnableConfiguration {
 
     boolean isGlobalAcquireLockEnabled();
 
+    default boolean isSkipLockedAcquireEnabled() {
+        return false;
+    }
+
     String getGlobalAcquireLockPrefix();
 
     Duration getLockWaitTime();
@@ -29,6 +29,7 @@ import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithGlobalAcquireLockCmd;
+import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithSkipLockedCmd;
 import org.flowable.job.service.impl.cmd.BulkMoveTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
@@ -174,6 +175,9 @@ public class AcquireTimerJobsRunnable implements Runnable {
                     }
                 }
 
+            } else if (configuration.isSkipLockedAcquireEnabled()) {
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsWithSkipLockedCmd(asyncExecutor));
+
             } else {
                 timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
@@ -113,6 +113,13 @@ public class AsyncJobExecutorConfiguration {
      */
     protected String globalAcquireLockPrefix = "";
 
+    /**
+     * Whether jobs should be acquired with {@code SELECT ... FOR UPDATE SKIP LOCKED}.
+     * Only used on databases that support it (PostgreSQL, MySQL 8+ and Oracle), other databases keep using optimistic locking.
+     * When the global acquire lock is enabled, that strategy takes precedence.
+     */
+    protected boolean skipLockedAcquireEnabled;
+
     /**
      * The amount of time the async job acquire thread should wait to acquire the global lock.
      */
@@ -330,6 +337,14 @@ public class AsyncJobExecutorConfiguration {
         return globalAcquireLockPrefix;
     }
 
+    public boolean isSkipLockedAcquireEnabled() {
+        return skipLockedAcquireEnabled;
+    }
+
+    public void setSkipLockedAcquireEnabled(boolean skipLockedAcquireEnabled) {
+        this.skipLockedAcquireEnabled = skipLockedAcquireEnabled;
+    }
+
     public void setGlobalAcquireLockPrefix(String globalAcquireLockPrefix) {
         this.globalAcquireLockPrefix = globalAcquireLockPrefix;
     }
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Listener notified by the {@link ResetExpiredJobsRunnable} about the lifecycle of resetting expired jobs.
+ */
+public interface ResetExpiredJobsLifecycleListener {
+
+    void startResetting(String engineName);
+
+    void stopResetting(String engineName);
+
+    void resetExpiredJobs(String engineName, int jobsReset);
+
+    void optimisticLockingException(String engineName);
+
+}
@@ -40,9 +40,33 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ResetExpiredJobsRunnable.class);
 
+    private static final ResetExpiredJobsLifecycleListener NOOP_LIFECYCLE_LISTENER = new ResetExpiredJobsLifecycleListener() {
+
+        @Override
+        public void startResetting(String engineName) {
+
+        }
+
+        @Override
+        public void stopResetting(String engineName) {
+
+        }
+
+        @Override
+        public void resetExpiredJobs(String engineName, int jobsReset) {
+
+        }
+
+        @Override
+        public void optimisticLockingException(String engineName) {
+
+        }
+    };
+
     protected final String name;
     protected final AsyncExecutor asyncExecutor;
     protected final Collection<JobInfoEntityManager<? extends JobInfoEntity>> jobInfoEntityManagers;
+    protected ResetExpiredJobsLifecycleListener lifecycleListener = NOOP_LIFECYCLE_LISTENER;
 
     protected volatile boolean isInterrupted;
     protected final Object MONITOR = new Object();
@@ -94,8 +118,13 @@ public class ResetExpiredJobsRunnable implements Runnable {
      * Resets jobs that were expired. Will continue to reset jobs until no more jobs are returned.
      */
     public void resetJobs() {
-        for (JobInfoEntityManager<? extends JobInfoEntity> jobInfoEntityManager : jobInfoEntityManagers) {
-            resetJobs(jobInfoEntityManager);
+        lifecycleListener.startResetting(getEngineName());
+        try {
+            for (JobInfoEntityManager<? extends JobInfoEntity> jobInfoEntityManager : jobInfoEntityManagers) {
+                resetJobs(jobInfoEntityManager);
+            }
+        } finally {
+            lifecycleListener.stopResetting(getEngineName());
         }
     }
 
@@ -113,6 +142,7 @@ public class ResetExpiredJobsRunnable implements Runnable {
                 if (!expiredJobIds.isEmpty()) {
                     asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(
                             new ResetExpiredJobsCmd(expiredJobIds, jobEntityManager, jobServiceConfiguration));
+                    lifecycleListener.resetExpiredJobs(getEngineName(), expiredJobIds.size());
 
                 } else {
                     hasExpiredJobs = false;
@@ -125,6 +155,7 @@ public class ResetExpiredJobsRunnable implements Runnable {
                 // If another exception happens, we return the method which will trigger a sleep.
 
                 if (e instanceof FlowableOptimisticLockingException) {
+                    lifecycleListener.optimisticLockingException(getEngineName());
                     LOGGER.debug("Optimistic lock exception while resetting locked jobs for engine {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
 
                 } else {
@@ -152,6 +183,14 @@ public class ResetExpiredJobsRunnable implements Runnable {
         return asyncExecutor.getJobServiceConfiguration().getEngineName();
     }
 
+    public ResetExpiredJobsLifecycleListener getLifecycleListener() {
+        return lifecycleListener;
+    }
+
+    public void setLifecycleListener(ResetExpiredJobsLifecycleListener lifecycleListener) {
+        this.lifecycleListener = lifecycleListener != null ? lifecycleListener : NOOP_LIFECYCLE_LISTENER;
+    }
+
     public boolean isInterrupted() {
         return isInterrupted;
     }
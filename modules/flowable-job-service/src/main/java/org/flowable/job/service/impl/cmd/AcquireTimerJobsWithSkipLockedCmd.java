@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+public class AcquireTimerJobsWithSkipLockedCmd implements Command<List<TimerJobEntity>> {
+
+    protected AsyncExecutor asyncExecutor;
+
+    public AcquireTimerJobsWithSkipLockedCmd(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public List<TimerJobEntity> execute(CommandContext commandContext) {
+        if (!commandContext.getSession(DbSqlSession.class).getDbSqlSessionFactory().isSkipLockedSupported()) {
+            // Fall back to the default acquisition, relying on optimistic locking
+            return new AcquireTimerJobsCmd(asyncExecutor).execute(commandContext);
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
+
+        // The selected rows are locked in the database until this transaction ends and concurrent acquisitions skip them,
+        // so optimistic locking exceptions can't happen during acquire.
+        GregorianCalendar jobExpirationTime = calculateLockExpirationTime(asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
+
+        return jobServiceConfiguration.getTimerJobEntityManager()
+            .findJobsToExecuteSkipLockedAndLockInBulk(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()),
+                asyncExecutor.getLockOwner(), jobExpirationTime.getTime());
+    }
+
+    protected GregorianCalendar calculateLockExpirationTime(int lockTimeInMillis, JobServiceConfiguration jobServiceConfiguration) {
+        GregorianCalendar gregorianCalendar = new GregorianCalendar();
+        gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
+        gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
+        return gregorianCalendar;
+    }
+
+}
@@ -15,9 +15,14 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireNotifier;
+import org.flowable.job.service.impl.ExternalWorkerJobCreatedTransactionListener;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
@@ -55,9 +60,26 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyJobCreated(jobEntity);
         return true;
     }
 
+    protected void notifyJobCreated(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobAcquireNotifier acquireNotifier = serviceConfiguration.getExternalWorkerJobAcquireNotifier();
+        if (acquireNotifier == null) {
+            return;
+        }
+
+        // Waiting workers can only acquire the job once it is committed
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    new ExternalWorkerJobCreatedTransactionListener(acquireNotifier, jobEntity.getJobHandlerConfiguration()));
+        } else {
+            acquireNotifier.notifyJobCreated(jobEntity.getJobHandlerConfiguration());
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
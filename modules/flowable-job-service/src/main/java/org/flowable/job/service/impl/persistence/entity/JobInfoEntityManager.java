@@ -15,6 +15,7 @@ package org.flowable.job.service.impl.persistence.entity;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
@@ -28,6 +29,16 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed, using {@code SELECT ... FOR UPDATE SKIP LOCKED}.
+     * Jobs that are being acquired by another transaction at the same time are skipped, instead of being returned to multiple acquiring nodes.
+     * 
+     * Only supported on databases for which {@link org.flowable.common.engine.impl.db.DbSqlSessionFactory#isSkipLockedSupported()} returns true.
+     */
+    default List<T> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        throw new FlowableException("Acquiring jobs with SKIP LOCKED is not supported by " + getClass().getName());
+    }
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
@@ -63,6 +74,16 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
         return jobs;
     }
 
+    // The rows returned by the SKIP LOCKED query stay locked until the transaction ends, so the lock can be set without a revision check
+    default List<T> findJobsToExecuteSkipLockedAndLockInBulk(List<String> enabledCategories, Page page, String lockOwner, Date lockExpirationTime) {
+        List<T> jobs = findJobsToExecuteSkipLocked(enabledCategories, page);
+
+        if (!jobs.isEmpty()) {
+            bulkUpdateJobLockWithoutRevisionCheck(jobs, lockOwner, lockExpirationTime);
+        }
+        return jobs;
+    }
+
     void bulkUpdateJobLockWithoutRevisionCheck(List<T> jobEntities, String lockOwner, Date lockExpirationTime);
 
 }
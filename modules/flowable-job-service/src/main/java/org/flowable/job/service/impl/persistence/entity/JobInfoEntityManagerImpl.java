@@ -38,6 +38,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         return dataManager.findJobsToExecute(enabledCategories, page);
     }
 
+    @Override
+    public List<T> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        return dataManager.findJobsToExecuteSkipLocked(enabledCategories, page);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return dataManager.findJobsByExecutionId(executionId);
@@ -15,6 +15,7 @@ package org.flowable.job.service.impl.persistence.entity.data;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
@@ -23,6 +24,10 @@ public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager
 
     List<T> findJobsToExecute(List<String> enabledCategories, Page page);
 
+    default List<T> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        throw new FlowableException("Acquiring jobs with SKIP LOCKED is not supported by " + getClass().getName());
+    }
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
@@ -52,14 +52,23 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoryJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
-        
+        return getDbSqlSession().selectList("selectHistoryJobsToExecute", createJobsToExecuteParameter(page));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        return getDbSqlSession().selectList("selectHistoryJobsToExecuteSkipLocked", createJobsToExecuteParameter(page));
+    }
+
+    protected ListQueryParameterObject createJobsToExecuteParameter(Page page) {
         ListQueryParameterObject params = new ListQueryParameterObject();
         params.setParameter(jobServiceConfiguration.getHistoryJobExecutionScope());
         
         // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
         params.setFirstResult(page.getFirstResult());
         params.setMaxResults(page.getMaxResults());
-        return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
+        return params;
     }
 
     @Override
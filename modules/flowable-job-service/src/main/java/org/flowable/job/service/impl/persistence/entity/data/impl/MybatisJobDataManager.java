@@ -61,6 +61,16 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     @Override
     @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return getDbSqlSession().selectList("selectJobsToExecute", createJobsToExecuteParameter(enabledCategories, page));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        return getDbSqlSession().selectList("selectJobsToExecuteSkipLocked", createJobsToExecuteParameter(enabledCategories, page));
+    }
+
+    protected ListQueryParameterObject createJobsToExecuteParameter(List<String> enabledCategories, Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
         
@@ -70,7 +80,7 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         
         ListQueryParameterObject listQueryParameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
         listQueryParameterObject.setIgnoreOrderBy();
-        return getDbSqlSession().selectList("selectJobsToExecute", listQueryParameterObject);
+        return listQueryParameterObject;
     }
 
     @Override
@@ -107,6 +107,16 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return getDbSqlSession().selectList("selectTimerJobsToExecute", createJobsToExecuteParameter(enabledCategories, page));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecuteSkipLocked(List<String> enabledCategories, Page page) {
+        return getDbSqlSession().selectList("selectTimerJobsToExecuteSkipLocked", createJobsToExecuteParameter(enabledCategories, page));
+    }
+
+    protected ListQueryParameterObject createJobsToExecuteParameter(List<String> enabledCategories, Page page) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
@@ -120,7 +130,7 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         
         ListQueryParameterObject listQueryParameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
         listQueryParameterObject.setIgnoreOrderBy();
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", listQueryParameterObject);
+        return listQueryParameterObject;
     }
 
     @Override
@@ -58,7 +58,7 @@ public class LDAPIdentityServiceImpl extends IdmIdentityServiceImpl {
 
     @Override
     public GroupQuery createGroupQuery() {
-        return new LDAPGroupQueryImpl(ldapConfigurator, ldapGroupCache);
+        return new LDAPGroupQueryImpl(ldapConfigurator, ldapGroupCache, configuration.getGroupMembershipCache());
     }
 
     @Override
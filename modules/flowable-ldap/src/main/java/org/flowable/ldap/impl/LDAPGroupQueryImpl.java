@@ -25,6 +25,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.engine.impl.GroupQueryImpl;
+import org.flowable.idm.engine.impl.cache.GroupMembershipCache;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntity;
 import org.flowable.idm.engine.impl.persistence.entity.GroupEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
@@ -38,10 +39,16 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     protected LDAPConfiguration ldapConfigurator;
     protected LDAPGroupCache ldapGroupCache;
+    protected GroupMembershipCache groupMembershipCache;
 
     public LDAPGroupQueryImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache) {
+        this(ldapConfigurator, ldapGroupCache, null);
+    }
+
+    public LDAPGroupQueryImpl(LDAPConfiguration ldapConfigurator, LDAPGroupCache ldapGroupCache, GroupMembershipCache groupMembershipCache) {
         this.ldapConfigurator = ldapConfigurator;
         this.ldapGroupCache = ldapGroupCache;
+        this.groupMembershipCache = groupMembershipCache;
     }
 
     @Override
@@ -72,6 +79,11 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
             if (groups != null) {
                 return groups;
             }
+        } else if (groupMembershipCache != null) {
+            List<Group> groups = groupMembershipCache.get(userId);
+            if (groups != null) {
+                return groups;
+            }
         }
 
         String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
@@ -80,6 +92,8 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
         // Cache results for later
         if (ldapGroupCache != null) {
             ldapGroupCache.add(userId, groups);
+        } else if (groupMembershipCache != null) {
+            groupMembershipCache.add(userId, groups);
         }
 
         return groups;
@@ -87,6 +87,7 @@ public class HistoricProcessInstanceCollectionResource extends HistoricProcessIn
         @ApiImplicitParam(name = "tenantIdLike", dataType = "string", value = "Only return instances with a tenant id like the given value.", paramType = "query"),
         @ApiImplicitParam(name = "tenantIdLikeIgnoreCase", dataType = "string", value = "Only return instances with a tenant id like the given value ignoring case.", paramType = "query"),
         @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns instances without a tenantId set. If false, the withoutTenantId parameter is ignored.\n", paramType = "query"),
+        @ApiImplicitParam(name = "cursor", dataType = "string", value = "Page with keyset pagination instead of start: an empty value returns the first page, the nextCursor of a response returns the page after it. Can be combined with size and with sort on processInstanceId or startTime.", paramType = "query"),
     })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates that historic process instances could be queried."),
@@ -98,6 +98,7 @@ public class HistoricTaskInstanceCollectionResource extends HistoricTaskInstance
             @ApiImplicitParam(name = "withoutTenantId", dataType = "boolean", value = "If true, only returns historic task instances without a tenantId set. If false, the withoutTenantId parameter is ignored.", paramType = "query"),
             @ApiImplicitParam(name = "rootScopeId", dataType = "string", value = "Only return case instances which have the given root scope id (that can be a process or case instance ID).", paramType = "query"),
             @ApiImplicitParam(name = "parentScopeId", dataType = "string", value = "Only return case instances which have the given parent scope id (that can be a process or case instance ID).", paramType = "query"),
+            @ApiImplicitParam(name = "cursor", dataType = "string", value = "Page with keyset pagination instead of start: an empty value returns the first page, the nextCursor of a response returns the page after it. Can be combined with size and with sort on taskInstanceId, startTime or priority.", paramType = "query"),
 
     })
     @ApiResponses(value = {
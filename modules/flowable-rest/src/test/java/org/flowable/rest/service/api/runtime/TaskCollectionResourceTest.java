@@ -17,6 +17,7 @@ import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -493,6 +494,37 @@ public class TaskCollectionResourceTest extends BaseSpringRestTestCase {
         taskService.deleteTask("taskID3", true);
 
     }
+    @Test
+    public void testGetTasksWithCursor() throws IOException {
+        List<String> taskIds = List.of("cursorTask1", "cursorTask2", "cursorTask3", "cursorTask4", "cursorTask5");
+        for (String taskId : taskIds) {
+            taskService.createTaskBuilder().id(taskId).create();
+        }
+
+        try {
+            List<String> pagedTaskIds = new ArrayList<>();
+            String cursor = "";
+            while (cursor != null) {
+                String url = RestUrls.createRelativeResourceUrl(RestUrls.URL_TASK_COLLECTION) + "?size=2&cursor=" + cursor;
+                CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + url), HttpStatus.SC_OK);
+                JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+                closeResponse(response);
+
+                assertThat(responseNode.get("total").asLong()).isEqualTo(-1);
+                assertThat(responseNode.get("data").size()).isLessThanOrEqualTo(2);
+                for (JsonNode taskNode : responseNode.get("data")) {
+                    pagedTaskIds.add(taskNode.get("id").asText());
+                }
+                cursor = responseNode.hasNonNull("nextCursor") ? responseNode.get("nextCursor").asText() : null;
+            }
+
+            assertThat(pagedTaskIds).containsExactlyElementsOf(taskIds);
+
+        } finally {
+            taskService.deleteTasks(taskIds, true);
+        }
+    }
+
     @Test
     public void testInvalidBulkUpdateTasks() throws IOException {
         ObjectNode requestNode = objectMapper.createObjectNode();
@@ -0,0 +1,389 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.common.engine.impl.async.DefaultAsyncTaskExecutor;
+import org.flowable.common.spring.async.SpringAsyncTaskExecutor;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueLifecycleListener;
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerLifecycleListener;
+import org.flowable.job.service.impl.asyncexecutor.JobExecutionObservation;
+import org.flowable.job.service.impl.asyncexecutor.JobExecutionObservationProvider;
+import org.flowable.job.service.impl.asyncexecutor.ResetExpiredJobsLifecycleListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes metrics of an {@link AbstractAsyncExecutor}: the acquisition cycles of async and timer jobs, the resetting of expired jobs,
+ * the queue of the async task executor and the execution time of the jobs per job handler type.
+ *
+ * Binding installs lifecycle listeners and a {@link JobExecutionObservationProvider} on the async executor, so it has to happen before the
+ * async executor is started. Listeners and an observation provider that were already set are still invoked.
+ */
+public class AsyncExecutorMetrics implements MeterBinder {
+
+    public static final String METRIC_PREFIX = "flowable.async.executor.";
+
+    protected final AbstractAsyncExecutor asyncExecutor;
+    protected final Tags tags;
+
+    public AsyncExecutorMetrics(AbstractAsyncExecutor asyncExecutor, Iterable<Tag> tags) {
+        this.asyncExecutor = asyncExecutor;
+        this.tags = Tags.of(tags);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + "queue.size", this, AsyncExecutorMetrics::getQueueSize)
+                .tags(tags)
+                .description("The number of jobs waiting in the queue of the async task executor")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + "queue.remaining.capacity", this, AsyncExecutorMetrics::getQueueRemainingCapacity)
+                .tags(tags)
+                .description("The number of jobs that can still be added to the queue of the async task executor")
+                .register(registry);
+
+        asyncExecutor.setAsyncJobsDueLifecycleListener(new AcquireAsyncJobsDueMetrics(registry, tags, asyncExecutor.getAsyncJobsDueLifecycleListener()));
+        asyncExecutor.setTimerLifecycleListener(new AcquireTimerJobsMetrics(registry, tags, asyncExecutor.getTimerLifecycleListener()));
+        asyncExecutor.setResetExpiredJobsLifecycleListener(new ResetExpiredJobsMetrics(registry, tags, asyncExecutor.getResetExpiredJobsLifecycleListener()));
+        asyncExecutor.setJobExecutionObservationProvider(new JobExecutionMetricsProvider(registry, tags, asyncExecutor.getJobExecutionObservationProvider()));
+    }
+
+    protected double getQueueSize() {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor) {
+            DefaultAsyncTaskExecutor defaultAsyncTaskExecutor = (DefaultAsyncTaskExecutor) taskExecutor;
+            if (defaultAsyncTaskExecutor.getThreadPoolQueue() != null) {
+                return defaultAsyncTaskExecutor.getThreadPoolQueue().size();
+            }
+
+        } else if (taskExecutor instanceof SpringAsyncTaskExecutor) {
+            org.springframework.core.task.AsyncTaskExecutor springTaskExecutor = ((SpringAsyncTaskExecutor) taskExecutor).getAsyncTaskExecutor();
+            if (springTaskExecutor instanceof ThreadPoolTaskExecutor) {
+                return ((ThreadPoolTaskExecutor) springTaskExecutor).getQueueSize();
+            }
+        }
+
+        return Double.NaN;
+    }
+
+    protected double getQueueRemainingCapacity() {
+        AsyncTaskExecutor taskExecutor = asyncExecutor.getTaskExecutor();
+        if (taskExecutor instanceof DefaultAsyncTaskExecutor && ((DefaultAsyncTaskExecutor) taskExecutor).getThreadPoolQueue() == null
+                && ((DefaultAsyncTaskExecutor) taskExecutor).getConcurrencyLimiter() == null) {
+            // The executor has not been started yet
+            return Double.NaN;
+        }
+
+        if (taskExecutor != null) {
+            int remainingCapacity = taskExecutor.getRemainingCapacity();
+            if (remainingCapacity != Integer.MAX_VALUE) {
+                return remainingCapacity;
+            }
+        }
+        return Double.NaN;
+    }
+
+    protected static class AcquireAsyncJobsDueMetrics implements AcquireAsyncJobsDueLifecycleListener {
+
+        protected final AcquireAsyncJobsDueLifecycleListener delegate;
+        protected final MeterRegistry registry;
+        protected final Timer acquisitionTimer;
+        protected final DistributionSummary acquiredJobs;
+        protected final DistributionSummary rejectedJobs;
+        protected final Counter optimisticLockingFailures;
+        protected final ThreadLocal<Timer.Sample> acquisitionSample = new ThreadLocal<>();
+
+        public AcquireAsyncJobsDueMetrics(MeterRegistry registry, Tags tags, AcquireAsyncJobsDueLifecycleListener delegate) {
+            this.delegate = delegate;
+            this.registry = registry;
+            Tags asyncJobTags = tags.and("job.type", "async");
+            this.acquisitionTimer = Timer.builder(METRIC_PREFIX + "acquisition")
+                    .tags(asyncJobTags)
+                    .description("The duration of one acquisition cycle")
+                    .register(registry);
+            this.acquiredJobs = DistributionSummary.builder(METRIC_PREFIX + "acquired.jobs")
+                    .tags(asyncJobTags)
+                    .description("The number of jobs acquired in one acquisition cycle")
+                    .register(registry);
+            this.rejectedJobs = DistributionSummary.builder(METRIC_PREFIX + "rejected.jobs")
+                    .tags(asyncJobTags)
+                    .description("The number of acquired jobs in one acquisition cycle that were rejected by the async task executor")
+                    .register(registry);
+            this.optimisticLockingFailures = Counter.builder(METRIC_PREFIX + "optimistic.locking.failures")
+                    .tags(tags.and("operation", "acquire"))
+                    .description("The number of optimistic locking failures")
+                    .register(registry);
+        }
+
+        @Override
+        public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+            acquisitionSample.set(Timer.start(registry));
+            if (delegate != null) {
+                delegate.startAcquiring(engineName, remainingCapacity, maxAsyncJobsDuePerAcquisition);
+            }
+        }
+
+        @Override
+        public void stopAcquiring(String engineName) {
+            Timer.Sample sample = acquisitionSample.get();
+            if (sample != null) {
+                sample.stop(acquisitionTimer);
+                acquisitionSample.remove();
+            }
+            if (delegate != null) {
+                delegate.stopAcquiring(engineName);
+            }
+        }
+
+        @Override
+        public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+            acquiredJobs.record(jobsAcquired);
+            if (delegate != null) {
+                delegate.acquiredJobs(engineName, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+            }
+        }
+
+        @Override
+        public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+            rejectedJobs.record(jobsRejected);
+            if (delegate != null) {
+                delegate.rejectedJobs(engineName, jobsRejected, jobsAcquired, maxAsyncJobsDuePerAcquisition);
+            }
+        }
+
+        @Override
+        public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+            optimisticLockingFailures.increment();
+            if (delegate != null) {
+                delegate.optimistLockingException(engineName, maxAsyncJobsDuePerAcquisition);
+            }
+        }
+
+        @Override
+        public void startWaiting(String engineName, long millisToWait) {
+            if (delegate != null) {
+                delegate.startWaiting(engineName, millisToWait);
+            }
+        }
+    }
+
+    protected static class AcquireTimerJobsMetrics implements AcquireTimerLifecycleListener {
+
+        protected final AcquireTimerLifecycleListener delegate;
+        protected final MeterRegistry registry;
+        protected final Timer acquisitionTimer;
+        protected final DistributionSummary acquiredJobs;
+        protected final ThreadLocal<Timer.Sample> acquisitionSample = new ThreadLocal<>();
+
+        public AcquireTimerJobsMetrics(MeterRegistry registry, Tags tags, AcquireTimerLifecycleListener delegate) {
+            this.delegate = delegate;
+            this.registry = registry;
+            Tags timerJobTags = tags.and("job.type", "timer");
+            this.acquisitionTimer = Timer.builder(METRIC_PREFIX + "acquisition")
+                    .tags(timerJobTags)
+                    .description("The duration of one acquisition cycle")
+                    .register(registry);
+            this.acquiredJobs = DistributionSummary.builder(METRIC_PREFIX + "acquired.jobs")
+                    .tags(timerJobTags)
+                    .description("The number of jobs acquired in one acquisition cycle")
+                    .register(registry);
+        }
+
+        @Override
+        public void startAcquiring(String engineName, int maxTimerJobsPerAcquisition) {
+            acquisitionSample.set(Timer.start(registry));
+            if (delegate != null) {
+                delegate.startAcquiring(engineName, maxTimerJobsPerAcquisition);
+            }
+        }
+
+        @Override
+        public void stopAcquiring(String engineName) {
+            Timer.Sample sample = acquisitionSample.get();
+            if (sample != null) {
+                sample.stop(acquisitionTimer);
+                acquisitionSample.remove();
+            }
+            if (delegate != null) {
+                delegate.stopAcquiring(engineName);
+            }
+        }
+
+        @Override
+        public void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition) {
+            acquiredJobs.record(jobsAcquired);
+            if (delegate != null) {
+                delegate.acquiredJobs(engineName, jobsAcquired, maxTimerJobsPerAcquisition);
+            }
+        }
+
+        @Override
+        public void startWaiting(String engineName, long millisToWait) {
+            if (delegate != null) {
+                delegate.startWaiting(engineName, millisToWait);
+            }
+        }
+    }
+
+    protected static class ResetExpiredJobsMetrics implements ResetExpiredJobsLifecycleListener {
+
+        protected final ResetExpiredJobsLifecycleListener delegate;
+        protected final MeterRegistry registry;
+        protected final Timer resetTimer;
+        protected final Counter resetJobs;
+        protected final Counter optimisticLockingFailures;
+        protected final ThreadLocal<Timer.Sample> resetSample = new ThreadLocal<>();
+
+        public ResetExpiredJobsMetrics(MeterRegistry registry, Tags tags, ResetExpiredJobsLifecycleListener delegate) {
+            this.delegate = delegate;
+            this.registry = registry;
+            this.resetTimer = Timer.builder(METRIC_PREFIX + "expired.jobs.reset.cycle")
+                    .tags(tags)
+                    .description("The duration of one cycle resetting expired jobs")
+                    .register(registry);
+            this.resetJobs = Counter.builder(METRIC_PREFIX + "expired.jobs.reset")
+                    .tags(tags)
+                    .description("The number of expired jobs that were reset")
+                    .register(registry);
+            this.optimisticLockingFailures = Counter.builder(METRIC_PREFIX + "optimistic.locking.failures")
+                    .tags(tags.and("operation", "reset-expired"))
+                    .description("The number of optimistic locking failures")
+                    .register(registry);
+        }
+
+        @Override
+        public void startResetting(String engineName) {
+            resetSample.set(Timer.start(registry));
+            if (delegate != null) {
+                delegate.startResetting(engineName);
+            }
+        }
+
+        @Override
+        public void stopResetting(String engineName) {
+            Timer.Sample sample = resetSample.get();
+            if (sample != null) {
+                sample.stop(resetTimer);
+                resetSample.remove();
+            }
+            if (delegate != null) {
+                delegate.stopResetting(engineName);
+            }
+        }
+
+        @Override
+        public void resetExpiredJobs(String engineName, int jobsReset) {
+            resetJobs.increment(jobsReset);
+            if (delegate != null) {
+                delegate.resetExpiredJobs(engineName, jobsReset);
+            }
+        }
+
+        @Override
+        public void optimisticLockingException(String engineName) {
+            optimisticLockingFailures.increment();
+            if (delegate != null) {
+                delegate.optimisticLockingException(engineName);
+            }
+        }
+    }
+
+    protected static class JobExecutionMetricsProvider implements JobExecutionObservationProvider {
+
+        protected final JobExecutionObservationProvider delegate;
+        protected final MeterRegistry registry;
+        protected final Tags tags;
+
+        public JobExecutionMetricsProvider(MeterRegistry registry, Tags tags, JobExecutionObservationProvider delegate) {
+            this.delegate = delegate != null ? delegate : JobExecutionObservationProvider.NOOP;
+            this.registry = registry;
+            this.tags = tags;
+        }
+
+        @Override
+        public JobExecutionObservation create(JobInfo job) {
+            return new JobExecutionMetricsObservation(job, delegate.create(job));
+        }
+
+        protected Timer getExecutionTimer(String handlerType, String outcome) {
+            // Timers are cached by the registry, the builder only looks up the existing timer
+            return Timer.builder(METRIC_PREFIX + "job.execution")
+                    .tags(tags)
+                    .tag("handler.type", handlerType != null ? handlerType : "unknown")
+                    .tag("outcome", outcome)
+                    .description("The execution time of a job")
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        protected class JobExecutionMetricsObservation implements JobExecutionObservation {
+
+            protected final JobInfo job;
+            protected final JobExecutionObservation delegate;
+            protected Timer.Sample sample;
+            protected String outcome = "success";
+
+            protected JobExecutionMetricsObservation(JobInfo job, JobExecutionObservation delegate) {
+                this.job = job;
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void start() {
+                sample = Timer.start(registry);
+                delegate.start();
+            }
+
+            @Override
+            public void stop() {
+                if (sample != null) {
+                    sample.stop(getExecutionTimer(job.getJobHandlerType(), outcome));
+                }
+                delegate.stop();
+            }
+
+            @Override
+            public Scope lockScope() {
+                return delegate.lockScope();
+            }
+
+            @Override
+            public void lockError(Throwable lockException) {
+                outcome = "lock-failure";
+                delegate.lockError(lockException);
+            }
+
+            @Override
+            public Scope executionScope() {
+                return delegate.executionScope();
+            }
+
+            @Override
+            public void executionError(Throwable exception) {
+                outcome = "failure";
+                delegate.executionError(exception);
+            }
+        }
+    }
+}
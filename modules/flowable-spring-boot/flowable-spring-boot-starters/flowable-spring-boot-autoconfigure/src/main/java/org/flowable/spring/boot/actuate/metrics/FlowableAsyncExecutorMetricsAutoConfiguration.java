@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.boot.actuate.metrics;
+
+import org.flowable.cmmn.spring.SpringCmmnEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.spring.SpringProcessEngineConfiguration;
+import org.flowable.spring.boot.EngineConfigurationConfigurer;
+import org.flowable.spring.boot.condition.ConditionalOnCmmnEngine;
+import org.flowable.spring.boot.condition.ConditionalOnProcessEngine;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * Binds {@link AsyncExecutorMetrics} for the async executors of the process and CMMN engines to the {@link MeterRegistry}.
+ * The metrics can be disabled with {@code flowable.metrics.async-executor.enabled=false}.
+ */
+@AutoConfiguration(after = {
+        MetricsAutoConfiguration.class,
+        CompositeMeterRegistryAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "flowable.metrics.async-executor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FlowableAsyncExecutorMetricsAutoConfiguration {
+
+    protected static void bindAsyncExecutorMetrics(AsyncExecutor asyncExecutor, String engine, String executor, MeterRegistry meterRegistry) {
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            new AsyncExecutorMetrics((AbstractAsyncExecutor) asyncExecutor, Tags.of("engine", engine, "executor", executor)).bindTo(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProcessEngine
+    public static class ProcessAsyncExecutorMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "processAsyncExecutorMetricsConfigurer")
+        public EngineConfigurationConfigurer<SpringProcessEngineConfiguration> processAsyncExecutorMetricsConfigurer(MeterRegistry meterRegistry) {
+            return engineConfiguration -> {
+                bindAsyncExecutorMetrics(engineConfiguration.getAsyncExecutor(), "process", "async", meterRegistry);
+                bindAsyncExecutorMetrics(engineConfiguration.getAsyncHistoryExecutor(), "process", "async-history", meterRegistry);
+            };
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnCmmnEngine
+    public static class CmmnAsyncExecutorMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(name = "cmmnAsyncExecutorMetricsConfigurer")
+        public EngineConfigurationConfigurer<SpringCmmnEngineConfiguration> cmmnAsyncExecutorMetricsConfigurer(MeterRegistry meterRegistry) {
+            return engineConfiguration -> {
+                bindAsyncExecutorMetrics(engineConfiguration.getAsyncExecutor(), "cmmn", "async", meterRegistry);
+                bindAsyncExecutorMetrics(engineConfiguration.getAsyncHistoryExecutor(), "cmmn", "async-history", meterRegistry);
+            };
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.test.spring.boot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.spring.boot.ProcessEngineAutoConfiguration;
+import org.flowable.spring.boot.ProcessEngineServicesAutoConfiguration;
+import org.flowable.spring.boot.actuate.metrics.FlowableAsyncExecutorMetricsAutoConfiguration;
+import org.flowable.spring.boot.cmmn.CmmnEngineAutoConfiguration;
+import org.flowable.spring.boot.cmmn.CmmnEngineServicesAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class FlowableAsyncExecutorMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(
+            FlowableAsyncExecutorMetricsAutoConfiguration.class,
+            MetricsAutoConfiguration.class,
+            CompositeMeterRegistryAutoConfiguration.class,
+            SimpleMetricsExportAutoConfiguration.class,
+            ProcessEngineAutoConfiguration.class,
+            ProcessEngineServicesAutoConfiguration.class,
+            CmmnEngineAutoConfiguration.class,
+            CmmnEngineServicesAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            DataSourceAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+        ))
+        .withPropertyValues("flowable.cmmn.deploy-resources=false", "flowable.check-process-definitions=false")
+        .withClassLoader(new FilteredClassLoader(EntityManagerFactory.class));
+
+    @Test
+    public void asyncExecutorMetricsAreBoundForProcessAndCmmnEngine() {
+        contextRunner.run(context -> {
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            for (String engine : new String[] { "process", "cmmn" }) {
+                assertThat(meterRegistry.find("flowable.async.executor.acquisition").tags("engine", engine, "job.type", "async").timer())
+                        .as("async job acquisition timer of %s engine", engine)
+                        .isNotNull();
+                assertThat(meterRegistry.find("flowable.async.executor.acquisition").tags("engine", engine, "job.type", "timer").timer())
+                        .as("timer job acquisition timer of %s engine", engine)
+                        .isNotNull();
+                assertThat(meterRegistry.find("flowable.async.executor.rejected.jobs").tags("engine", engine).summary())
+                        .as("rejected jobs of %s engine", engine)
+                        .isNotNull();
+                assertThat(meterRegistry.find("flowable.async.executor.expired.jobs.reset").tags("engine", engine).counter())
+                        .as("expired jobs reset of %s engine", engine)
+                        .isNotNull();
+                assertThat(meterRegistry.find("flowable.async.executor.queue.size").tags("engine", engine).gauge())
+                        .as("queue size of %s engine", engine)
+                        .isNotNull();
+            }
+
+            AbstractAsyncExecutor processAsyncExecutor = (AbstractAsyncExecutor) context.getBean(ProcessEngine.class)
+                    .getProcessEngineConfiguration().getAsyncExecutor();
+            assertThat(processAsyncExecutor.getAsyncJobsDueLifecycleListener()).isNotNull();
+            assertThat(processAsyncExecutor.getTimerLifecycleListener()).isNotNull();
+            assertThat(processAsyncExecutor.getResetExpiredJobsLifecycleListener()).isNotNull();
+
+            AbstractAsyncExecutor cmmnAsyncExecutor = (AbstractAsyncExecutor) context.getBean(CmmnEngine.class)
+                    .getCmmnEngineConfiguration().getAsyncExecutor();
+            assertThat(cmmnAsyncExecutor.getAsyncJobsDueLifecycleListener()).isNotNull();
+        });
+    }
+
+    @Test
+    public void asyncExecutorMetricsCanBeDisabled() {
+        contextRunner.withPropertyValues("flowable.metrics.async-executor.enabled=false")
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(FlowableAsyncExecutorMetricsAutoConfiguration.class);
+
+                MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+                assertThat(meterRegistry.find("flowable.async.executor.acquisition").timers()).isEmpty();
+
+                AbstractAsyncExecutor processAsyncExecutor = (AbstractAsyncExecutor) context.getBean(ProcessEngine.class)
+                        .getProcessEngineConfiguration().getAsyncExecutor();
+                assertThat(processAsyncExecutor.getAsyncJobsDueLifecycleListener()).isNull();
+            });
+    }
+}
@@ -136,8 +136,11 @@ public class SpringProcessEngineConfiguration extends ProcessEngineConfiguration
     @Override
     public ProcessEngineConfiguration setDataSource(DataSource dataSource) {
         if (dataSource instanceof TransactionAwareDataSourceProxy) {
+            // Streamed query results use their own connection, not the one of the current transaction
+            setQueryStreamDataSource(((TransactionAwareDataSourceProxy) dataSource).getTargetDataSource());
             return super.setDataSource(dataSource);
         } else {
+            setQueryStreamDataSource(dataSource);
             // Wrap datasource in Transaction-aware proxy
             DataSource proxiedDataSource = new TransactionAwareDataSourceProxy(dataSource);
             return super.setDataSource(proxiedDataSource);
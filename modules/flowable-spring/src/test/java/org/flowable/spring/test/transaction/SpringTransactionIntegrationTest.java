@@ -16,10 +16,13 @@ package org.flowable.spring.test.transaction;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.stream.Stream;
+
 import javax.sql.DataSource;
 
 import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.spring.impl.test.SpringFlowableTestCase;
@@ -28,6 +31,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 
 /**
  * @author Tom Baeyens
@@ -45,6 +53,9 @@ public class SpringTransactionIntegrationTest extends SpringFlowableTestCase {
     @Autowired
     protected DataSource dataSource;
 
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
     @Test
     @Deployment
     public void testBasicFlowableSpringIntegration() {
@@ -86,6 +97,30 @@ public class SpringTransactionIntegrationTest extends SpringFlowableTestCase {
         jdbcTemplate.execute("drop table MY_TABLE");
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/spring/test/transaction/SpringTransactionIntegrationTest.testBasicFlowableSpringIntegration.bpmn20.xml")
+    public void testHistoricQueryStreamOutlivesSpringTransaction() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("helloProcess", "key" + i);
+        }
+
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        int activeConnections = pool.getActiveConnections();
+
+        // The stream is opened in a Spring managed transaction, but consumed after that transaction has been committed
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Stream<HistoricProcessInstance> stream = transactionTemplate.execute(status -> historyService.createHistoricProcessInstanceQuery()
+                .processDefinitionKey("helloProcess").orderByProcessInstanceBusinessKey().asc().stream());
+
+        try (stream) {
+            // The stream holds its own connection, the connection of the transaction is given back to the pool
+            assertThat(pool.getActiveConnections()).isEqualTo(activeConnections + 1);
+            assertThat(stream.map(HistoricProcessInstance::getBusinessKey)).containsExactly("key0", "key1", "key2");
+        }
+
+        assertThat(pool.getActiveConnections()).isEqualTo(activeConnections);
+    }
+
     @Test
     public void testRollBackOnDeployment() {
         // The second process should fail. None of the processes should be
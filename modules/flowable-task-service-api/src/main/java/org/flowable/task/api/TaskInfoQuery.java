@@ -918,6 +918,27 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T includeCaseVariables();
 
+    /**
+     * Include the local task variables with the given names in the task query result.
+     * Unlike {@link #includeTaskLocalVariables()}, the variables are not joined into the task query, but fetched with a separate query
+     * for all returned tasks. This is also done for the other included variables of the query.
+     */
+    T includeTaskLocalVariables(Collection<String> variableNames);
+
+    /**
+     * Include the global process variables with the given names in the task query result.
+     * Unlike {@link #includeProcessVariables()}, the variables are not joined into the task query, but fetched with a separate query
+     * for all returned tasks. This is also done for the other included variables of the query.
+     */
+    T includeProcessVariables(Collection<String> variableNames);
+
+    /**
+     * Include the global case variables with the given names in the task query result.
+     * Unlike {@link #includeCaseVariables()}, the variables are not joined into the task query, but fetched with a separate query
+     * for all returned tasks. This is also done for the other included variables of the query.
+     */
+    T includeCaseVariables(Collection<String> variableNames);
+
     /**
      * Include identity links in the task query result
      */
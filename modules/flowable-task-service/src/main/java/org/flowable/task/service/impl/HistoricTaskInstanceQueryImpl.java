@@ -15,9 +15,17 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -26,6 +34,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.query.KeysetCursor;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -34,7 +43,9 @@ import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
 import org.flowable.task.service.impl.util.TaskVariableUtils;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 
@@ -169,6 +180,9 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected boolean includeProcessVariables;
     protected boolean includeCaseVariables;
     protected boolean includeIdentityLinks;
+    protected Collection<String> taskLocalVariableNamesToInclude;
+    protected Collection<String> processVariableNamesToInclude;
+    protected Collection<String> caseVariableNamesToInclude;
     protected List<HistoricTaskInstanceQueryImpl> orQueryObjects = new ArrayList<>();
     protected HistoricTaskInstanceQueryImpl currentOrQueryObject;
 
@@ -215,7 +229,17 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
                     .beforeHistoricTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+        if (isBatchVariableLoading()) {
+            // The tasks are fetched first and the variables of all fetched tasks are fetched afterwards with one query per variable kind
+            if (includeIdentityLinks) {
+                tasks = taskServiceConfiguration.getHistoricTaskInstanceEntityManager()
+                        .findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(this);
+            } else {
+                tasks = taskServiceConfiguration.getHistoricTaskInstanceEntityManager().findHistoricTaskInstancesByQueryCriteria(this);
+            }
+            addIncludedVariables(tasks);
+
+        } else if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
             tasks = taskServiceConfiguration.getHistoricTaskInstanceEntityManager()
                     .findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(this);
 
@@ -244,6 +268,42 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    @Override
+    protected Stream<HistoricTaskInstance> executeStream(CommandContext commandContext) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+            // The variables and identity links are fetched with a nested result map, which needs the whole result set
+            return super.executeStream(commandContext);
+        }
+
+        ensureVariablesInitialized();
+
+        if (taskServiceConfiguration.getHistoricTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
+        }
+
+        // The streamed tasks are not localized, as the localization needs the command context
+        return taskServiceConfiguration.getHistoricTaskInstanceEntityManager().streamHistoricTaskInstancesByQueryCriteria(this);
+    }
+
+    @Override
+    protected Function<HistoricTaskInstance, ?> getKeysetValueProvider(String columnName) {
+        if (KeysetCursor.ID_COLUMN.equals(columnName) || HistoricTaskInstanceQueryProperty.HISTORIC_TASK_INSTANCE_ID.getName().equals(columnName)) {
+            return HistoricTaskInstance::getId;
+        } else if (HistoricTaskInstanceQueryProperty.START.getName().equals(columnName)) {
+            return HistoricTaskInstance::getCreateTime;
+        } else if (HistoricTaskInstanceQueryProperty.TASK_PRIORITY.getName().equals(columnName)) {
+            return HistoricTaskInstance::getPriority;
+        } else if (HistoricTaskInstanceQueryProperty.TASK_DUE_DATE.getName().equals(columnName)) {
+            return HistoricTaskInstance::getDueDate;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean isKeysetColumnNullable(String columnName) {
+        return HistoricTaskInstanceQueryProperty.TASK_DUE_DATE.getName().equals(columnName);
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricTaskInstance> results, boolean local) {
         for (HistoricTaskInstance task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -264,8 +324,76 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         }
     }
 
+    protected void addIncludedVariables(List<HistoricTaskInstance> tasks) {
+        Set<String> taskIds = new HashSet<>();
+        Set<String> processInstanceIds = new HashSet<>();
+        Set<String> scopeIds = new HashSet<>();
+        for (HistoricTaskInstance task : tasks) {
+            taskIds.add(task.getId());
+            if (task.getProcessInstanceId() != null) {
+                processInstanceIds.add(task.getProcessInstanceId());
+            }
+            if (TaskVariableUtils.isCaseRelated(task)) {
+                scopeIds.add(task.getScopeId());
+            }
+        }
+
+        Map<String, List<HistoricVariableInstanceEntity>> taskLocalVariables = null;
+        if (includeTaskLocalVariables && !taskIds.isEmpty()) {
+            taskLocalVariables = findVariables(taskIds, taskLocalVariableNamesToInclude,
+                    (query, ids) -> query.taskIds(ids), HistoricVariableInstanceEntity::getTaskId);
+        }
+
+        Map<String, List<HistoricVariableInstanceEntity>> processVariables = null;
+        if (includeProcessVariables && !processInstanceIds.isEmpty()) {
+            processVariables = findVariables(processInstanceIds, processVariableNamesToInclude,
+                    (query, ids) -> query.executionIds(ids).excludeTaskVariables(), HistoricVariableInstanceEntity::getExecutionId);
+        }
+
+        Map<String, List<HistoricVariableInstanceEntity>> caseVariables = null;
+        if (includeCaseVariables && !scopeIds.isEmpty()) {
+            caseVariables = findVariables(scopeIds, caseVariableNamesToInclude,
+                    (query, ids) -> query.scopeIds(ids).scopeType(ScopeTypes.CMMN).excludeTaskVariables(), HistoricVariableInstanceEntity::getScopeId);
+        }
+
+        for (HistoricTaskInstance task : tasks) {
+            List<HistoricVariableInstanceEntity> queryVariables = ((HistoricTaskInstanceEntity) task).getQueryVariables();
+            if (taskLocalVariables != null) {
+                queryVariables.addAll(taskLocalVariables.getOrDefault(task.getId(), Collections.emptyList()));
+            }
+            if (processVariables != null && task.getProcessInstanceId() != null) {
+                queryVariables.addAll(processVariables.getOrDefault(task.getProcessInstanceId(), Collections.emptyList()));
+            }
+            if (caseVariables != null && TaskVariableUtils.isCaseRelated(task)) {
+                queryVariables.addAll(caseVariables.getOrDefault(task.getScopeId(), Collections.emptyList()));
+            }
+        }
+    }
+
+    protected Map<String, List<HistoricVariableInstanceEntity>> findVariables(Collection<String> ids, Collection<String> variableNames,
+            BiConsumer<HistoricVariableInstanceQueryImpl, Set<String>> idCriteria, Function<HistoricVariableInstanceEntity, String> idProvider) {
+
+        List<HistoricVariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> idsPart : getSafeList(ids)) {
+            HistoricVariableInstanceQueryImpl query = new HistoricVariableInstanceQueryImpl();
+            idCriteria.accept(query, new HashSet<>(idsPart));
+            if (variableNames != null) {
+                query.variableNames(variableNames);
+            }
+            for (HistoricVariableInstance variable : variableServiceConfiguration.getHistoricVariableInstanceEntityManager()
+                    .findHistoricVariableInstancesByQueryCriteria(query)) {
+                variables.add((HistoricVariableInstanceEntity) variable);
+            }
+        }
+        return variables.stream().collect(Collectors.groupingBy(idProvider));
+    }
+
     @Override
     public void enhanceCachedValue(HistoricTaskInstanceEntity task) {
+        if (isBatchVariableLoading()) {
+            // the variables are added after the query
+            return;
+        }
 
         if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
@@ -2041,6 +2169,36 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.taskLocalVariableNamesToInclude = variableNames;
+        return this;
+    }
+
+    @Override
+    public HistoricTaskInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = variableNames;
+        return this;
+    }
+
+    @Override
+    public HistoricTaskInstanceQuery includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.caseVariableNamesToInclude = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricTaskInstanceQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
@@ -2473,6 +2631,25 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeIdentityLinks;
     }
 
+    /**
+     * @return whether the included variables are fetched with separate queries after the tasks, instead of being joined into the task query
+     */
+    public boolean isBatchVariableLoading() {
+        return taskLocalVariableNamesToInclude != null || processVariableNamesToInclude != null || caseVariableNamesToInclude != null;
+    }
+
+    public Collection<String> getTaskLocalVariableNamesToInclude() {
+        return taskLocalVariableNamesToInclude;
+    }
+
+    public Collection<String> getProcessVariableNamesToInclude() {
+        return processVariableNamesToInclude;
+    }
+
+    public Collection<String> getCaseVariableNamesToInclude() {
+        return caseVariableNamesToInclude;
+    }
+
     public boolean isInOrStatement() {
         return inOrStatement;
     }
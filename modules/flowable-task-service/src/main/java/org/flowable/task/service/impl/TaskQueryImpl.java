@@ -14,9 +14,16 @@ package org.flowable.task.service.impl;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -26,6 +33,7 @@ import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.query.KeysetCursor;
 import org.flowable.idm.api.Group;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.DelegationState;
@@ -35,6 +43,7 @@ import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.util.TaskVariableUtils;
 import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -162,6 +171,9 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean includeProcessVariables;
     protected boolean includeCaseVariables;
     protected boolean includeIdentityLinks;
+    protected Collection<String> taskLocalVariableNamesToInclude;
+    protected Collection<String> processVariableNamesToInclude;
+    protected Collection<String> caseVariableNamesToInclude;
     protected String userIdForCandidateAndAssignee;
     protected boolean bothCandidateAndAssigned;
     protected String locale;
@@ -1975,6 +1987,36 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.taskLocalVariableNamesToInclude = variableNames;
+        return this;
+    }
+
+    @Override
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNamesToInclude = variableNames;
+        return this;
+    }
+
+    @Override
+    public TaskQuery includeCaseVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeCaseVariables = true;
+        this.caseVariableNamesToInclude = variableNames;
+        return this;
+    }
+
     @Override
     public TaskQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
@@ -2156,7 +2198,18 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                     .beforeTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+        if (isBatchVariableLoading()) {
+            // The tasks are fetched first and the variables of all fetched tasks are fetched afterwards with one query per variable kind
+            if (includeIdentityLinks) {
+                tasks = taskServiceConfiguration.getTaskEntityManager()
+                        .findTasksWithRelatedEntitiesByQueryCriteria(this);
+            } else {
+                tasks = taskServiceConfiguration.getTaskEntityManager()
+                        .findTasksByQueryCriteria(this);
+            }
+            addIncludedVariables(tasks);
+
+        } else if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
             tasks = taskServiceConfiguration.getTaskEntityManager()
                     .findTasksWithRelatedEntitiesByQueryCriteria(this);
 
@@ -2188,6 +2241,86 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    protected Function<Task, ?> getKeysetValueProvider(String columnName) {
+        if (KeysetCursor.ID_COLUMN.equals(columnName) || TaskQueryProperty.TASK_ID.getName().equals(columnName)) {
+            return Task::getId;
+        } else if (TaskQueryProperty.CREATE_TIME.getName().equals(columnName)) {
+            return Task::getCreateTime;
+        } else if (TaskQueryProperty.PRIORITY.getName().equals(columnName)) {
+            return Task::getPriority;
+        } else if (TaskQueryProperty.DUE_DATE.getName().equals(columnName)) {
+            return Task::getDueDate;
+        }
+        return null;
+    }
+
+    @Override
+    protected boolean isKeysetColumnNullable(String columnName) {
+        return TaskQueryProperty.DUE_DATE.getName().equals(columnName);
+    }
+
+    protected void addIncludedVariables(List<Task> tasks) {
+        Set<String> taskIds = new HashSet<>();
+        Set<String> processInstanceIds = new HashSet<>();
+        Set<String> scopeIds = new HashSet<>();
+        for (Task task : tasks) {
+            taskIds.add(task.getId());
+            if (task.getProcessInstanceId() != null) {
+                processInstanceIds.add(task.getProcessInstanceId());
+            }
+            if (TaskVariableUtils.isCaseRelated(task)) {
+                scopeIds.add(task.getScopeId());
+            }
+        }
+
+        Map<String, List<VariableInstanceEntity>> taskLocalVariables = null;
+        if (includeTaskLocalVariables && !taskIds.isEmpty()) {
+            taskLocalVariables = findVariables(taskIds, taskLocalVariableNamesToInclude,
+                    (query, ids) -> query.taskIds(ids), VariableInstanceEntity::getTaskId);
+        }
+
+        Map<String, List<VariableInstanceEntity>> processVariables = null;
+        if (includeProcessVariables && !processInstanceIds.isEmpty()) {
+            processVariables = findVariables(processInstanceIds, processVariableNamesToInclude,
+                    (query, ids) -> query.executionIds(ids).withoutTaskId(), VariableInstanceEntity::getExecutionId);
+        }
+
+        Map<String, List<VariableInstanceEntity>> caseVariables = null;
+        if (includeCaseVariables && !scopeIds.isEmpty()) {
+            caseVariables = findVariables(scopeIds, caseVariableNamesToInclude,
+                    (query, ids) -> query.scopeIds(ids).scopeType(ScopeTypes.CMMN).withoutTaskId(), VariableInstanceEntity::getScopeId);
+        }
+
+        for (Task task : tasks) {
+            List<VariableInstanceEntity> queryVariables = ((TaskEntity) task).getQueryVariables();
+            if (taskLocalVariables != null) {
+                queryVariables.addAll(taskLocalVariables.getOrDefault(task.getId(), Collections.emptyList()));
+            }
+            if (processVariables != null && task.getProcessInstanceId() != null) {
+                queryVariables.addAll(processVariables.getOrDefault(task.getProcessInstanceId(), Collections.emptyList()));
+            }
+            if (caseVariables != null && TaskVariableUtils.isCaseRelated(task)) {
+                queryVariables.addAll(caseVariables.getOrDefault(task.getScopeId(), Collections.emptyList()));
+            }
+        }
+    }
+
+    protected Map<String, List<VariableInstanceEntity>> findVariables(Collection<String> ids, Collection<String> variableNames,
+            BiFunction<InternalVariableInstanceQuery, Collection<String>, InternalVariableInstanceQuery> idCriteria,
+            Function<VariableInstanceEntity, String> idProvider) {
+
+        List<VariableInstanceEntity> variables = new ArrayList<>();
+        for (List<String> idsPart : getSafeList(ids)) {
+            InternalVariableInstanceQuery query = idCriteria.apply(variableServiceConfiguration.getVariableService().createInternalVariableInstanceQuery(), idsPart);
+            if (variableNames != null) {
+                query.names(variableNames);
+            }
+            variables.addAll(query.list());
+        }
+        return variables.stream().collect(Collectors.groupingBy(idProvider));
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<Task> results, boolean local) {
         for (Task task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -2212,6 +2345,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
 
     @Override
     public void enhanceCachedValue(TaskEntity task) {
+        if (isBatchVariableLoading()) {
+            // the variables are added after the query
+            return;
+        }
+
         if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
                     .addAll(variableServiceConfiguration.getVariableService()
@@ -2571,6 +2709,25 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeIdentityLinks;
     }
 
+    /**
+     * @return whether the included variables are fetched with separate queries after the tasks, instead of being joined into the task query
+     */
+    public boolean isBatchVariableLoading() {
+        return taskLocalVariableNamesToInclude != null || processVariableNamesToInclude != null || caseVariableNamesToInclude != null;
+    }
+
+    public Collection<String> getTaskLocalVariableNamesToInclude() {
+        return taskLocalVariableNamesToInclude;
+    }
+
+    public Collection<String> getProcessVariableNamesToInclude() {
+        return processVariableNamesToInclude;
+    }
+
+    public Collection<String> getCaseVariableNamesToInclude() {
+        return caseVariableNamesToInclude;
+    }
+
     public boolean isBothCandidateAndAssigned() {
         return bothCandidateAndAssigned;
     }
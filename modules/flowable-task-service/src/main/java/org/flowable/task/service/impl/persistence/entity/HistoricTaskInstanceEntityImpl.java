@@ -24,6 +24,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -36,7 +37,7 @@ import org.flowable.variable.service.impl.util.CommandContextUtil;
  * @author Tom Baeyens
  * @author Joram Barrez
  */
-public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity implements HistoricTaskInstanceEntity {
+public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity implements HistoricTaskInstanceEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -163,6 +164,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
     
     @Override
     public void markEnded(String deleteReason, Date endTime) {
+        markDirty();
         if (this.endTime == null) {
             this.deleteReason = deleteReason;
             if (endTime != null) {
@@ -185,6 +187,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
     
@@ -210,6 +213,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
 
@@ -220,6 +224,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -230,6 +235,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -240,6 +246,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty();
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
@@ -305,71 +312,85 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty();
         this.processDefinitionId = processDefinitionId;
     }
 
     @Override
     public void setTaskDefinitionId(String taskDefinitionId) {
+        markDirty();
         this.taskDefinitionId = taskDefinitionId;
     }
     
     @Override
     public void setState(String state) {
+        markDirty();
         this.state = state;
     }
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
     @Override
     public void setInProgressStartTime(Date inProgressStartTime) {
+        markDirty();
         this.inProgressStartTime = inProgressStartTime;
     }
 
     @Override
     public void setInProgressStartedBy(String inProgressStartedBy) {
+        markDirty();
         this.inProgressStartedBy = inProgressStartedBy;
     }
 
     @Override
     public void setClaimTime(Date claimTime) {
+        markDirty();
         this.claimTime = claimTime;
     }
     
     @Override
     public void setClaimedBy(String claimedBy) {
+        markDirty();
         this.claimedBy = claimedBy;
     }
 
     @Override
     public void setSuspendedTime(Date suspendedTime) {
+        markDirty();
         this.suspendedTime = suspendedTime;
     }
 
     @Override
     public void setSuspendedBy(String suspendedBy) {
+        markDirty();
         this.suspendedBy = suspendedBy;
     }
 
     @Override
     public void setEndTime(Date endTime) {
+        markDirty();
         this.endTime = endTime;
     }
     
     @Override
     public void setCompletedBy(String completedBy) {
+        markDirty();
         this.completedBy = completedBy;
     }
 
     @Override
     public void setDurationInMillis(Long durationInMillis) {
+        markDirty();
         this.durationInMillis = durationInMillis;
     }
 
@@ -380,6 +401,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setDeleteReason(String deleteReason) {
+        markDirty();
         this.deleteReason = deleteReason;
     }
 
@@ -394,6 +416,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -413,6 +436,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setDescription(String description) {
+        markDirty();
         this.description = description;
     }
 
@@ -428,6 +452,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setAssignee(String assignee) {
+        markDirty();
         this.assignee = assignee;
     }
 
@@ -438,6 +463,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setTaskDefinitionKey(String taskDefinitionKey) {
+        markDirty();
         this.taskDefinitionKey = taskDefinitionKey;
     }
 
@@ -453,6 +479,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setFormKey(String formKey) {
+        markDirty();
         this.formKey = formKey;
     }
 
@@ -463,6 +490,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setPriority(int priority) {
+        markDirty();
         this.priority = priority;
     }
     
@@ -473,6 +501,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setInProgressStartDueDate(Date inProgressStartDueDate) {
+        markDirty();
         this.inProgressStartDueDate = inProgressStartDueDate;
     }
 
@@ -483,6 +512,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setDueDate(Date dueDate) {
+        markDirty();
         this.dueDate = dueDate;
     }
 
@@ -493,6 +523,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setCategory(String category) {
+        markDirty();
         this.category = category;
     }
 
@@ -503,6 +534,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setOwner(String owner) {
+        markDirty();
         this.owner = owner;
     }
 
@@ -513,6 +545,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        markDirty();
         this.parentTaskId = parentTaskId;
     }
 
@@ -523,6 +556,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setTenantId(String tenantId) {
+        markDirty();
         this.tenantId = tenantId;
     }
 
@@ -546,6 +580,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
 
     @Override
     public void setLastUpdateTime(Date lastUpdateTime) {
+        markDirty();
         this.lastUpdateTime = lastUpdateTime;
     }
 
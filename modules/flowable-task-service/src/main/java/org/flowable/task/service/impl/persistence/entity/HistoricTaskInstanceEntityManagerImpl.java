@@ -16,6 +16,7 @@ package org.flowable.task.service.impl.persistence.entity;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.service.TaskServiceConfiguration;
@@ -75,6 +76,11 @@ public class HistoricTaskInstanceEntityManagerImpl
         return dataManager.findHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery);
     }
 
+    @Override
+    public Stream<HistoricTaskInstance> streamHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
+        return dataManager.streamHistoricTaskInstancesByQueryCriteria(historicTaskInstanceQuery);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstance> findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
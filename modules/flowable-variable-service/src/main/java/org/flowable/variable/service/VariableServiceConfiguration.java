@@ -14,6 +14,7 @@ package org.flowable.variable.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.DefaultVariableInstanceValueModifier;
@@ -28,6 +29,10 @@ import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariab
 import org.flowable.variable.service.impl.persistence.entity.data.VariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisHistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
+import org.flowable.variable.service.impl.types.BinaryJsonType;
+import org.flowable.variable.service.impl.types.CompressedSerializableType;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.SerializableType;
 
 /**
  * @author Tijs Rademakers
@@ -68,6 +73,38 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration<V
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * When true, json variables are stored in the binary Smile format in the byte array table instead of as json text.
+     * Existing json variables are migrated to the binary format the next time their value is written.
+     * The binary json type is always registered for reading, so disabling this again keeps existing binary json variables readable.
+     */
+    protected boolean binaryJsonVariableTypeEnabled;
+
+    /**
+     * When true, changes to tracked binary json variables are persisted as a JSON patch against the stored document in the text value
+     * of the variable, as long as the accumulated patch fits in the {@link #maxLengthString}. Larger patches are folded into a new stored document.
+     * Only used when the {@link #binaryJsonVariableTypeEnabled} is true. With the full history level each change still creates a historic detail
+     * with a complete copy of the base document, as every historic detail must be readable on its own.
+     */
+    protected boolean binaryJsonVariableDeltaPersistenceEnabled;
+
+    /**
+     * When true, serializable variables are gzip compressed when their serialized size exceeds the {@link #variableCompressionThreshold}.
+     * Existing uncompressed serializable variables can still be read, as can compressed variables after disabling this again.
+     */
+    protected boolean compressedSerializableVariableTypeEnabled;
+
+    /**
+     * The minimum size in bytes of an encoded binary json or serializable value before it gets compressed. A negative value disables compression.
+     */
+    protected int variableCompressionThreshold = 1024;
+
+    /**
+     * The maximum size in bytes of a decompressed binary json or serializable value. Reading a larger value fails,
+     * which protects against values that expand into an excessive amount of memory. A negative value disables the limit.
+     */
+    protected int variableMaxDecompressedSize = 64 * 1024 * 1024;
+
     public VariableServiceConfiguration(String engineName) {
         super(engineName);
     }
@@ -83,6 +120,7 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration<V
     public void init() {
         configuratorsBeforeInit();
 
+        initBinaryVariableTypes();
         initDataManagers();
         initEntityManagers();
         initVariableInstanceValueModifier();
@@ -90,6 +128,49 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration<V
         configuratorsAfterInit();
     }
 
+    public void initBinaryVariableTypes() {
+        if (variableTypes == null) {
+            return;
+        }
+
+        // The binary types are always registered, so variables that were written while they were enabled can still be read.
+        // The flags only decide whether they are picked for writing new values.
+        if (variableTypes.getVariableType(BinaryJsonType.TYPE_NAME) == null) {
+            VariableType jsonType = variableTypes.getVariableType(JsonType.TYPE_NAME);
+            boolean trackObjects = !(jsonType instanceof JsonType) || ((JsonType) jsonType).isTrackObjects();
+            int deltaMaxLength = binaryJsonVariableTypeEnabled && binaryJsonVariableDeltaPersistenceEnabled ? maxLengthString : -1;
+            BinaryJsonType binaryJsonType = new BinaryJsonType(getObjectMapper(), trackObjects, variableCompressionThreshold, deltaMaxLength,
+                    variableMaxDecompressedSize);
+            if (binaryJsonVariableTypeEnabled) {
+                variableTypes.addTypeBefore(binaryJsonType, JsonType.TYPE_NAME);
+            } else {
+                // only needed for reading purposes
+                addTypeAfter(binaryJsonType, JsonType.TYPE_NAME);
+            }
+        }
+
+        if (variableTypes.getVariableType(CompressedSerializableType.TYPE_NAME) == null) {
+            CompressedSerializableType compressedSerializableType = new CompressedSerializableType(serializableVariableTypeTrackDeserializedObjects,
+                    variableCompressionThreshold, variableMaxDecompressedSize);
+            if (compressedSerializableVariableTypeEnabled) {
+                variableTypes.addTypeBefore(compressedSerializableType, SerializableType.TYPE_NAME);
+            } else {
+                // only needed for reading purposes
+                addTypeAfter(compressedSerializableType, SerializableType.TYPE_NAME);
+            }
+        }
+    }
+
+    protected void addTypeAfter(VariableType type, String typeName) {
+        // The type with the given name is able to store all values of the added type, so the added type is never used for writing
+        int typeIndex = variableTypes.getTypeIndex(typeName);
+        if (typeIndex > -1) {
+            variableTypes.addType(type, typeIndex + 1);
+        } else {
+            variableTypes.addType(type);
+        }
+    }
+
     // Data managers
     ///////////////////////////////////////////////////////////
 
@@ -231,6 +312,51 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration<V
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public boolean isBinaryJsonVariableTypeEnabled() {
+        return binaryJsonVariableTypeEnabled;
+    }
+
+    public VariableServiceConfiguration setBinaryJsonVariableTypeEnabled(boolean binaryJsonVariableTypeEnabled) {
+        this.binaryJsonVariableTypeEnabled = binaryJsonVariableTypeEnabled;
+        return this;
+    }
+
+    public boolean isBinaryJsonVariableDeltaPersistenceEnabled() {
+        return binaryJsonVariableDeltaPersistenceEnabled;
+    }
+
+    public VariableServiceConfiguration setBinaryJsonVariableDeltaPersistenceEnabled(boolean binaryJsonVariableDeltaPersistenceEnabled) {
+        this.binaryJsonVariableDeltaPersistenceEnabled = binaryJsonVariableDeltaPersistenceEnabled;
+        return this;
+    }
+
+    public boolean isCompressedSerializableVariableTypeEnabled() {
+        return compressedSerializableVariableTypeEnabled;
+    }
+
+    public VariableServiceConfiguration setCompressedSerializableVariableTypeEnabled(boolean compressedSerializableVariableTypeEnabled) {
+        this.compressedSerializableVariableTypeEnabled = compressedSerializableVariableTypeEnabled;
+        return this;
+    }
+
+    public int getVariableCompressionThreshold() {
+        return variableCompressionThreshold;
+    }
+
+    public VariableServiceConfiguration setVariableCompressionThreshold(int variableCompressionThreshold) {
+        this.variableCompressionThreshold = variableCompressionThreshold;
+        return this;
+    }
+
+    public int getVariableMaxDecompressedSize() {
+        return variableMaxDecompressedSize;
+    }
+
+    public VariableServiceConfiguration setVariableMaxDecompressedSize(int variableMaxDecompressedSize) {
+        this.variableMaxDecompressedSize = variableMaxDecompressedSize;
+        return this;
+    }
+
     public VariableInstanceValueModifier getVariableInstanceValueModifier() {
         return variableInstanceValueModifier;
     }
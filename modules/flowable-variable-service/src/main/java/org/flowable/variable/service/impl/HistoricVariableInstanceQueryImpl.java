@@ -16,6 +16,7 @@ package org.flowable.variable.service.impl;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -49,6 +50,7 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     protected String activityInstanceId;
     protected String variableName;
     protected String variableNameLike;
+    protected Collection<String> variableNames;
     protected boolean excludeTaskRelated;
     protected boolean excludeVariableInitialization;
     protected String scopeId;
@@ -187,6 +189,14 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         return this;
     }
 
+    public HistoricVariableInstanceQueryImpl variableNames(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.variableNames = variableNames;
+        return this;
+    }
+
     @Override
     public HistoricVariableInstanceQuery variableValueEquals(String variableName, Object variableValue) {
         if (variableName == null) {
@@ -317,22 +327,54 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
 
         if (!excludeVariableInitialization) {
             for (HistoricVariableInstance historicVariableInstance : historicVariableInstances) {
-                if (historicVariableInstance instanceof HistoricVariableInstanceEntity) {
-                    HistoricVariableInstanceEntity variableEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
-                    if (variableEntity.getVariableType() != null) {
-                        variableEntity.getValue();
-
-                        // make sure JPA entities are cached for later retrieval
-                        if (JPAEntityVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName())) {
-                            ((CacheableVariable) variableEntity.getVariableType()).setForceCacheable(true);
-                        }
-                    }
-                }
+                initializeVariable(historicVariableInstance);
             }
         }
         return historicVariableInstances;
     }
 
+    @Override
+    protected Stream<HistoricVariableInstance> executeStream(CommandContext commandContext) {
+        ensureVariablesInitialized();
+
+        Stream<HistoricVariableInstance> historicVariableInstances = variableServiceConfiguration.getHistoricVariableInstanceEntityManager()
+                .streamHistoricVariableInstancesByQueryCriteria(this);
+
+        if (excludeVariableInitialization) {
+            return historicVariableInstances;
+        }
+        return historicVariableInstances.map(this::initializeStreamedVariable);
+    }
+
+    protected HistoricVariableInstance initializeStreamedVariable(HistoricVariableInstance historicVariableInstance) {
+        // The stream is consumed after the command context in which it was opened is closed,
+        // so a value stored in a byte array is fetched in a command of its own
+        if (commandExecutor != null && historicVariableInstance instanceof HistoricVariableInstanceEntity
+                && ((HistoricVariableInstanceEntity) historicVariableInstance).getByteArrayRef() != null) {
+            commandExecutor.execute(commandContext -> {
+                initializeVariable(historicVariableInstance);
+                return null;
+            });
+        } else {
+            initializeVariable(historicVariableInstance);
+        }
+        return historicVariableInstance;
+    }
+
+    protected void initializeVariable(HistoricVariableInstance historicVariableInstance) {
+        if (historicVariableInstance instanceof HistoricVariableInstanceEntity) {
+            HistoricVariableInstanceEntity variableEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
+            if (variableEntity.getVariableType() != null) {
+                variableEntity.getValue();
+
+                // make sure JPA entities are cached for later retrieval
+                if (JPAEntityVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName())) {
+                    ((CacheableVariable) variableEntity.getVariableType()).setForceCacheable(true);
+                }
+            }
+        }
+    }
+
     // order by
     // /////////////////////////////////////////////////////////////////
 
@@ -382,6 +424,10 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
     public String getVariableNameLike() {
         return variableNameLike;
     }
+
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
     
     public String getScopeId() {
         return scopeId;
@@ -20,13 +20,14 @@ import java.util.HashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Christian Lipphardt (camunda)
  * @author Joram Barrez
  */
-public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceEntity implements HistoricVariableInstanceEntity, Serializable {
+public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceEntity implements HistoricVariableInstanceEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -106,6 +107,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setBytes(byte[] bytes) {
+        markDirty();
         if (byteArrayRef == null) {
             byteArrayRef = new ByteArrayRef();
         }
@@ -136,6 +138,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setName(String name) {
+        markDirty();
         this.name = name;
     }
 
@@ -146,6 +149,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty();
         this.longValue = longValue;
     }
 
@@ -156,6 +160,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty();
         this.doubleValue = doubleValue;
     }
 
@@ -166,6 +171,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty();
         this.textValue = textValue;
     }
 
@@ -176,6 +182,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty();
         this.textValue2 = textValue2;
     }
 
@@ -191,11 +198,13 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setVariableType(VariableType variableType) {
+        markDirty();
         this.variableType = variableType;
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty();
         this.processInstanceId = processInstanceId;
     }
 
@@ -211,6 +220,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setTaskId(String taskId) {
+        markDirty();
         this.taskId = taskId;
     }
 
@@ -221,6 +231,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setCreateTime(Date createTime) {
+        markDirty();
         this.createTime = createTime;
     }
 
@@ -231,6 +242,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setLastUpdatedTime(Date lastUpdatedTime) {
+        markDirty();
         this.lastUpdatedTime = lastUpdatedTime;
     }
     
@@ -246,6 +258,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setExecutionId(String executionId) {
+        markDirty();
         this.executionId = executionId;
     }
     
@@ -256,6 +269,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty();
         this.scopeId = scopeId;
     }
     
@@ -266,6 +280,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty();
         this.subScopeId = subScopeId;
     }
 
@@ -276,6 +291,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty();
         this.scopeType = scopeType;
     }
 
@@ -285,6 +301,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
     }
 
     public void setMetaInfo(String metaInfo) {
+        markDirty();
         this.metaInfo = metaInfo;
     }
 
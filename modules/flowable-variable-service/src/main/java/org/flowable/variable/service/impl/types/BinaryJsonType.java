@@ -0,0 +1,196 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.util.JsonPatchUtil;
+import org.flowable.variable.service.impl.util.VariableCompressionUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Stores {@link JsonNode} values in the binary Smile format in the byte array table, deflate compressed when the encoded value
+ * is larger than the compression threshold. The first byte of the stored value indicates the format, values stored as
+ * plain JSON text bytes can still be read.
+ * <p>
+ * When delta persistence is enabled, changes to a tracked value are not written as a new document. Instead the JSON patch
+ * operations against the stored base document are accumulated in the text value of the variable, which leaves the
+ * byte array untouched. Once the accumulated patch no longer fits in the delta max length, the patch is folded
+ * into a new base document. Setting the variable through the API always writes a new base document.
+ * <p>
+ * A value that can't be decoded, or whose patch can't be applied, fails with a {@link FlowableException} instead of being read as null.
+ * <p>
+ * Note that with the full history level every change also creates a historic detail, which is a complete copy of the variable:
+ * the patch in its text value and the base document in its own byte array. Delta persistence therefore keeps the runtime
+ * and historic variable byte arrays untouched, but not the byte arrays of the historic details.
+ */
+public class BinaryJsonType extends JsonType {
+
+    public static final String TYPE_NAME = "binaryJson";
+
+    protected static final byte FORMAT_SMILE = 1;
+    protected static final byte FORMAT_DEFLATED_SMILE = 2;
+
+    protected final ObjectMapper smileObjectMapper;
+    protected final int compressionThreshold;
+    protected final int deltaMaxLength;
+    protected final int maxDecompressedSize;
+
+    /**
+     * @param compressionThreshold the minimum size in bytes of the encoded value before it gets compressed, a negative value disables compression
+     */
+    public BinaryJsonType(ObjectMapper objectMapper, boolean trackObjects, int compressionThreshold) {
+        this(objectMapper, trackObjects, compressionThreshold, -1);
+    }
+
+    /**
+     * @param compressionThreshold the minimum size in bytes of the encoded value before it gets compressed, a negative value disables compression
+     * @param deltaMaxLength the maximum length of the accumulated JSON patch stored in the text value, a negative value disables delta persistence
+     */
+    public BinaryJsonType(ObjectMapper objectMapper, boolean trackObjects, int compressionThreshold, int deltaMaxLength) {
+        this(objectMapper, trackObjects, compressionThreshold, deltaMaxLength, -1);
+    }
+
+    /**
+     * @param compressionThreshold the minimum size in bytes of the encoded value before it gets compressed, a negative value disables compression
+     * @param deltaMaxLength the maximum length of the accumulated JSON patch stored in the text value, a negative value disables delta persistence
+     * @param maxDecompressedSize the maximum size in bytes of a decompressed value, a negative value disables the limit
+     */
+    public BinaryJsonType(ObjectMapper objectMapper, boolean trackObjects, int compressionThreshold, int deltaMaxLength, int maxDecompressedSize) {
+        super(0, objectMapper, trackObjects, TYPE_NAME);
+        this.smileObjectMapper = objectMapper.copyWith(new SmileFactory());
+        this.compressionThreshold = compressionThreshold;
+        this.deltaMaxLength = deltaMaxLength;
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        if (valueFields.getCachedValue() != null) {
+            return valueFields.getCachedValue();
+        }
+
+        JsonNode jsonValue = null;
+        byte[] bytes = valueFields.getBytes();
+        if (bytes != null && bytes.length > 0) {
+            try {
+                jsonValue = decode(bytes, valueFields);
+                String patch = valueFields.getTextValue();
+                if (patch != null && patch.length() > 0) {
+                    jsonValue = JsonPatchUtil.applyPatch(jsonValue, objectMapper.readTree(patch));
+                }
+                valueFields.setCachedValue(jsonValue);
+                traceValue(jsonValue, valueFields);
+            } catch (IOException e) {
+                throw new FlowableException("Couldn't read binary json value in variable '" + valueFields.getName() + "'", e);
+            }
+        }
+        return jsonValue;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        valueFields.setTextValue(null);
+        if (value == null) {
+            valueFields.setBytes(null);
+            valueFields.setCachedValue(null);
+        } else {
+            JsonNode jsonNode = (JsonNode) value;
+            valueFields.setBytes(encode(jsonNode, valueFields));
+            valueFields.setCachedValue(jsonNode);
+            traceValue(jsonNode, valueFields);
+        }
+    }
+
+    @Override
+    public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
+        if (!Objects.equals(originalNode, originalCopyNode)) {
+            if (deltaMaxLength >= 0 && originalCopyNode != null && variableInstanceEntity.getByteArrayRef() != null) {
+                String patch = createAccumulatedPatch(originalNode, originalCopyNode, variableInstanceEntity.getTextValue());
+                if (patch.length() <= deltaMaxLength) {
+                    variableInstanceEntity.setTextValue(patch);
+                    return true;
+                }
+            }
+
+            // Fold the value into a new base document
+            variableInstanceEntity.setTextValue(null);
+            variableInstanceEntity.setBytes(encode(originalNode, variableInstanceEntity));
+            return true;
+        }
+        return false;
+    }
+
+    protected String createAccumulatedPatch(JsonNode originalNode, JsonNode originalCopyNode, String existingPatch) {
+        ArrayNode patch = JsonPatchUtil.createPatch(originalCopyNode, originalNode);
+        if (existingPatch != null && existingPatch.length() > 0) {
+            try {
+                // The existing operations bring the base document to the original copy, the new ones are applied after them
+                ArrayNode accumulatedPatch = (ArrayNode) objectMapper.readTree(existingPatch);
+                accumulatedPatch.addAll(patch);
+                patch = accumulatedPatch;
+            } catch (IOException e) {
+                throw new FlowableException("Couldn't read the json patch of a binary json variable", e);
+            }
+        }
+        return patch.toString();
+    }
+
+    protected byte[] encode(JsonNode jsonNode, ValueFields valueFields) {
+        try {
+            byte[] smileBytes = smileObjectMapper.writeValueAsBytes(jsonNode);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(smileBytes.length + 1);
+            if (compressionThreshold >= 0 && smileBytes.length >= compressionThreshold) {
+                outputStream.write(FORMAT_DEFLATED_SMILE);
+                try (DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(outputStream)) {
+                    deflaterOutputStream.write(smileBytes);
+                }
+            } else {
+                outputStream.write(FORMAT_SMILE);
+                outputStream.write(smileBytes);
+            }
+            return outputStream.toByteArray();
+
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't serialize json value in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    protected JsonNode decode(byte[] bytes, ValueFields valueFields) throws IOException {
+        switch (bytes[0]) {
+            case FORMAT_SMILE:
+                return smileObjectMapper.readTree(bytes, 1, bytes.length - 1);
+            case FORMAT_DEFLATED_SMILE:
+                try (InputStream inputStream = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                    return smileObjectMapper.readTree(VariableCompressionUtil.readDecompressed(inputStream, maxDecompressedSize, valueFields.getName()));
+                }
+            default:
+                // Plain JSON text, e.g. a value that was written by the regular json type
+                return objectMapper.readTree(bytes);
+        }
+    }
+
+}
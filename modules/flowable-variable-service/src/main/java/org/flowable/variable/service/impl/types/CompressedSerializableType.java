@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.util.VariableCompressionUtil;
+
+/**
+ * A {@link SerializableType} that gzip compresses the serialized value when it is larger than the compression threshold.
+ * Uncompressed values are recognized by the absence of the gzip header, so values written by the regular serializable type can still be read.
+ * The size of a decompressed value is limited by the max decompressed size.
+ */
+public class CompressedSerializableType extends SerializableType {
+
+    public static final String TYPE_NAME = "compressedSerializable";
+
+    protected final int compressionThreshold;
+    protected final int maxDecompressedSize;
+
+    public CompressedSerializableType(boolean trackDeserializedObjects, int compressionThreshold) {
+        this(trackDeserializedObjects, compressionThreshold, -1);
+    }
+
+    /**
+     * @param maxDecompressedSize the maximum size in bytes of a decompressed value, a negative value disables the limit
+     */
+    public CompressedSerializableType(boolean trackDeserializedObjects, int compressionThreshold, int maxDecompressedSize) {
+        super(trackDeserializedObjects);
+        this.compressionThreshold = compressionThreshold;
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public byte[] serialize(Object value, ValueFields valueFields) {
+        byte[] bytes = super.serialize(value, valueFields);
+        if (bytes == null || compressionThreshold < 0 || bytes.length < compressionThreshold) {
+            return bytes;
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(bytes);
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't compress value in variable '" + valueFields.getName() + "'", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        if (isCompressed(bytes)) {
+            try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                return super.deserialize(VariableCompressionUtil.readDecompressed(inputStream, maxDecompressedSize, valueFields.getName()), valueFields);
+            } catch (IOException e) {
+                throw new FlowableException("Couldn't decompress value in variable '" + valueFields.getName() + "'", e);
+            }
+        }
+        return super.deserialize(bytes, valueFields);
+    }
+
+    protected boolean isCompressed(byte[] bytes) {
+        return bytes.length > 1 && bytes[0] == (byte) GZIPInputStream.GZIP_MAGIC && bytes[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+
+}
@@ -72,6 +72,10 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         return typeName;
     }
 
+    public boolean isTrackObjects() {
+        return trackObjects;
+    }
+
     @Override
     public boolean isCachable() {
         return true;
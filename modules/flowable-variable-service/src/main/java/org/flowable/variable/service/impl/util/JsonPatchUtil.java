@@ -0,0 +1,182 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.util;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates and applies JSON patches (RFC 6902) using the add, remove and replace operations.
+ */
+public class JsonPatchUtil {
+
+    public static final String OPERATION_ADD = "add";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String OPERATION_REPLACE = "replace";
+
+    /**
+     * Creates the patch operations that turn the source document into the target document.
+     */
+    public static ArrayNode createPatch(JsonNode source, JsonNode target) {
+        ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+        addDifferences(patch, "", source, target);
+        return patch;
+    }
+
+    protected static void addDifferences(ArrayNode patch, String path, JsonNode source, JsonNode target) {
+        if (source.equals(target)) {
+            return;
+        }
+
+        if (source.isObject() && target.isObject()) {
+            Iterator<String> sourceFieldNames = source.fieldNames();
+            while (sourceFieldNames.hasNext()) {
+                String fieldName = sourceFieldNames.next();
+                if (!target.has(fieldName)) {
+                    addOperation(patch, OPERATION_REMOVE, path + "/" + escape(fieldName), null);
+                }
+            }
+
+            Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+            while (targetFields.hasNext()) {
+                Map.Entry<String, JsonNode> targetField = targetFields.next();
+                String fieldPath = path + "/" + escape(targetField.getKey());
+                JsonNode sourceValue = source.get(targetField.getKey());
+                if (sourceValue == null) {
+                    addOperation(patch, OPERATION_ADD, fieldPath, targetField.getValue());
+                } else {
+                    addDifferences(patch, fieldPath, sourceValue, targetField.getValue());
+                }
+            }
+
+        } else if (source.isArray() && target.isArray()) {
+            addArrayDifferences(patch, path, source, target);
+
+        } else {
+            addOperation(patch, OPERATION_REPLACE, path, target);
+        }
+    }
+
+    protected static void addArrayDifferences(ArrayNode patch, String path, JsonNode source, JsonNode target) {
+        // Skip the common prefix and suffix, such that inserting or removing elements at the start or in the middle
+        // doesn't produce a replace operation for every element after it
+        int prefixSize = 0;
+        int maxCommonSize = Math.min(source.size(), target.size());
+        while (prefixSize < maxCommonSize && source.get(prefixSize).equals(target.get(prefixSize))) {
+            prefixSize++;
+        }
+
+        int suffixSize = 0;
+        while (suffixSize < maxCommonSize - prefixSize
+                && source.get(source.size() - 1 - suffixSize).equals(target.get(target.size() - 1 - suffixSize))) {
+            suffixSize++;
+        }
+
+        int sourceEnd = source.size() - suffixSize;
+        int targetEnd = target.size() - suffixSize;
+        int commonEnd = Math.min(sourceEnd, targetEnd);
+        for (int i = prefixSize; i < commonEnd; i++) {
+            addDifferences(patch, path + "/" + i, source.get(i), target.get(i));
+        }
+        for (int i = commonEnd; i < targetEnd; i++) {
+            addOperation(patch, OPERATION_ADD, path + "/" + i, target.get(i));
+        }
+        // Remove from the end, such that the indexes of the remaining elements don't shift
+        for (int i = sourceEnd - 1; i >= commonEnd; i--) {
+            addOperation(patch, OPERATION_REMOVE, path + "/" + i, null);
+        }
+    }
+
+    protected static void addOperation(ArrayNode patch, String operation, String path, JsonNode value) {
+        ObjectNode operationNode = patch.addObject();
+        operationNode.put("op", operation);
+        operationNode.put("path", path);
+        if (value != null) {
+            operationNode.set("value", value.deepCopy());
+        }
+    }
+
+    protected static String escape(String fieldName) {
+        return fieldName.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Applies the patch operations on the given document. The document is modified in place when possible,
+     * the returned node must be used as the result as the root can be replaced.
+     */
+    public static JsonNode applyPatch(JsonNode document, JsonNode patch) {
+        JsonNode result = document;
+        for (JsonNode operationNode : patch) {
+            String operation = operationNode.path("op").asText();
+            String path = operationNode.path("path").asText();
+            JsonNode value = operationNode.get("value");
+
+            if (!OPERATION_ADD.equals(operation) && !OPERATION_REMOVE.equals(operation) && !OPERATION_REPLACE.equals(operation)) {
+                throw new FlowableException("Unsupported json patch operation '" + operation + "' on path " + path);
+            }
+
+            JsonPointer pointer = JsonPointer.compile(path);
+            if (pointer.matches()) {
+                if (OPERATION_REMOVE.equals(operation) || value == null) {
+                    throw new FlowableException("Cannot apply json patch operation '" + operation + "' on the root of the document");
+                }
+                result = value.deepCopy();
+                continue;
+            }
+
+            if (!OPERATION_REMOVE.equals(operation) && value == null) {
+                throw new FlowableException("Json patch operation '" + operation + "' on path " + path + " has no value");
+            }
+
+            JsonNode parent = result.at(pointer.head());
+            JsonPointer last = pointer.last();
+            if (parent instanceof ObjectNode) {
+                ObjectNode parentObject = (ObjectNode) parent;
+                if (OPERATION_REMOVE.equals(operation)) {
+                    parentObject.remove(last.getMatchingProperty());
+                } else {
+                    parentObject.set(last.getMatchingProperty(), value.deepCopy());
+                }
+
+            } else if (parent instanceof ArrayNode) {
+                ArrayNode parentArray = (ArrayNode) parent;
+                int index = last.getMatchingIndex();
+                int maxIndex = OPERATION_ADD.equals(operation) ? parentArray.size() : parentArray.size() - 1;
+                if ("-".equals(last.getMatchingProperty()) && OPERATION_ADD.equals(operation)) {
+                    parentArray.add(value.deepCopy());
+                } else if (index < 0 || index > maxIndex) {
+                    throw new FlowableException("Cannot apply json patch operation '" + operation + "' on path " + path + ", the index is out of bounds");
+                } else if (OPERATION_ADD.equals(operation)) {
+                    parentArray.insert(index, value.deepCopy());
+                } else if (OPERATION_REPLACE.equals(operation)) {
+                    parentArray.set(index, value.deepCopy());
+                } else {
+                    parentArray.remove(index);
+                }
+
+            } else {
+                throw new FlowableException("Cannot apply json patch operation '" + operation + "' on path " + path);
+            }
+        }
+        return result;
+    }
+
+}
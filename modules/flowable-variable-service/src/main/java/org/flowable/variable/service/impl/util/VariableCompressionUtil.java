@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Reads compressed variable values, limiting the size of the decompressed value so that a small compressed value
+ * can't expand into an arbitrary amount of memory.
+ */
+public class VariableCompressionUtil {
+
+    /**
+     * @param maxDecompressedSize the maximum size in bytes of the decompressed value, a negative value disables the limit
+     */
+    public static byte[] readDecompressed(InputStream inputStream, int maxDecompressedSize, String variableName) throws IOException {
+        if (maxDecompressedSize < 0) {
+            return inputStream.readAllBytes();
+        }
+
+        byte[] bytes = inputStream.readNBytes(maxDecompressedSize == Integer.MAX_VALUE ? maxDecompressedSize : maxDecompressedSize + 1);
+        if (bytes.length > maxDecompressedSize) {
+            throw new FlowableException("The decompressed value of variable '" + variableName + "' exceeds the maximum size of " + maxDecompressedSize + " bytes");
+        }
+        return bytes;
+    }
+
+}